@@ -246,9 +246,10 @@ public class AndroidGL30 extends AndroidGL20 implements GL30 {
 	}
 
 // @Override
-// public java.nio.Buffer glMapBufferRange(int target, int offset, int length, int access) {
-// return GLES30.glMapBufferRange(target, offset, length, access);
-// }
+	@Override
+	public java.nio.Buffer glMapBufferRange (int target, int offset, int length, int access) {
+		return GLES30.glMapBufferRange(target, offset, length, access);
+	}
 
 	@Override
 	public void glFlushMappedBufferRange (int target, int offset, int length) {
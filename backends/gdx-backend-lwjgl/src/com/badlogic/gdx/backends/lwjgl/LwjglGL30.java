@@ -322,6 +322,11 @@ class LwjglGL30 extends LwjglGL20 implements com.badlogic.gdx.graphics.GL30 {
 		GL30.glFramebufferTextureLayer(target, attachment, texture, level, layer);
 	}
 
+	@Override
+	public Buffer glMapBufferRange (int target, int offset, int length, int access) {
+		return GL30.glMapBufferRange(target, offset, length, access, null);
+	}
+
 	@Override
 	public void glFlushMappedBufferRange (int target, int offset, int length) {
 		GL30.glFlushMappedBufferRange(target, offset, length);
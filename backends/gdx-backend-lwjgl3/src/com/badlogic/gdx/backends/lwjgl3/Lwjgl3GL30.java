@@ -324,6 +324,11 @@ class Lwjgl3GL30 extends Lwjgl3GL20 implements com.badlogic.gdx.graphics.GL30 {
 		GL30.glFramebufferTextureLayer(target, attachment, texture, level, layer);
 	}
 
+	@Override
+	public Buffer glMapBufferRange (int target, int offset, int length, int access) {
+		return GL30.glMapBufferRange(target, offset, length, access);
+	}
+
 	@Override
 	public void glFlushMappedBufferRange (int target, int offset, int length) {
 		GL30.glFlushMappedBufferRange(target, offset, length);
@@ -38,7 +38,8 @@ public class BillboardBatchPanel extends EditorPanel<BillboardParticleBatch> {
 	
 	private enum SortMode{
 		None( "None", new ParticleSorter.None()),
-		Distance("Distance", new ParticleSorter.Distance());
+		Distance("Distance", new ParticleSorter.Distance()),
+		RadixDistance("Radix distance", new ParticleSorter.RadixDistance(true));
 		
 		public String desc;
 		public ParticleSorter sorter;
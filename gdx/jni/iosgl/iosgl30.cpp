@@ -417,6 +417,18 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_backends_iosrobovm_IOSGLES30_glFram
     glFramebufferTextureLayer(target, attachment, texture, level, layer);
 }
 
+/*
+ * Class:     com_badlogic_gdx_backends_iosrobovm_IOSGLES30
+ * Method:    glMapBufferRange
+ * Signature: (IIII)Ljava/nio/Buffer;
+ */
+JNIEXPORT jobject JNICALL Java_com_badlogic_gdx_backends_iosrobovm_IOSGLES30_glMapBufferRange
+  (JNIEnv *env, jobject, jint target, jint offset, jint length, jint access) {
+    void* dataPtr = glMapBufferRange(target, offset, length, access);
+    if (dataPtr == NULL) return NULL;
+    return env->NewDirectByteBuffer(dataPtr, length);
+}
+
 /*
  * Class:     com_badlogic_gdx_backends_iosrobovm_IOSGLES30
  * Method:    glFlushMappedBufferRange
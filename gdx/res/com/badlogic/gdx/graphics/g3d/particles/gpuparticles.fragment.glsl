@@ -0,0 +1,28 @@
+#ifdef GL_ES
+#define LOWP lowp
+#define MED mediump
+#define HIGH highp
+precision mediump float;
+#else
+#define MED
+#define LOWP
+#define HIGH
+#endif
+
+// GLSL 3, see GpuParticleShader#getVersionDirective()
+#if __VERSION__ >= 130
+#define varying in
+out vec4 fragColor;
+#else
+#define fragColor gl_FragColor
+#endif
+
+uniform vec4 u_color;
+
+varying float v_alpha;
+
+void main() {
+	vec2 d = gl_PointCoord - vec2(0.5);
+	float falloff = 1.0 - clamp(dot(d, d) * 4.0, 0.0, 1.0);
+	fragColor = vec4(u_color.rgb, u_color.a * v_alpha * falloff);
+}
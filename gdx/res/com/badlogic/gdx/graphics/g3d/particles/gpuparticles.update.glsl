@@ -0,0 +1,62 @@
+// Transform feedback pass of GpuParticleController, the version directive is prepended at runtime.
+// Keep in sync with GpuParticleSimulation#update(int, float) which is the reference implementation.
+in vec3 a_position;
+in vec3 a_velocity;
+// age, life, generation
+in vec3 a_state;
+
+out vec3 v_position;
+out vec3 v_velocity;
+out vec3 v_state;
+
+uniform float u_delta;
+uniform vec3 u_emitterPosition;
+uniform vec3 u_spawnExtent;
+uniform vec3 u_velocityMin;
+uniform vec3 u_velocityMax;
+uniform vec3 u_gravity;
+uniform float u_drag;
+uniform float u_lifeMin;
+uniform float u_lifeMax;
+uniform int u_seed;
+
+uint hash(uint x) {
+	x ^= x >> 16u;
+	x *= 0x7feb352du;
+	x ^= x >> 15u;
+	x *= 0x846ca68bu;
+	x ^= x >> 16u;
+	return x;
+}
+
+float random(uint index, uint generation, uint component) {
+	uint h = hash(index + hash(generation + hash(component + uint(u_seed))));
+	return float(h >> 8u) / 16777216.0;
+}
+
+void main() {
+	vec3 position = a_position;
+	vec3 velocity = a_velocity;
+	float age = a_state.x + u_delta;
+	float life = a_state.y;
+	float generation = a_state.z;
+	if (age >= life) {
+		// Respawn
+		age -= life;
+		generation += 1.0;
+		uint index = uint(gl_VertexID);
+		uint g = uint(generation);
+		position = u_emitterPosition + u_spawnExtent
+			* (vec3(random(index, g, 0u), random(index, g, 1u), random(index, g, 2u)) * 2.0 - 1.0);
+		velocity = u_velocityMin + (u_velocityMax - u_velocityMin)
+			* vec3(random(index, g, 3u), random(index, g, 4u), random(index, g, 5u));
+		life = u_lifeMin + (u_lifeMax - u_lifeMin) * random(index, g, 6u);
+		if (age >= life) age = 0.0;
+	} else if (age >= 0.0) {
+		velocity = (velocity + u_gravity * u_delta) * max(0.0, 1.0 - u_drag * u_delta);
+		position += velocity * u_delta;
+	}
+	v_position = position;
+	v_velocity = velocity;
+	v_state = vec3(age, life, generation);
+}
@@ -0,0 +1,40 @@
+#ifdef GL_ES
+#define LOWP lowp
+#define MED mediump
+#define HIGH highp
+precision mediump float;
+#else
+#define MED
+#define LOWP
+#define HIGH
+#endif
+
+// GLSL 3, see GpuParticleShader#getVersionDirective()
+#if __VERSION__ >= 130
+#define attribute in
+#define varying out
+#endif
+
+attribute vec3 a_position;
+// age, life, generation
+attribute vec3 a_state;
+
+uniform mat4 u_projViewTrans;
+uniform float u_pointSize;
+
+varying float v_alpha;
+
+void main() {
+	float age = a_state.x;
+	float life = a_state.y;
+	if (age < 0.0 || age >= life) {
+		// Not born yet, move it outside of the clip volume
+		gl_Position = vec4(2.0, 2.0, 2.0, 1.0);
+		gl_PointSize = 0.0;
+		v_alpha = 0.0;
+	} else {
+		gl_Position = u_projViewTrans * vec4(a_position, 1.0);
+		gl_PointSize = u_pointSize / gl_Position.w;
+		v_alpha = 1.0 - age / life;
+	}
+}
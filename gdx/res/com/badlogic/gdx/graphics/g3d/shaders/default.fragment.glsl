@@ -86,22 +86,66 @@ varying vec3 v_lightSpecular;
 #ifdef shadowMapFlag
 uniform sampler2D u_shadowTexture;
 uniform float u_shadowPCFOffset;
-varying vec3 v_shadowMapUv;
 #define separateAmbientFlag
 
+#ifdef numCascades
+// The matrices transform to the cascade's tile in the shadow map atlas, the splits are the view depth where each cascade ends.
+// The tiles are square and next to each other, u_shadowPCFOffset is half a texel of a tile.
+uniform mat4 u_shadowMapCascadeProjViewTrans[numCascades];
+uniform vec4 u_shadowMapCascadeSplits;
+varying vec4 v_shadowMapPos;
+varying float v_shadowMapDepth;
+vec3 v_shadowMapUv;
+
+vec3 getCascadeUv()
+{
+	mat4 trans = u_shadowMapCascadeProjViewTrans[0];
+	#if numCascades > 1
+		if (v_shadowMapDepth > u_shadowMapCascadeSplits.x) trans = u_shadowMapCascadeProjViewTrans[1];
+	#endif
+	#if numCascades > 2
+		if (v_shadowMapDepth > u_shadowMapCascadeSplits.y) trans = u_shadowMapCascadeProjViewTrans[2];
+	#endif
+	#if numCascades > 3
+		if (v_shadowMapDepth > u_shadowMapCascadeSplits.z) trans = u_shadowMapCascadeProjViewTrans[3];
+	#endif
+	vec4 spos = trans * v_shadowMapPos;
+	vec3 uv = (spos.xyz / spos.w) * 0.5 + 0.5;
+	uv.z = min(uv.z, 0.998);
+	return uv;
+}
+#else
+varying vec3 v_shadowMapUv;
+#endif //numCascades
+
+#ifdef shadowMapStaticFlag
+// Contains the depth of the static casters, which is not re-rendered every frame
+uniform sampler2D u_shadowStaticTexture;
+#endif //shadowMapStaticFlag
+
 float getShadowness(vec2 offset)
 {
     const vec4 bitShifts = vec4(1.0, 1.0 / 255.0, 1.0 / 65025.0, 1.0 / 16581375.0);
-    return step(v_shadowMapUv.z, dot(texture2D(u_shadowTexture, v_shadowMapUv.xy + offset), bitShifts));//+(1.0/255.0));
+    float depth = dot(texture2D(u_shadowTexture, v_shadowMapUv.xy + offset), bitShifts);
+#ifdef shadowMapStaticFlag
+    depth = min(depth, dot(texture2D(u_shadowStaticTexture, v_shadowMapUv.xy + offset), bitShifts));
+#endif //shadowMapStaticFlag
+    return step(v_shadowMapUv.z, depth);//+(1.0/255.0));
 }
 
 float getShadow()
 {
+#ifdef numCascades
+	v_shadowMapUv = getCascadeUv();
+	vec2 offset = vec2(u_shadowPCFOffset / float(numCascades), u_shadowPCFOffset);
+#else
+	vec2 offset = vec2(u_shadowPCFOffset, u_shadowPCFOffset);
+#endif //numCascades
 	return (//getShadowness(vec2(0,0)) +
-			getShadowness(vec2(u_shadowPCFOffset, u_shadowPCFOffset)) +
-			getShadowness(vec2(-u_shadowPCFOffset, u_shadowPCFOffset)) +
-			getShadowness(vec2(u_shadowPCFOffset, -u_shadowPCFOffset)) +
-			getShadowness(vec2(-u_shadowPCFOffset, -u_shadowPCFOffset))) * 0.25;
+			getShadowness(vec2(offset.x, offset.y)) +
+			getShadowness(vec2(-offset.x, offset.y)) +
+			getShadowness(vec2(offset.x, -offset.y)) +
+			getShadowness(vec2(-offset.x, -offset.y))) * 0.25;
 }
 #endif //shadowMapFlag
 
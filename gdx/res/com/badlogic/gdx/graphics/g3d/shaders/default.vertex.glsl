@@ -103,7 +103,14 @@ attribute vec2 a_boneWeight7;
 #endif
 #endif
 
+#ifdef instancedFlag
+attribute mat4 a_worldTrans;
+attribute mat3 a_normalMatrix;
+#define u_worldTrans a_worldTrans
+#define u_normalMatrix a_normalMatrix
+#else
 uniform mat4 u_worldTrans;
+#endif // instancedFlag
 
 #if defined(numBones)
 #if numBones > 0
@@ -178,8 +185,13 @@ uniform PointLight u_pointLights[numPointLights];
 #endif //ambientFlag
 
 #ifdef shadowMapFlag
+#ifdef numCascades
+varying vec4 v_shadowMapPos;
+varying float v_shadowMapDepth;
+#else
 uniform mat4 u_shadowMapProjViewTrans;
 varying vec3 v_shadowMapUv;
+#endif //numCascades
 #define separateAmbientFlag
 #endif //shadowMapFlag
 
@@ -249,7 +261,10 @@ void main() {
 		
 	gl_Position = u_projViewTrans * pos;
 		
-	#ifdef shadowMapFlag
+	#if defined(shadowMapFlag) && defined(numCascades)
+		v_shadowMapPos = pos;
+		v_shadowMapDepth = gl_Position.w;
+	#elif defined(shadowMapFlag)
 		vec4 spos = u_shadowMapProjViewTrans * pos;
 		v_shadowMapUv.xyz = (spos.xyz / spos.w) * 0.5 + 0.5;
 		v_shadowMapUv.z = min(v_shadowMapUv.z, 0.998);
@@ -611,14 +611,11 @@ public interface GL30 extends GL20 {
 
 	public void glFramebufferTextureLayer (int target, int attachment, int texture, int level, int layer);
 
-// // C function GLvoid * glMapBufferRange ( GLenum target, GLintptr offset, GLsizeiptr length, GLbitfield access )
-//
-// public java.nio.Buffer glMapBufferRange(
-// int target,
-// int offset,
-// int length,
-// int access
-// );
+	// C function GLvoid * glMapBufferRange ( GLenum target, GLintptr offset, GLsizeiptr length, GLbitfield access )
+
+	/** Not supported by WebGL 2.0, which has no buffer mapping.
+	 * @return a direct {@link java.nio.ByteBuffer} of length bytes wrapping the mapped range, only valid until glUnmapBuffer. */
+	public java.nio.Buffer glMapBufferRange (int target, int offset, int length, int access);
 
 	// C function void glFlushMappedBufferRange ( GLenum target, GLintptr offset, GLsizeiptr length )
 
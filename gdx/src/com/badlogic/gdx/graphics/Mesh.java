@@ -34,6 +34,7 @@ import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.graphics.glutils.VertexArray;
 import com.badlogic.gdx.graphics.glutils.VertexBufferObject;
 import com.badlogic.gdx.graphics.glutils.VertexBufferObjectSubData;
+import com.badlogic.gdx.graphics.glutils.VertexBufferObjectRing;
 import com.badlogic.gdx.graphics.glutils.VertexBufferObjectWithVAO;
 import com.badlogic.gdx.graphics.glutils.VertexData;
 import com.badlogic.gdx.math.Matrix3;
@@ -68,7 +69,9 @@ import com.badlogic.gdx.utils.GdxRuntimeException;
  * @author mzechner, Dave Clayton <contact@redskyforge.com>, Xoppa */
 public class Mesh implements Disposable {
 	public enum VertexDataType {
-		VertexArray, VertexBufferObject, VertexBufferObjectSubData, VertexBufferObjectWithVAO
+		VertexArray, VertexBufferObject, VertexBufferObjectSubData, VertexBufferObjectWithVAO,
+		/** Requires GL30, see {@link com.badlogic.gdx.graphics.glutils.VertexBufferObjectRing}. The isStatic flag is ignored. */
+		VertexBufferObjectRing
 	}
 
 	/** list of all meshes **/
@@ -182,6 +185,11 @@ public class Mesh implements Disposable {
 			indices = new IndexBufferObjectSubData(isStatic, maxIndices);
 			isVertexArray = false;
 			break;
+		case VertexBufferObjectRing:
+			vertices = new VertexBufferObjectRing(maxVertices, 4, attributes);
+			indices = new IndexBufferObjectSubData(isStatic, maxIndices);
+			isVertexArray = false;
+			break;
 		case VertexArray:
 		default:
 			vertices = new VertexArray(maxVertices, attributes);
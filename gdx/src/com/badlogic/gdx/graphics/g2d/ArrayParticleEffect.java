@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.graphics.g2d;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/** A {@link ParticleEffect} whose emitters are {@link ArrayParticleEmitter}s. It loads the same effect files. */
+public class ArrayParticleEffect extends ParticleEffect {
+	public ArrayParticleEffect () {
+	}
+
+	/** Copies the effect, the emitters of the copy are {@link ArrayParticleEmitter}s even if the source ones are not. */
+	public ArrayParticleEffect (ParticleEffect effect) {
+		super(effect);
+	}
+
+	@Override
+	protected ParticleEmitter newEmitter (BufferedReader reader) throws IOException {
+		return new ArrayParticleEmitter(reader);
+	}
+
+	@Override
+	protected ParticleEmitter newEmitter (ParticleEmitter emitter) {
+		return new ArrayParticleEmitter(emitter);
+	}
+}
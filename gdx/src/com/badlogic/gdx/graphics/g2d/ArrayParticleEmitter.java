@@ -0,0 +1,914 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.graphics.g2d;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
+
+/** A {@link ParticleEmitter} which stores the state of its particles in flat primitive arrays instead of a {@link Sprite} per
+ * particle. It loads the same effect files and supports the same settings, but the particles are updated one property at a time
+ * in tight loops and their vertices are written directly to the {@link Batch}, which is considerably faster for emitters with
+ * many particles. Active particles are kept packed at the start of the arrays, so the drawing order of overlapping particles may
+ * differ from {@link ParticleEmitter}. Use {@link ArrayParticleEffect} to load effects using this emitter. */
+public class ArrayParticleEmitter extends ParticleEmitter {
+	static private final int UPDATE_SCALE = 1 << 0;
+	static private final int UPDATE_ANGLE = 1 << 1;
+	static private final int UPDATE_ROTATION = 1 << 2;
+	static private final int UPDATE_VELOCITY = 1 << 3;
+	static private final int UPDATE_WIND = 1 << 4;
+	static private final int UPDATE_GRAVITY = 1 << 5;
+	static private final int UPDATE_TINT = 1 << 6;
+	static private final int UPDATE_SPRITE = 1 << 7;
+
+	static private final int VERTEX_SIZE = 20;
+	static private final int BUFFER_SPRITES = 512;
+
+	// The particle arrays are allocated by setMaxParticleCount, which the super constructors call before the field
+	// initializers of this class would run, so they must not have initializers.
+	private int activeCount;
+	private int[] life, currentLife, frame, sprite;
+	private float[] percent;
+	private float[] velocity, velocityDiff, angle, angleDiff, angleCos, angleSin;
+	private float[] xScale, xScaleDiff, yScale, yScaleDiff, scaleX, scaleY;
+	private float[] rotation, rotationDiff, spriteRotation;
+	private float[] wind, windDiff, gravity, gravityDiff;
+	private float[] transparency, transparencyDiff, tint, color;
+	private float[] x, y, width, height, originX, originY;
+
+	private float accumulator;
+	private boolean firstUpdate, allowCompletion;
+	private boolean flipX, flipY;
+	private int updateFlags;
+	private float delay, delayTimer;
+	private int emission, emissionDiff, emissionDelta;
+	private int lifeOffset, lifeOffsetDiff;
+	private int emitterLife, emitterLifeDiff;
+	private float spawnWidth, spawnWidthDiff;
+	private float spawnHeight, spawnHeightDiff;
+	private BoundingBox bounds;
+	/** The bounds of the active particles as min x, min y, max x, max y. */
+	private final float[] particleBounds = new float[4];
+	private boolean boundsValid;
+
+	// Per sprite data, refreshed when the sprites or the flip change
+	private Array<Sprite> cachedSprites;
+	private int cachedSpriteCount;
+	private boolean spritesDirty = true;
+	private Texture[] spriteTextures;
+	private float[] spriteUVs;
+	private float[] vertices;
+
+	public ArrayParticleEmitter () {
+		setMaxParticleCount(getMaxParticleCount());
+	}
+
+	public ArrayParticleEmitter (BufferedReader reader) throws IOException {
+		super(reader);
+	}
+
+	public ArrayParticleEmitter (ParticleEmitter emitter) {
+		super(emitter);
+	}
+
+	@Override
+	public void setMaxParticleCount (int maxParticleCount) {
+		super.setMaxParticleCount(maxParticleCount);
+		activeCount = 0;
+		life = new int[maxParticleCount];
+		currentLife = new int[maxParticleCount];
+		frame = new int[maxParticleCount];
+		sprite = new int[maxParticleCount];
+		percent = new float[maxParticleCount];
+		velocity = new float[maxParticleCount];
+		velocityDiff = new float[maxParticleCount];
+		angle = new float[maxParticleCount];
+		angleDiff = new float[maxParticleCount];
+		angleCos = new float[maxParticleCount];
+		angleSin = new float[maxParticleCount];
+		xScale = new float[maxParticleCount];
+		xScaleDiff = new float[maxParticleCount];
+		yScale = new float[maxParticleCount];
+		yScaleDiff = new float[maxParticleCount];
+		scaleX = new float[maxParticleCount];
+		scaleY = new float[maxParticleCount];
+		rotation = new float[maxParticleCount];
+		rotationDiff = new float[maxParticleCount];
+		spriteRotation = new float[maxParticleCount];
+		wind = new float[maxParticleCount];
+		windDiff = new float[maxParticleCount];
+		gravity = new float[maxParticleCount];
+		gravityDiff = new float[maxParticleCount];
+		transparency = new float[maxParticleCount];
+		transparencyDiff = new float[maxParticleCount];
+		tint = new float[maxParticleCount * 3];
+		color = new float[maxParticleCount];
+		x = new float[maxParticleCount];
+		y = new float[maxParticleCount];
+		width = new float[maxParticleCount];
+		height = new float[maxParticleCount];
+		originX = new float[maxParticleCount];
+		originY = new float[maxParticleCount];
+		boundsValid = false;
+	}
+
+	@Override
+	public void addParticle () {
+		if (activeCount == getMaxParticleCount()) return;
+		activateParticle(activeCount++);
+	}
+
+	@Override
+	public void addParticles (int count) {
+		count = Math.min(count, getMaxParticleCount() - activeCount);
+		for (int i = 0; i < count; i++)
+			activateParticle(activeCount++);
+	}
+
+	@Override
+	public void update (float delta) {
+		accumulator += delta * 1000;
+		if (accumulator < 1) return;
+		int deltaMillis = (int)accumulator;
+		accumulator -= deltaMillis;
+
+		emit(deltaMillis);
+		updateParticles(delta, deltaMillis);
+	}
+
+	@Override
+	public void draw (Batch batch) {
+		setBlendFunction(batch);
+		drawParticles(batch);
+		if (cleansUpBlendFunction && (isAdditive() || isPremultipliedAlpha()))
+			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+	}
+
+	/** Updates and draws the particles. Unlike {@link ParticleEmitter#draw(Batch, float)}, the particles are all updated before
+	 * being drawn. */
+	@Override
+	public void draw (Batch batch, float delta) {
+		accumulator += delta * 1000;
+		if (accumulator < 1) {
+			draw(batch);
+			return;
+		}
+		int deltaMillis = (int)accumulator;
+		accumulator -= deltaMillis;
+
+		updateParticles(delta, deltaMillis);
+		draw(batch);
+		emit(deltaMillis);
+	}
+
+	private void setBlendFunction (Batch batch) {
+		if (isPremultipliedAlpha()) {
+			batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		} else if (isAdditive()) {
+			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE);
+		} else {
+			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		}
+	}
+
+	/** Advances the delay and duration timers and emits the new particles. */
+	private void emit (int deltaMillis) {
+		if (delayTimer < delay) {
+			delayTimer += deltaMillis;
+			return;
+		}
+
+		if (firstUpdate) {
+			firstUpdate = false;
+			addParticle();
+		}
+
+		if (durationTimer < duration)
+			durationTimer += deltaMillis;
+		else {
+			if (!isContinuous() || allowCompletion) return;
+			restart();
+		}
+
+		emissionDelta += deltaMillis;
+		float emissionTime = emission + emissionDiff * getEmission().getScale(durationTimer / (float)duration);
+		if (emissionTime > 0) {
+			emissionTime = 1000 / emissionTime;
+			if (emissionDelta >= emissionTime) {
+				int emitCount = (int)(emissionDelta / emissionTime);
+				emitCount = Math.min(emitCount, getMaxParticleCount() - activeCount);
+				emissionDelta -= emitCount * emissionTime;
+				emissionDelta %= emissionTime;
+				addParticles(emitCount);
+			}
+		}
+		int minParticleCount = getMinParticleCount();
+		if (activeCount < minParticleCount) addParticles(minParticleCount - activeCount);
+	}
+
+	@Override
+	public void start () {
+		firstUpdate = true;
+		allowCompletion = false;
+		restart();
+	}
+
+	@Override
+	public void reset () {
+		emissionDelta = 0;
+		durationTimer = duration;
+		activeCount = 0;
+		resetBounds();
+		boundsValid = true;
+		start();
+	}
+
+	private void restart () {
+		RangedNumericValue delayValue = getDelay();
+		delay = delayValue.active ? delayValue.newLowValue() : 0;
+		delayTimer = 0;
+
+		durationTimer -= duration;
+		duration = getDuration().newLowValue();
+
+		ScaledNumericValue emissionValue = getEmission();
+		emission = (int)emissionValue.newLowValue();
+		emissionDiff = (int)emissionValue.newHighValue();
+		if (!emissionValue.isRelative()) emissionDiff -= emission;
+
+		if (!getLifeValue().independent) generateLifeValues();
+
+		if (!getLifeOffsetValue().independent) generateLifeOffsetValues();
+
+		ScaledNumericValue spawnWidthValue = getSpawnWidth();
+		spawnWidth = spawnWidthValue.newLowValue();
+		spawnWidthDiff = spawnWidthValue.newHighValue();
+		if (!spawnWidthValue.isRelative()) spawnWidthDiff -= spawnWidth;
+
+		ScaledNumericValue spawnHeightValue = getSpawnHeight();
+		spawnHeight = spawnHeightValue.newLowValue();
+		spawnHeightDiff = spawnHeightValue.newHighValue();
+		if (!spawnHeightValue.isRelative()) spawnHeightDiff -= spawnHeight;
+
+		ScaledNumericValue angleValue = getAngle(), yScaleValue = getYScale(), rotationValue = getRotation();
+		updateFlags = 0;
+		if (angleValue.active && angleValue.timeline.length > 1) updateFlags |= UPDATE_ANGLE;
+		if (getVelocity().active) updateFlags |= UPDATE_VELOCITY;
+		if (getXScale().timeline.length > 1) updateFlags |= UPDATE_SCALE;
+		if (yScaleValue.active && yScaleValue.timeline.length > 1) updateFlags |= UPDATE_SCALE;
+		if (rotationValue.active && rotationValue.timeline.length > 1) updateFlags |= UPDATE_ROTATION;
+		if (getWind().active) updateFlags |= UPDATE_WIND;
+		if (getGravity().active) updateFlags |= UPDATE_GRAVITY;
+		if (getTint().timeline.length > 1) updateFlags |= UPDATE_TINT;
+		if (getSpriteMode() == SpriteMode.animated) updateFlags |= UPDATE_SPRITE;
+	}
+
+	private IndependentScaledNumericValue getLifeValue () {
+		return (IndependentScaledNumericValue)getLife();
+	}
+
+	private IndependentScaledNumericValue getLifeOffsetValue () {
+		return (IndependentScaledNumericValue)getLifeOffset();
+	}
+
+	private void generateLifeValues () {
+		ScaledNumericValue lifeValue = getLife();
+		emitterLife = (int)lifeValue.newLowValue();
+		emitterLifeDiff = (int)lifeValue.newHighValue();
+		if (!lifeValue.isRelative()) emitterLifeDiff -= emitterLife;
+	}
+
+	private void generateLifeOffsetValues () {
+		ScaledNumericValue lifeOffsetValue = getLifeOffset();
+		lifeOffset = lifeOffsetValue.active ? (int)lifeOffsetValue.newLowValue() : 0;
+		lifeOffsetDiff = (int)lifeOffsetValue.newHighValue();
+		if (!lifeOffsetValue.isRelative()) lifeOffsetDiff -= lifeOffset;
+	}
+
+	private void activateParticle (int index) {
+		Array<Sprite> sprites = getSprites();
+		int spriteIndex = getSpriteMode() == SpriteMode.random ? MathUtils.random(sprites.size - 1) : 0;
+		Sprite sprite = sprites.get(spriteIndex);
+		this.sprite[index] = spriteIndex;
+		frame[index] = 0;
+
+		float percent = durationTimer / (float)duration;
+		int updateFlags = this.updateFlags;
+
+		if (getLifeValue().independent) generateLifeValues();
+
+		if (getLifeOffsetValue().independent) generateLifeOffsetValues();
+
+		currentLife[index] = life[index] = emitterLife + (int)(emitterLifeDiff * getLife().getScale(percent));
+
+		ScaledNumericValue velocityValue = getVelocity();
+		if (velocityValue.active) {
+			velocity[index] = velocityValue.newLowValue();
+			velocityDiff[index] = velocityValue.newHighValue();
+			if (!velocityValue.isRelative()) velocityDiff[index] -= velocity[index];
+		}
+
+		ScaledNumericValue angleValue = getAngle();
+		angle[index] = angleValue.newLowValue();
+		angleDiff[index] = angleValue.newHighValue();
+		if (!angleValue.isRelative()) angleDiff[index] -= angle[index];
+		float angle = 0;
+		if ((updateFlags & UPDATE_ANGLE) == 0) {
+			angle = this.angle[index] + angleDiff[index] * angleValue.getScale(0);
+			this.angle[index] = angle;
+			angleCos[index] = MathUtils.cosDeg(angle);
+			angleSin[index] = MathUtils.sinDeg(angle);
+		}
+
+		float spriteWidth = sprite.getWidth();
+		float spriteHeight = sprite.getHeight();
+		originX[index] = sprite.getOriginX();
+		originY[index] = sprite.getOriginY();
+		spriteRotation[index] = sprite.getRotation();
+		color[index] = sprite.getColor().toFloatBits();
+
+		ScaledNumericValue xScaleValue = getXScale(), yScaleValue = getYScale();
+		xScale[index] = xScaleValue.newLowValue() / spriteWidth;
+		xScaleDiff[index] = xScaleValue.newHighValue() / spriteWidth;
+		if (!xScaleValue.isRelative()) xScaleDiff[index] -= xScale[index];
+
+		if (yScaleValue.active) {
+			yScale[index] = yScaleValue.newLowValue() / spriteHeight;
+			yScaleDiff[index] = yScaleValue.newHighValue() / spriteHeight;
+			if (!yScaleValue.isRelative()) yScaleDiff[index] -= yScale[index];
+			scaleX[index] = xScale[index] + xScaleDiff[index] * xScaleValue.getScale(0);
+			scaleY[index] = yScale[index] + yScaleDiff[index] * yScaleValue.getScale(0);
+		} else {
+			scaleX[index] = scaleY[index] = xScale[index] + xScaleDiff[index] * xScaleValue.getScale(0);
+		}
+
+		ScaledNumericValue rotationValue = getRotation();
+		if (rotationValue.active) {
+			rotation[index] = rotationValue.newLowValue();
+			rotationDiff[index] = rotationValue.newHighValue();
+			if (!rotationValue.isRelative()) rotationDiff[index] -= rotation[index];
+			float rotation = this.rotation[index] + rotationDiff[index] * rotationValue.getScale(0);
+			if (isAligned()) rotation += angle;
+			spriteRotation[index] = rotation;
+		} else {
+			rotation[index] = 0;
+			rotationDiff[index] = 0;
+		}
+
+		ScaledNumericValue windValue = getWind();
+		if (windValue.active) {
+			wind[index] = windValue.newLowValue();
+			windDiff[index] = windValue.newHighValue();
+			if (!windValue.isRelative()) windDiff[index] -= wind[index];
+		}
+
+		ScaledNumericValue gravityValue = getGravity();
+		if (gravityValue.active) {
+			gravity[index] = gravityValue.newLowValue();
+			gravityDiff[index] = gravityValue.newHighValue();
+			if (!gravityValue.isRelative()) gravityDiff[index] -= gravity[index];
+		}
+
+		float[] temp = getTint().getColor(0);
+		tint[index * 3] = temp[0];
+		tint[index * 3 + 1] = temp[1];
+		tint[index * 3 + 2] = temp[2];
+
+		ScaledNumericValue transparencyValue = getTransparency();
+		transparency[index] = transparencyValue.newLowValue();
+		transparencyDiff[index] = transparencyValue.newHighValue() - transparency[index];
+
+		// Spawn.
+		float x = getX();
+		RangedNumericValue xOffsetValue = getXOffsetValue(), yOffsetValue = getYOffsetValue();
+		if (xOffsetValue.active) x += xOffsetValue.newLowValue();
+		float y = getY();
+		if (yOffsetValue.active) y += yOffsetValue.newLowValue();
+		SpawnShapeValue spawnShapeValue = getSpawnShape();
+		switch (spawnShapeValue.shape) {
+		case square: {
+			float width = spawnWidth + (spawnWidthDiff * getSpawnWidth().getScale(percent));
+			float height = spawnHeight + (spawnHeightDiff * getSpawnHeight().getScale(percent));
+			x += MathUtils.random(width) - width / 2;
+			y += MathUtils.random(height) - height / 2;
+			break;
+		}
+		case ellipse: {
+			float width = spawnWidth + (spawnWidthDiff * getSpawnWidth().getScale(percent));
+			float height = spawnHeight + (spawnHeightDiff * getSpawnHeight().getScale(percent));
+			float radiusX = width / 2;
+			float radiusY = height / 2;
+			if (radiusX == 0 || radiusY == 0) break;
+			float scaleY = radiusX / (float)radiusY;
+			if (spawnShapeValue.edges) {
+				float spawnAngle;
+				switch (spawnShapeValue.side) {
+				case top:
+					spawnAngle = -MathUtils.random(179f);
+					break;
+				case bottom:
+					spawnAngle = MathUtils.random(179f);
+					break;
+				default:
+					spawnAngle = MathUtils.random(360f);
+					break;
+				}
+				float cosDeg = MathUtils.cosDeg(spawnAngle);
+				float sinDeg = MathUtils.sinDeg(spawnAngle);
+				x += cosDeg * radiusX;
+				y += sinDeg * radiusX / scaleY;
+				if ((updateFlags & UPDATE_ANGLE) == 0) {
+					this.angle[index] = spawnAngle;
+					angleCos[index] = cosDeg;
+					angleSin[index] = sinDeg;
+				}
+			} else {
+				float radius2 = radiusX * radiusX;
+				while (true) {
+					float px = MathUtils.random(width) - radiusX;
+					float py = MathUtils.random(width) - radiusX;
+					if (px * px + py * py <= radius2) {
+						x += px;
+						y += py / scaleY;
+						break;
+					}
+				}
+			}
+			break;
+		}
+		case line: {
+			float width = spawnWidth + (spawnWidthDiff * getSpawnWidth().getScale(percent));
+			float height = spawnHeight + (spawnHeightDiff * getSpawnHeight().getScale(percent));
+			if (width != 0) {
+				float lineX = width * MathUtils.random();
+				x += lineX;
+				y += lineX * (height / (float)width);
+			} else
+				y += height * MathUtils.random();
+			break;
+		}
+		}
+
+		this.x[index] = x - spriteWidth / 2;
+		this.y[index] = y - spriteHeight / 2;
+		width[index] = spriteWidth;
+		height[index] = spriteHeight;
+
+		int offsetTime = (int)(lifeOffset + lifeOffsetDiff * getLifeOffset().getScale(percent));
+		if (offsetTime > 0) {
+			if (offsetTime >= currentLife[index]) offsetTime = currentLife[index] - 1;
+			currentLife[index] -= offsetTime;
+			this.percent[index] = 1 - currentLife[index] / (float)life[index];
+			updateParticles(offsetTime / 1000f, index, index + 1);
+		}
+
+		if (boundsValid) extendBounds(index, index + 1);
+	}
+
+	/** Ages the particles, removes the dead ones and updates the others. */
+	private void updateParticles (float delta, int deltaMillis) {
+		int[] life = this.life, currentLife = this.currentLife;
+		float[] percent = this.percent;
+		int activeCount = this.activeCount;
+		for (int i = 0; i < activeCount;) {
+			int remaining = currentLife[i] - deltaMillis;
+			if (remaining <= 0) {
+				// Move the last particle in the hole, it is processed in the next iteration
+				if (i != --activeCount) move(activeCount, i);
+				continue;
+			}
+			currentLife[i] = remaining;
+			percent[i] = 1 - remaining / (float)life[i];
+			i++;
+		}
+		this.activeCount = activeCount;
+		updateParticles(delta, 0, activeCount);
+		resetBounds();
+		extendBounds(0, activeCount);
+		boundsValid = true;
+	}
+
+	/** Updates the properties of the particles in the range [start, end), one property at a time. Expects {@link #percent} to
+	 * be up to date. */
+	private void updateParticles (float delta, int start, int end) {
+		int updateFlags = this.updateFlags;
+		float[] percent = this.percent;
+
+		if ((updateFlags & UPDATE_SCALE) != 0) {
+			ScaledNumericValue xScaleValue = getXScale(), yScaleValue = getYScale();
+			float[] xScale = this.xScale, xScaleDiff = this.xScaleDiff, scaleX = this.scaleX, scaleY = this.scaleY;
+			if (yScaleValue.active) {
+				float[] yScale = this.yScale, yScaleDiff = this.yScaleDiff;
+				for (int i = start; i < end; i++) {
+					scaleX[i] = xScale[i] + xScaleDiff[i] * xScaleValue.getScale(percent[i]);
+					scaleY[i] = yScale[i] + yScaleDiff[i] * yScaleValue.getScale(percent[i]);
+				}
+			} else {
+				for (int i = start; i < end; i++)
+					scaleX[i] = scaleY[i] = xScale[i] + xScaleDiff[i] * xScaleValue.getScale(percent[i]);
+			}
+		}
+
+		ScaledNumericValue rotationValue = getRotation();
+		float[] rotation = this.rotation, rotationDiff = this.rotationDiff, spriteRotation = this.spriteRotation;
+		if ((updateFlags & UPDATE_VELOCITY) != 0) {
+			ScaledNumericValue velocityValue = getVelocity(), angleValue = getAngle(), windValue = getWind(),
+				gravityValue = getGravity();
+			float[] velocity = this.velocity, velocityDiff = this.velocityDiff, x = this.x, y = this.y;
+			float[] angle = this.angle, angleDiff = this.angleDiff, angleCos = this.angleCos, angleSin = this.angleSin;
+			float[] wind = this.wind, windDiff = this.windDiff, gravity = this.gravity, gravityDiff = this.gravityDiff;
+			boolean aligned = isAligned();
+			boolean updateAngle = (updateFlags & UPDATE_ANGLE) != 0;
+			boolean updateRotation = updateAngle ? (updateFlags & UPDATE_ROTATION) != 0
+				: aligned || (updateFlags & UPDATE_ROTATION) != 0;
+			boolean updateWind = (updateFlags & UPDATE_WIND) != 0, updateGravity = (updateFlags & UPDATE_GRAVITY) != 0;
+			for (int i = start; i < end; i++) {
+				float p = percent[i];
+				float v = (velocity[i] + velocityDiff[i] * velocityValue.getScale(p)) * delta;
+				float velocityX, velocityY, a;
+				if (updateAngle) {
+					a = angle[i] + angleDiff[i] * angleValue.getScale(p);
+					velocityX = v * MathUtils.cosDeg(a);
+					velocityY = v * MathUtils.sinDeg(a);
+				} else {
+					a = angle[i];
+					velocityX = v * angleCos[i];
+					velocityY = v * angleSin[i];
+				}
+				if (updateRotation) {
+					float r = rotation[i] + rotationDiff[i] * rotationValue.getScale(p);
+					if (aligned) r += a;
+					spriteRotation[i] = r;
+				}
+				if (updateWind) velocityX += (wind[i] + windDiff[i] * windValue.getScale(p)) * delta;
+				if (updateGravity) velocityY += (gravity[i] + gravityDiff[i] * gravityValue.getScale(p)) * delta;
+				x[i] += velocityX;
+				y[i] += velocityY;
+			}
+		} else if ((updateFlags & UPDATE_ROTATION) != 0) {
+			for (int i = start; i < end; i++)
+				spriteRotation[i] = rotation[i] + rotationDiff[i] * rotationValue.getScale(percent[i]);
+		}
+
+		ScaledNumericValue transparencyValue = getTransparency();
+		GradientColorValue tintValue = getTint();
+		float[] tint = this.tint, transparency = this.transparency, transparencyDiff = this.transparencyDiff, color = this.color;
+		boolean updateTint = (updateFlags & UPDATE_TINT) != 0;
+		boolean premultipliedAlpha = isPremultipliedAlpha();
+		float alphaMultiplier = isAdditive() ? 0 : 1;
+		for (int i = start; i < end; i++) {
+			float p = percent[i];
+			float r, g, b;
+			if (updateTint) {
+				float[] c = tintValue.getColor(p);
+				r = c[0];
+				g = c[1];
+				b = c[2];
+			} else {
+				r = tint[i * 3];
+				g = tint[i * 3 + 1];
+				b = tint[i * 3 + 2];
+			}
+			float a = transparency[i] + transparencyDiff[i] * transparencyValue.getScale(p);
+			if (premultipliedAlpha) {
+				color[i] = toFloatBits(r * a, g * a, b * a, a * alphaMultiplier);
+			} else {
+				color[i] = toFloatBits(r, g, b, a);
+			}
+		}
+
+		if ((updateFlags & UPDATE_SPRITE) != 0) {
+			Array<Sprite> sprites = getSprites();
+			int[] frame = this.frame, spriteIndex = this.sprite;
+			float[] x = this.x, y = this.y, width = this.width, height = this.height;
+			for (int i = start; i < end; i++) {
+				int f = Math.min((int)(percent[i] * sprites.size), sprites.size - 1);
+				if (frame[i] != f) {
+					Sprite sprite = sprites.get(f);
+					float spriteWidth = sprite.getWidth(), spriteHeight = sprite.getHeight();
+					x[i] += (width[i] - spriteWidth) / 2;
+					y[i] += (height[i] - spriteHeight) / 2;
+					width[i] = spriteWidth;
+					height[i] = spriteHeight;
+					originX[i] = sprite.getOriginX();
+					originY[i] = sprite.getOriginY();
+					spriteIndex[i] = f;
+					frame[i] = f;
+				}
+			}
+		}
+	}
+
+	/** Same as {@link Color#set(float, float, float, float)} followed by {@link Color#toFloatBits()}, like
+	 * {@link Sprite#setColor(float, float, float, float)}. */
+	static private float toFloatBits (float r, float g, float b, float a) {
+		return Color.toFloatBits(Math.max(0, Math.min(1, r)), Math.max(0, Math.min(1, g)), Math.max(0, Math.min(1, b)),
+			Math.max(0, Math.min(1, a)));
+	}
+
+	private void move (int from, int to) {
+		life[to] = life[from];
+		currentLife[to] = currentLife[from];
+		frame[to] = frame[from];
+		sprite[to] = sprite[from];
+		percent[to] = percent[from];
+		velocity[to] = velocity[from];
+		velocityDiff[to] = velocityDiff[from];
+		angle[to] = angle[from];
+		angleDiff[to] = angleDiff[from];
+		angleCos[to] = angleCos[from];
+		angleSin[to] = angleSin[from];
+		xScale[to] = xScale[from];
+		xScaleDiff[to] = xScaleDiff[from];
+		yScale[to] = yScale[from];
+		yScaleDiff[to] = yScaleDiff[from];
+		scaleX[to] = scaleX[from];
+		scaleY[to] = scaleY[from];
+		rotation[to] = rotation[from];
+		rotationDiff[to] = rotationDiff[from];
+		spriteRotation[to] = spriteRotation[from];
+		wind[to] = wind[from];
+		windDiff[to] = windDiff[from];
+		gravity[to] = gravity[from];
+		gravityDiff[to] = gravityDiff[from];
+		transparency[to] = transparency[from];
+		transparencyDiff[to] = transparencyDiff[from];
+		System.arraycopy(tint, from * 3, tint, to * 3, 3);
+		color[to] = color[from];
+		x[to] = x[from];
+		y[to] = y[from];
+		width[to] = width[from];
+		height[to] = height[from];
+		originX[to] = originX[from];
+		originY[to] = originY[from];
+	}
+
+	private void drawParticles (Batch batch) {
+		int activeCount = this.activeCount;
+		if (activeCount == 0) return;
+		updateSpriteData();
+		float[] vertices = this.vertices;
+		if (vertices == null) this.vertices = vertices = new float[VERTEX_SIZE * Math.min(getMaxParticleCount(), BUFFER_SPRITES)];
+		Texture[] spriteTextures = this.spriteTextures;
+		int[] sprite = this.sprite;
+		Texture texture = spriteTextures[sprite[0]];
+		int offset = 0;
+		for (int i = 0; i < activeCount; i++) {
+			Texture particleTexture = spriteTextures[sprite[i]];
+			if (particleTexture != texture || offset == vertices.length) {
+				batch.draw(texture, vertices, 0, offset);
+				texture = particleTexture;
+				offset = 0;
+			}
+			computeVertices(i, vertices, offset);
+			offset += VERTEX_SIZE;
+		}
+		batch.draw(texture, vertices, 0, offset);
+	}
+
+	/** Writes the vertices of a particle, in the same way as {@link Sprite#getVertices()}. */
+	private void computeVertices (int i, float[] vertices, int offset) {
+		float localX = -originX[i];
+		float localY = -originY[i];
+		float localX2 = localX + width[i];
+		float localY2 = localY + height[i];
+		float worldOriginX = x[i] - localX;
+		float worldOriginY = y[i] - localY;
+		float scaleX = this.scaleX[i], scaleY = this.scaleY[i];
+		if (scaleX != 1 || scaleY != 1) {
+			localX *= scaleX;
+			localY *= scaleY;
+			localX2 *= scaleX;
+			localY2 *= scaleY;
+		}
+		float x1, y1, x2, y2, x3, y3, x4, y4;
+		float rotation = spriteRotation[i];
+		if (rotation != 0) {
+			final float cos = MathUtils.cosDeg(rotation);
+			final float sin = MathUtils.sinDeg(rotation);
+			final float localXCos = localX * cos;
+			final float localXSin = localX * sin;
+			final float localYCos = localY * cos;
+			final float localYSin = localY * sin;
+			final float localX2Cos = localX2 * cos;
+			final float localX2Sin = localX2 * sin;
+			final float localY2Cos = localY2 * cos;
+			final float localY2Sin = localY2 * sin;
+
+			x1 = localXCos - localYSin + worldOriginX;
+			y1 = localYCos + localXSin + worldOriginY;
+			x2 = localXCos - localY2Sin + worldOriginX;
+			y2 = localY2Cos + localXSin + worldOriginY;
+			x3 = localX2Cos - localY2Sin + worldOriginX;
+			y3 = localY2Cos + localX2Sin + worldOriginY;
+			x4 = x1 + (x3 - x2);
+			y4 = y3 - (y2 - y1);
+		} else {
+			x1 = localX + worldOriginX;
+			y1 = localY + worldOriginY;
+			x3 = localX2 + worldOriginX;
+			y3 = localY2 + worldOriginY;
+			x2 = x1;
+			y2 = y3;
+			x4 = x3;
+			y4 = y1;
+		}
+
+		float color = this.color[i];
+		float[] uvs = spriteUVs;
+		int uv = sprite[i] * 4;
+		float u = uvs[uv], v = uvs[uv + 1], u2 = uvs[uv + 2], v2 = uvs[uv + 3];
+
+		vertices[offset] = x1;
+		vertices[offset + 1] = y1;
+		vertices[offset + 2] = color;
+		vertices[offset + 3] = u;
+		vertices[offset + 4] = v2;
+
+		vertices[offset + 5] = x2;
+		vertices[offset + 6] = y2;
+		vertices[offset + 7] = color;
+		vertices[offset + 8] = u;
+		vertices[offset + 9] = v;
+
+		vertices[offset + 10] = x3;
+		vertices[offset + 11] = y3;
+		vertices[offset + 12] = color;
+		vertices[offset + 13] = u2;
+		vertices[offset + 14] = v;
+
+		vertices[offset + 15] = x4;
+		vertices[offset + 16] = y4;
+		vertices[offset + 17] = color;
+		vertices[offset + 18] = u2;
+		vertices[offset + 19] = v2;
+	}
+
+	private void updateSpriteData () {
+		Array<Sprite> sprites = getSprites();
+		if (!spritesDirty && sprites == cachedSprites && sprites.size == cachedSpriteCount) return;
+		spritesDirty = false;
+		cachedSprites = sprites;
+		cachedSpriteCount = sprites.size;
+		if (spriteTextures == null || spriteTextures.length < sprites.size) {
+			spriteTextures = new Texture[sprites.size];
+			spriteUVs = new float[sprites.size * 4];
+		}
+		for (int i = 0, n = sprites.size; i < n; i++) {
+			Sprite sprite = sprites.get(i);
+			spriteTextures[i] = sprite.getTexture();
+			float u = sprite.getU(), v = sprite.getV(), u2 = sprite.getU2(), v2 = sprite.getV2();
+			if (flipX) {
+				float temp = u;
+				u = u2;
+				u2 = temp;
+			}
+			if (flipY) {
+				float temp = v;
+				v = v2;
+				v2 = temp;
+			}
+			spriteUVs[i * 4] = u;
+			spriteUVs[i * 4 + 1] = v;
+			spriteUVs[i * 4 + 2] = u2;
+			spriteUVs[i * 4 + 3] = v2;
+		}
+	}
+
+	@Override
+	public void setPosition (float x, float y) {
+		if (isAttached()) {
+			float xAmount = x - getX();
+			float yAmount = y - getY();
+			float[] particleX = this.x, particleY = this.y;
+			for (int i = 0, n = activeCount; i < n; i++) {
+				particleX[i] += xAmount;
+				particleY[i] += yAmount;
+			}
+			float[] particleBounds = this.particleBounds;
+			particleBounds[0] += xAmount;
+			particleBounds[1] += yAmount;
+			particleBounds[2] += xAmount;
+			particleBounds[3] += yAmount;
+		}
+		super.setPosition(x, y);
+	}
+
+	@Override
+	public void setSprites (Array<Sprite> sprites) {
+		super.setSprites(sprites);
+		spritesDirty = true;
+		boundsValid = false;
+		if (sprites.size == 0) return;
+		for (int i = 0, n = activeCount; i < n; i++) {
+			int index = 0;
+			switch (getSpriteMode()) {
+			case single:
+				break;
+			case random:
+				index = MathUtils.random(sprites.size - 1);
+				break;
+			case animated:
+				float percent = 1 - currentLife[i] / (float)life[i];
+				frame[i] = index = Math.min((int)(percent * sprites.size), sprites.size - 1);
+				break;
+			}
+			Sprite sprite = sprites.get(index);
+			this.sprite[i] = index;
+			originX[i] = sprite.getOriginX();
+			originY[i] = sprite.getOriginY();
+		}
+	}
+
+	/** Does nothing besides validating the sprites, the particle arrays are allocated by {@link #setMaxParticleCount(int)}. */
+	@Override
+	public void preAllocateParticles () {
+		if (getSprites().isEmpty())
+			throw new IllegalStateException("ParticleEmitter.setSprites() must have been called before preAllocateParticles()");
+	}
+
+	@Override
+	public void setFlip (boolean flipX, boolean flipY) {
+		super.setFlip(flipX, flipY);
+		this.flipX = flipX;
+		this.flipY = flipY;
+		spritesDirty = true;
+	}
+
+	@Override
+	public void allowCompletion () {
+		super.allowCompletion();
+		allowCompletion = true;
+	}
+
+	@Override
+	public boolean isComplete () {
+		if (isContinuous() && !allowCompletion) return false;
+		if (delayTimer < delay) return false;
+		return durationTimer >= duration && activeCount == 0;
+	}
+
+	@Override
+	public float getPercentComplete () {
+		if (delayTimer < delay) return 0;
+		return Math.min(1, durationTimer / (float)duration);
+	}
+
+	@Override
+	public int getActiveCount () {
+		return activeCount;
+	}
+
+	@Override
+	public BoundingBox getBoundingBox () {
+		if (bounds == null) bounds = new BoundingBox();
+		if (!boundsValid) {
+			resetBounds();
+			extendBounds(0, activeCount);
+			boundsValid = true;
+		}
+		BoundingBox bounds = this.bounds;
+		bounds.inf();
+		float[] particleBounds = this.particleBounds;
+		if (particleBounds[0] <= particleBounds[2]) {
+			bounds.ext(particleBounds[0], particleBounds[1], 0);
+			bounds.ext(particleBounds[2], particleBounds[3], 0);
+		}
+		return bounds;
+	}
+
+	private void resetBounds () {
+		ParticleEmitter.resetBounds(particleBounds);
+	}
+
+	/** Extends the bounds by the particles in the specified range, bounding the rotated corners without computing them. */
+	private void extendBounds (int start, int end) {
+		float[] x = this.x, y = this.y, width = this.width, height = this.height, originX = this.originX, originY = this.originY;
+		float[] scaleX = this.scaleX, scaleY = this.scaleY, spriteRotation = this.spriteRotation;
+		float[] particleBounds = this.particleBounds;
+		for (int i = start; i < end; i++)
+			ParticleEmitter.extendBounds(particleBounds, x[i], y[i], width[i], height[i], originX[i], originY[i], scaleX[i],
+				scaleY[i], spriteRotation[i]);
+	}
+}
@@ -25,10 +25,12 @@ import java.io.Writer;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.collision.BoundingBox;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Null;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.StreamUtils;
 
@@ -38,6 +40,8 @@ public class ParticleEffect implements Disposable {
 	private final Array<ParticleEmitter> emitters;
 	private BoundingBox bounds;
 	private boolean ownsTexture;
+	private @Null Rectangle cullingArea;
+	private boolean freezeCulled;
 	protected float xSizeScale = 1f;
 	protected float ySizeScale = 1f;
 	protected float motionScale = 1f;
@@ -50,6 +54,8 @@ public class ParticleEffect implements Disposable {
 		emitters = new Array(true, effect.emitters.size);
 		for (int i = 0, n = effect.emitters.size; i < n; i++)
 			emitters.add(newEmitter(effect.emitters.get(i)));
+		cullingArea = effect.cullingArea;
+		freezeCulled = effect.freezeCulled;
 	}
 
 	public void start () {
@@ -76,18 +82,55 @@ public class ParticleEffect implements Disposable {
 	}
 
 	public void update (float delta) {
-		for (int i = 0, n = emitters.size; i < n; i++)
-			emitters.get(i).update(delta);
+		for (int i = 0, n = emitters.size; i < n; i++) {
+			ParticleEmitter emitter = emitters.get(i);
+			if (!freezeCulled || !isCulled(emitter)) emitter.update(delta);
+		}
 	}
 
 	public void draw (Batch spriteBatch) {
-		for (int i = 0, n = emitters.size; i < n; i++)
-			emitters.get(i).draw(spriteBatch);
+		for (int i = 0, n = emitters.size; i < n; i++) {
+			ParticleEmitter emitter = emitters.get(i);
+			if (!isCulled(emitter)) emitter.draw(spriteBatch);
+		}
 	}
 
+	/** Updates and draws the emitters. Culled emitters are only updated, or not at all if {@link #setFreezeCulled(boolean)} is
+	 * true. */
 	public void draw (Batch spriteBatch, float delta) {
-		for (int i = 0, n = emitters.size; i < n; i++)
-			emitters.get(i).draw(spriteBatch, delta);
+		for (int i = 0, n = emitters.size; i < n; i++) {
+			ParticleEmitter emitter = emitters.get(i);
+			if (!isCulled(emitter))
+				emitter.draw(spriteBatch, delta);
+			else if (!freezeCulled) emitter.update(delta);
+		}
+	}
+
+	private boolean isCulled (ParticleEmitter emitter) {
+		return cullingArea != null && emitter.getActiveCount() > 0 && !emitter.overlaps(cullingArea);
+	}
+
+	/** Sets the area outside of which the emitters are not drawn, usually the visible part of the world. The rectangle is not
+	 * copied, so it can be shared by many effects and updated when the camera moves. Emitters without active particles are never
+	 * culled.
+	 * @param cullingArea The culling area in the effect's coordinates, or null to disable culling. */
+	public void setCullingArea (@Null Rectangle cullingArea) {
+		this.cullingArea = cullingArea;
+	}
+
+	public @Null Rectangle getCullingArea () {
+		return cullingArea;
+	}
+
+	/** @param freezeCulled If true, culled emitters are not updated until they are visible again. They don't emit new particles
+	 *           and their particles don't age meanwhile. If false (the default), culled emitters are still updated, which is
+	 *           cheaper than drawing them as no vertices are computed. */
+	public void setFreezeCulled (boolean freezeCulled) {
+		this.freezeCulled = freezeCulled;
+	}
+
+	public boolean isFreezeCulled () {
+		return freezeCulled;
 	}
 
 	public void allowCompletion () {
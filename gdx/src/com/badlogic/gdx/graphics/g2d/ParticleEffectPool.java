@@ -20,6 +20,8 @@ import com.badlogic.gdx.graphics.g2d.ParticleEffectPool.PooledEffect;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Pool;
 
+/** A pool of copies of an effect. The culling settings of the template effect are given to the pooled effects, so setting a
+ * culling area on the template makes all the effects obtained from the pool skip drawing while they are not visible. */
 public class ParticleEffectPool extends Pool<PooledEffect> {
 	private final ParticleEffect effect;
 
@@ -38,6 +40,8 @@ public class ParticleEffectPool extends Pool<PooledEffect> {
 		super.free(effect);
 		
 		effect.reset(false); // copy parameters exactly to avoid introducing error
+		effect.setCullingArea(this.effect.getCullingArea());
+		effect.setFreezeCulled(this.effect.isFreezeCulled());
 		if (effect.xSizeScale != this.effect.xSizeScale || effect.ySizeScale != this.effect.ySizeScale || effect.motionScale != this.effect.motionScale){
 			Array<ParticleEmitter> emitters = effect.getEmitters();
 			Array<ParticleEmitter> templateEmitters = this.effect.getEmitters();
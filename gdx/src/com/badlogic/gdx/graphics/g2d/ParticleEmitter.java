@@ -77,6 +77,9 @@ public class ParticleEmitter {
 	private int updateFlags;
 	private boolean allowCompletion;
 	private BoundingBox bounds;
+	/** The bounds of the active particles as min x, min y, max x, max y. */
+	private final float[] particleBounds = new float[4];
+	private boolean boundsValid;
 
 	private int emission, emissionDiff, emissionDelta;
 	private int lifeOffset, lifeOffsetDiff;
@@ -157,6 +160,7 @@ public class ParticleEmitter {
 		active = new boolean[maxParticleCount];
 		activeCount = 0;
 		particles = new Particle[maxParticleCount];
+		boundsValid = false;
 	}
 
 	public void addParticle () {
@@ -236,13 +240,19 @@ public class ParticleEmitter {
 		boolean[] active = this.active;
 		int activeCount = this.activeCount;
 		Particle[] particles = this.particles;
+		resetBounds();
 		for (int i = 0, n = active.length; i < n; i++) {
-			if (active[i] && !updateParticle(particles[i], delta, deltaMillis)) {
+			if (!active[i]) continue;
+			Particle particle = particles[i];
+			if (updateParticle(particle, delta, deltaMillis))
+				extendBounds(particle);
+			else {
 				active[i] = false;
 				activeCount--;
 			}
 		}
 		this.activeCount = activeCount;
+		boundsValid = true;
 	}
 
 	public void draw (Batch batch) {
@@ -287,18 +297,21 @@ public class ParticleEmitter {
 		Particle[] particles = this.particles;
 		boolean[] active = this.active;
 		int activeCount = this.activeCount;
+		resetBounds();
 		for (int i = 0, n = active.length; i < n; i++) {
 			if (active[i]) {
 				Particle particle = particles[i];
-				if (updateParticle(particle, delta, deltaMillis))
+				if (updateParticle(particle, delta, deltaMillis)) {
 					particle.draw(batch);
-				else {
+					extendBounds(particle);
+				} else {
 					active[i] = false;
 					activeCount--;
 				}
 			}
 		}
 		this.activeCount = activeCount;
+		boundsValid = true;
 
 		if (cleansUpBlendFunction && (additive || premultipliedAlpha))
 			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
@@ -348,6 +361,8 @@ public class ParticleEmitter {
 		for (int i = 0, n = active.length; i < n; i++)
 			active[i] = false;
 		activeCount = 0;
+		resetBounds();
+		boundsValid = true;
 		start();
 	}
 
@@ -564,6 +579,8 @@ public class ParticleEmitter {
 			if (offsetTime >= particle.currentLife) offsetTime = particle.currentLife - 1;
 			updateParticle(particle, offsetTime / 1000f, offsetTime);
 		}
+
+		if (boundsValid) extendBounds(particle);
 	}
 
 	private boolean updateParticle (Particle particle, float delta, int deltaMillis) {
@@ -669,6 +686,11 @@ public class ParticleEmitter {
 			boolean[] active = this.active;
 			for (int i = 0, n = active.length; i < n; i++)
 				if (active[i]) particles[i].translate(xAmount, yAmount);
+			float[] particleBounds = this.particleBounds;
+			particleBounds[0] += xAmount;
+			particleBounds[1] += yAmount;
+			particleBounds[2] += xAmount;
+			particleBounds[3] += yAmount;
 		}
 		this.x = x;
 		this.y = y;
@@ -676,6 +698,7 @@ public class ParticleEmitter {
 
 	public void setSprites (Array<Sprite> sprites) {
 		this.sprites = sprites;
+		boundsValid = false;
 		if (sprites.size == 0) return;
 		for (int i = 0, n = particles.length; i < n; i++) {
 			Particle particle = particles[i];
@@ -954,25 +977,81 @@ public class ParticleEmitter {
 		yOffsetValue.setLow(-yOffsetValue.getLowMin(), -yOffsetValue.getLowMax());
 	}
 
-	/** Returns the bounding box for all active particles. z axis will always be zero. */
+	/** Returns the bounds of the active particles. The bounds are maintained while the particles are updated, so this is cheap
+	 * except after {@link #setSprites(Array)}. */
 	public BoundingBox getBoundingBox () {
 		if (bounds == null) bounds = new BoundingBox();
 
-		Particle[] particles = this.particles;
-		boolean[] active = this.active;
-		BoundingBox bounds = this.bounds;
+		if (!boundsValid) {
+			Particle[] particles = this.particles;
+			boolean[] active = this.active;
+			resetBounds();
+			for (int i = 0, n = active.length; i < n; i++)
+				if (active[i]) extendBounds(particles[i]);
+			boundsValid = true;
+		}
 
+		BoundingBox bounds = this.bounds;
 		bounds.inf();
-		for (int i = 0, n = active.length; i < n; i++)
-			if (active[i]) {
-				Rectangle r = particles[i].getBoundingRectangle();
-				bounds.ext(r.x, r.y, 0);
-				bounds.ext(r.x + r.width, r.y + r.height, 0);
-			}
-
+		float[] particleBounds = this.particleBounds;
+		if (particleBounds[0] <= particleBounds[2]) {
+			bounds.ext(particleBounds[0], particleBounds[1], 0);
+			bounds.ext(particleBounds[2], particleBounds[3], 0);
+		}
 		return bounds;
 	}
 
+	/** Returns true if the bounds of the active particles overlap the specified area, false if there are no active particles. */
+	public boolean overlaps (Rectangle area) {
+		BoundingBox bounds = getBoundingBox();
+		return bounds.min.x < area.x + area.width && bounds.max.x > area.x && bounds.min.y < area.y + area.height
+			&& bounds.max.y > area.y;
+	}
+
+	private void resetBounds () {
+		resetBounds(particleBounds);
+	}
+
+	/** Extends the bounds by the particle's sprite, without computing its vertices. */
+	private void extendBounds (Sprite sprite) {
+		extendBounds(particleBounds, sprite.getX(), sprite.getY(), sprite.getWidth(), sprite.getHeight(), sprite.getOriginX(),
+			sprite.getOriginY(), sprite.getScaleX(), sprite.getScaleY(), sprite.getRotation());
+	}
+
+	static void resetBounds (float[] bounds) {
+		bounds[0] = bounds[1] = Float.POSITIVE_INFINITY;
+		bounds[2] = bounds[3] = Float.NEGATIVE_INFINITY;
+	}
+
+	/** Extends the bounds, stored as min x, min y, max x, max y, by a rotated and scaled rectangle without computing its
+	 * vertices. Used by both this class and {@link ArrayParticleEmitter}. */
+	static void extendBounds (float[] bounds, float x, float y, float width, float height, float originX, float originY,
+		float scaleX, float scaleY, float rotation) {
+		float localX = -originX * scaleX, localX2 = (width - originX) * scaleX;
+		float localY = -originY * scaleY, localY2 = (height - originY) * scaleY;
+		float minX, minY, maxX, maxY;
+		if (rotation != 0) {
+			// The corners are (localX * cos - localY * sin, localX * sin + localY * cos), each term is bounded separately
+			float cos = MathUtils.cosDeg(rotation), sin = MathUtils.sinDeg(rotation);
+			float xCos = localX * cos, x2Cos = localX2 * cos, ySin = localY * sin, y2Sin = localY2 * sin;
+			float xSin = localX * sin, x2Sin = localX2 * sin, yCos = localY * cos, y2Cos = localY2 * cos;
+			minX = Math.min(xCos, x2Cos) - Math.max(ySin, y2Sin);
+			maxX = Math.max(xCos, x2Cos) - Math.min(ySin, y2Sin);
+			minY = Math.min(xSin, x2Sin) + Math.min(yCos, y2Cos);
+			maxY = Math.max(xSin, x2Sin) + Math.max(yCos, y2Cos);
+		} else {
+			minX = Math.min(localX, localX2);
+			maxX = Math.max(localX, localX2);
+			minY = Math.min(localY, localY2);
+			maxY = Math.max(localY, localY2);
+		}
+		float worldOriginX = x + originX, worldOriginY = y + originY;
+		bounds[0] = Math.min(bounds[0], worldOriginX + minX);
+		bounds[1] = Math.min(bounds[1], worldOriginY + minY);
+		bounds[2] = Math.max(bounds[2], worldOriginX + maxX);
+		bounds[3] = Math.max(bounds[3], worldOriginY + maxY);
+	}
+
 	protected RangedNumericValue[] getXSizeValues () {
 		if (xSizeValues == null) {
 			xSizeValues = new RangedNumericValue[3];
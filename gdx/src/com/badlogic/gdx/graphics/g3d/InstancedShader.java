@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.graphics.g3d;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
+import com.badlogic.gdx.utils.Array;
+
+/** A {@link Shader} which is able to render a group of {@link Renderable}s, which only differ in their
+ * {@link Renderable#worldTransform}, using a single (instanced) draw call. This is used by {@link ModelBatch} when an instanced
+ * {@link com.badlogic.gdx.graphics.g3d.utils.ShaderProvider} is set, see {@link ModelBatch#setInstancedShaderProvider}. Requires
+ * OpenGL ES 3.0.</p>
+ * 
+ * All renderables in the group must share the same {@link Renderable#meshPart}, {@link Renderable#material} and
+ * {@link Renderable#environment} and must not use {@link Renderable#bones}. The shader is expected to be able to render the first
+ * renderable of the group, which can be checked using {@link #canRender(Renderable)}. */
+public interface InstancedShader extends Shader {
+	/** Renders count renderables of the array, starting at offset, as instances of the first renderable. Must be called between
+	 * {@link #begin(Camera, RenderContext)} and {@link #end()}.
+	 * @param renderables The array containing the group of renderables.
+	 * @param offset The index of the first renderable of the group.
+	 * @param count The number of renderables in the group. */
+	void render (final Array<Renderable> renderables, final int offset, final int count);
+}
@@ -19,10 +19,12 @@ package com.badlogic.gdx.graphics.g3d;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.g3d.attributes.BlendingAttribute;
 import com.badlogic.gdx.graphics.g3d.shaders.DefaultShader;
 import com.badlogic.gdx.graphics.g3d.utils.DefaultRenderableSorter;
 import com.badlogic.gdx.graphics.g3d.utils.DefaultShaderProvider;
 import com.badlogic.gdx.graphics.g3d.utils.DefaultTextureBinder;
+import com.badlogic.gdx.graphics.g3d.utils.InstancedShaderProvider;
 import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
 import com.badlogic.gdx.graphics.g3d.utils.RenderableSorter;
 import com.badlogic.gdx.graphics.g3d.utils.ShaderProvider;
@@ -32,6 +34,8 @@ import com.badlogic.gdx.utils.FlushablePool;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.Pool;
 
+import java.util.Comparator;
+
 /** Batches {@link Renderable} instances, fetches {@link Shader}s for them, sorts them and then renders them. Fetching the shaders
  * is done using a {@link ShaderProvider}, which defaults to {@link DefaultShaderProvider}. Sorting the renderables is done using
  * a {@link RenderableSorter}, which default to {@link DefaultRenderableSorter}.
@@ -40,6 +44,10 @@ import com.badlogic.gdx.utils.Pool;
  * 
  * To provide multiple {@link Renderable}s at once a {@link RenderableProvider} can be used, e.g. a {@link ModelInstance}.
  * 
+ * When an instanced {@link ShaderProvider} is set using {@link #setInstancedShaderProvider(ShaderProvider)}, opaque
+ * {@link Renderable}s which only differ in their world transform are grouped and rendered using a single instanced draw call per
+ * group, see {@link InstancedShader}. This requires OpenGL ES 3.0.
+ * 
  * @author xoppa, badlogic */
 public class ModelBatch implements Disposable {
 	protected static class RenderablePool extends FlushablePool<Renderable> {
@@ -71,6 +79,34 @@ public class ModelBatch implements Disposable {
 	protected final ShaderProvider shaderProvider;
 	/** the {@link RenderableSorter} **/
 	protected final RenderableSorter sorter;
+	/** the {@link ShaderProvider} which provides {@link InstancedShader} instances for groups of equal Renderables, or null if
+	 * instancing is disabled **/
+	protected ShaderProvider instancedShaderProvider;
+	/** the minimum number of equal Renderables required to render them using a single instanced draw call **/
+	protected int minInstances = 2;
+	private final Array<Renderable> instanceCandidates = new Array<Renderable>();
+	private final Comparator<Renderable> instanceComparator = new Comparator<Renderable>() {
+		@Override
+		public int compare (final Renderable o1, final Renderable o2) {
+			int result = compareIdentity(o1.shader, o2.shader);
+			if (result != 0) return result;
+			result = compareIdentity(o1.meshPart.mesh, o2.meshPart.mesh);
+			if (result != 0) return result;
+			if (o1.meshPart.offset != o2.meshPart.offset) return o1.meshPart.offset < o2.meshPart.offset ? -1 : 1;
+			if (o1.meshPart.size != o2.meshPart.size) return o1.meshPart.size < o2.meshPart.size ? -1 : 1;
+			if (o1.meshPart.primitiveType != o2.meshPart.primitiveType)
+				return o1.meshPart.primitiveType < o2.meshPart.primitiveType ? -1 : 1;
+			result = compareIdentity(o1.environment, o2.environment);
+			if (result != 0) return result;
+			return o1.material.compareTo(o2.material);
+		}
+
+		private int compareIdentity (final Object o1, final Object o2) {
+			final int h1 = System.identityHashCode(o1);
+			final int h2 = System.identityHashCode(o2);
+			return h1 < h2 ? -1 : (h1 > h2 ? 1 : 0);
+		}
+	};
 
 	/** Construct a ModelBatch, using this constructor makes you responsible for calling context.begin() and context.end() yourself.
 	 * @param context The {@link RenderContext} to use.
@@ -192,10 +228,38 @@ public class ModelBatch implements Disposable {
 		return sorter;
 	}
 
+	/** Sets the {@link ShaderProvider} used to render groups of equal opaque {@link Renderable}s, which only differ in their
+	 * {@link Renderable#worldTransform}, using a single instanced draw call per group. The provider must provide
+	 * {@link InstancedShader} instances, e.g. {@link InstancedShaderProvider}. Requires OpenGL ES 3.0.
+	 * @param instancedShaderProvider The {@link ShaderProvider} to use, will be disposed when this ModelBatch is disposed. Set to
+	 *           null to disable instancing. */
+	public void setInstancedShaderProvider (final ShaderProvider instancedShaderProvider) {
+		if (instancedShaderProvider != null && Gdx.gl30 == null)
+			throw new GdxRuntimeException("Instanced rendering requires OpenGL ES 3.0");
+		this.instancedShaderProvider = instancedShaderProvider;
+	}
+
+	/** @return the {@link ShaderProvider} used for instanced rendering, or null if instancing is disabled. */
+	public ShaderProvider getInstancedShaderProvider () {
+		return instancedShaderProvider;
+	}
+
+	/** @param minInstances The minimum number of equal {@link Renderable}s required to render them using a single instanced draw
+	 *           call, smaller groups are rendered one by one. */
+	public void setMinInstances (final int minInstances) {
+		this.minInstances = Math.max(1, minInstances);
+	}
+
+	/** @return The minimum number of equal {@link Renderable}s required to render them using a single instanced draw call. */
+	public int getMinInstances () {
+		return minInstances;
+	}
+
 	/** Flushes the batch, causing all {@link Renderable}s in the batch to be rendered. Can only be called after the call to
 	 * {@link #begin(Camera)} and before the call to {@link #end()}. */
 	public void flush () {
 		sorter.sort(camera, renderables);
+		if (instancedShaderProvider != null) renderInstanced();
 		Shader currentShader = null;
 		for (int i = 0; i < renderables.size; i++) {
 			final Renderable renderable = renderables.get(i);
@@ -211,6 +275,70 @@ public class ModelBatch implements Disposable {
 		renderables.clear();
 	}
 
+	/** Renders all groups of at least {@link #minInstances} equal {@link Renderable}s using the {@link InstancedShader}s provided
+	 * by the {@link #instancedShaderProvider} and removes them from the {@link #renderables} array. Called by {@link #flush()}
+	 * after sorting. */
+	protected void renderInstanced () {
+		final Array<Renderable> candidates = instanceCandidates;
+		for (int i = 0; i < renderables.size; i++) {
+			final Renderable renderable = renderables.get(i);
+			if (isInstanceable(renderable)) candidates.add(renderable);
+		}
+		if (candidates.size < minInstances) {
+			candidates.clear();
+			return;
+		}
+		candidates.sort(instanceComparator);
+
+		boolean instanced = false;
+		InstancedShader currentShader = null;
+		for (int start = 0, end; start < candidates.size; start = end) {
+			final Renderable first = candidates.get(start);
+			end = start + 1;
+			while (end < candidates.size && canInstance(first, candidates.get(end)))
+				end++;
+			if (end - start < minInstances) continue;
+			// A null shader marks the renderable as rendered, the instanced shader provider must not reuse the suggested shader.
+			for (int i = start; i < end; i++)
+				candidates.get(i).shader = null;
+			final Shader shader = instancedShaderProvider.getShader(first);
+			if (!(shader instanceof InstancedShader))
+				throw new GdxRuntimeException("The instanced shader provider must provide an InstancedShader");
+			if (currentShader != shader) {
+				if (currentShader != null) currentShader.end();
+				currentShader = (InstancedShader)shader;
+				currentShader.begin(camera, context);
+			}
+			currentShader.render(candidates, start, end - start);
+			instanced = true;
+		}
+		if (currentShader != null) currentShader.end();
+		candidates.clear();
+		if (!instanced) return;
+
+		int n = 0;
+		for (int i = 0; i < renderables.size; i++) {
+			final Renderable renderable = renderables.get(i);
+			if (renderable.shader != null) renderables.set(n++, renderable);
+		}
+		renderables.truncate(n);
+	}
+
+	/** @return True if the {@link Renderable} might be rendered instanced, false if it must be rendered on its own (e.g. because
+	 *         it is blended or skinned). */
+	protected boolean isInstanceable (final Renderable renderable) {
+		if (renderable.bones != null || renderable.material == null || renderable.meshPart.mesh == null
+			|| renderable.meshPart.mesh.isInstanced()) return false;
+		final BlendingAttribute blending = (BlendingAttribute)renderable.material.get(BlendingAttribute.Type);
+		return blending == null || !blending.blended;
+	}
+
+	/** @return True if both {@link Renderable}s can be rendered as instances of each other, false otherwise. */
+	protected boolean canInstance (final Renderable r1, final Renderable r2) {
+		return r1.shader == r2.shader && r1.environment == r2.environment && r1.meshPart.equals(r2.meshPart)
+			&& r1.material.same(r2.material, true);
+	}
+
 	/** End rendering one or more {@link Renderable}s. Must be called after a call to {@link #begin(Camera)}. This will flush the
 	 * batch, causing any renderables provided using one of the render() methods to be rendered. After a call to this method the
 	 * OpenGL context can be altered again. */
@@ -332,5 +460,6 @@ public class ModelBatch implements Disposable {
 	@Override
 	public void dispose () {
 		shaderProvider.dispose();
+		if (instancedShaderProvider != null) instancedShaderProvider.dispose();
 	}
 }
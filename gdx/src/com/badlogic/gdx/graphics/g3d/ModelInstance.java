@@ -16,7 +16,10 @@
 
 package com.badlogic.gdx.graphics.g3d;
 
+import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.g3d.model.Animation;
+import com.badlogic.gdx.graphics.g3d.model.LodGroup;
+import com.badlogic.gdx.graphics.g3d.model.MeshPart;
 import com.badlogic.gdx.graphics.g3d.model.Node;
 import com.badlogic.gdx.graphics.g3d.model.NodeAnimation;
 import com.badlogic.gdx.graphics.g3d.model.NodeKeyframe;
@@ -55,6 +58,9 @@ public class ModelInstance implements RenderableProvider {
 	public Matrix4 transform;
 	/** user definable value, which is passed to the {@link Shader}. */
 	public Object userData;
+	/** The camera used to select the level of detail of the {@link NodePart}s which have a {@link NodePart#lodGroup}, may be null.
+	 * When null, the currently selected {@link NodePart#lodLevel} is used. */
+	public Camera lodCamera;
 
 	/** Constructs a new ModelInstance with all nodes and materials of the given model.
 	 * @param model The {@link Model} to create an instance of. */
@@ -382,7 +388,8 @@ public class ModelInstance implements RenderableProvider {
 	protected void getRenderables (Node node, Array<Renderable> renderables, Pool<Renderable> pool) {
 		if (node.parts.size > 0) {
 			for (NodePart nodePart : node.parts) {
-				if (nodePart.enabled) renderables.add(getRenderable(pool.obtain(), node, nodePart));
+				if (nodePart.enabled && (nodePart.lodGroup == null || lodCamera == null || updateLod(node, nodePart)))
+					renderables.add(getRenderable(pool.obtain(), node, nodePart));
 			}
 		}
 
@@ -391,6 +398,28 @@ public class ModelInstance implements RenderableProvider {
 		}
 	}
 
+	private final static Matrix4 tmpMat = new Matrix4();
+	private final static Vector3 tmpV = new Vector3();
+
+	/** Selects the level of detail of the node part, based on the size of its bounding sphere on the screen of the
+	 * {@link #lodCamera}.
+	 * @return true if the part should be rendered, false if it is too small. */
+	protected boolean updateLod (final Node node, final NodePart nodePart) {
+		final MeshPart meshPart = nodePart.meshPart;
+		if (nodePart.bones == null && transform != null)
+			tmpMat.set(transform).mul(node.globalTransform);
+		else if (transform != null)
+			tmpMat.set(transform);
+		else
+			tmpMat.idt();
+		tmpMat.getScale(tmpV);
+		final float scale = Math.max(Math.abs(tmpV.x), Math.max(Math.abs(tmpV.y), Math.abs(tmpV.z)));
+		tmpV.set(meshPart.center).mul(tmpMat);
+		final float screenSize = LodGroup.getScreenSize(lodCamera, tmpV, meshPart.radius * scale);
+		nodePart.lodLevel = nodePart.lodGroup.select(nodePart.lodLevel, screenSize);
+		return nodePart.lodLevel >= 0;
+	}
+
 	/** Calculates the local and world transform of all {@link Node} instances in this model, recursively. First each
 	 * {@link Node#localTransform} transform is calculated based on the translation, rotation and scale of each Node. Then each
 	 * {@link Node#calculateWorldTransform()} is calculated, based on the parent's world transform and the local transform of each
@@ -0,0 +1,484 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.graphics.g3d;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.g3d.model.MeshPart;
+import com.badlogic.gdx.graphics.g3d.utils.MeshBuilder;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.ShortArray;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/** A {@link ModelCache} alternative for large, mostly static scenes which are changed incrementally. The added
+ * {@link RenderableProvider}s are partitioned into a uniform grid of cells, based on the center of their renderables. Each cell
+ * is merged separately, like {@link ModelCache} does, so changing a provider only requires the cell it is in to be rebuilt
+ * instead of the whole cache. The vertices are merged on a background thread using an {@link AsyncExecutor}, only the creation
+ * of the resulting meshes is done on the rendering thread. Until the rebuild of a cell is finished, the previously merged
+ * meshes of that cell are rendered.
+ * <p>
+ * Call {@link #update()} once every frame (e.g. just before rendering) to start the rebuilds of changed cells and to apply the
+ * rebuilds which have finished. Call {@link #finish()} to wait for all pending rebuilds, e.g. after initially adding the scene.
+ * When a camera is set using {@link #setCamera(Camera)}, only the cells which are (partially) visible by that camera are
+ * rendered.
+ * <p>
+ * The renderables of the providers are sampled on the rendering thread at the moment the cell is rebuilt. Call
+ * {@link #invalidate(RenderableProvider)} whenever a provider changes (e.g. its transform or material), otherwise the change
+ * will not be reflected in the cache. Like {@link ModelCache}, renderables with {@link Renderable#bones} are not merged but
+ * rendered as-is; those are never culled. The vertices of the merged renderables are directly transformed, therefore the
+ * resulting {@link Renderable#worldTransform} might not be suitable for sorting anymore. */
+public class PartitionedModelCache implements RenderableProvider, Disposable {
+	private static class Cell {
+		final int x, y, z;
+		final Array<RenderableProvider> providers = new Array<RenderableProvider>(false, 16);
+		/** The renderables currently being rendered for this cell */
+		final Array<Renderable> renderables = new Array<Renderable>();
+		/** The renderables which are obtained from {@link PartitionedModelCache#renderablesPool} and are referenced by the cell */
+		final Array<Renderable> obtained = new Array<Renderable>();
+		final Array<Mesh> meshes = new Array<Mesh>();
+		final BoundingBox bounds = new BoundingBox();
+		boolean hasSkinned;
+		boolean dirty;
+		/** The skinned renderables of the pending rebuild, which are used as-is */
+		final Array<Renderable> skinned = new Array<Renderable>();
+		BuildTask task;
+		AsyncResult<BuildResult> pending;
+
+		Cell (int x, int y, int z) {
+			this.x = x;
+			this.y = y;
+			this.z = z;
+		}
+	}
+
+	private static class BuildResult {
+		final Array<Renderable> renderables = new Array<Renderable>();
+		final Array<VertexAttributes> attributes = new Array<VertexAttributes>();
+		final Array<FloatArray> vertices = new Array<FloatArray>();
+		final Array<ShortArray> indices = new Array<ShortArray>();
+		/** For each mesh, the index of the first renderable which does not use it */
+		final IntArray ends = new IntArray();
+		final BoundingBox bounds = new BoundingBox();
+	}
+
+	/** Merges the (sorted) renderables of a single cell, similar to {@link ModelCache#end()}. The mesh data is copied on the
+	 * rendering thread prior to submitting the task, so the task doesn't access any GL resources. */
+	private static class BuildTask implements AsyncTask<BuildResult> {
+		final Array<Renderable> items = new Array<Renderable>();
+		IdentityMap<Mesh, float[]> vertices;
+		IdentityMap<Mesh, short[]> indices;
+
+		@Override
+		public BuildResult call () throws Exception {
+			final BuildResult result = new BuildResult();
+			result.bounds.inf();
+			if (items.size == 0) return result;
+
+			final MeshBuilder meshBuilder = new MeshBuilder();
+			final Array<MeshPart> parts = new Array<MeshPart>();
+			final Renderable first = items.get(0);
+			VertexAttributes vertexAttributes = first.meshPart.mesh.getVertexAttributes();
+			Material material = first.material;
+			int primitiveType = first.meshPart.primitiveType;
+
+			meshBuilder.begin(vertexAttributes);
+			parts.add(meshBuilder.part("", primitiveType));
+			obtainRenderable(result, material, primitiveType);
+
+			for (int i = 0, n = items.size; i < n; ++i) {
+				final Renderable renderable = items.get(i);
+				final Mesh source = renderable.meshPart.mesh;
+				final VertexAttributes va = source.getVertexAttributes();
+				final Material mat = renderable.material;
+				final int pt = renderable.meshPart.primitiveType;
+				final float[] verts = vertices.get(source);
+				final short[] inds = indices.get(source);
+
+				final boolean sameAttributes = va.equals(vertexAttributes);
+				final int verticesToAdd = Math.min(verts.length / (va.vertexSize / 4), renderable.meshPart.size);
+				final boolean canHoldVertices = meshBuilder.getNumVertices() + verticesToAdd <= MeshBuilder.MAX_VERTICES;
+				final boolean sameMesh = sameAttributes && canHoldVertices;
+				final boolean samePart = sameMesh && pt == primitiveType && mat.same(material, true);
+
+				if (!samePart) {
+					if (!sameMesh) {
+						endMesh(result, meshBuilder, vertexAttributes);
+						meshBuilder.begin(vertexAttributes = va);
+					}
+					parts.add(meshBuilder.part("", pt));
+					obtainRenderable(result, material = mat, primitiveType = pt);
+				}
+
+				meshBuilder.setVertexTransform(renderable.worldTransform);
+				meshBuilder.addMesh(verts, inds, renderable.meshPart.offset, renderable.meshPart.size);
+			}
+			endMesh(result, meshBuilder, vertexAttributes);
+
+			final Vector3 tmp = new Vector3();
+			for (int i = 0; i < parts.size; i++) {
+				final MeshPart part = parts.get(i);
+				final MeshPart target = result.renderables.get(i).meshPart;
+				target.offset = part.offset;
+				target.size = part.size;
+				target.center.set(part.center);
+				target.halfExtents.set(part.halfExtents);
+				target.radius = part.radius;
+				result.bounds.ext(tmp.set(part.center).sub(part.halfExtents));
+				result.bounds.ext(tmp.set(part.center).add(part.halfExtents));
+			}
+			return result;
+		}
+
+		private static void endMesh (BuildResult result, MeshBuilder meshBuilder, VertexAttributes attributes) {
+			final FloatArray verts = new FloatArray(meshBuilder.getNumVertices() * meshBuilder.getFloatsPerVertex());
+			final ShortArray inds = new ShortArray(meshBuilder.getNumIndices());
+			meshBuilder.end(verts, inds);
+			result.attributes.add(attributes);
+			result.vertices.add(verts);
+			result.indices.add(inds);
+			result.ends.add(result.renderables.size);
+		}
+
+		private static void obtainRenderable (BuildResult result, Material material, int primitiveType) {
+			final Renderable renderable = new Renderable();
+			renderable.material = material;
+			renderable.meshPart.primitiveType = primitiveType;
+			result.renderables.add(renderable);
+		}
+	}
+
+	private final static ModelCache.Sorter sorter = new ModelCache.Sorter();
+
+	private final Pool<Renderable> renderablesPool = new Pool<Renderable>() {
+		@Override
+		protected Renderable newObject () {
+			return new Renderable();
+		}
+	};
+	private final LongMap<Cell> cellMap = new LongMap<Cell>();
+	private final Array<Cell> cells = new Array<Cell>();
+	private final IdentityMap<RenderableProvider, Cell> providers = new IdentityMap<RenderableProvider, Cell>();
+	private final Array<Renderable> tmp = new Array<Renderable>();
+	private final BoundingBox tmpBounds = new BoundingBox();
+	private final Vector3 tmpV = new Vector3();
+	private final float cellSize;
+	private final AsyncExecutor executor;
+	private final boolean ownsExecutor;
+	private Camera camera;
+	private int pendingCount;
+
+	/** Create a PartitionedModelCache which uses its own background thread to merge the vertices.
+	 * @param cellSize The size (in world units) of each cell along each axis. */
+	public PartitionedModelCache (float cellSize) {
+		this(cellSize, new AsyncExecutor(1, "PartitionedModelCache"), true);
+	}
+
+	/** Create a PartitionedModelCache which uses the specified {@link AsyncExecutor} to merge the vertices. The executor is not
+	 * disposed when this cache is disposed.
+	 * @param cellSize The size (in world units) of each cell along each axis. */
+	public PartitionedModelCache (float cellSize, AsyncExecutor executor) {
+		this(cellSize, executor, false);
+	}
+
+	private PartitionedModelCache (float cellSize, AsyncExecutor executor, boolean ownsExecutor) {
+		if (cellSize <= 0f) throw new GdxRuntimeException("Cell size must be positive");
+		this.cellSize = cellSize;
+		this.executor = executor;
+		this.ownsExecutor = ownsExecutor;
+	}
+
+	/** @param camera The camera to cull the cells against, or null to render all cells. */
+	public void setCamera (Camera camera) {
+		this.camera = camera;
+	}
+
+	/** @return The camera used to cull the cells, or null if culling is disabled. */
+	public Camera getCamera () {
+		return camera;
+	}
+
+	public float getCellSize () {
+		return cellSize;
+	}
+
+	/** @return The number of non-empty cells. */
+	public int getCellCount () {
+		return cells.size;
+	}
+
+	/** @return The number of cells which are currently being rebuilt on the background thread. */
+	public int getPendingCount () {
+		return pendingCount;
+	}
+
+	/** Adds the specified {@link RenderableProvider} to the cache. The cell it is added to will be rebuilt on the next call to
+	 * {@link #update()}. Adding a provider which is already added is the same as calling {@link #invalidate(RenderableProvider)}.
+	 * All member objects of its renderables might be used by reference and should not change without calling
+	 * {@link #invalidate(RenderableProvider)}. */
+	public void add (final RenderableProvider renderableProvider) {
+		if (providers.containsKey(renderableProvider)) {
+			invalidate(renderableProvider);
+			return;
+		}
+		final Cell cell = obtainCell(renderableProvider);
+		cell.providers.add(renderableProvider);
+		cell.dirty = true;
+		providers.put(renderableProvider, cell);
+	}
+
+	/** Adds the specified {@link RenderableProvider}s to the cache, see {@link #add(RenderableProvider)}. */
+	public <T extends RenderableProvider> void add (final Iterable<T> renderableProviders) {
+		for (final RenderableProvider renderableProvider : renderableProviders)
+			add(renderableProvider);
+	}
+
+	/** Removes the specified {@link RenderableProvider} from the cache. The cell it was in will be rebuilt on the next call to
+	 * {@link #update()}.
+	 * @return true if the provider was removed, false if it wasn't added to the cache. */
+	public boolean remove (final RenderableProvider renderableProvider) {
+		final Cell cell = providers.remove(renderableProvider);
+		if (cell == null) return false;
+		cell.providers.removeValue(renderableProvider, true);
+		cell.dirty = true;
+		return true;
+	}
+
+	/** Marks the specified {@link RenderableProvider} as changed, e.g. after changing its transform or material. The provider is
+	 * moved to another cell if needed and the affected cell(s) will be rebuilt on the next call to {@link #update()}. */
+	public void invalidate (final RenderableProvider renderableProvider) {
+		final Cell current = providers.get(renderableProvider);
+		if (current == null) throw new GdxRuntimeException("The RenderableProvider isn't added to the cache");
+		final Cell cell = obtainCell(renderableProvider);
+		if (cell != current) {
+			current.providers.removeValue(renderableProvider, true);
+			current.dirty = true;
+			cell.providers.add(renderableProvider);
+			providers.put(renderableProvider, cell);
+		}
+		cell.dirty = true;
+	}
+
+	/** Marks all cells as changed, causing the whole cache to be rebuilt. Note that this doesn't move providers to another cell,
+	 * use {@link #invalidate(RenderableProvider)} for that. */
+	public void invalidateAll () {
+		for (int i = 0; i < cells.size; i++)
+			cells.get(i).dirty = true;
+	}
+
+	/** Applies the rebuilds which have finished and starts the rebuild of the cells which have changed. Must be called on the
+	 * rendering thread, typically once every frame. */
+	public void update () {
+		IdentityMap<Mesh, float[]> vertices = null;
+		IdentityMap<Mesh, short[]> indices = null;
+		for (int i = cells.size - 1; i >= 0; i--) {
+			final Cell cell = cells.get(i);
+			if (cell.pending != null) {
+				if (!cell.pending.isDone()) continue;
+				apply(cell);
+			}
+			if (!cell.dirty) continue;
+			if (cell.providers.size == 0) {
+				clear(cell);
+				cells.removeIndex(i);
+				cellMap.remove(key(cell.x, cell.y, cell.z));
+				continue;
+			}
+			if (vertices == null) {
+				// Shared by all tasks submitted by this call, the maps are not modified anymore after the tasks are submitted
+				vertices = new IdentityMap<Mesh, float[]>();
+				indices = new IdentityMap<Mesh, short[]>();
+			}
+			prepare(cell, vertices, indices);
+		}
+		if (vertices == null) return;
+		for (int i = 0; i < cells.size; i++) {
+			final Cell cell = cells.get(i);
+			if (cell.task != null && cell.pending == null) {
+				cell.pending = executor.submit(cell.task);
+				pendingCount++;
+			}
+		}
+	}
+
+	/** Blocks until all changed cells are rebuilt. Must be called on the rendering thread. */
+	public void finish () {
+		boolean dirty = true;
+		while (dirty) {
+			update();
+			dirty = false;
+			for (int i = 0; i < cells.size; i++) {
+				final Cell cell = cells.get(i);
+				if (cell.pending != null) apply(cell);
+				dirty |= cell.dirty;
+			}
+		}
+	}
+
+	/** Samples the renderables of the cell and copies the data of their meshes so it can be safely accessed by the task. */
+	private void prepare (final Cell cell, final IdentityMap<Mesh, float[]> vertices, final IdentityMap<Mesh, short[]> indices) {
+		final BuildTask task = new BuildTask();
+		task.vertices = vertices;
+		task.indices = indices;
+		for (int i = 0; i < cell.providers.size; i++) {
+			cell.providers.get(i).getRenderables(tmp, renderablesPool);
+			for (int j = 0; j < tmp.size; j++) {
+				final Renderable renderable = tmp.get(j);
+				if (renderable.bones != null)
+					cell.skinned.add(renderable);
+				else {
+					// Attributes are sorted lazily, make sure the task doesn't modify the material
+					renderable.material.sort();
+					if (!vertices.containsKey(renderable.meshPart.mesh)) copy(renderable.meshPart.mesh, vertices, indices);
+					task.items.add(renderable);
+				}
+			}
+			tmp.clear();
+		}
+		// The sort instance is shared, therefore sort here instead of in the task
+		task.items.sort(sorter);
+		cell.task = task;
+		cell.dirty = false;
+	}
+
+	private static void copy (final Mesh mesh, final IdentityMap<Mesh, float[]> vertices, final IdentityMap<Mesh, short[]> indices) {
+		final float[] verts = new float[mesh.getNumVertices() * mesh.getVertexSize() / 4];
+		mesh.getVertices(verts);
+		vertices.put(mesh, verts);
+		short[] inds;
+		if (mesh.getNumIndices() > 0) {
+			inds = new short[mesh.getNumIndices()];
+			mesh.getIndices(inds);
+		} else {
+			inds = new short[mesh.getNumVertices()];
+			for (int i = 0; i < inds.length; i++)
+				inds[i] = (short)i;
+		}
+		indices.put(mesh, inds);
+	}
+
+	/** Waits for the pending rebuild of the cell and replaces the currently rendered meshes with the result. */
+	private void apply (final Cell cell) {
+		final BuildResult result = cell.pending.get();
+		pendingCount--;
+		cell.pending = null;
+		clear(cell);
+
+		final BuildTask task = cell.task;
+		cell.task = null;
+		cell.obtained.addAll(task.items);
+		cell.obtained.addAll(cell.skinned);
+
+		int start = 0;
+		for (int i = 0; i < result.vertices.size; i++) {
+			final FloatArray verts = result.vertices.get(i);
+			final ShortArray inds = result.indices.get(i);
+			final VertexAttributes attributes = result.attributes.get(i);
+			final Mesh mesh = new Mesh(true, verts.size * 4 / attributes.vertexSize, inds.size, attributes);
+			mesh.setVertices(verts.items, 0, verts.size);
+			mesh.setIndices(inds.items, 0, inds.size);
+			cell.meshes.add(mesh);
+			for (final int end = result.ends.get(i); start < end; start++)
+				result.renderables.get(start).meshPart.mesh = mesh;
+		}
+		cell.renderables.addAll(result.renderables);
+		cell.renderables.addAll(cell.skinned);
+		cell.hasSkinned = cell.skinned.size > 0;
+		cell.skinned.clear();
+		cell.bounds.set(result.bounds);
+	}
+
+	/** Disposes the meshes of the cell and releases the renderables it references. */
+	private void clear (final Cell cell) {
+		for (int i = 0; i < cell.meshes.size; i++)
+			cell.meshes.get(i).dispose();
+		cell.meshes.clear();
+		renderablesPool.freeAll(cell.obtained);
+		cell.obtained.clear();
+		cell.renderables.clear();
+		cell.bounds.inf();
+		cell.hasSkinned = false;
+	}
+
+	private Cell obtainCell (final RenderableProvider renderableProvider) {
+		tmpBounds.inf();
+		renderableProvider.getRenderables(tmp, renderablesPool);
+		for (int i = 0; i < tmp.size; i++) {
+			final Renderable renderable = tmp.get(i);
+			tmpBounds.ext(tmpV.set(renderable.meshPart.center).mul(renderable.worldTransform));
+		}
+		renderablesPool.freeAll(tmp);
+		tmp.clear();
+		if (!tmpBounds.isValid()) tmpBounds.ext(0, 0, 0);
+		tmpBounds.getCenter(tmpV);
+		final int x = MathUtils.floor(tmpV.x / cellSize);
+		final int y = MathUtils.floor(tmpV.y / cellSize);
+		final int z = MathUtils.floor(tmpV.z / cellSize);
+		final long key = key(x, y, z);
+		Cell cell = cellMap.get(key);
+		if (cell == null) {
+			cellMap.put(key, cell = new Cell(x, y, z));
+			cells.add(cell);
+		}
+		return cell;
+	}
+
+	private static long key (int x, int y, int z) {
+		return ((long)(x & 0x1FFFFF) << 42) | ((long)(y & 0x1FFFFF) << 21) | (long)(z & 0x1FFFFF);
+	}
+
+	@Override
+	public void getRenderables (Array<Renderable> renderables, Pool<Renderable> pool) {
+		for (int i = 0; i < cells.size; i++) {
+			final Cell cell = cells.get(i);
+			if (camera != null && !cell.hasSkinned && (!cell.bounds.isValid() || !camera.frustum.boundsInFrustum(cell.bounds)))
+				continue;
+			for (int j = 0; j < cell.renderables.size; j++) {
+				final Renderable r = cell.renderables.get(j);
+				r.shader = null;
+				r.environment = null;
+				renderables.add(r);
+			}
+		}
+	}
+
+	@Override
+	public void dispose () {
+		for (int i = 0; i < cells.size; i++) {
+			final Cell cell = cells.get(i);
+			if (cell.pending != null) apply(cell);
+			clear(cell);
+		}
+		cells.clear();
+		cellMap.clear();
+		providers.clear();
+		if (ownsExecutor) executor.dispose();
+	}
+}
@@ -79,8 +79,8 @@ import com.badlogic.gdx.utils.Pool;
  * </table>
  * </p> */
 public class CameraGroupStrategy implements GroupStrategy, Disposable {
-	private static final int GROUP_OPAQUE = 0;
-	private static final int GROUP_BLEND = 1;
+	static final int GROUP_OPAQUE = 0;
+	static final int GROUP_BLEND = 1;
 
 	Pool<Array<Decal>> arrayPool = new Pool<Array<Decal>>(16) {
 		@Override
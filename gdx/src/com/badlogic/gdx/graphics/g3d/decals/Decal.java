@@ -499,6 +499,54 @@ public class Decal {
 		updated = true;
 	}
 
+	/** Writes the vertices of this decal to the given array, recalculating them like {@link #update()} if needed. The decal is
+	 * only read, unlike in {@link #transformVertices()}, so a decal added several times to a batch can be processed by multiple
+	 * threads at once. The caller stores the result with {@link #storeVertices(float[], int)} afterwards. */
+	void computeVertices (float[] out, int offset) {
+		float[] vertices = this.vertices;
+		if (updated) {
+			System.arraycopy(vertices, 0, out, offset, SIZE);
+			return;
+		}
+		float left = -dimensions.x / 2f;
+		float right = left + dimensions.x;
+		float top = dimensions.y / 2f;
+		float bottom = top - dimensions.y;
+		float tx, ty;
+		if (transformationOffset != null) {
+			tx = -transformationOffset.x;
+			ty = -transformationOffset.y;
+		} else {
+			tx = ty = 0;
+		}
+		float qx = rotation.x, qy = rotation.y, qz = rotation.z, qw = rotation.w;
+		float sx = scale.x, sy = scale.y, px = position.x - tx, py = position.y - ty, pz = position.z;
+		for (int i = 0; i < 4; i++) {
+			int vertex = i * VERTEX_SIZE;
+			// Same operations as transformVertices, with the conjugate of the rotation written out
+			float x = ((i & 1) == 0 ? left : right) + tx, y = (i < 2 ? top : bottom) + ty, z = 0;
+			x *= sx;
+			y *= sy;
+			float rx = qw * x + qy * z - qz * y;
+			float ry = qw * y + qz * x - qx * z;
+			float rz = qw * z + qx * y - qy * x;
+			float w = -qx * x - qy * y - qz * z;
+			out[offset + vertex] = w * -qx + rx * qw + ry * -qz - rz * -qy + px;
+			out[offset + vertex + 1] = w * -qy + ry * qw + rz * -qx - rx * -qz + py;
+			out[offset + vertex + 2] = w * -qz + rz * qw + rx * -qy - ry * -qx + pz;
+			out[offset + vertex + 3] = vertices[vertex + 3];
+			out[offset + vertex + 4] = vertices[vertex + 4];
+			out[offset + vertex + 5] = vertices[vertex + 5];
+		}
+	}
+
+	/** Stores the vertices computed by {@link #computeVertices(float[], int)}, if the decal hasn't been updated since. */
+	void storeVertices (float[] in, int offset) {
+		if (updated) return;
+		System.arraycopy(in, offset, vertices, 0, SIZE);
+		updated = true;
+	}
+
 	/** Resets the position components of the vertices array based ont he dimensions (preparation for transformation) */
 	protected void resetVertices () {
 		float left = -dimensions.x / 2f;
@@ -26,6 +26,9 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.Pool;
 import com.badlogic.gdx.utils.SortedIntList;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
 
 /** <p>
  * Renderer for {@link Decal} objects.
@@ -46,6 +49,9 @@ import com.badlogic.gdx.utils.SortedIntList;
  * states, culling etc. for more details see the {@link GroupStrategy} java doc.<br/>
  * While it shouldn't be necessary to change strategies, if you have to do so, do it before calling {@link #add(Decal)}, and if
  * you already did, call {@link #flush()} first.
+ * </p>
+ * <p>
+ * The vertices of large groups can be computed on several threads, see {@link #setExecutor(AsyncExecutor)}.
  * </p> */
 public class DecalBatch implements Disposable {
 	private static final int DEFAULT_SIZE = 1000;
@@ -62,6 +68,12 @@ public class DecalBatch implements Disposable {
 	};
 	private final Array<Array<Decal>> usedGroups = new Array<Array<Decal>>(16);
 
+	private AsyncExecutor executor;
+	private int splitSize = 256;
+	private Mesh.VertexDataType vertexDataType;
+	private final Array<VerticesTask> tasks = new Array<VerticesTask>();
+	private final Array<AsyncResult<Void>> results = new Array<AsyncResult<Void>>();
+
 	/**
 	 * Creates a new DecalBatch using the given {@link GroupStrategy}. The most
 	 * commong strategy to use is a {@link CameraGroupStrategy}
@@ -72,6 +84,13 @@ public class DecalBatch implements Disposable {
 	}
 
 	public DecalBatch (int size, GroupStrategy groupStrategy) {
+		this(size, groupStrategy, null);
+	}
+
+	/** @param vertexDataType The type of the vertex data of the mesh, null for the default one. On GL30
+	 *           {@link Mesh.VertexDataType#VertexBufferObjectRing} avoids stalls when the batch is flushed many times per frame. */
+	public DecalBatch (int size, GroupStrategy groupStrategy, Mesh.VertexDataType vertexDataType) {
+		this.vertexDataType = vertexDataType;
 		initialize(size);
 		setGroupStrategy(groupStrategy);
 	}
@@ -82,15 +101,46 @@ public class DecalBatch implements Disposable {
 		this.groupStrategy = groupStrategy;
 	}
 
+	/** Sets the executor used to compute the vertices of the decals in parallel, null (the default) computes them on the
+	 * rendering thread. Each group is processed by chunks of at most the batch size, whose decals are split among tasks of
+	 * {@link #getSplitSize()} decals writing to distinct parts of the vertex array, before the chunk is sent to the GL. Only the
+	 * GL calls and {@link DecalMaterial#set()} happen on the rendering thread. Decals of subclasses are computed with
+	 * {@link Decal#update()}, such decals must not be added more than once per flush. The executor is not disposed by this
+	 * class. */
+	public void setExecutor (AsyncExecutor executor) {
+		this.executor = executor;
+	}
+
+	public AsyncExecutor getExecutor () {
+		return executor;
+	}
+
+	/** Sets the amount of decals each task should compute, see {@link #setExecutor(AsyncExecutor)}. The tasks split a chunk of at
+	 * most the batch size (the size given to the constructor, 1000 decals by default), so a chunk is computed by about batch size /
+	 * split size tasks: the split size must be well below the batch size for the work to be spread over several threads, the
+	 * default of 256 gives four tasks per full chunk of the default batch. Groups smaller than the split size, and all groups if
+	 * the split size isn't smaller than the batch size, are computed on the rendering thread. */
+	public void setSplitSize (int splitSize) {
+		if (splitSize < 1) throw new IllegalArgumentException("splitSize must be > 0");
+		this.splitSize = splitSize;
+	}
+
+	public int getSplitSize () {
+		return splitSize;
+	}
+
 	/** Initializes the batch with the given amount of decal objects the buffer is able to hold when full.
 	 * 
 	 * @param size Maximum size of decal objects to hold in memory */
 	public void initialize (int size) {
 		vertices = new float[size * Decal.SIZE];
 
-		Mesh.VertexDataType vertexDataType = Mesh.VertexDataType.VertexArray;
-		if(Gdx.gl30 != null) {
-			vertexDataType = Mesh.VertexDataType.VertexBufferObjectWithVAO;
+		Mesh.VertexDataType vertexDataType = this.vertexDataType;
+		if (vertexDataType == null) {
+			vertexDataType = Mesh.VertexDataType.VertexArray;
+			if(Gdx.gl30 != null) {
+				vertexDataType = Mesh.VertexDataType.VertexBufferObjectWithVAO;
+			}
 		}
 		mesh = new Mesh(vertexDataType, false, size * 4, size * 6, new VertexAttribute(
 				VertexAttributes.Usage.Position, 3, ShaderProgram.POSITION_ATTRIBUTE), new VertexAttribute(
@@ -152,6 +202,10 @@ public class DecalBatch implements Disposable {
 	 * 
 	 * @param decals Decals to render */
 	private void render (ShaderProgram shader, Array<Decal> decals) {
+		if (executor != null && decals.size > splitSize && vertices.length / Decal.SIZE > splitSize) {
+			renderParallel(shader, decals);
+			return;
+		}
 		// batch vertices
 		DecalMaterial lastMaterial = null;
 		int idx = 0;
@@ -179,6 +233,73 @@ public class DecalBatch implements Disposable {
 		}
 	}
 
+	/** Renders a group like {@link #render(ShaderProgram, Array)}, computing the vertices of each chunk filling the batch in
+	 * parallel before flushing its runs of decals sharing the same material. */
+	private void renderParallel (ShaderProgram shader, Array<Decal> decals) {
+		float[] vertices = this.vertices;
+		int capacity = vertices.length / Decal.SIZE;
+		DecalMaterial lastMaterial = null;
+		for (int chunkStart = 0, size = decals.size; chunkStart < size; chunkStart += capacity) {
+			int chunkEnd = Math.min(size, chunkStart + capacity);
+			computeVertices(decals, chunkStart, chunkEnd);
+
+			int runStart = chunkStart;
+			for (int i = chunkStart; i < chunkEnd; i++) {
+				Decal decal = decals.get(i);
+				if (lastMaterial == null || !lastMaterial.equals(decal.getMaterial())) {
+					if (i > runStart) flush(shader, (runStart - chunkStart) * Decal.SIZE, (i - runStart) * Decal.SIZE);
+					runStart = i;
+					decal.material.set();
+					lastMaterial = decal.material;
+				}
+			}
+			flush(shader, (runStart - chunkStart) * Decal.SIZE, (chunkEnd - runStart) * Decal.SIZE);
+		}
+	}
+
+	/** Computes the vertices of the decals from start to end, the first one being written at the beginning of the vertex array.
+	 * The first task runs on the calling thread, which then waits for the others. The tasks only write to the vertex array, the
+	 * decals are updated on the calling thread since a decal can be added several times to a group. */
+	private void computeVertices (Array<Decal> decals, int start, int end) {
+		// Subclasses may override update()
+		for (int i = start; i < end; i++) {
+			Decal decal = decals.get(i);
+			if (decal.getClass() != Decal.class) decal.update();
+		}
+		int taskCount = 0;
+		for (int taskStart = start; taskStart < end; taskStart += splitSize, taskCount++) {
+			if (taskCount == tasks.size) tasks.add(new VerticesTask());
+			VerticesTask task = tasks.get(taskCount);
+			task.decals = decals;
+			task.start = taskStart;
+			task.end = Math.min(end, taskStart + splitSize);
+			task.offset = (taskStart - start) * Decal.SIZE;
+		}
+		for (int i = 1; i < taskCount; i++)
+			results.add(executor.submit(tasks.get(i)));
+		try {
+			tasks.get(0).call();
+		} finally {
+			for (int i = 0; i < results.size; i++)
+				results.get(i).get();
+			results.clear();
+			for (int i = 0; i < taskCount; i++)
+				tasks.get(i).decals = null;
+		}
+		float[] vertices = this.vertices;
+		for (int i = start, offset = 0; i < end; i++, offset += Decal.SIZE)
+			decals.get(i).storeVertices(vertices, offset);
+	}
+
+	private void flush (ShaderProgram shader, int offset, int count) {
+		if (offset == 0) {
+			flush(shader, count);
+			return;
+		}
+		mesh.setVertices(vertices, offset, count);
+		mesh.render(shader, GL20.GL_TRIANGLES, 0, count / 4);
+	}
+
 	/** Flushes vertices[0,verticesPosition[ to GL verticesPosition % Decal.SIZE must equal 0
 	 * 
 	 * @param verticesPosition Amount of elements from the vertices array to flush */
@@ -201,4 +322,23 @@ public class DecalBatch implements Disposable {
 		vertices = null;
 		mesh.dispose();
 	}
+
+	private class VerticesTask implements AsyncTask<Void> {
+		Array<Decal> decals;
+		int start, end, offset;
+
+		@Override
+		public Void call () {
+			float[] vertices = DecalBatch.this.vertices;
+			Array<Decal> decals = this.decals;
+			for (int i = start, offset = this.offset; i < end; i++, offset += Decal.SIZE) {
+				Decal decal = decals.get(i);
+				if (decal.getClass() == Decal.class)
+					decal.computeVertices(vertices, offset);
+				else
+					System.arraycopy(decal.vertices, 0, vertices, offset, Decal.SIZE);
+			}
+			return null;
+		}
+	}
 }
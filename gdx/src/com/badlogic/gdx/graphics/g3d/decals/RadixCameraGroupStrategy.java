@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.decals;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.NumberUtils;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/** A {@link CameraGroupStrategy} meant for large amounts of decals. Instead of sorting the blended decals with a comparator,
+ * the squared distance of each decal to the camera is computed once and the decals are ordered with a radix sort on it. The
+ * opaque decals are grouped by material with a counting sort, which keeps the submission order within each material. Apart
+ * from growing its internal arrays, the strategy doesn't allocate. */
+public class RadixCameraGroupStrategy extends CameraGroupStrategy {
+	private int[] keys = new int[0], tmpKeys = new int[0], indices = new int[0], tmpIndices = new int[0];
+	private Decal[] decals = new Decal[0];
+	private final int[] histogram = new int[4 * 256];
+	private int[] materialOffsets = new int[16];
+	private final ObjectIntMap<DecalMaterial> materialIds = new ObjectIntMap<DecalMaterial>();
+
+	public RadixCameraGroupStrategy (Camera camera) {
+		super(camera, null);
+	}
+
+	@Override
+	public void beforeGroup (int group, Array<Decal> contents) {
+		if (group == GROUP_BLEND) {
+			Gdx.gl.glEnable(GL20.GL_BLEND);
+			sortByDistance(contents);
+		} else
+			groupByMaterial(contents);
+	}
+
+	/** Sorts the decals from the farthest to the nearest to the camera. */
+	private void sortByDistance (Array<Decal> contents) {
+		int count = contents.size;
+		if (count < 2) return;
+		ensureCapacity(count);
+		int[] keys = this.keys, indices = this.indices;
+		Decal[] decals = this.decals;
+		Vector3 cameraPosition = camera.position;
+		float cx = cameraPosition.x, cy = cameraPosition.y, cz = cameraPosition.z;
+		for (int i = 0; i < count; i++) {
+			Decal decal = contents.get(i);
+			Vector3 position = decal.position;
+			float dx = position.x - cx, dy = position.y - cy, dz = position.z - cz;
+			// The bits of a positive float have the same order as its value, inverted to sort the farthest first
+			keys[i] = ~NumberUtils.floatToRawIntBits(dx * dx + dy * dy + dz * dz);
+			indices[i] = i;
+			decals[i] = decal;
+		}
+		radixSort(count);
+		indices = this.indices;
+		for (int i = 0; i < count; i++)
+			contents.set(i, decals[indices[i]]);
+		Arrays.fill(decals, 0, count, null);
+	}
+
+	/** Stable LSD radix sort of the keys and indices, on the unsigned value of the keys. */
+	private void radixSort (int count) {
+		int[] histogram = this.histogram, keys = this.keys, indices = this.indices;
+		int[] tmpKeys = this.tmpKeys, tmpIndices = this.tmpIndices;
+		Arrays.fill(histogram, 0);
+		for (int i = 0; i < count; i++) {
+			int key = keys[i];
+			histogram[key & 0xff]++;
+			histogram[256 + ((key >>> 8) & 0xff)]++;
+			histogram[512 + ((key >>> 16) & 0xff)]++;
+			histogram[768 + (key >>> 24)]++;
+		}
+
+		for (int pass = 0, shift = 0; pass < 4; pass++, shift += 8) {
+			int base = pass * 256;
+			// Skip the passes where all the keys share the same digit
+			if (histogram[base + ((keys[0] >>> shift) & 0xff)] == count) continue;
+			for (int d = 0, sum = 0; d < 256; d++) {
+				int n = histogram[base + d];
+				histogram[base + d] = sum;
+				sum += n;
+			}
+			for (int i = 0; i < count; i++) {
+				int key = keys[i], dest = histogram[base + ((key >>> shift) & 0xff)]++;
+				tmpKeys[dest] = key;
+				tmpIndices[dest] = indices[i];
+			}
+			int[] t = keys;
+			keys = tmpKeys;
+			tmpKeys = t;
+			t = indices;
+			indices = tmpIndices;
+			tmpIndices = t;
+		}
+
+		this.keys = keys;
+		this.tmpKeys = tmpKeys;
+		this.indices = indices;
+		this.tmpIndices = tmpIndices;
+	}
+
+	/** Orders the decals by material, in the order each material first appears. */
+	private void groupByMaterial (Array<Decal> contents) {
+		int count = contents.size;
+		if (count < 2) return;
+		ensureCapacity(count);
+		int[] keys = this.keys, offsets = this.materialOffsets;
+		Decal[] decals = this.decals;
+		ObjectIntMap<DecalMaterial> materialIds = this.materialIds;
+		DecalMaterial lastMaterial = null;
+		int lastId = -1, materialCount = 0;
+		for (int i = 0; i < count; i++) {
+			Decal decal = contents.get(i);
+			DecalMaterial material = decal.material;
+			// Consecutive decals usually share the same material, which avoids hashing it
+			if (material != lastMaterial) {
+				lastId = materialIds.get(material, -1);
+				if (lastId == -1) {
+					lastId = materialCount++;
+					materialIds.put(material, lastId);
+					if (materialCount > offsets.length) {
+						offsets = Arrays.copyOf(offsets, materialCount * 2);
+						materialOffsets = offsets;
+					}
+					offsets[lastId] = 0;
+				}
+				lastMaterial = material;
+			}
+			keys[i] = lastId;
+			offsets[lastId]++;
+			decals[i] = decal;
+		}
+		materialIds.clear();
+		if (materialCount == 1) {
+			Arrays.fill(decals, 0, count, null);
+			return;
+		}
+
+		for (int id = 0, sum = 0; id < materialCount; id++) {
+			int n = offsets[id];
+			offsets[id] = sum;
+			sum += n;
+		}
+		for (int i = 0; i < count; i++)
+			contents.set(offsets[keys[i]]++, decals[i]);
+		Arrays.fill(decals, 0, count, null);
+	}
+
+	private void ensureCapacity (int count) {
+		if (keys.length >= count) return;
+		int capacity = Math.max(count, keys.length * 7 / 4);
+		keys = new int[capacity];
+		tmpKeys = new int[capacity];
+		indices = new int[capacity];
+		tmpIndices = new int[capacity];
+		decals = new Decal[capacity];
+	}
+}
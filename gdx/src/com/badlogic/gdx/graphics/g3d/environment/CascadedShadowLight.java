@@ -0,0 +1,309 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.graphics.g3d.environment;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g3d.utils.TextureDescriptor;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** A {@link DirectionalLight} casting shadows using cascaded shadow maps. The view frustum of the camera (up to
+ * {@link #shadowDistance}) is split into multiple cascades, each rendered into its own area of the shadow map with its own
+ * camera fitted to that part of the frustum. This gives a high shadow resolution close to the camera, while still covering a
+ * large distance.
+ * <p>
+ * Optionally the casters which don't move (e.g. terrain and buildings) can be cached in a separate static depth map, which is
+ * only rendered when the camera of a cascade has moved too far (see {@link #margin}) or {@link #invalidateStatic()} is called.
+ * Only the dynamic casters then have to be rendered each frame. Typical usage:
+ * 
+ * <pre>
+ * shadowLight.update(camera);
+ * for (int i = 0; i &lt; shadowLight.getCascadeCount(); i++) {
+ * 	if (shadowLight.isStaticDirty(i)) {
+ * 		shadowLight.beginStatic(i);
+ * 		shadowBatch.begin(shadowLight.getCamera(i));
+ * 		shadowBatch.render(staticInstances);
+ * 		shadowBatch.end();
+ * 		shadowLight.end();
+ * 	}
+ * 	shadowLight.begin(i);
+ * 	shadowBatch.begin(shadowLight.getCamera(i));
+ * 	shadowBatch.render(dynamicInstances);
+ * 	shadowBatch.end();
+ * 	shadowLight.end();
+ * }
+ * </pre>
+ * 
+ * The cascade is selected based on the view depth of the fragment, which assumes the camera uses a perspective projection. */
+public class CascadedShadowLight extends DirectionalLight implements CascadedShadowMap, Disposable {
+	/** The maximum distance from the camera to cast shadows at, limited by the far plane of the camera. */
+	public float shadowDistance = 100f;
+	/** The distance between the uniform (0) and logarithmic (1) distribution of the cascades. */
+	public float splitLambda = 0.75f;
+	/** The distance beyond the cascade towards the light, casters within that distance still cast a shadow. */
+	public float casterDistance = 50f;
+	/** The relative amount a cascade is enlarged when static casters are cached, the cascade (and therefore the static depth map)
+	 * is only updated when the camera moved more than this amount of the cascade size. */
+	public float margin = 0.15f;
+
+	protected final int cascadeCount;
+	protected final int cascadeSize;
+	protected FrameBuffer fbo;
+	protected FrameBuffer staticFbo;
+	protected final OrthographicCamera[] cameras;
+	protected final float[] projViewTrans;
+	protected final float[] splits = new float[MAX_CASCADES];
+	protected final TextureDescriptor textureDesc;
+	protected final TextureDescriptor staticTextureDesc;
+	protected final boolean[] staticDirty;
+	protected final float[] cascadeRadius;
+	protected final Vector3[] cascadeCenter;
+	protected final Vector3 cascadeDirection = new Vector3();
+	protected FrameBuffer current;
+
+	private final Vector3 tmpV = new Vector3();
+	private final Vector3 tmpCenter = new Vector3();
+	private final Vector3 tmpRight = new Vector3();
+	private final Vector3 tmpUp = new Vector3();
+	private final Vector3[] corners = new Vector3[8];
+	private final Matrix4 tmpM = new Matrix4();
+	private final Matrix4 firstProjViewTrans = new Matrix4();
+
+	/** @param cascadeCount The number of cascades, at most {@link #MAX_CASCADES}.
+	 * @param cascadeSize The width and height in pixels of each cascade in the shadow map.
+	 * @param cacheStatic Whether to create a separate depth map for static casters, see {@link #beginStatic(int)}. */
+	public CascadedShadowLight (int cascadeCount, int cascadeSize, boolean cacheStatic) {
+		if (cascadeCount < 1 || cascadeCount > MAX_CASCADES)
+			throw new GdxRuntimeException("The number of cascades must be between 1 and " + MAX_CASCADES);
+		this.cascadeCount = cascadeCount;
+		this.cascadeSize = cascadeSize;
+		fbo = new FrameBuffer(Format.RGBA8888, cascadeSize * cascadeCount, cascadeSize, true);
+		staticFbo = cacheStatic ? new FrameBuffer(Format.RGBA8888, cascadeSize * cascadeCount, cascadeSize, true) : null;
+		cameras = new OrthographicCamera[cascadeCount];
+		cascadeCenter = new Vector3[cascadeCount];
+		for (int i = 0; i < cascadeCount; i++) {
+			cameras[i] = new OrthographicCamera();
+			cascadeCenter[i] = new Vector3();
+		}
+		cascadeRadius = new float[cascadeCount];
+		staticDirty = new boolean[cascadeCount];
+		projViewTrans = new float[cascadeCount * 16];
+		for (int i = 0; i < corners.length; i++)
+			corners[i] = new Vector3();
+		textureDesc = createTextureDescriptor();
+		staticTextureDesc = cacheStatic ? createTextureDescriptor() : null;
+		invalidateStatic();
+	}
+
+	private static TextureDescriptor createTextureDescriptor () {
+		final TextureDescriptor result = new TextureDescriptor();
+		result.minFilter = result.magFilter = Texture.TextureFilter.Nearest;
+		result.uWrap = result.vWrap = Texture.TextureWrap.ClampToEdge;
+		return result;
+	}
+
+	/** Fits the cascades to the view frustum of the specified camera, must be called prior to rendering the cascades.
+	 * @param camera The camera used to render the scene, its {@link Camera#update()} method must have been called. */
+	public void update (final Camera camera) {
+		final float near = camera.near;
+		final float far = Math.min(camera.far, Math.max(shadowDistance, near));
+		if (!cascadeDirection.epsilonEquals(direction, 0.0001f)) {
+			cascadeDirection.set(direction);
+			invalidateStatic();
+		}
+		final Vector3 dir = tmpV.set(direction).nor();
+		tmpUp.set(Math.abs(dir.y) > 0.99f ? Vector3.Z : Vector3.Y);
+		tmpRight.set(dir).crs(tmpUp).nor();
+		tmpUp.set(tmpRight).crs(dir).nor();
+
+		float start = near;
+		for (int i = 0; i < cascadeCount; i++) {
+			final float f = (i + 1) / (float)cascadeCount;
+			final float log = near * (float)Math.pow(far / near, f);
+			final float uniform = near + (far - near) * f;
+			final float end = i == cascadeCount - 1 ? far : splitLambda * log + (1f - splitLambda) * uniform;
+			splits[i] = end;
+			updateCascade(i, camera, start, end, dir);
+			start = end;
+		}
+		for (int i = cascadeCount; i < MAX_CASCADES; i++)
+			splits[i] = far;
+	}
+
+	protected void updateCascade (final int index, final Camera camera, final float start, final float end, final Vector3 dir) {
+		// The corners of the part of the frustum, the frustum edges are linear in view depth
+		final Vector3[] planePoints = camera.frustum.planePoints;
+		final float range = camera.far - camera.near;
+		final float t0 = (start - camera.near) / range;
+		final float t1 = (end - camera.near) / range;
+		final Vector3 center = tmpCenter.setZero();
+		for (int i = 0; i < 4; i++) {
+			corners[i].set(planePoints[i]).lerp(planePoints[i + 4], t0);
+			corners[i + 4].set(planePoints[i]).lerp(planePoints[i + 4], t1);
+		}
+		for (int i = 0; i < 8; i++)
+			center.add(corners[i]);
+		center.scl(1f / 8f);
+		float radius = 0f;
+		for (int i = 0; i < 8; i++)
+			radius = Math.max(radius, center.dst(corners[i]));
+		// Round the radius, so it is stable while the camera rotates
+		radius = (float)Math.ceil(radius * 16f) / 16f;
+		if (staticFbo != null) radius *= 1f + margin;
+
+		if (staticFbo != null && !staticDirty[index] && cascadeRadius[index] == radius
+			&& cascadeCenter[index].dst(center) <= radius * margin / (1f + margin)) return;
+
+		// Snap the center to the texels of the shadow map to avoid shimmering edges
+		final float texel = 2f * radius / cascadeSize;
+		final float x = (float)Math.floor(center.dot(tmpRight) / texel) * texel;
+		final float y = (float)Math.floor(center.dot(tmpUp) / texel) * texel;
+		final float z = center.dot(dir);
+		center.set(tmpRight).scl(x).mulAdd(tmpUp, y).mulAdd(dir, z);
+
+		cascadeRadius[index] = radius;
+		cascadeCenter[index].set(center);
+		staticDirty[index] = true;
+
+		final OrthographicCamera cam = cameras[index];
+		cam.viewportWidth = cam.viewportHeight = 2f * radius;
+		cam.near = 0f;
+		cam.far = 2f * radius + casterDistance;
+		cam.position.set(dir).scl(-(radius + casterDistance)).add(center);
+		cam.direction.set(dir);
+		cam.up.set(tmpUp);
+		cam.update();
+
+		// Transform to the area of the cascade within the shadow map
+		tmpM.idt();
+		tmpM.val[Matrix4.M00] = 1f / cascadeCount;
+		tmpM.val[Matrix4.M03] = (2f * index + 1f) / cascadeCount - 1f;
+		tmpM.mul(cam.combined);
+		System.arraycopy(tmpM.val, 0, projViewTrans, index * 16, 16);
+	}
+
+	/** Marks the static depth map of all cascades as dirty, e.g. after changing the static casters. */
+	public void invalidateStatic () {
+		for (int i = 0; i < cascadeCount; i++)
+			staticDirty[i] = true;
+	}
+
+	/** @return True if static casters are cached and the static depth map of the cascade must be rendered, see
+	 *         {@link #beginStatic(int)}. */
+	public boolean isStaticDirty (final int cascade) {
+		return staticFbo != null && staticDirty[cascade];
+	}
+
+	/** Starts rendering the dynamic casters of the specified cascade, must be followed by a call to {@link #end()}. Use
+	 * {@link #getCamera(int)} to render the casters. */
+	public void begin (final int cascade) {
+		begin(fbo, cascade);
+	}
+
+	/** Starts rendering the static casters of the specified cascade, must be followed by a call to {@link #end()}. Only
+	 * available when static casters are cached. The static depth map of the cascade is kept until {@link #isStaticDirty(int)}
+	 * returns true. */
+	public void beginStatic (final int cascade) {
+		if (staticFbo == null) throw new GdxRuntimeException("Static casters are not cached by this light");
+		staticDirty[cascade] = false;
+		begin(staticFbo, cascade);
+	}
+
+	protected void begin (final FrameBuffer fbo, final int cascade) {
+		if (current != null) throw new GdxRuntimeException("Call end() first");
+		current = fbo;
+		final int x = cascade * cascadeSize;
+		fbo.begin();
+		Gdx.gl.glViewport(x, 0, cascadeSize, cascadeSize);
+		Gdx.gl.glEnable(GL20.GL_SCISSOR_TEST);
+		Gdx.gl.glScissor(x, 0, cascadeSize, cascadeSize);
+		Gdx.gl.glClearColor(1, 1, 1, 1);
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT | GL20.GL_DEPTH_BUFFER_BIT);
+		Gdx.gl.glScissor(x + 1, 1, cascadeSize - 2, cascadeSize - 2);
+	}
+
+	public void end () {
+		if (current == null) throw new GdxRuntimeException("Call begin() first");
+		Gdx.gl.glDisable(GL20.GL_SCISSOR_TEST);
+		current.end();
+		current = null;
+	}
+
+	public FrameBuffer getFrameBuffer () {
+		return fbo;
+	}
+
+	/** @return The frame buffer containing the static casters, or null if static casters are not cached. */
+	public FrameBuffer getStaticFrameBuffer () {
+		return staticFbo;
+	}
+
+	/** @return The camera to render the casters of the specified cascade with. */
+	public Camera getCamera (final int cascade) {
+		return cameras[cascade];
+	}
+
+	@Override
+	public int getCascadeCount () {
+		return cascadeCount;
+	}
+
+	@Override
+	public float[] getCascadeProjViewTrans () {
+		return projViewTrans;
+	}
+
+	@Override
+	public float[] getCascadeSplits () {
+		return splits;
+	}
+
+	@Override
+	public Matrix4 getProjViewTrans () {
+		return firstProjViewTrans.set(projViewTrans);
+	}
+
+	@Override
+	public TextureDescriptor getDepthMap () {
+		textureDesc.texture = fbo.getColorBufferTexture();
+		return textureDesc;
+	}
+
+	@Override
+	public TextureDescriptor getStaticDepthMap () {
+		if (staticFbo == null) return null;
+		staticTextureDesc.texture = staticFbo.getColorBufferTexture();
+		return staticTextureDesc;
+	}
+
+	@Override
+	public void dispose () {
+		if (fbo != null) fbo.dispose();
+		fbo = null;
+		if (staticFbo != null) staticFbo.dispose();
+		staticFbo = null;
+	}
+}
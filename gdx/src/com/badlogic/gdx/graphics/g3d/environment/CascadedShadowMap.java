@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.graphics.g3d.environment;
+
+import com.badlogic.gdx.graphics.g3d.utils.TextureDescriptor;
+
+/** A {@link ShadowMap} which is split into multiple cascades, each covering a part of the view frustum. The cascades are stored
+ * next to each other in the {@link #getDepthMap() depth map}, each in a square tile as high as the depth map. The
+ * {@link #getProjViewTrans()} method returns the transform of the first cascade. */
+public interface CascadedShadowMap extends ShadowMap {
+	/** The maximum number of cascades supported by the default shader */
+	public final static int MAX_CASCADES = 4;
+
+	/** @return The number of cascades, at most {@link #MAX_CASCADES}. */
+	int getCascadeCount ();
+
+	/** @return The transform of each cascade (16 values per cascade), transforming world coordinates to the area of the cascade
+	 *         within the depth map. */
+	float[] getCascadeProjViewTrans ();
+
+	/** @return The view depth (distance along the camera direction) at which each cascade ends, at least {@link #MAX_CASCADES}
+	 *         values. */
+	float[] getCascadeSplits ();
+
+	/** @return The depth map containing the casters which are not rendered every frame, or null if not available. The layout is the
+	 *         same as {@link #getDepthMap()}, the nearest depth of both maps is used. */
+	TextureDescriptor getStaticDepthMap ();
+}
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.graphics.g3d.model;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** A set of {@link MeshPart}s representing the same shape at decreasing levels of detail (LOD), used by a {@link NodePart} to
+ * reduce the number of vertices rendered for distant objects. Each level has a minimum screen size, which is the fraction of the
+ * viewport height covered by the bounding sphere of the part: 1 means the sphere covers the full height. When the screen size of
+ * the part drops below the threshold of the last level, the part is not rendered at all.
+ * <p>
+ * The level is selected by {@link ModelInstance#getRenderables(Array, com.badlogic.gdx.utils.Pool)} when
+ * {@link ModelInstance#lodCamera} is set. To avoid popping when the screen size is close to a threshold, the level only changes
+ * when the screen size differs more than {@link #hysteresis} from the threshold. A LodGroup is shared by all
+ * {@link ModelInstance}s of a {@link Model}, the currently selected level is stored in {@link NodePart#lodLevel}.
+ * @see com.badlogic.gdx.graphics.g3d.utils.MeshSimplifier */
+public class LodGroup {
+	/** The MeshPart of each level, the first (index 0) being the most detailed level, which is typically the same as
+	 * {@link NodePart#meshPart}. */
+	public final Array<MeshPart> levels = new Array<MeshPart>();
+	/** The minimum screen size of each level, in decreasing order. */
+	public final FloatArray thresholds = new FloatArray();
+	/** The relative amount the screen size must cross a threshold before the level is changed. */
+	public float hysteresis = 0.1f;
+
+	public LodGroup () {
+	}
+
+	/** Adds a level which is less detailed than the previously added level.
+	 * @param meshPart The shape to render for this level.
+	 * @param minScreenSize The minimum screen size for this level to be used, must not be larger than the previous level's.
+	 * @return This LodGroup for chaining. */
+	public LodGroup add (final MeshPart meshPart, final float minScreenSize) {
+		if (thresholds.size > 0 && minScreenSize > thresholds.peek())
+			throw new GdxRuntimeException("The thresholds must be in decreasing order");
+		levels.add(meshPart);
+		thresholds.add(minScreenSize);
+		return this;
+	}
+
+	/** @return The number of levels. */
+	public int size () {
+		return levels.size;
+	}
+
+	/** Selects the level to use for the specified screen size, taking the currently used level into account to avoid changing the
+	 * level back and forth when the screen size is close to a threshold.
+	 * @param current The currently used level, or -1 if the part is currently not rendered.
+	 * @param screenSize The fraction of the viewport height covered by the bounding sphere, see
+	 *           {@link #getScreenSize(Camera, Vector3, float)}.
+	 * @return The level to use, or -1 if the part should not be rendered. */
+	public int select (final int current, final float screenSize) {
+		final int n = levels.size;
+		int target = -1;
+		for (int i = 0; i < n; i++) {
+			if (screenSize >= thresholds.items[i]) {
+				target = i;
+				break;
+			}
+		}
+		if (current >= n || target == current) return target;
+		if (target < 0 || (current >= 0 && target > current)) {
+			// Less detailed, only when the screen size is sufficiently below the current level's threshold
+			return screenSize < thresholds.items[current] * (1f - hysteresis) ? target : current;
+		}
+		// More detailed, only when the screen size is sufficiently above the threshold of the next more detailed level
+		final int next = (current < 0 ? n : current) - 1;
+		return screenSize >= thresholds.items[next] * (1f + hysteresis) ? target : current;
+	}
+
+	/** Calculates the fraction of the viewport height covered by the specified bounding sphere. Works with both perspective and
+	 * orthographic projections.
+	 * @param camera The camera, its {@link Camera#update()} method must have been called.
+	 * @param center The center of the sphere in world coordinates.
+	 * @param radius The radius of the sphere in world units.
+	 * @return The screen size, where 1 means the diameter of the sphere equals the viewport height. */
+	public static float getScreenSize (final Camera camera, final Vector3 center, final float radius) {
+		final float[] p = camera.projection.val;
+		if (p[Matrix4.M32] == 0f) return radius * p[Matrix4.M11];
+		final float distance = Math.max(camera.position.dst(center), radius);
+		return distance > 0f ? radius * p[Matrix4.M11] / distance : Float.MAX_VALUE;
+	}
+}
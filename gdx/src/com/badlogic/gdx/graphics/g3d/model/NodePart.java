@@ -39,6 +39,13 @@ public class NodePart {
 	public Matrix4[] bones;
 	/** true by default. If set to false, this part will not participate in rendering and bounding box calculation. */
 	public boolean enabled = true;
+	/** The levels of detail of this part, may be null. When set, the {@link MeshPart} of the {@link #lodLevel} is rendered instead of
+	 * the {@link #meshPart}. The {@link #meshPart} is still used for the bounding box calculation. */
+	public LodGroup lodGroup;
+	/** The currently selected level of the {@link #lodGroup}, or -1 if the part is too small to be rendered. Updated by
+	 * {@link ModelInstance#getRenderables(com.badlogic.gdx.utils.Array, com.badlogic.gdx.utils.Pool)} when
+	 * {@link ModelInstance#lodCamera} is set. */
+	public int lodLevel;
 
 	/** Construct a new NodePart with null values. At least the {@link #meshPart} and {@link #material} member must be set before
 	 * the newly created part can be used. */
@@ -56,13 +63,14 @@ public class NodePart {
 	// FIXME add copy constructor and override #equals.
 
 	/** Convenience method to set the material, mesh, meshPartOffset, meshPartSize, primitiveType and bones members of the specified
-	 * Renderable. The other member of the provided {@link Renderable} remain untouched. Note that the material, mesh and bones
-	 * members are referenced, not copied. Any changes made to those objects will be reflected in both the NodePart and Renderable
-	 * object.
+	 * Renderable. If a {@link #lodGroup} is set, the mesh part of the current {@link #lodLevel} is used. The other member of the
+	 * provided {@link Renderable} remain untouched. Note that the material, mesh and bones members are referenced, not copied. Any
+	 * changes made to those objects will be reflected in both the NodePart and Renderable object.
 	 * @param out The Renderable of which to set the members to the values of this NodePart. */
 	public Renderable setRenderable (final Renderable out) {
 		out.material = material;
-		out.meshPart.set(meshPart);
+		out.meshPart.set(lodGroup == null || lodLevel < 0 || lodLevel >= lodGroup.levels.size ? meshPart : lodGroup.levels
+			.get(lodLevel));
 		out.bones = bones;
 		return out;
 	}
@@ -75,6 +83,8 @@ public class NodePart {
 		meshPart = new MeshPart(other.meshPart);
 		material = other.material;
 		enabled = other.enabled;
+		lodGroup = other.lodGroup;
+		lodLevel = other.lodLevel;
 		if (other.invBoneBindTransforms == null) {
 			invBoneBindTransforms = null;
 			bones = null;
@@ -0,0 +1,331 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.particles;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.g3d.particles.batches.GpuParticleBatch;
+import com.badlogic.gdx.graphics.g3d.particles.renderers.GpuParticleRenderer;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** A {@link ParticleController} running a {@link GpuParticleSimulation}, rendered as point sprites by a {@link GpuParticleBatch}
+ * through a {@link GpuParticleRenderer}. When GL30 is available the simulation is run on the GPU with transform feedback: the
+ * particles are kept in two vertex buffers, each update reads one of them and writes the other, and the particles are drawn
+ * straight from the last written one, so their state never leaves the GPU. Otherwise the simulation is updated on the CPU and
+ * uploaded when the controller is drawn.
+ * <p>
+ * The controller has no emitter nor influencers, the parameters of the simulation can be changed at any time through
+ * {@link #simulation} and affect the particles spawned after the change. The particles are spawned around the translation of
+ * {@link #transform}, which replaces {@link GpuParticleSimulation#position} on each update, rotation and scale are ignored. The
+ * simulation never completes. The OpenGL resources are created by {@link #init()} and are not managed, the controller must be
+ * initialized again after a context loss. */
+public class GpuParticleController extends ParticleController {
+	static final String[] VARYINGS = {"v_position", "v_velocity", "v_state"};
+	private static final IntBuffer tmpHandle = BufferUtils.newIntBuffer(2);
+
+	public final GpuParticleSimulation simulation;
+	public final Color color = new Color(Color.WHITE);
+	/** The size of the particles in pixels at distance 1 from the camera. */
+	public float pointSize = 64;
+
+	private final boolean useGpu;
+	private boolean gpu, started, dirty;
+	private int[] buffers;
+	private int vertexArray = -1;
+	private int current;
+	private ShaderProgram updateShader;
+	private FloatBuffer uploadBuffer;
+
+	/** Creates a controller running the simulation on the GPU if GL30 is available. */
+	public GpuParticleController (String name, int capacity, GpuParticleRenderer renderer) {
+		this(name, capacity, true, renderer);
+	}
+
+	/** @param useGpu whether to run the simulation on the GPU when GL30 is available. */
+	public GpuParticleController (String name, int capacity, boolean useGpu, GpuParticleRenderer renderer) {
+		super(name, null, renderer);
+		simulation = new GpuParticleSimulation(capacity);
+		this.useGpu = useGpu;
+	}
+
+	/** @return whether the simulation runs on the GPU, only valid once the controller is initialized. */
+	public boolean isGpu () {
+		return gpu;
+	}
+
+	@Override
+	public void init () {
+		bind();
+		if (buffers != null) disposeResources();
+		gpu = useGpu && Gdx.gl30 != null;
+		if (gpu) {
+			String version = GpuParticleShader.getVersionDirective();
+			updateShader = new TransformFeedbackShader(
+				version + Gdx.files.classpath("com/badlogic/gdx/graphics/g3d/particles/gpuparticles.update.glsl").readString(),
+				version + "precision mediump float;\nout vec4 fragColor;\nvoid main() {\n\tfragColor = vec4(0.0);\n}\n");
+			if (!updateShader.isCompiled()) throw new GdxRuntimeException("Error compiling shader: " + updateShader.getLog());
+			buffers = new int[2];
+			tmpHandle.clear();
+			Gdx.gl.glGenBuffers(2, tmpHandle);
+			buffers[0] = tmpHandle.get(0);
+			buffers[1] = tmpHandle.get(1);
+		} else
+			buffers = new int[] {Gdx.gl.glGenBuffer()};
+		// Core profiles can't draw without a vertex array object
+		if (Gdx.gl30 != null) {
+			tmpHandle.clear();
+			Gdx.gl30.glGenVertexArrays(1, tmpHandle);
+			vertexArray = tmpHandle.get(0);
+		}
+		// The particles have no channel, their amount balances the parallel updates of ParticleSystem
+		particles = new ParallelArray(simulation.capacity);
+		particles.size = simulation.capacity;
+		current = 0;
+		started = false;
+		renderer.init();
+	}
+
+	@Override
+	protected void bind () {
+		renderer.set(this);
+	}
+
+	/** Resets the simulation, see {@link GpuParticleSimulation#reset()}. */
+	@Override
+	public void start () {
+		simulation.reset();
+		upload(simulation.state);
+		if (gpu) {
+			// Allocate the storage of the buffer written by the first update
+			Gdx.gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, buffers[1 - current]);
+			Gdx.gl.glBufferData(GL20.GL_ARRAY_BUFFER, simulation.state.length * 4, null, GL30.GL_DYNAMIC_COPY);
+			Gdx.gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		}
+		started = true;
+	}
+
+	/** Stops the simulation, the particles are not updated nor drawn until the next {@link #start()}. */
+	@Override
+	public void end () {
+		started = false;
+	}
+
+	private void upload (float[] state) {
+		if (uploadBuffer == null) uploadBuffer = BufferUtils.newFloatBuffer(state.length);
+		uploadBuffer.clear();
+		uploadBuffer.put(state);
+		uploadBuffer.flip();
+		Gdx.gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, buffers[current]);
+		Gdx.gl.glBufferData(GL20.GL_ARRAY_BUFFER, state.length * 4, uploadBuffer,
+			gpu ? GL30.GL_DYNAMIC_COPY : GL20.GL_STREAM_DRAW);
+		Gdx.gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		dirty = false;
+	}
+
+	@Override
+	public void update (float deltaTime) {
+		this.deltaTime = deltaTime;
+		deltaTimeSqr = deltaTime * deltaTime;
+		if (!started) return;
+		transform.getTranslation(simulation.position);
+		if (!gpu) {
+			// Uploaded by draw(), on the rendering thread
+			simulation.update(deltaTime);
+			dirty = true;
+			return;
+		}
+
+		GpuParticleSimulation simulation = this.simulation;
+		GL30 gl = Gdx.gl30;
+		ShaderProgram shader = updateShader;
+		shader.bind();
+		shader.setUniformf("u_delta", deltaTime);
+		shader.setUniformf("u_emitterPosition", simulation.position);
+		shader.setUniformf("u_spawnExtent", simulation.spawnExtent);
+		shader.setUniformf("u_velocityMin", simulation.velocityMin);
+		shader.setUniformf("u_velocityMax", simulation.velocityMax);
+		shader.setUniformf("u_gravity", simulation.gravity);
+		shader.setUniformf("u_drag", simulation.drag);
+		shader.setUniformf("u_lifeMin", simulation.lifeMin);
+		shader.setUniformf("u_lifeMax", simulation.lifeMax);
+		shader.setUniformi("u_seed", simulation.seed);
+
+		gl.glBindVertexArray(vertexArray);
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, buffers[current]);
+		int position = enableAttribute(shader, "a_position", GpuParticleSimulation.POSITION_OFFSET);
+		int velocity = enableAttribute(shader, "a_velocity", GpuParticleSimulation.VELOCITY_OFFSET);
+		int state = enableAttribute(shader, "a_state", GpuParticleSimulation.AGE_OFFSET);
+		gl.glBindBufferBase(GL30.GL_TRANSFORM_FEEDBACK_BUFFER, 0, buffers[1 - current]);
+
+		gl.glEnable(GL30.GL_RASTERIZER_DISCARD);
+		gl.glBeginTransformFeedback(GL20.GL_POINTS);
+		gl.glDrawArrays(GL20.GL_POINTS, 0, simulation.capacity);
+		gl.glEndTransformFeedback();
+		gl.glDisable(GL30.GL_RASTERIZER_DISCARD);
+
+		gl.glBindBufferBase(GL30.GL_TRANSFORM_FEEDBACK_BUFFER, 0, 0);
+		disableAttribute(position);
+		disableAttribute(velocity);
+		disableAttribute(state);
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		gl.glBindVertexArray(0);
+		current = 1 - current;
+	}
+
+	@Override
+	public void updateEmitter (float deltaTime) {
+		update(deltaTime);
+	}
+
+	@Override
+	public void updateInfluencers (int startIndex, int count) {
+	}
+
+	@Override
+	public boolean isRangeUpdateSupported () {
+		return false;
+	}
+
+	/** @return false when the simulation runs on the GPU. */
+	@Override
+	public boolean isParallelUpdateSupported () {
+		return !gpu;
+	}
+
+	@Override
+	public void draw () {
+		if (!started) return;
+		if (dirty) upload(simulation.state);
+		renderer.update();
+	}
+
+	/** Draws all the particles as points with the given shader, which must be bound. Called by {@link GpuParticleShader}, the
+	 * dead particles and those not born yet must be discarded by the vertex shader. */
+	public void render (ShaderProgram shader) {
+		if (vertexArray != -1) Gdx.gl30.glBindVertexArray(vertexArray);
+		Gdx.gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, buffers[current]);
+		int position = enableAttribute(shader, "a_position", GpuParticleSimulation.POSITION_OFFSET);
+		int state = enableAttribute(shader, "a_state", GpuParticleSimulation.AGE_OFFSET);
+		Gdx.gl.glDrawArrays(GL20.GL_POINTS, 0, simulation.capacity);
+		disableAttribute(position);
+		disableAttribute(state);
+		Gdx.gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		if (vertexArray != -1) Gdx.gl30.glBindVertexArray(0);
+	}
+
+	private static int enableAttribute (ShaderProgram shader, String name, int offset) {
+		int location = shader.getAttributeLocation(name);
+		if (location < 0) return location;
+		shader.enableVertexAttribute(location);
+		shader.setVertexAttribute(location, 3, GL20.GL_FLOAT, false, GpuParticleSimulation.STRIDE * 4, offset * 4);
+		return location;
+	}
+
+	private static void disableAttribute (int location) {
+		if (location >= 0) Gdx.gl.glDisableVertexAttribArray(location);
+	}
+
+	@Override
+	public boolean isComplete () {
+		return false;
+	}
+
+	/** The state of the particles isn't read back from the GPU, when the simulation runs there the bounding box only contains the
+	 * spawn volume. */
+	@Override
+	protected void calculateBoundingBox () {
+		boundingBox.clr();
+		GpuParticleSimulation simulation = this.simulation;
+		if (gpu) {
+			Vector3 position = simulation.position, extent = simulation.spawnExtent;
+			boundingBox.ext(position.x - extent.x, position.y - extent.y, position.z - extent.z);
+			boundingBox.ext(position.x + extent.x, position.y + extent.y, position.z + extent.z);
+			return;
+		}
+		float[] state = simulation.state;
+		for (int i = 0; i < simulation.capacity; i++) {
+			if (!simulation.isAlive(i)) continue;
+			int offset = i * GpuParticleSimulation.STRIDE + GpuParticleSimulation.POSITION_OFFSET;
+			boundingBox.ext(state[offset], state[offset + 1], state[offset + 2]);
+		}
+	}
+
+	@Override
+	public GpuParticleController copy () {
+		GpuParticleController copy = new GpuParticleController(new String(name), simulation.capacity, useGpu,
+			(GpuParticleRenderer)renderer.copy());
+		copy.simulation.set(simulation);
+		copy.color.set(color);
+		copy.pointSize = pointSize;
+		return copy;
+	}
+
+	@Override
+	public void save (AssetManager manager, ResourceData data) {
+		renderer.save(manager, data);
+	}
+
+	@Override
+	public void load (AssetManager manager, ResourceData data) {
+		renderer.load(manager, data);
+	}
+
+	@Override
+	public void dispose () {
+		if (buffers != null) disposeResources();
+	}
+
+	private void disposeResources () {
+		if (updateShader != null) updateShader.dispose();
+		updateShader = null;
+		tmpHandle.clear();
+		tmpHandle.put(buffers);
+		tmpHandle.flip();
+		Gdx.gl.glDeleteBuffers(buffers.length, tmpHandle);
+		buffers = null;
+		if (vertexArray != -1) {
+			tmpHandle.clear();
+			tmpHandle.put(vertexArray);
+			tmpHandle.flip();
+			Gdx.gl30.glDeleteVertexArrays(1, tmpHandle);
+			vertexArray = -1;
+		}
+	}
+
+	/** Declares the varyings captured by transform feedback, which must be done before the program is linked. */
+	static class TransformFeedbackShader extends ShaderProgram {
+		public TransformFeedbackShader (String vertexShader, String fragmentShader) {
+			super(vertexShader, fragmentShader);
+		}
+
+		@Override
+		protected int createProgram () {
+			int program = super.createProgram();
+			if (program != -1) Gdx.gl30.glTransformFeedbackVaryings(program, VARYINGS, GL30.GL_INTERLEAVED_ATTRIBS);
+			return program;
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.particles;
+
+import com.badlogic.gdx.Application.ApplicationType;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.Shader;
+import com.badlogic.gdx.graphics.g3d.attributes.BlendingAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.DepthTestAttribute;
+import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
+import com.badlogic.gdx.graphics.glutils.GLVersion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** Renders the particles of the {@link GpuParticleController} set as {@link Renderable#userData} as point sprites, see
+ * {@link GpuParticleController#render(ShaderProgram)}. The size and the color of the particles are taken from the controller,
+ * the blending and the depth test from the material of the renderable. When GL30 is available the shaders are compiled as GLSL
+ * 3, see {@link #getVersionDirective()}, otherwise as GLSL 1.20 on desktop and GLSL ES 1.00 elsewhere, like
+ * {@link ParticleShader}. */
+public class GpuParticleShader implements Shader {
+	/** @return the version directive of the GLSL 3 shaders matching the current context: 1.30 to 1.50 for OpenGL 3.0 to 3.2, the
+	 *         OpenGL version from 3.3 on, 3.00 ES for OpenGL ES and WebGL. */
+	public static String getVersionDirective () {
+		GLVersion version = Gdx.graphics.getGLVersion();
+		if (version.getType() != GLVersion.Type.OpenGL) return "#version 300 es\n";
+		int major = version.getMajorVersion(), minor = version.getMinorVersion();
+		if (major == 3 && minor < 3) return "#version " + (130 + minor * 10) + "\n";
+		return "#version " + (major * 100 + minor * 10) + "\n";
+	}
+
+	private ShaderProgram program;
+	private RenderContext context;
+	private Material currentMaterial;
+
+	@Override
+	public void init () {
+		String prefix;
+		if (Gdx.gl30 != null)
+			prefix = getVersionDirective();
+		else
+			prefix = Gdx.app.getType() == ApplicationType.Desktop ? "#version 120\n" : "#version 100\n";
+		program = new ShaderProgram(
+			prefix + Gdx.files.classpath("com/badlogic/gdx/graphics/g3d/particles/gpuparticles.vertex.glsl").readString(),
+			prefix + Gdx.files.classpath("com/badlogic/gdx/graphics/g3d/particles/gpuparticles.fragment.glsl").readString());
+		if (!program.isCompiled()) throw new GdxRuntimeException("Error compiling shader: " + program.getLog());
+	}
+
+	@Override
+	public int compareTo (Shader other) {
+		return 0;
+	}
+
+	@Override
+	public boolean canRender (Renderable renderable) {
+		return renderable.userData instanceof GpuParticleController;
+	}
+
+	@Override
+	public void begin (Camera camera, RenderContext context) {
+		this.context = context;
+		if (Gdx.app.getType() == ApplicationType.Desktop) {
+			Gdx.gl.glEnable(GL20.GL_VERTEX_PROGRAM_POINT_SIZE);
+			// Point sprites are always enabled in core profiles
+			if (Gdx.gl30 == null) Gdx.gl.glEnable(0x8861); // GL_POINT_OES
+		}
+		program.bind();
+		program.setUniformMatrix("u_projViewTrans", camera.combined);
+	}
+
+	@Override
+	public void render (Renderable renderable) {
+		if (currentMaterial != renderable.material) bindMaterial(renderable.material);
+		GpuParticleController controller = (GpuParticleController)renderable.userData;
+		program.setUniformf("u_pointSize", controller.pointSize);
+		program.setUniformf("u_color", controller.color);
+		controller.render(program);
+	}
+
+	private void bindMaterial (Material material) {
+		currentMaterial = material;
+		BlendingAttribute blending = (BlendingAttribute)material.get(BlendingAttribute.Type);
+		if (blending != null)
+			context.setBlending(true, blending.sourceFunction, blending.destFunction);
+		else
+			context.setBlending(false, GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		DepthTestAttribute depthTest = (DepthTestAttribute)material.get(DepthTestAttribute.Type);
+		if (depthTest != null) {
+			context.setDepthTest(depthTest.depthFunc, depthTest.depthRangeNear, depthTest.depthRangeFar);
+			context.setDepthMask(depthTest.depthMask);
+		} else {
+			context.setDepthTest(GL20.GL_LEQUAL);
+			context.setDepthMask(true);
+		}
+	}
+
+	@Override
+	public void end () {
+		currentMaterial = null;
+		context = null;
+	}
+
+	@Override
+	public void dispose () {
+		program.dispose();
+	}
+}
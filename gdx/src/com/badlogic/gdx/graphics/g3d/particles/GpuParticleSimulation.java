@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.graphics.g3d.particles;
+
+import com.badlogic.gdx.math.Vector3;
+
+/** The particle simulation run by {@link GpuParticleController}, implemented on the CPU. It is used as fallback when GL30 is not
+ * available and as reference for the transform feedback shader (gpuparticles.update.glsl), which performs exactly the same
+ * operations, so any change must be applied to both.
+ * <p>
+ * Each of the {@link #capacity} particles is a slot which is respawned every time its life ends, so the emission rate is
+ * capacity / average life. Particles are spawned inside the box of half size {@link #spawnExtent} centered at {@link #position},
+ * with a velocity between {@link #velocityMin} and {@link #velocityMax} and a life between {@link #lifeMin} and
+ * {@link #lifeMax} seconds. The random values are derived from a hash of the slot and of the number of times it has been
+ * respawned, so they don't depend on the platform. */
+public class GpuParticleSimulation {
+	/** The amount of floats per particle: position (3), velocity (3), age, life and generation. */
+	public static final int STRIDE = 9;
+	public static final int POSITION_OFFSET = 0, VELOCITY_OFFSET = 3, AGE_OFFSET = 6, LIFE_OFFSET = 7, GENERATION_OFFSET = 8;
+
+	public final int capacity;
+	/** The state of the particles, {@link #STRIDE} floats per particle. */
+	public final float[] state;
+
+	public final Vector3 position = new Vector3();
+	public final Vector3 spawnExtent = new Vector3();
+	public final Vector3 velocityMin = new Vector3(-1, 1, -1);
+	public final Vector3 velocityMax = new Vector3(1, 3, 1);
+	public final Vector3 gravity = new Vector3(0, -9.81f, 0);
+	/** The fraction of the velocity lost per second. */
+	public float drag;
+	public float lifeMin = 1, lifeMax = 2;
+	public int seed;
+
+	public GpuParticleSimulation (int capacity) {
+		this.capacity = capacity;
+		state = new float[capacity * STRIDE];
+		reset();
+	}
+
+	/** Copies the parameters of the given simulation, the state of the particles is left untouched. */
+	public void set (GpuParticleSimulation simulation) {
+		position.set(simulation.position);
+		spawnExtent.set(simulation.spawnExtent);
+		velocityMin.set(simulation.velocityMin);
+		velocityMax.set(simulation.velocityMax);
+		gravity.set(simulation.gravity);
+		drag = simulation.drag;
+		lifeMin = simulation.lifeMin;
+		lifeMax = simulation.lifeMax;
+		seed = simulation.seed;
+	}
+
+	/** Resets all the particles, they are born one after the other during the first {@link #lifeMax} seconds. */
+	public void reset () {
+		float[] state = this.state;
+		for (int i = 0, offset = 0; i < capacity; i++, offset += STRIDE) {
+			for (int j = 0; j < STRIDE; j++)
+				state[offset + j] = 0;
+			state[offset + AGE_OFFSET] = -lifeMax * i / capacity;
+		}
+	}
+
+	/** @return whether the given particle is alive, particles waiting to be born for the first time are not. */
+	public boolean isAlive (int index) {
+		float age = state[index * STRIDE + AGE_OFFSET];
+		return age >= 0 && age < state[index * STRIDE + LIFE_OFFSET];
+	}
+
+	public void update (float delta) {
+		for (int i = 0; i < capacity; i++)
+			update(i, delta);
+	}
+
+	/** Updates a single particle. */
+	public void update (int index, float delta) {
+		float[] state = this.state;
+		int offset = index * STRIDE;
+		float age = state[offset + AGE_OFFSET] + delta;
+		float life = state[offset + LIFE_OFFSET];
+		if (age >= life) {
+			// Respawn
+			age -= life;
+			float generation = state[offset + GENERATION_OFFSET] + 1;
+			int g = (int)generation;
+			state[offset + POSITION_OFFSET] = position.x + spawnExtent.x * (random(index, g, 0) * 2 - 1);
+			state[offset + POSITION_OFFSET + 1] = position.y + spawnExtent.y * (random(index, g, 1) * 2 - 1);
+			state[offset + POSITION_OFFSET + 2] = position.z + spawnExtent.z * (random(index, g, 2) * 2 - 1);
+			state[offset + VELOCITY_OFFSET] = velocityMin.x + (velocityMax.x - velocityMin.x) * random(index, g, 3);
+			state[offset + VELOCITY_OFFSET + 1] = velocityMin.y + (velocityMax.y - velocityMin.y) * random(index, g, 4);
+			state[offset + VELOCITY_OFFSET + 2] = velocityMin.z + (velocityMax.z - velocityMin.z) * random(index, g, 5);
+			life = lifeMin + (lifeMax - lifeMin) * random(index, g, 6);
+			if (age >= life) age = 0;
+			state[offset + LIFE_OFFSET] = life;
+			state[offset + GENERATION_OFFSET] = generation;
+		} else if (age >= 0) {
+			float damping = Math.max(0, 1 - drag * delta);
+			float vx = (state[offset + VELOCITY_OFFSET] + gravity.x * delta) * damping;
+			float vy = (state[offset + VELOCITY_OFFSET + 1] + gravity.y * delta) * damping;
+			float vz = (state[offset + VELOCITY_OFFSET + 2] + gravity.z * delta) * damping;
+			state[offset + VELOCITY_OFFSET] = vx;
+			state[offset + VELOCITY_OFFSET + 1] = vy;
+			state[offset + VELOCITY_OFFSET + 2] = vz;
+			state[offset + POSITION_OFFSET] += vx * delta;
+			state[offset + POSITION_OFFSET + 1] += vy * delta;
+			state[offset + POSITION_OFFSET + 2] += vz * delta;
+		}
+		state[offset + AGE_OFFSET] = age;
+	}
+
+	/** @return a random value in [0, 1) for the given particle, generation and component, as computed by the shader. */
+	public float random (int index, int generation, int component) {
+		int h = hash(index + hash(generation + hash(component + seed)));
+		return (h >>> 8) / 16777216f;
+	}
+
+	/** 32 bit integer hash, the unsigned arithmetic matches the shader one. */
+	static int hash (int x) {
+		x ^= x >>> 16;
+		x *= 0x7feb352d;
+		x ^= x >>> 15;
+		x *= 0x846ca68b;
+		x ^= x >>> 16;
+		return x;
+	}
+}
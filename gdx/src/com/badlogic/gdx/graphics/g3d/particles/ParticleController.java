@@ -16,12 +16,15 @@
 
 package com.badlogic.gdx.graphics.g3d.particles;
 
+import java.util.Random;
+
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.g3d.particles.ParallelArray.FloatChannel;
 import com.badlogic.gdx.graphics.g3d.particles.emitters.Emitter;
 import com.badlogic.gdx.graphics.g3d.particles.influencers.Influencer;
 import com.badlogic.gdx.graphics.g3d.particles.renderers.ParticleControllerRenderer;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Quaternion;
 import com.badlogic.gdx.math.Vector3;
@@ -67,6 +70,10 @@ public class ParticleController implements Json.Serializable, ResourceData.Confi
 	/** Time step, DO NOT CHANGE MANUALLY */
 	public float deltaTime, deltaTimeSqr;
 
+	/** The generator the emitter and the influencers draw their random values from, {@link MathUtils#random} by default. While
+	 * updating in parallel, the {@link ParticleSystem} replaces it by the generator of the task updating the controller. */
+	public Random random = MathUtils.random;
+
 	public ParticleController () {
 		transform = new Matrix4();
 		scale = new Vector3(1, 1, 1);
@@ -231,6 +238,35 @@ public class ParticleController implements Json.Serializable, ResourceData.Confi
 			influencer.update();
 	}
 
+	/** Updates only the emitter, the influencers must be updated afterwards with {@link #updateInfluencers(int, int)}. Used by
+	 * {@link ParticleSystem} to split the update of a controller among several threads. */
+	public void updateEmitter (float deltaTime) {
+		setTimeStep(deltaTime);
+		emitter.update();
+	}
+
+	/** Updates all the influencers for the particles in the range [startIndex, startIndex + count). */
+	public void updateInfluencers (int startIndex, int count) {
+		// Indexed loop, the Array iterator can't be shared by the threads updating different ranges
+		for (int i = 0; i < influencers.size; ++i)
+			influencers.get(i).update(startIndex, count);
+	}
+
+	/** @return whether all the influencers support {@link Influencer#update(int, int)}, see
+	 *         {@link Influencer#isRangeUpdateSupported()}. */
+	public boolean isRangeUpdateSupported () {
+		for (int i = 0; i < influencers.size; ++i)
+			if (!influencers.get(i).isRangeUpdateSupported()) return false;
+		return true;
+	}
+
+	/** @return whether {@link #update(float)} can be called on a thread other than the rendering one, controllers issuing OpenGL
+	 *         calls while updating must return false. See
+	 *         {@link ParticleSystem#setExecutor(com.badlogic.gdx.utils.async.AsyncExecutor)}. */
+	public boolean isParallelUpdateSupported () {
+		return true;
+	}
+
 	/** Updates the renderer used by this controller, usually this means the particles will be draw inside a batch. */
 	public void draw () {
 		if (particles.size > 0) {
@@ -29,11 +29,13 @@ import com.badlogic.gdx.utils.JsonValue;
  * during the simulation. (i.e it can handle the particles emission or modify particle properties, etc.).
  * @author inferno */
 public abstract class ParticleControllerComponent implements Disposable, Json.Serializable, ResourceData.Configurable {
-	protected static final Vector3 TMP_V1 = new Vector3(), TMP_V2 = new Vector3(), TMP_V3 = new Vector3(), TMP_V4 = new Vector3(),
+	/** Temporaries are per instance so that different controllers can be updated concurrently, see
+	 * {@link ParticleSystem#setExecutor(com.badlogic.gdx.utils.async.AsyncExecutor)}. */
+	protected final Vector3 TMP_V1 = new Vector3(), TMP_V2 = new Vector3(), TMP_V3 = new Vector3(), TMP_V4 = new Vector3(),
 		TMP_V5 = new Vector3(), TMP_V6 = new Vector3();
-	protected static final Quaternion TMP_Q = new Quaternion(), TMP_Q2 = new Quaternion();
-	protected static final Matrix3 TMP_M3 = new Matrix3();
-	protected static final Matrix4 TMP_M4 = new Matrix4();
+	protected final Quaternion TMP_Q = new Quaternion(), TMP_Q2 = new Quaternion();
+	protected final Matrix3 TMP_M3 = new Matrix3();
+	protected final Matrix4 TMP_M4 = new Matrix4();
 	protected ParticleController controller;
 
 	/** Called to initialize new emitted particles. */
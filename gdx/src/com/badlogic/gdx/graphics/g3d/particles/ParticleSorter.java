@@ -21,6 +21,7 @@ import com.badlogic.gdx.graphics.g3d.particles.renderers.ParticleControllerRende
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.NumberUtils;
 
 /** This class is used by particle batches to sort the particles before rendering.
  * @author Inferno */
@@ -144,6 +145,146 @@ public abstract class ParticleSorter {
 		}
 	}
 
+	/** Sorts the particles using the distance from camera like {@link Distance}, but the distances are converted to integer keys
+	 * and sorted with a LSD radix sort which runs in linear time. When {@link #temporalCoherence} is enabled the order of the
+	 * previous frame is reused and fixed up with an insertion sort, which is cheaper when the camera and the particles move
+	 * slowly; if the order changed too much the radix sort is used instead. */
+	public static class RadixDistance extends ParticleSorter {
+		/** Whether the order of the previous frame should be used as a starting point. */
+		public boolean temporalCoherence;
+		private int[] keys, tmpKeys, particleIndices, tmpIndices, particleOffsets;
+		private final int[] histogram = new int[4 * 256];
+		private int currentSize = 0, lastCount = -1;
+
+		public RadixDistance () {
+		}
+
+		public RadixDistance (boolean temporalCoherence) {
+			this.temporalCoherence = temporalCoherence;
+		}
+
+		@Override
+		public void ensureCapacity (int capacity) {
+			if (currentSize < capacity) {
+				keys = new int[capacity];
+				tmpKeys = new int[capacity];
+				particleIndices = new int[capacity];
+				tmpIndices = new int[capacity];
+				particleOffsets = new int[capacity];
+				currentSize = capacity;
+				lastCount = -1;
+			}
+		}
+
+		@Override
+		public <T extends ParticleControllerRenderData> int[] sort (Array<T> renderData) {
+			float[] val = camera.view.val;
+			float cx = val[Matrix4.M20], cy = val[Matrix4.M21], cz = val[Matrix4.M22];
+			int count = 0, i = 0;
+			for (ParticleControllerRenderData data : renderData) {
+				float[] positions = data.positionChannel.data;
+				for (int k = 0, c = i + data.controller.particles.size; i < c; ++i, k += data.positionChannel.strideSize) {
+					float distance = cx * positions[k + ParticleChannels.XOffset] + cy * positions[k + ParticleChannels.YOffset] + cz
+						* positions[k + ParticleChannels.ZOffset];
+					// Stored by particle index, gathered into tmpKeys using the previous order when temporal coherence is on
+					tmpKeys[i] = toKey(distance);
+				}
+				count += data.controller.particles.size;
+			}
+
+			if (!temporalCoherence || count != lastCount || !insertionSort(count)) {
+				for (i = 0; i < count; ++i) {
+					keys[i] = tmpKeys[i];
+					particleIndices[i] = i;
+				}
+				radixSort(count);
+			}
+			lastCount = count;
+
+			for (i = 0; i < count; ++i) {
+				particleOffsets[particleIndices[i]] = i;
+			}
+			return particleOffsets;
+		}
+
+		/** Sorts the keys reusing the order of the previous frame, gives up once too many elements have been moved.
+		 * @return whether the keys have been sorted */
+		private boolean insertionSort (int count) {
+			int[] keys = this.keys, indices = this.particleIndices, particleKeys = this.tmpKeys;
+			for (int i = 0; i < count; ++i)
+				keys[i] = particleKeys[indices[i]];
+			long moves = 0, maxMoves = 8L * count;
+			for (int i = 1; i < count; ++i) {
+				int key = keys[i], index = indices[i], j = i - 1;
+				if (unsignedLess(key, keys[j])) {
+					do {
+						keys[j + 1] = keys[j];
+						indices[j + 1] = indices[j];
+						--j;
+					} while (j >= 0 && unsignedLess(key, keys[j]));
+					keys[j + 1] = key;
+					indices[j + 1] = index;
+					moves += i - 1 - j;
+					if (moves > maxMoves) return false;
+				}
+			}
+			return true;
+		}
+
+		private void radixSort (int count) {
+			if (count < 2) return;
+			int[] histogram = this.histogram, keys = this.keys, indices = this.particleIndices;
+			int[] tmpKeys = this.tmpKeys, tmpIndices = this.tmpIndices;
+			for (int i = 0; i < histogram.length; ++i)
+				histogram[i] = 0;
+			for (int i = 0; i < count; ++i) {
+				int key = keys[i];
+				++histogram[key & 0xff];
+				++histogram[256 + ((key >>> 8) & 0xff)];
+				++histogram[512 + ((key >>> 16) & 0xff)];
+				++histogram[768 + (key >>> 24)];
+			}
+
+			for (int pass = 0, shift = 0; pass < 4; ++pass, shift += 8) {
+				int base = pass * 256;
+				// Skip the passes where all the keys share the same digit
+				if (histogram[base + ((keys[0] >>> shift) & 0xff)] == count) continue;
+				for (int d = 0, sum = 0; d < 256; ++d) {
+					int n = histogram[base + d];
+					histogram[base + d] = sum;
+					sum += n;
+				}
+				for (int i = 0; i < count; ++i) {
+					int key = keys[i], dest = histogram[base + ((key >>> shift) & 0xff)]++;
+					tmpKeys[dest] = key;
+					tmpIndices[dest] = indices[i];
+				}
+				int[] t = keys;
+				keys = tmpKeys;
+				tmpKeys = t;
+				t = indices;
+				indices = tmpIndices;
+				tmpIndices = t;
+			}
+
+			// Swapped an odd number of times, keep the fields in sync with the sorted arrays
+			this.keys = keys;
+			this.tmpKeys = tmpKeys;
+			this.particleIndices = indices;
+			this.tmpIndices = tmpIndices;
+		}
+
+		/** Maps a float to an int whose unsigned order matches the float order. */
+		private static int toKey (float value) {
+			int bits = NumberUtils.floatToRawIntBits(value);
+			return bits ^ ((bits >> 31) | 0x80000000);
+		}
+
+		private static boolean unsignedLess (int a, int b) {
+			return (a ^ 0x80000000) < (b ^ 0x80000000);
+		}
+	}
+
 	protected Camera camera;
 
 	/** @return an array of offsets where each particle should be put in the resulting mesh (also if more than one mesh will be
@@ -16,14 +16,22 @@
 
 package com.badlogic.gdx.graphics.g3d.particles;
 
+import java.util.Random;
+
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g3d.Renderable;
 import com.badlogic.gdx.graphics.g3d.RenderableProvider;
 import com.badlogic.gdx.graphics.g3d.particles.batches.ParticleBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
 
 /** Singleton class which manages the particle effects. It's a utility class to ease particle batches management and particle
- * effects update.
+ * effects update. The simulation can optionally be spread over several threads, see {@link #setExecutor(AsyncExecutor)}.
  * @author inferno */
 public final class ParticleSystem implements RenderableProvider {
 	private static ParticleSystem instance;
@@ -38,6 +46,14 @@ public final class ParticleSystem implements RenderableProvider {
 	private Array<ParticleBatch<?>> batches;
 	private Array<ParticleEffect> effects;
 
+	private AsyncExecutor executor;
+	private int splitSize = 2048;
+	private float taskDeltaTime;
+	private final Array<UpdateTask> tasks = new Array<UpdateTask>();
+	private final Array<AsyncResult<Void>> results = new Array<AsyncResult<Void>>();
+	private final Array<ParticleController> splitControllers = new Array<ParticleController>();
+	private final Array<ParticleController> localControllers = new Array<ParticleController>();
+
 	public ParticleSystem () {
 		batches = new Array<ParticleBatch<?>>();
 		effects = new Array<ParticleEffect>();
@@ -60,14 +76,52 @@ public final class ParticleSystem implements RenderableProvider {
 		effects.clear();
 	}
 
+	/** Sets the executor used to update the effects in parallel, null (the default) updates them on the calling thread. The
+	 * controllers are distributed among the threads, a controller whose emitter can spawn more than {@link #getSplitSize()}
+	 * particles is further split in particle ranges if all of its influencers support it (see
+	 * {@link ParticleController#isRangeUpdateSupported()}). Updating the controllers which don't support parallel updates
+	 * (see {@link ParticleController#isParallelUpdateSupported()}), drawing and collecting the renderables always happen on the
+	 * calling thread. Custom components must not share mutable state across controllers to be updated in parallel.
+	 * <p>
+	 * Each task has its own generator, which replaces the {@link ParticleController#random} of the controllers it updates. The
+	 * generators are seeded from {@link MathUtils#random} on the calling thread, in task order, so the simulation is reproducible
+	 * from that seed. Custom components must draw their random values from {@link ParticleController#random} to be updated in
+	 * parallel. The executor is not disposed by this class. */
+	public void setExecutor (AsyncExecutor executor) {
+		this.executor = executor;
+	}
+
+	public AsyncExecutor getExecutor () {
+		return executor;
+	}
+
+	/** Sets the amount of particles each task should update when running in parallel, see {@link #setExecutor(AsyncExecutor)}. */
+	public void setSplitSize (int splitSize) {
+		if (splitSize < 1) throw new IllegalArgumentException("splitSize must be > 0");
+		this.splitSize = splitSize;
+	}
+
+	public int getSplitSize () {
+		return splitSize;
+	}
+
 	/** Updates the simulation of all effects */
 	public void update () {
+		if (executor != null) {
+			updateParallel(Gdx.graphics.getDeltaTime());
+			return;
+		}
 		for (ParticleEffect effect : effects) {
 			effect.update();
 		}
 	}
 
 	public void updateAndDraw () {
+		if (executor != null) {
+			updateParallel(Gdx.graphics.getDeltaTime());
+			draw();
+			return;
+		}
 		for (ParticleEffect effect : effects) {
 			effect.update();
 			effect.draw();
@@ -75,17 +129,94 @@ public final class ParticleSystem implements RenderableProvider {
 	}
 
 	public void update (float deltaTime) {
+		if (executor != null) {
+			updateParallel(deltaTime);
+			return;
+		}
 		for (ParticleEffect effect : effects) {
 			effect.update(deltaTime);
 		}
 	}
 	public void updateAndDraw(float deltaTime) {
+		if (executor != null) {
+			updateParallel(deltaTime);
+			draw();
+			return;
+		}
 		for (ParticleEffect effect : effects) {
 			effect.update(deltaTime);
 			effect.draw();
 		}
 	}
 
+	private void updateParallel (float deltaTime) {
+		taskDeltaTime = deltaTime;
+		splitControllers.clear();
+
+		// First pass, whole controllers are grouped so that each task updates about splitSize particles, the controllers which
+		// will be split only run their emitter here because spawning and killing particles compacts the particle arrays.
+		int taskCount = 0, load = splitSize;
+		UpdateTask task = null;
+		for (int i = 0; i < effects.size; ++i) {
+			Array<ParticleController> controllers = effects.get(i).getControllers();
+			for (int j = 0; j < controllers.size; ++j) {
+				ParticleController controller = controllers.get(j);
+				if (!controller.isParallelUpdateSupported()) {
+					localControllers.add(controller);
+					continue;
+				}
+				if (load >= splitSize) {
+					task = obtainTask(taskCount++);
+					task.random.setSeed(MathUtils.random.nextLong());
+					load = 0;
+				}
+				if (controller.isRangeUpdateSupported() && controller.emitter.maxParticleCount > splitSize) {
+					splitControllers.add(controller);
+					task.emitters.add(controller);
+				} else
+					task.controllers.add(controller);
+				load += controller.particles.size + 1;
+			}
+		}
+		run(taskCount);
+		for (int i = 0; i < localControllers.size; ++i)
+			localControllers.get(i).update(deltaTime);
+		localControllers.clear();
+
+		// Second pass, the influencers of the split controllers are updated on disjoint particle ranges
+		taskCount = 0;
+		for (int i = 0; i < splitControllers.size; ++i) {
+			ParticleController controller = splitControllers.get(i);
+			for (int start = 0, size = controller.particles.size; start < size; start += splitSize) {
+				task = obtainTask(taskCount++);
+				task.range = controller;
+				task.start = start;
+				task.count = Math.min(splitSize, size - start);
+			}
+		}
+		run(taskCount);
+		splitControllers.clear();
+	}
+
+	private UpdateTask obtainTask (int index) {
+		if (index == tasks.size) tasks.add(new UpdateTask());
+		return tasks.get(index);
+	}
+
+	/** Runs the first taskCount tasks, the first one on the calling thread, and waits for all of them. */
+	private void run (int taskCount) {
+		if (taskCount == 0) return;
+		for (int i = 1; i < taskCount; ++i)
+			results.add(executor.submit(tasks.get(i)));
+		try {
+			tasks.get(0).call();
+		} finally {
+			for (int i = 0; i < results.size; ++i)
+				results.get(i).get();
+			results.clear();
+		}
+	}
+
 	/** Must be called one time per frame before any particle effect drawing operation will occur. */
 	public void begin () {
 		for (ParticleBatch<?> batch : batches)
@@ -114,4 +245,42 @@ public final class ParticleSystem implements RenderableProvider {
 	public Array<ParticleBatch<?>> getBatches () {
 		return batches;
 	}
+
+	private class UpdateTask implements AsyncTask<Void> {
+		final Array<ParticleController> controllers = new Array<ParticleController>();
+		final Array<ParticleController> emitters = new Array<ParticleController>();
+		final RandomXS128 random = new RandomXS128();
+		ParticleController range;
+		int start, count;
+
+		@Override
+		public Void call () {
+			try {
+				for (int i = 0; i < controllers.size; ++i)
+					update(controllers.get(i), false);
+				for (int i = 0; i < emitters.size; ++i)
+					update(emitters.get(i), true);
+				// The influencers of a range don't draw random values, see Influencer#update(int, int)
+				if (range != null) range.updateInfluencers(start, count);
+			} finally {
+				controllers.clear();
+				emitters.clear();
+				range = null;
+			}
+			return null;
+		}
+
+		private void update (ParticleController controller, boolean emitterOnly) {
+			Random previous = controller.random;
+			controller.random = random;
+			try {
+				if (emitterOnly)
+					controller.updateEmitter(taskDeltaTime);
+				else
+					controller.update(taskDeltaTime);
+			} finally {
+				controller.random = previous;
+			}
+		}
+	}
 }
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.particles.batches;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.attributes.BlendingAttribute;
+import com.badlogic.gdx.graphics.g3d.attributes.DepthTestAttribute;
+import com.badlogic.gdx.graphics.g3d.particles.GpuParticleController;
+import com.badlogic.gdx.graphics.g3d.particles.GpuParticleShader;
+import com.badlogic.gdx.graphics.g3d.particles.ResourceData;
+import com.badlogic.gdx.graphics.g3d.particles.renderers.GpuParticleControllerRenderData;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.Pool;
+
+/** This class is used to draw the particles of {@link GpuParticleController}s as point sprites. Each controller is drawn with a
+ * single draw call straight from its vertex buffer: the renderables have no mesh, the controller is their
+ * {@link Renderable#userData} and they are rendered by the {@link GpuParticleShader} of the batch. By default the particles are
+ * blended additively and the depth buffer is tested but not written, see {@link #material}. */
+public class GpuParticleBatch implements ParticleBatch<GpuParticleControllerRenderData>, Disposable {
+	/** The material of all the renderables. */
+	public final Material material = new Material(new BlendingAttribute(GL20.GL_SRC_ALPHA, GL20.GL_ONE, 1f),
+		new DepthTestAttribute(GL20.GL_LEQUAL, false));
+	private final Array<GpuParticleControllerRenderData> renderData = new Array<GpuParticleControllerRenderData>(false, 5);
+	private final GpuParticleShader shader;
+
+	public GpuParticleBatch () {
+		shader = new GpuParticleShader();
+		shader.init();
+	}
+
+	@Override
+	public void begin () {
+		renderData.clear();
+	}
+
+	@Override
+	public void draw (GpuParticleControllerRenderData data) {
+		renderData.add(data);
+	}
+
+	@Override
+	public void end () {
+	}
+
+	@Override
+	public void getRenderables (Array<Renderable> renderables, Pool<Renderable> pool) {
+		for (int i = 0; i < renderData.size; i++) {
+			GpuParticleController controller = (GpuParticleController)renderData.get(i).controller;
+			Renderable renderable = pool.obtain();
+			renderable.meshPart.set("", null, 0, controller.simulation.capacity, GL20.GL_POINTS);
+			// Sorted by the position of the emitter
+			renderable.meshPart.center.set(controller.simulation.position);
+			renderable.worldTransform.idt();
+			renderable.material = material;
+			renderable.environment = null;
+			renderable.bones = null;
+			renderable.shader = shader;
+			renderable.userData = controller;
+			renderables.add(renderable);
+		}
+	}
+
+	public GpuParticleShader getShader () {
+		return shader;
+	}
+
+	@Override
+	public void save (AssetManager manager, ResourceData assetDependencyData) {
+	}
+
+	@Override
+	public void load (AssetManager manager, ResourceData assetDependencyData) {
+	}
+
+	@Override
+	public void dispose () {
+		shader.dispose();
+	}
+}
@@ -16,6 +16,8 @@
 
 package com.badlogic.gdx.graphics.g3d.particles.influencers;
 
+import java.util.Random;
+
 import com.badlogic.gdx.graphics.g3d.particles.ParallelArray.FloatChannel;
 import com.badlogic.gdx.graphics.g3d.particles.ParticleChannels;
 import com.badlogic.gdx.graphics.g3d.particles.ParticleControllerComponent;
@@ -32,8 +34,8 @@ import com.badlogic.gdx.utils.JsonValue;
  * {@link DynamicsInfluencer} .
  * @author Inferno */
 public abstract class DynamicsModifier extends Influencer {
-	protected static final Vector3 TMP_V1 = new Vector3(), TMP_V2 = new Vector3(), TMP_V3 = new Vector3();
-	protected static final Quaternion TMP_Q = new Quaternion();
+	protected final Vector3 TMP_V1 = new Vector3(), TMP_V2 = new Vector3(), TMP_V3 = new Vector3();
+	protected final Quaternion TMP_Q = new Quaternion();
 
 	public static class FaceDirection extends DynamicsModifier {
 		FloatChannel rotationChannel, accellerationChannel;
@@ -98,8 +100,8 @@ public abstract class DynamicsModifier extends Influencer {
 		public void activateParticles (int startIndex, int count) {
 			float start, diff;
 			for (int i = startIndex * strengthChannel.strideSize, c = i + count * strengthChannel.strideSize; i < c; i += strengthChannel.strideSize) {
-				start = strengthValue.newLowValue();
-				diff = strengthValue.newHighValue();
+				start = strengthValue.newLowValue(controller.random);
+				diff = strengthValue.newHighValue(controller.random);
 				if (!strengthValue.isRelative()) diff -= start;
 				strengthChannel.data[i + ParticleChannels.VelocityStrengthStartOffset] = start;
 				strengthChannel.data[i + ParticleChannels.VelocityStrengthDiffOffset] = diff;
@@ -153,15 +155,15 @@ public abstract class DynamicsModifier extends Influencer {
 			for (int i = startIndex * angularChannel.strideSize, c = i + count * angularChannel.strideSize; i < c; i += angularChannel.strideSize) {
 
 				// Theta
-				start = thetaValue.newLowValue();
-				diff = thetaValue.newHighValue();
+				start = thetaValue.newLowValue(controller.random);
+				diff = thetaValue.newHighValue(controller.random);
 				if (!thetaValue.isRelative()) diff -= start;
 				angularChannel.data[i + ParticleChannels.VelocityThetaStartOffset] = start;
 				angularChannel.data[i + ParticleChannels.VelocityThetaDiffOffset] = diff;
 
 				// Phi
-				start = phiValue.newLowValue();
-				diff = phiValue.newHighValue();
+				start = phiValue.newLowValue(controller.random);
+				diff = phiValue.newHighValue(controller.random);
 				if (!phiValue.isRelative()) diff -= start;
 				angularChannel.data[i + ParticleChannels.VelocityPhiStartOffset] = start;
 				angularChannel.data[i + ParticleChannels.VelocityPhiDiffOffset] = diff;
@@ -462,13 +464,14 @@ public abstract class DynamicsModifier extends Influencer {
 
 		@Override
 		public void update () {
+			final Random random = controller.random;
 			int lifeOffset = ParticleChannels.LifePercentOffset, strengthOffset = 0, forceOffset = 0;
 			for (int i = 0, c = controller.particles.size; i < c; ++i, strengthOffset += strengthChannel.strideSize, forceOffset += accelerationChannel.strideSize, lifeOffset += lifeChannel.strideSize) {
 
 				float strength = strengthChannel.data[strengthOffset + ParticleChannels.VelocityStrengthStartOffset]
 					+ strengthChannel.data[strengthOffset + ParticleChannels.VelocityStrengthDiffOffset]
 					* strengthValue.getScale(lifeChannel.data[lifeOffset]);
-				TMP_V3.set(MathUtils.random(-1, 1f), MathUtils.random(-1, 1f), MathUtils.random(-1, 1f)).nor().scl(strength);
+				TMP_V3.set(-1 + random.nextFloat() * 2, -1 + random.nextFloat() * 2, -1 + random.nextFloat() * 2).nor().scl(strength);
 				accelerationChannel.data[forceOffset + ParticleChannels.XOffset] += TMP_V3.x;
 				accelerationChannel.data[forceOffset + ParticleChannels.YOffset] += TMP_V3.y;
 				accelerationChannel.data[forceOffset + ParticleChannels.ZOffset] += TMP_V3.z;
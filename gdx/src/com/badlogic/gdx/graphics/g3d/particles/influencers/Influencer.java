@@ -16,6 +16,7 @@
 
 package com.badlogic.gdx.graphics.g3d.particles.influencers;
 
+import com.badlogic.gdx.graphics.g3d.particles.ParticleController;
 import com.badlogic.gdx.graphics.g3d.particles.ParticleControllerComponent;
 
 /** It's a {@link ParticleControllerComponent} which usually modifies one or more properties of the particles(i.e color, scale,
@@ -23,4 +24,16 @@ import com.badlogic.gdx.graphics.g3d.particles.ParticleControllerComponent;
  * @author Inferno */
 public abstract class Influencer extends ParticleControllerComponent {
 
+	/** @return whether {@link #update(int, int)} only touches the data of the particles inside the given range, so that disjoint
+	 *         ranges of the same controller can be updated concurrently. */
+	public boolean isRangeUpdateSupported () {
+		return false;
+	}
+
+	/** Updates the particles in the range [startIndex, startIndex + count). Only called when {@link #isRangeUpdateSupported()}
+	 * returns true, the default implementation updates all the particles. Several ranges of the same controller may be updated
+	 * concurrently, so this method must not draw from {@link ParticleController#random}. */
+	public void update (int startIndex, int count) {
+		update();
+	}
 }
@@ -66,6 +66,7 @@ public class ParticleControllerFinalizerInfluencer extends Influencer {
 			particleController.setTransform(positionChannel.data[positionOffset + ParticleChannels.XOffset],
 				positionChannel.data[positionOffset + ParticleChannels.YOffset], positionChannel.data[positionOffset
 					+ ParticleChannels.ZOffset], qx, qy, qz, qw, scale);
+			particleController.random = controller.random;
 			particleController.update();
 		}
 	}
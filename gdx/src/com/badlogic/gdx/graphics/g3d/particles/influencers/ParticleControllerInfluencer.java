@@ -62,7 +62,9 @@ public abstract class ParticleControllerInfluencer extends Influencer {
 		@Override
 		public void activateParticles (int startIndex, int count) {
 			for (int i = startIndex, c = startIndex + count; i < c; ++i) {
-				particleControllerChannel.data[i].start();
+				ParticleController particleController = particleControllerChannel.data[i];
+				particleController.random = controller.random;
+				particleController.start();
 			}
 		}
 
@@ -87,7 +89,7 @@ public abstract class ParticleControllerInfluencer extends Influencer {
 
 			@Override
 			public ParticleController newObject () {
-				ParticleController controller = templates.random().copy();
+				ParticleController controller = templates.get(Random.this.controller.random.nextInt(templates.size)).copy();
 				controller.init();
 				return controller;
 			}
@@ -137,9 +139,10 @@ public abstract class ParticleControllerInfluencer extends Influencer {
 		@Override
 		public void activateParticles (int startIndex, int count) {
 			for (int i = startIndex, c = startIndex + count; i < c; ++i) {
-				ParticleController controller = pool.obtain();
-				controller.start();
-				particleControllerChannel.data[i] = controller;
+				ParticleController particleController = pool.obtain();
+				particleController.random = controller.random;
+				particleController.start();
+				particleControllerChannel.data[i] = particleController;
 			}
 		}
 
@@ -61,6 +61,11 @@ public abstract class RegionInfluencer extends Influencer {
 			}
 		}
 
+		@Override
+		public boolean isRangeUpdateSupported () {
+			return true;
+		}
+
 		@Override
 		public Single copy () {
 			return new Single(this);
@@ -87,7 +92,7 @@ public abstract class RegionInfluencer extends Influencer {
 		@Override
 		public void activateParticles (int startIndex, int count) {
 			for (int i = startIndex * regionChannel.strideSize, c = i + count * regionChannel.strideSize; i < c; i += regionChannel.strideSize) {
-				AspectTextureRegion region = regions.random();
+				AspectTextureRegion region = regions.get(controller.random.nextInt(regions.size));
 				regionChannel.data[i + ParticleChannels.UOffset] = region.u;
 				regionChannel.data[i + ParticleChannels.VOffset] = region.v;
 				regionChannel.data[i + ParticleChannels.U2Offset] = region.u2;
@@ -97,6 +102,11 @@ public abstract class RegionInfluencer extends Influencer {
 			}
 		}
 
+		@Override
+		public boolean isRangeUpdateSupported () {
+			return true;
+		}
+
 		@Override
 		public Random copy () {
 			return new Random(this);
@@ -131,7 +141,18 @@ public abstract class RegionInfluencer extends Influencer {
 
 		@Override
 		public void update () {
-			for (int i = 0, l = ParticleChannels.LifePercentOffset, c = controller.particles.size * regionChannel.strideSize; i < c; i += regionChannel.strideSize, l += lifeChannel.strideSize) {
+			update(0, controller.particles.size);
+		}
+
+		@Override
+		public boolean isRangeUpdateSupported () {
+			return true;
+		}
+
+		@Override
+		public void update (int startIndex, int count) {
+			for (int i = startIndex * regionChannel.strideSize, l = startIndex * lifeChannel.strideSize
+				+ ParticleChannels.LifePercentOffset, c = i + count * regionChannel.strideSize; i < c; i += regionChannel.strideSize, l += lifeChannel.strideSize) {
 				AspectTextureRegion region = regions.get((int)(lifeChannel.data[l] * (regions.size - 1)));
 				regionChannel.data[i + ParticleChannels.UOffset] = region.u;
 				regionChannel.data[i + ParticleChannels.VOffset] = region.v;
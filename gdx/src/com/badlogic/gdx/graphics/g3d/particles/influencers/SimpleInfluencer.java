@@ -60,8 +60,8 @@ public abstract class SimpleInfluencer extends Influencer {
 		if (!value.isRelative()) {
 			for (int i = startIndex * valueChannel.strideSize, a = startIndex * interpolationChannel.strideSize, c = i + count
 				* valueChannel.strideSize; i < c; i += valueChannel.strideSize, a += interpolationChannel.strideSize) {
-				float start = value.newLowValue();
-				float diff = value.newHighValue() - start;
+				float start = value.newLowValue(controller.random);
+				float diff = value.newHighValue(controller.random) - start;
 				interpolationChannel.data[a + ParticleChannels.InterpolationStartOffset] = start;
 				interpolationChannel.data[a + ParticleChannels.InterpolationDiffOffset] = diff;
 				valueChannel.data[i] = start + diff * value.getScale(0);
@@ -69,8 +69,8 @@ public abstract class SimpleInfluencer extends Influencer {
 		} else {
 			for (int i = startIndex * valueChannel.strideSize, a = startIndex * interpolationChannel.strideSize, c = i + count
 				* valueChannel.strideSize; i < c; i += valueChannel.strideSize, a += interpolationChannel.strideSize) {
-				float start = value.newLowValue();
-				float diff = value.newHighValue();
+				float start = value.newLowValue(controller.random);
+				float diff = value.newHighValue(controller.random);
 				interpolationChannel.data[a + ParticleChannels.InterpolationStartOffset] = start;
 				interpolationChannel.data[a + ParticleChannels.InterpolationDiffOffset] = diff;
 				valueChannel.data[i] = start + diff * value.getScale(0);
@@ -80,7 +80,18 @@ public abstract class SimpleInfluencer extends Influencer {
 
 	@Override
 	public void update () {
-		for (int i = 0, a = 0, l = ParticleChannels.LifePercentOffset, c = i + controller.particles.size * valueChannel.strideSize; i < c; i += valueChannel.strideSize, a += interpolationChannel.strideSize, l += lifeChannel.strideSize) {
+		update(0, controller.particles.size);
+	}
+
+	@Override
+	public boolean isRangeUpdateSupported () {
+		return true;
+	}
+
+	@Override
+	public void update (int startIndex, int count) {
+		for (int i = startIndex * valueChannel.strideSize, a = startIndex * interpolationChannel.strideSize, l = startIndex
+			* lifeChannel.strideSize + ParticleChannels.LifePercentOffset, c = i + count * valueChannel.strideSize; i < c; i += valueChannel.strideSize, a += interpolationChannel.strideSize, l += lifeChannel.strideSize) {
 
 			valueChannel.data[i] = interpolationChannel.data[a + ParticleChannels.InterpolationStartOffset]
 				+ interpolationChannel.data[a + ParticleChannels.InterpolationDiffOffset] * value.getScale(lifeChannel.data[l]);
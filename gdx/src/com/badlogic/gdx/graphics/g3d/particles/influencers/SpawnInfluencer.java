@@ -58,13 +58,13 @@ public class SpawnInfluencer extends Influencer {
 
 	@Override
 	public void start () {
-		spawnShapeValue.start();
+		spawnShapeValue.start(controller.random);
 	}
 
 	@Override
 	public void activateParticles (int startIndex, int count) {
 		for (int i = startIndex * positionChannel.strideSize, c = i + count * positionChannel.strideSize; i < c; i += positionChannel.strideSize) {
-			spawnShapeValue.spawn(TMP_V1, controller.emitter.percent);
+			spawnShapeValue.spawn(TMP_V1, controller.emitter.percent, controller.random);
 			TMP_V1.mul(controller.transform);
 			positionChannel.data[i + ParticleChannels.XOffset] = TMP_V1.x;
 			positionChannel.data[i + ParticleChannels.YOffset] = TMP_V1.y;
@@ -79,6 +79,11 @@ public class SpawnInfluencer extends Influencer {
 		}
 	}
 
+	@Override
+	public boolean isRangeUpdateSupported () {
+		return true;
+	}
+
 	@Override
 	public SpawnInfluencer copy () {
 		return new SpawnInfluencer(this);
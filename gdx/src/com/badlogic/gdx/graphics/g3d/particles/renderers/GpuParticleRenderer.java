@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.particles.renderers;
+
+import com.badlogic.gdx.graphics.g3d.particles.GpuParticleController;
+import com.badlogic.gdx.graphics.g3d.particles.ParticleControllerComponent;
+import com.badlogic.gdx.graphics.g3d.particles.batches.GpuParticleBatch;
+import com.badlogic.gdx.graphics.g3d.particles.batches.ParticleBatch;
+
+/** A {@link ParticleControllerRenderer} which renders the particles of a {@link GpuParticleController} as point sprites to a
+ * {@link GpuParticleBatch}. */
+public class GpuParticleRenderer extends ParticleControllerRenderer<GpuParticleControllerRenderData, GpuParticleBatch> {
+	public GpuParticleRenderer () {
+		super(new GpuParticleControllerRenderData());
+	}
+
+	public GpuParticleRenderer (GpuParticleBatch batch) {
+		this();
+		setBatch(batch);
+	}
+
+	@Override
+	public boolean isCompatible (ParticleBatch<?> batch) {
+		return batch instanceof GpuParticleBatch;
+	}
+
+	@Override
+	public ParticleControllerComponent copy () {
+		return new GpuParticleRenderer(batch);
+	}
+}
@@ -16,6 +16,8 @@
 
 package com.badlogic.gdx.graphics.g3d.particles.values;
 
+import java.util.Random;
+
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Json;
@@ -36,6 +38,11 @@ public final class EllipseSpawnShapeValue extends PrimitiveSpawnShapeValue {
 
 	@Override
 	public void spawnAux (Vector3 vector, float percent) {
+		spawnAux(vector, percent, MathUtils.random);
+	}
+
+	@Override
+	public void spawnAux (Vector3 vector, float percent, Random random) {
 		// Generate the point on the surface of the sphere
 		float width = spawnWidth + spawnWidthDiff * spawnWidthValue.getScale(percent);
 		float height = spawnHeight + spawnHeightDiff * spawnHeightValue.getScale(percent);
@@ -49,7 +56,7 @@ public final class EllipseSpawnShapeValue extends PrimitiveSpawnShapeValue {
 		} else if (side == SpawnSide.bottom) {
 			maxT = -MathUtils.PI;
 		}
-		float t = MathUtils.random(minT, maxT);
+		float t = minT + random.nextFloat() * (maxT - minT);
 
 		// Where generate the point, on edges or inside ?
 		if (edges) {
@@ -70,12 +77,12 @@ public final class EllipseSpawnShapeValue extends PrimitiveSpawnShapeValue {
 			radiusY = height / 2;
 			radiusZ = depth / 2;
 		} else {
-			radiusX = MathUtils.random(width / 2);
-			radiusY = MathUtils.random(height / 2);
-			radiusZ = MathUtils.random(depth / 2);
+			radiusX = random.nextFloat() * (width / 2);
+			radiusY = random.nextFloat() * (height / 2);
+			radiusZ = random.nextFloat() * (depth / 2);
 		}
 
-		float z = MathUtils.random(-1, 1f);
+		float z = -1 + random.nextFloat() * 2;
 		float r = (float)Math.sqrt(1f - z * z);
 		vector.set(radiusX * r * MathUtils.cos(t), radiusY * r * MathUtils.sin(t), radiusZ * z);
 	}
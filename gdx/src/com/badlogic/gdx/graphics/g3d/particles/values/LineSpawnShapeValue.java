@@ -16,6 +16,8 @@
 
 package com.badlogic.gdx.graphics.g3d.particles.values;
 
+import java.util.Random;
+
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector3;
 
@@ -33,11 +35,16 @@ public final class LineSpawnShapeValue extends PrimitiveSpawnShapeValue {
 
 	@Override
 	public void spawnAux (Vector3 vector, float percent) {
+		spawnAux(vector, percent, MathUtils.random);
+	}
+
+	@Override
+	public void spawnAux (Vector3 vector, float percent, Random random) {
 		float width = spawnWidth + (spawnWidthDiff * spawnWidthValue.getScale(percent));
 		float height = spawnHeight + (spawnHeightDiff * spawnHeightValue.getScale(percent));
 		float depth = spawnDepth + (spawnDepthDiff * spawnDepthValue.getScale(percent));
 
-		float a = MathUtils.random();
+		float a = random.nextFloat();
 		vector.x = a * width;
 		vector.y = a * height;
 		vector.z = a * depth;
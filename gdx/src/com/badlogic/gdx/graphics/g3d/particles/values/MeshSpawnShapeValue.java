@@ -16,6 +16,8 @@
 
 package com.badlogic.gdx.graphics.g3d.particles.values;
 
+import java.util.Random;
+
 import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Mesh;
@@ -47,13 +49,22 @@ public abstract class MeshSpawnShapeValue extends SpawnShapeValue {
 
 		public static Vector3 pick (float x1, float y1, float z1, float x2, float y2, float z2, float x3, float y3, float z3,
 			Vector3 vector) {
-			float a = MathUtils.random(), b = MathUtils.random();
+			return pick(x1, y1, z1, x2, y2, z2, x3, y3, z3, vector, MathUtils.random);
+		}
+
+		public static Vector3 pick (float x1, float y1, float z1, float x2, float y2, float z2, float x3, float y3, float z3,
+			Vector3 vector, Random random) {
+			float a = random.nextFloat(), b = random.nextFloat();
 			return vector.set(x1 + a * (x2 - x1) + b * (x3 - x1), y1 + a * (y2 - y1) + b * (y3 - y1), z1 + a * (z2 - z1) + b
 				* (z3 - z1));
 		}
 
 		public Vector3 pick (Vector3 vector) {
-			float a = MathUtils.random(), b = MathUtils.random();
+			return pick(vector, MathUtils.random);
+		}
+
+		public Vector3 pick (Vector3 vector, Random random) {
+			float a = random.nextFloat(), b = random.nextFloat();
 			return vector.set(x1 + a * (x2 - x1) + b * (x3 - x1), y1 + a * (y2 - y1) + b * (y3 - y1), z1 + a * (z2 - z1) + b
 				* (z3 - z1));
 		}
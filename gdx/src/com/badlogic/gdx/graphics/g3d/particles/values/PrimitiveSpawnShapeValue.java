@@ -16,6 +16,9 @@
 
 package com.badlogic.gdx.graphics.g3d.particles.values;
 
+import java.util.Random;
+
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
@@ -84,16 +87,21 @@ public abstract class PrimitiveSpawnShapeValue extends SpawnShapeValue {
 
 	@Override
 	public void start () {
-		spawnWidth = spawnWidthValue.newLowValue();
-		spawnWidthDiff = spawnWidthValue.newHighValue();
+		start(MathUtils.random);
+	}
+
+	@Override
+	public void start (Random random) {
+		spawnWidth = spawnWidthValue.newLowValue(random);
+		spawnWidthDiff = spawnWidthValue.newHighValue(random);
 		if (!spawnWidthValue.isRelative()) spawnWidthDiff -= spawnWidth;
 
-		spawnHeight = spawnHeightValue.newLowValue();
-		spawnHeightDiff = spawnHeightValue.newHighValue();
+		spawnHeight = spawnHeightValue.newLowValue(random);
+		spawnHeightDiff = spawnHeightValue.newHighValue(random);
 		if (!spawnHeightValue.isRelative()) spawnHeightDiff -= spawnHeight;
 
-		spawnDepth = spawnDepthValue.newLowValue();
-		spawnDepthDiff = spawnDepthValue.newHighValue();
+		spawnDepth = spawnDepthValue.newLowValue(random);
+		spawnDepthDiff = spawnDepthValue.newHighValue(random);
 		if (!spawnDepthValue.isRelative()) spawnDepthDiff -= spawnDepth;
 	}
 
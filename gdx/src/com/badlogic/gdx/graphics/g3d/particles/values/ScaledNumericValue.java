@@ -16,6 +16,8 @@
 
 package com.badlogic.gdx.graphics.g3d.particles.values;
 
+import java.util.Random;
+
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
@@ -29,7 +31,12 @@ public class ScaledNumericValue extends RangedNumericValue {
 	private boolean relative = false;
 
 	public float newHighValue () {
-		return highMin + (highMax - highMin) * MathUtils.random();
+		return newHighValue(MathUtils.random);
+	}
+
+	/** @return a random value between the high bounds, drawn from the specified generator */
+	public float newHighValue (Random random) {
+		return highMin + (highMax - highMin) * random.nextFloat();
 	}
 
 	public void setHigh (float value) {
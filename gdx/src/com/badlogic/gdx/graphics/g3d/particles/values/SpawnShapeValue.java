@@ -16,8 +16,12 @@
 
 package com.badlogic.gdx.graphics.g3d.particles.values;
 
+import java.util.Random;
+
 import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.g3d.particles.ParticleController;
 import com.badlogic.gdx.graphics.g3d.particles.ResourceData;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Json;
 import com.badlogic.gdx.utils.JsonValue;
@@ -40,11 +44,22 @@ public abstract class SpawnShapeValue extends ParticleValue implements ResourceD
 
 	public abstract void spawnAux (Vector3 vector, float percent);
 
-	public final Vector3 spawn (Vector3 vector, float percent) {
+	/** Same as {@link #spawnAux(Vector3, float)}, but draws the random values from the specified generator (see
+	 * {@link ParticleController#random}). The default implementation ignores the generator and calls
+	 * {@link #spawnAux(Vector3, float)}. */
+	public void spawnAux (Vector3 vector, float percent, Random random) {
 		spawnAux(vector, percent);
-		if (xOffsetValue.active) vector.x += xOffsetValue.newLowValue();
-		if (yOffsetValue.active) vector.y += yOffsetValue.newLowValue();
-		if (zOffsetValue.active) vector.z += zOffsetValue.newLowValue();
+	}
+
+	public final Vector3 spawn (Vector3 vector, float percent) {
+		return spawn(vector, percent, MathUtils.random);
+	}
+
+	public final Vector3 spawn (Vector3 vector, float percent, Random random) {
+		spawnAux(vector, percent, random);
+		if (xOffsetValue.active) vector.x += xOffsetValue.newLowValue(random);
+		if (yOffsetValue.active) vector.y += yOffsetValue.newLowValue(random);
+		if (zOffsetValue.active) vector.z += zOffsetValue.newLowValue(random);
 		return vector;
 	}
 
@@ -54,6 +69,12 @@ public abstract class SpawnShapeValue extends ParticleValue implements ResourceD
 	public void start () {
 	}
 
+	/** Same as {@link #start()}, but draws the random values from the specified generator. The default implementation ignores the
+	 * generator and calls {@link #start()}. */
+	public void start (Random random) {
+		start();
+	}
+
 	@Override
 	public void load (ParticleValue value) {
 		super.load(value);
@@ -16,6 +16,8 @@
 
 package com.badlogic.gdx.graphics.g3d.particles.values;
 
+import java.util.Random;
+
 import com.badlogic.gdx.graphics.VertexAttributes;
 import com.badlogic.gdx.graphics.VertexAttributes.Usage;
 import com.badlogic.gdx.math.CumulativeDistribution;
@@ -82,8 +84,13 @@ public final class WeightMeshSpawnShapeValue extends MeshSpawnShapeValue {
 
 	@Override
 	public void spawnAux (Vector3 vector, float percent) {
-		Triangle t = distribution.value();
-		float a = MathUtils.random(), b = MathUtils.random();
+		spawnAux(vector, percent, MathUtils.random);
+	}
+
+	@Override
+	public void spawnAux (Vector3 vector, float percent, Random random) {
+		Triangle t = distribution.value(random.nextFloat());
+		float a = random.nextFloat(), b = random.nextFloat();
 		vector.set(t.x1 + a * (t.x2 - t.x1) + b * (t.x3 - t.x1), t.y1 + a * (t.y2 - t.y1) + b * (t.y3 - t.y1), t.z1 + a
 			* (t.z2 - t.z1) + b * (t.z3 - t.z1));
 	}
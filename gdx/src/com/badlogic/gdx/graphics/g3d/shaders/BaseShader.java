@@ -111,6 +111,11 @@ public abstract class BaseShader implements Shader {
 	public RenderContext context;
 	public Camera camera;
 	private Mesh currentMesh;
+	/** The last value of each uniform set using one of the set methods, 16 floats and 4 ints per uniform. */
+	private float[] cachedFloats;
+	private int[] cachedInts;
+	private boolean[] cached;
+	private boolean uniformCaching = true;
 
 	/** Register an uniform which might be used by this shader. Only possible prior to the call to init().
 	 * @return The ID of the uniform to use in this shader. */
@@ -169,6 +174,9 @@ public abstract class BaseShader implements Shader {
 
 		final int n = uniforms.size;
 		locations = new int[n];
+		cachedFloats = new float[n * 16];
+		cachedInts = new int[n * 4];
+		cached = new boolean[n];
 		for (int i = 0; i < n; i++) {
 			final String input = uniforms.get(i);
 			final Validator validator = validators.get(i);
@@ -206,6 +214,7 @@ public abstract class BaseShader implements Shader {
 		this.context = context;
 		program.bind();
 		currentMesh = null;
+		invalidateUniformCache();
 		for (int u, i = 0; i < globalUniforms.size; ++i)
 			if (setters.get(u = globalUniforms.get(i)) != null) setters.get(u).set(this, u, null, null);
 	}
@@ -241,6 +250,12 @@ public abstract class BaseShader implements Shader {
 			currentMesh = renderable.meshPart.mesh;
 			currentMesh.bind(program, getAttributeLocations(renderable.meshPart.mesh.getVertexAttributes()));
 		}
+		draw(renderable);
+	}
+
+	/** Issues the actual draw call for the renderable, called after all uniforms are set and the mesh is bound. Override this to
+	 * change how the {@link Renderable#meshPart} is drawn, e.g. to draw multiple instances at once. */
+	protected void draw (final Renderable renderable) {
 		renderable.meshPart.render(program, false);
 	}
 
@@ -261,6 +276,74 @@ public abstract class BaseShader implements Shader {
 		localUniforms.clear();
 		globalUniforms.clear();
 		locations = null;
+		cachedFloats = null;
+		cachedInts = null;
+		cached = null;
+	}
+
+	/** Sets whether the set methods should compare the value of a uniform with the value previously set in between the calls to
+	 * {@link #begin(Camera, RenderContext)} and {@link #end()}, and skip the GL call when it didn't change. Enabled by default.
+	 * When enabled and the value of a uniform is changed directly on the {@link #program} instead of using one of the set methods,
+	 * then {@link #invalidateUniformCache()} must be called. */
+	public void setUniformCaching (boolean enabled) {
+		uniformCaching = enabled;
+		invalidateUniformCache();
+	}
+
+	/** @return Whether redundant uniform changes are skipped, see {@link #setUniformCaching(boolean)}. */
+	public boolean isUniformCaching () {
+		return uniformCaching;
+	}
+
+	/** Forgets the values previously set using one of the set methods, causing the next call to set the value of each uniform. This
+	 * is done automatically on {@link #begin(Camera, RenderContext)}. */
+	public void invalidateUniformCache () {
+		if (cached == null) return;
+		for (int i = 0; i < cached.length; i++)
+			cached[i] = false;
+	}
+
+	/** @return True if the values differ from the cached values of the uniform, in which case the cache is updated. */
+	private boolean changed (final int uniform, final float[] values, final int offset, final int count) {
+		if (!uniformCaching) return true;
+		final int o = uniform * 16;
+		if (cached[uniform]) {
+			int i = 0;
+			while (i < count && cachedFloats[o + i] == values[offset + i])
+				i++;
+			if (i == count) return false;
+		}
+		System.arraycopy(values, offset, cachedFloats, o, count);
+		cached[uniform] = true;
+		return true;
+	}
+
+	/** @return True if the values differ from the cached values of the uniform, in which case the cache is updated. */
+	private boolean changed (final int uniform, final float v1, final float v2, final float v3, final float v4) {
+		if (!uniformCaching) return true;
+		final int o = uniform * 16;
+		if (cached[uniform] && cachedFloats[o] == v1 && cachedFloats[o + 1] == v2 && cachedFloats[o + 2] == v3
+			&& cachedFloats[o + 3] == v4) return false;
+		cachedFloats[o] = v1;
+		cachedFloats[o + 1] = v2;
+		cachedFloats[o + 2] = v3;
+		cachedFloats[o + 3] = v4;
+		cached[uniform] = true;
+		return true;
+	}
+
+	/** @return True if the values differ from the cached values of the uniform, in which case the cache is updated. */
+	private boolean changed (final int uniform, final int v1, final int v2, final int v3, final int v4) {
+		if (!uniformCaching) return true;
+		final int o = uniform * 4;
+		if (cached[uniform] && cachedInts[o] == v1 && cachedInts[o + 1] == v2 && cachedInts[o + 2] == v3 && cachedInts[o + 3] == v4)
+			return false;
+		cachedInts[o] = v1;
+		cachedInts[o + 1] = v2;
+		cachedInts[o + 2] = v3;
+		cachedInts[o + 3] = v4;
+		cached[uniform] = true;
+		return true;
 	}
 
 	/** Whether this Shader instance implements the specified uniform, only valid after a call to init(). */
@@ -274,91 +357,106 @@ public abstract class BaseShader implements Shader {
 
 	public final boolean set (final int uniform, final Matrix4 value) {
 		if (locations[uniform] < 0) return false;
+		if (!changed(uniform, value.val, 0, 16)) return true;
 		program.setUniformMatrix(locations[uniform], value);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final Matrix3 value) {
 		if (locations[uniform] < 0) return false;
+		if (!changed(uniform, value.val, 0, 9)) return true;
 		program.setUniformMatrix(locations[uniform], value);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final Vector3 value) {
 		if (locations[uniform] < 0) return false;
+		if (!changed(uniform, value.x, value.y, value.z, 0f)) return true;
 		program.setUniformf(locations[uniform], value);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final Vector2 value) {
 		if (locations[uniform] < 0) return false;
+		if (!changed(uniform, value.x, value.y, 0f, 0f)) return true;
 		program.setUniformf(locations[uniform], value);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final Color value) {
 		if (locations[uniform] < 0) return false;
+		if (!changed(uniform, value.r, value.g, value.b, value.a)) return true;
 		program.setUniformf(locations[uniform], value);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final float value) {
 		if (locations[uniform] < 0) return false;
+		if (!changed(uniform, value, 0f, 0f, 0f)) return true;
 		program.setUniformf(locations[uniform], value);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final float v1, final float v2) {
 		if (locations[uniform] < 0) return false;
+		if (!changed(uniform, v1, v2, 0f, 0f)) return true;
 		program.setUniformf(locations[uniform], v1, v2);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final float v1, final float v2, final float v3) {
 		if (locations[uniform] < 0) return false;
+		if (!changed(uniform, v1, v2, v3, 0f)) return true;
 		program.setUniformf(locations[uniform], v1, v2, v3);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final float v1, final float v2, final float v3, final float v4) {
 		if (locations[uniform] < 0) return false;
+		if (!changed(uniform, v1, v2, v3, v4)) return true;
 		program.setUniformf(locations[uniform], v1, v2, v3, v4);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final int value) {
 		if (locations[uniform] < 0) return false;
+		if (!changed(uniform, value, 0, 0, 0)) return true;
 		program.setUniformi(locations[uniform], value);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final int v1, final int v2) {
 		if (locations[uniform] < 0) return false;
+		if (!changed(uniform, v1, v2, 0, 0)) return true;
 		program.setUniformi(locations[uniform], v1, v2);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final int v1, final int v2, final int v3) {
 		if (locations[uniform] < 0) return false;
+		if (!changed(uniform, v1, v2, v3, 0)) return true;
 		program.setUniformi(locations[uniform], v1, v2, v3);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final int v1, final int v2, final int v3, final int v4) {
 		if (locations[uniform] < 0) return false;
+		if (!changed(uniform, v1, v2, v3, v4)) return true;
 		program.setUniformi(locations[uniform], v1, v2, v3, v4);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final TextureDescriptor textureDesc) {
 		if (locations[uniform] < 0) return false;
-		program.setUniformi(locations[uniform], context.textureBinder.bind(textureDesc));
+		final int unit = context.textureBinder.bind(textureDesc);
+		if (changed(uniform, unit, 0, 0, 0)) program.setUniformi(locations[uniform], unit);
 		return true;
 	}
 
 	public final boolean set (final int uniform, final GLTexture texture) {
 		if (locations[uniform] < 0) return false;
-		program.setUniformi(locations[uniform], context.textureBinder.bind(texture));
+		final int unit = context.textureBinder.bind(texture);
+		if (changed(uniform, unit, 0, 0, 0)) program.setUniformi(locations[uniform], unit);
 		return true;
 	}
 }
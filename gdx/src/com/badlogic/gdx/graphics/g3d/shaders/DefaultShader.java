@@ -37,8 +37,10 @@ import com.badlogic.gdx.graphics.g3d.attributes.PointLightsAttribute;
 import com.badlogic.gdx.graphics.g3d.attributes.SpotLightsAttribute;
 import com.badlogic.gdx.graphics.g3d.attributes.TextureAttribute;
 import com.badlogic.gdx.graphics.g3d.environment.AmbientCubemap;
+import com.badlogic.gdx.graphics.g3d.environment.CascadedShadowMap;
 import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
 import com.badlogic.gdx.graphics.g3d.environment.PointLight;
+import com.badlogic.gdx.graphics.g3d.environment.ShadowMap;
 import com.badlogic.gdx.graphics.g3d.environment.SpotLight;
 import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
@@ -468,6 +470,9 @@ public class DefaultShader extends BaseShader {
 	protected final int u_shadowMapProjViewTrans = register(new Uniform("u_shadowMapProjViewTrans"));
 	protected final int u_shadowTexture = register(new Uniform("u_shadowTexture"));
 	protected final int u_shadowPCFOffset = register(new Uniform("u_shadowPCFOffset"));
+	protected final int u_shadowMapCascadeProjViewTrans = register(new Uniform("u_shadowMapCascadeProjViewTrans"));
+	protected final int u_shadowMapCascadeSplits = register(new Uniform("u_shadowMapCascadeSplits"));
+	protected final int u_shadowStaticTexture = register(new Uniform("u_shadowStaticTexture"));
 	// FIXME Cache vertex attribute locations...
 
 	protected int dirLightsLoc;
@@ -491,6 +496,10 @@ public class DefaultShader extends BaseShader {
 	protected final boolean lighting;
 	protected final boolean environmentCubemap;
 	protected final boolean shadowMap;
+	/** The number of cascades of the {@link CascadedShadowMap} the shader was created for, or 0 if not cascaded. */
+	protected final int shadowMapCascades;
+	/** Whether the shader samples the {@link CascadedShadowMap#getStaticDepthMap() static depth map} of the cascades. */
+	protected final boolean shadowMapStatic;
 	protected final AmbientCubemap ambientCubemap = new AmbientCubemap();
 	protected final DirectionalLight directionalLights[];
 	protected final PointLight pointLights[];
@@ -531,6 +540,10 @@ public class DefaultShader extends BaseShader {
 		this.environmentCubemap = attributes.has(CubemapAttribute.EnvironmentMap)
 			|| (lighting && attributes.has(CubemapAttribute.EnvironmentMap));
 		this.shadowMap = lighting && renderable.environment.shadowMap != null;
+		final CascadedShadowMap cascaded = shadowMap && renderable.environment.shadowMap instanceof CascadedShadowMap
+			? (CascadedShadowMap)renderable.environment.shadowMap : null;
+		this.shadowMapCascades = cascaded != null ? cascaded.getCascadeCount() : 0;
+		this.shadowMapStatic = cascaded != null && cascaded.getStaticDepthMap() != null;
 		this.renderable = renderable;
 		attributesMask = attributes.getMask() | optionalAttributes;
 		vertexMask = renderable.meshPart.mesh.getVertexAttributes().getMaskWithSizePacked();
@@ -667,6 +680,11 @@ public class DefaultShader extends BaseShader {
 					prefix += "#define fogFlag\n";
 				}
 				if (renderable.environment.shadowMap != null) prefix += "#define shadowMapFlag\n";
+				if (renderable.environment.shadowMap instanceof CascadedShadowMap) {
+					final CascadedShadowMap cascaded = (CascadedShadowMap)renderable.environment.shadowMap;
+					prefix += "#define numCascades " + cascaded.getCascadeCount() + "\n";
+					if (cascaded.getStaticDepthMap() != null) prefix += "#define shadowMapStaticFlag\n";
+				}
 				if (attributes.has(CubemapAttribute.EnvironmentMap)) prefix += "#define environmentCubemapFlag\n";
 			}
 		}
@@ -723,7 +741,16 @@ public class DefaultShader extends BaseShader {
 	public boolean canRender (final Renderable renderable) {
 		final long renderableMask = combineAttributeMasks(renderable);
 		return (attributesMask == (renderableMask | optionalAttributes))
-			&& (vertexMask == renderable.meshPart.mesh.getVertexAttributes().getMaskWithSizePacked()) && (renderable.environment != null) == lighting;
+			&& (vertexMask == renderable.meshPart.mesh.getVertexAttributes().getMaskWithSizePacked()) && (renderable.environment != null) == lighting
+			&& canRender(lighting ? renderable.environment.shadowMap : null);
+	}
+
+	/** @return Whether the shadow map matches the shadow map (and cascades) this shader was created for. */
+	protected boolean canRender (final ShadowMap shadowMap) {
+		if ((shadowMap != null) != this.shadowMap) return false;
+		if (!(shadowMap instanceof CascadedShadowMap)) return shadowMapCascades == 0;
+		final CascadedShadowMap cascaded = (CascadedShadowMap)shadowMap;
+		return cascaded.getCascadeCount() == shadowMapCascades && (cascaded.getStaticDepthMap() != null) == shadowMapStatic;
 	}
 
 	@Override
@@ -886,7 +913,18 @@ public class DefaultShader extends BaseShader {
 		if (lights != null && lights.shadowMap != null) {
 			set(u_shadowMapProjViewTrans, lights.shadowMap.getProjViewTrans());
 			set(u_shadowTexture, lights.shadowMap.getDepthMap());
-			set(u_shadowPCFOffset, 1.f / (2f * lights.shadowMap.getDepthMap().texture.getWidth()));
+			if (lights.shadowMap instanceof CascadedShadowMap) {
+				final CascadedShadowMap cascaded = (CascadedShadowMap)lights.shadowMap;
+				// Half a texel of the tile of a cascade, the shader divides the horizontal offset by the number of cascades
+				set(u_shadowPCFOffset, 1.f / (2f * lights.shadowMap.getDepthMap().texture.getHeight()));
+				final float[] splits = cascaded.getCascadeSplits();
+				if (has(u_shadowMapCascadeProjViewTrans))
+					program.setUniformMatrix4fv(loc(u_shadowMapCascadeProjViewTrans), cascaded.getCascadeProjViewTrans(), 0,
+						cascaded.getCascadeCount() * 16);
+				set(u_shadowMapCascadeSplits, splits[0], splits[1], splits[2], splits[3]);
+				if (cascaded.getStaticDepthMap() != null) set(u_shadowStaticTexture, cascaded.getStaticDepthMap());
+			} else
+				set(u_shadowPCFOffset, 1.f / (2f * lights.shadowMap.getDepthMap().texture.getWidth()));
 		}
 
 		lightsSet = true;
@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.graphics.g3d.shaders;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g3d.Attributes;
+import com.badlogic.gdx.graphics.g3d.InstancedShader;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.model.MeshPart;
+import com.badlogic.gdx.graphics.glutils.InstanceBufferObject;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix3;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+
+/** A {@link DefaultShader} which reads the world transform and the normal matrix from per-instance vertex attributes
+ * ({@link #worldTransAlias} and {@link #normalMatrixAlias}) instead of the u_worldTrans and u_normalMatrix uniforms. This allows to render a group of {@link Renderable}s, which only differ in their
+ * {@link Renderable#worldTransform}, using a single glDrawElementsInstanced call. The world transforms are written to an
+ * {@link InstanceBufferObject}, groups larger than the maximum number of instances are split in multiple draw calls.</p>
+ * 
+ * Uniforms which depend on the world transform (like the ambient cubemap) are based on the first renderable of the group.
+ * Skinned renderables are not supported. Requires OpenGL ES 3.0. */
+public class InstancedDefaultShader extends DefaultShader implements InstancedShader {
+	/** The alias of the per-instance world transform attribute, a mat4 occupying four consecutive attribute locations. */
+	public final static String worldTransAlias = "a_worldTrans";
+	/** The alias of the per-instance normal matrix attribute (the inverse transpose of the upper 3x3 of the world transform), a
+	 * mat3 occupying three consecutive attribute locations. */
+	public final static String normalMatrixAlias = "a_normalMatrix";
+	/** The number of floats per instance */
+	public final static int instanceSize = 16 + 9;
+
+	/** @return The per-instance {@link VertexAttributes}, containing the four columns of the world transform followed by the
+	 *         three columns of the normal matrix. */
+	public static VertexAttributes createInstanceAttributes () {
+		return new VertexAttributes(new VertexAttribute(Usage.Generic, 4, worldTransAlias, 0), new VertexAttribute(Usage.Generic,
+			4, worldTransAlias, 1), new VertexAttribute(Usage.Generic, 4, worldTransAlias, 2), new VertexAttribute(Usage.Generic, 4,
+			worldTransAlias, 3), new VertexAttribute(Usage.Generic, 3, normalMatrixAlias, 0), new VertexAttribute(Usage.Generic, 3,
+			normalMatrixAlias, 1), new VertexAttribute(Usage.Generic, 3, normalMatrixAlias, 2));
+	}
+
+	/** The maximum number of instances rendered using a single draw call */
+	public final int maxInstances;
+	private final InstanceBufferObject instances;
+	private final float[] transforms;
+	private final Attributes combinedAttributes = new Attributes();
+	private int numInstances;
+	private final Matrix3 normalMatrix = new Matrix3();
+	private int worldTransLoc = -1, normalMatrixLoc = -1;
+
+	public InstancedDefaultShader (final Renderable renderable, final int maxInstances) {
+		this(renderable, new Config(), maxInstances);
+	}
+
+	public InstancedDefaultShader (final Renderable renderable, final Config config, final int maxInstances) {
+		this(renderable, config, createPrefix(renderable, config), maxInstances);
+	}
+
+	public InstancedDefaultShader (final Renderable renderable, final Config config, final String prefix,
+		final int maxInstances) {
+		super(renderable, config, prefix + "#define instancedFlag\n");
+		this.maxInstances = maxInstances;
+		this.transforms = new float[maxInstances * instanceSize];
+		this.instances = new InstanceBufferObject(false, maxInstances, createInstanceAttributes());
+	}
+
+	@Override
+	public void init () {
+		super.init();
+		worldTransLoc = program.getAttributeLocation(worldTransAlias);
+		normalMatrixLoc = program.getAttributeLocation(normalMatrixAlias);
+	}
+
+	@Override
+	public boolean canRender (final Renderable renderable) {
+		return renderable.bones == null && !renderable.meshPart.mesh.isInstanced() && super.canRender(renderable);
+	}
+
+	@Override
+	public void render (final Renderable renderable) {
+		if (renderable.worldTransform.det3x3() == 0) return;
+		setInstance(0, renderable.worldTransform);
+		numInstances = 1;
+		renderInstances(renderable);
+	}
+
+	@Override
+	public void render (final Array<Renderable> renderables, final int offset, final int count) {
+		final Renderable first = renderables.get(offset);
+		for (int i = 0; i < count;) {
+			numInstances = 0;
+			while (i < count && numInstances < maxInstances) {
+				final Matrix4 transform = renderables.get(offset + i++).worldTransform;
+				if (transform.det3x3() == 0) continue;
+				setInstance(numInstances++, transform);
+			}
+			if (numInstances > 0) renderInstances(first);
+		}
+	}
+
+	private void setInstance (final int index, final Matrix4 worldTransform) {
+		final int offset = index * instanceSize;
+		System.arraycopy(worldTransform.val, 0, transforms, offset, 16);
+		if (normalMatrixLoc >= 0)
+			System.arraycopy(normalMatrix.set(worldTransform).inv().transpose().val, 0, transforms, offset + 16, 9);
+	}
+
+	private void renderInstances (final Renderable renderable) {
+		instances.setInstanceData(transforms, 0, numInstances * instanceSize);
+		combinedAttributes.clear();
+		if (renderable.environment != null) combinedAttributes.set(renderable.environment);
+		if (renderable.material != null) combinedAttributes.set(renderable.material);
+		render(renderable, combinedAttributes);
+	}
+
+	@Override
+	protected void draw (final Renderable renderable) {
+		final MeshPart meshPart = renderable.meshPart;
+		final ShaderProgram program = this.program;
+		instances.bind(program);
+		if (meshPart.mesh.getNumIndices() > 0)
+			Gdx.gl30.glDrawElementsInstanced(meshPart.primitiveType, meshPart.size, GL20.GL_UNSIGNED_SHORT, meshPart.offset * 2,
+				numInstances);
+		else
+			Gdx.gl30.glDrawArraysInstanced(meshPart.primitiveType, meshPart.offset, meshPart.size, numInstances);
+		instances.unbind(program);
+		// Reset the divisors, the locations might be used for per vertex attributes by another shader using the same VAO
+		if (worldTransLoc >= 0) for (int i = 0; i < 4; i++)
+			Gdx.gl30.glVertexAttribDivisor(worldTransLoc + i, 0);
+		if (normalMatrixLoc >= 0) for (int i = 0; i < 3; i++)
+			Gdx.gl30.glVertexAttribDivisor(normalMatrixLoc + i, 0);
+	}
+
+	@Override
+	public void dispose () {
+		instances.dispose();
+		super.dispose();
+	}
+}
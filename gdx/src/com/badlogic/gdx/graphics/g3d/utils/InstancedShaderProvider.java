@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.Shader;
+import com.badlogic.gdx.graphics.g3d.shaders.DefaultShader;
+import com.badlogic.gdx.graphics.g3d.shaders.InstancedDefaultShader;
+
+/** Provides {@link InstancedDefaultShader} instances, to be used with {@link ModelBatch#setInstancedShaderProvider(ShaderProvider)}.
+ * Requires OpenGL ES 3.0. */
+public class InstancedShaderProvider extends BaseShaderProvider {
+	public final DefaultShader.Config config;
+	/** The maximum number of instances each shader renders using a single draw call */
+	public final int maxInstances;
+
+	public InstancedShaderProvider (final DefaultShader.Config config, final int maxInstances) {
+		this.config = (config == null) ? new DefaultShader.Config() : config;
+		this.maxInstances = maxInstances;
+	}
+
+	public InstancedShaderProvider (final DefaultShader.Config config) {
+		this(config, 1024);
+	}
+
+	public InstancedShaderProvider () {
+		this(null);
+	}
+
+	@Override
+	protected Shader createShader (final Renderable renderable) {
+		return new InstancedDefaultShader(renderable, config, maxInstances);
+	}
+}
@@ -50,7 +50,8 @@ import com.badlogic.gdx.utils.ShortArray;
 /** Class to construct a mesh, optionally splitting it into one or more mesh parts. Before you can call any other method you must
  * call {@link #begin(VertexAttributes)} or {@link #begin(VertexAttributes, int)}. To use mesh parts you must call
  * {@link #part(String, int)} before you start building the part. The MeshPart itself is only valid after the call to
- * {@link #end()}.
+ * {@link #end()}. A MeshBuilder doesn't share any state with other instances, therefore different instances can be used
+ * concurrently on different threads, as long as the methods which access a {@link Mesh} are called on the rendering thread.
  * @author Xoppa */
 public class MeshBuilder implements MeshPartBuilder {
 	/** maximum number of vertices mesh builder can hold (64k) */
@@ -58,8 +59,8 @@ public class MeshBuilder implements MeshPartBuilder {
 	/** highest index mesh builder can get (64k - 1) */
 	public static final int MAX_INDEX = MAX_VERTICES - 1;
 
-	private final static ShortArray tmpIndices = new ShortArray();
-	private final static FloatArray tmpVertices = new FloatArray();
+	private final ShortArray tmpIndices = new ShortArray();
+	private final FloatArray tmpVertices = new FloatArray();
 
 	private final VertexInfo vertTmp1 = new VertexInfo();
 	private final VertexInfo vertTmp2 = new VertexInfo();
@@ -262,6 +263,27 @@ public class MeshBuilder implements MeshPartBuilder {
 		return mesh;
 	}
 
+	/** End building the mesh without creating or updating a {@link Mesh}. The built vertices and indices are appended to the end of
+	 * the specified arrays, which are not cleared. The indices are not rebased: they start at zero for the first vertex appended by
+	 * this call, so if verticesOut wasn't empty they must be offset by its previous size divided by the vertex size in floats to
+	 * index the combined array. Likewise, the {@link MeshPart#offset} of each part is relative to the first index appended by this
+	 * call. The {@link MeshPart#mesh} member of the parts is left untouched. This method doesn't access any GL resources and can
+	 * therefore be called from any thread.
+	 * @param verticesOut The array the vertices are appended to
+	 * @param indicesOut The array the indices are appended to */
+	public void end (FloatArray verticesOut, ShortArray indicesOut) {
+		endpart();
+
+		if (attributes == null) throw new GdxRuntimeException("Call begin() first");
+		verticesOut.addAll(vertices);
+		indicesOut.addAll(indices);
+
+		parts.clear();
+		attributes = null;
+		vertices.clear();
+		indices.clear();
+	}
+
 	/** End building the mesh and returns the mesh */
 	public Mesh end () {
 		return end(new Mesh(true, vertices.size / stride, indices.size, attributes));
@@ -477,9 +499,9 @@ public class MeshBuilder implements MeshPartBuilder {
 		return (short)lastIndex;
 	}
 
-	private final static Vector3 vTmp = new Vector3();
+	private final Vector3 vTmp = new Vector3();
 
-	private final static void transformPosition (final float[] values, final int offset, final int size, Matrix4 transform) {
+	private final void transformPosition (final float[] values, final int offset, final int size, Matrix4 transform) {
 		if (size > 2) {
 			vTmp.set(values[offset], values[offset + 1], values[offset + 2]).mul(transform);
 			values[offset] = vTmp.x;
@@ -493,7 +515,7 @@ public class MeshBuilder implements MeshPartBuilder {
 			values[offset] = vTmp.set(values[offset], 0, 0).mul(transform).x;
 	}
 
-	private final static void transformNormal (final float[] values, final int offset, final int size, Matrix3 transform) {
+	private final void transformNormal (final float[] values, final int offset, final int size, Matrix3 transform) {
 		if (size > 2) {
 			vTmp.set(values[offset], values[offset + 1], values[offset + 2]).mul(transform).nor();
 			values[offset] = vTmp.x;
@@ -764,7 +786,7 @@ public class MeshBuilder implements MeshPartBuilder {
 		addMesh(tmpVertices.items, tmpIndices.items, 0, numIndices);
 	}
 
-	private static IntIntMap indicesMap = null;
+	private IntIntMap indicesMap = null;
 
 	@Override
 	public void addMesh (float[] vertices, short[] indices, int indexOffset, int numIndices) {
@@ -0,0 +1,248 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.model.LodGroup;
+import com.badlogic.gdx.graphics.g3d.model.MeshPart;
+import com.badlogic.gdx.graphics.g3d.model.Node;
+import com.badlogic.gdx.graphics.g3d.model.NodePart;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/** Generates simplified versions of triangle meshes, typically used as the lower levels of a {@link LodGroup}. The simplification
+ * uses vertex clustering: the bounds of the shape are divided into a uniform grid and all vertices within the same grid cell are
+ * merged into a single vertex, removing the triangles which collapse. The position of the merged vertex is the average of the
+ * positions of the vertices in the cell, all other attributes are taken from the first vertex in the cell. This is fast and
+ * robust, but doesn't preserve sharp features or texture seams as well as more advanced methods. */
+public class MeshSimplifier {
+	/** The maximum grid size along each axis */
+	public static final int MAX_GRID_SIZE = 1024;
+
+	private final IntIntMap cellToCluster = new IntIntMap();
+	private final IntIntMap vertexToCluster = new IntIntMap();
+	private final IntArray clusterVertex = new IntArray();
+	private final IntArray clusterCount = new IntArray();
+	private float[] clusterPosition = new float[0];
+	private float[] vertex = new float[0];
+	private int[] output = new int[0];
+	private float minX, minY, minZ, invCellSize;
+
+	/** Simplifies the triangles specified by the indices and adds the result to the builder, which must have the same vertex
+	 * attributes as the vertices. The grid size is chosen such that the number of remaining vertices is at most the specified
+	 * ratio of the number of referenced vertices (if possible).
+	 * @param builder The builder to receive the simplified triangles, must be building a part of {@link GL20#GL_TRIANGLES}.
+	 * @param vertices The source vertices
+	 * @param indices The source indices
+	 * @param offset The offset of the first index to simplify
+	 * @param count The number of indices to simplify, must be a multiple of three
+	 * @param ratio The maximum number of remaining vertices relative to the number of referenced vertices, between 0 and 1.
+	 * @return The number of vertices added to the builder */
+	public int simplify (final MeshPartBuilder builder, final float[] vertices, final short[] indices, final int offset,
+		final int count, final float ratio) {
+		final VertexAttributes attributes = builder.getAttributes();
+		final VertexAttribute position = attributes.findByUsage(Usage.Position);
+		if (position == null || position.numComponents != 3)
+			throw new GdxRuntimeException("Cannot simplify without a three component position attribute");
+		final int stride = attributes.vertexSize / 4;
+		final int posOffset = position.offset / 4;
+
+		minX = minY = minZ = Float.MAX_VALUE;
+		float maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE, maxZ = -Float.MAX_VALUE;
+		vertexToCluster.clear();
+		for (int i = offset, n = offset + count; i < n; i++) {
+			final int v = indices[i] & 0xFFFF;
+			if (vertexToCluster.containsKey(v)) continue;
+			vertexToCluster.put(v, -1);
+			final int o = v * stride + posOffset;
+			minX = Math.min(minX, vertices[o]);
+			minY = Math.min(minY, vertices[o + 1]);
+			minZ = Math.min(minZ, vertices[o + 2]);
+			maxX = Math.max(maxX, vertices[o]);
+			maxY = Math.max(maxY, vertices[o + 1]);
+			maxZ = Math.max(maxZ, vertices[o + 2]);
+		}
+		final int numVertices = vertexToCluster.size;
+		if (numVertices == 0) return 0;
+		final float extent = Math.max(maxX - minX, Math.max(maxY - minY, maxZ - minZ));
+		final int target = Math.max(3, (int)(numVertices * ratio));
+
+		// Binary search the largest grid size which doesn't exceed the target number of vertices
+		int low = 1, high = MAX_GRID_SIZE, best = 1;
+		while (low <= high) {
+			final int gridSize = (low + high) >>> 1;
+			if (cluster(vertices, indices, offset, count, stride, posOffset, extent, gridSize) <= target) {
+				best = gridSize;
+				low = gridSize + 1;
+			} else
+				high = gridSize - 1;
+		}
+		final int numClusters = cluster(vertices, indices, offset, count, stride, posOffset, extent, best);
+
+		// Average the positions of each cluster
+		if (clusterPosition.length < numClusters * 3) clusterPosition = new float[numClusters * 3];
+		for (int i = 0; i < numClusters * 3; i++)
+			clusterPosition[i] = 0f;
+		for (IntIntMap.Entry entry : vertexToCluster) {
+			final int o = entry.key * stride + posOffset;
+			final int c = entry.value * 3;
+			clusterPosition[c] += vertices[o];
+			clusterPosition[c + 1] += vertices[o + 1];
+			clusterPosition[c + 2] += vertices[o + 2];
+		}
+
+		// Add the triangles which didn't collapse, adding the vertex of each cluster when it's first used
+		if (output.length < numClusters) output = new int[numClusters];
+		for (int i = 0; i < numClusters; i++)
+			output[i] = -1;
+		if (vertex.length < stride) vertex = new float[stride];
+		int added = 0;
+		builder.ensureIndices(count);
+		for (int i = offset, n = offset + count - 2; i < n; i += 3) {
+			final int c0 = vertexToCluster.get(indices[i] & 0xFFFF, 0);
+			final int c1 = vertexToCluster.get(indices[i + 1] & 0xFFFF, 0);
+			final int c2 = vertexToCluster.get(indices[i + 2] & 0xFFFF, 0);
+			if (c0 == c1 || c1 == c2 || c2 == c0) continue;
+			if (output[c0] < 0) {
+				output[c0] = addVertex(builder, vertices, stride, posOffset, c0);
+				added++;
+			}
+			if (output[c1] < 0) {
+				output[c1] = addVertex(builder, vertices, stride, posOffset, c1);
+				added++;
+			}
+			if (output[c2] < 0) {
+				output[c2] = addVertex(builder, vertices, stride, posOffset, c2);
+				added++;
+			}
+			builder.index((short)output[c0], (short)output[c1], (short)output[c2]);
+		}
+		return added;
+	}
+
+	/** @return The unsigned index of the added vertex */
+	private int addVertex (final MeshPartBuilder builder, final float[] vertices, final int stride, final int posOffset,
+		final int cluster) {
+		System.arraycopy(vertices, clusterVertex.get(cluster) * stride, vertex, 0, stride);
+		final float scale = 1f / clusterCount.get(cluster);
+		vertex[posOffset] = clusterPosition[cluster * 3] * scale;
+		vertex[posOffset + 1] = clusterPosition[cluster * 3 + 1] * scale;
+		vertex[posOffset + 2] = clusterPosition[cluster * 3 + 2] * scale;
+		return builder.vertex(vertex) & 0xFFFF;
+	}
+
+	/** Assigns each referenced vertex to a cluster using the specified grid size.
+	 * @return The number of clusters */
+	private int cluster (final float[] vertices, final short[] indices, final int offset, final int count, final int stride,
+		final int posOffset, final float extent, final int gridSize) {
+		invCellSize = extent > 0f ? gridSize / extent : 0f;
+		cellToCluster.clear();
+		vertexToCluster.clear();
+		clusterVertex.clear();
+		clusterCount.clear();
+		for (int i = offset, n = offset + count; i < n; i++) {
+			final int v = indices[i] & 0xFFFF;
+			if (vertexToCluster.containsKey(v)) continue;
+			final int o = v * stride + posOffset;
+			final int x = Math.min((int)((vertices[o] - minX) * invCellSize), gridSize - 1);
+			final int y = Math.min((int)((vertices[o + 1] - minY) * invCellSize), gridSize - 1);
+			final int z = Math.min((int)((vertices[o + 2] - minZ) * invCellSize), gridSize - 1);
+			final int cell = x + gridSize * (y + gridSize * z);
+			int cluster = cellToCluster.get(cell, -1);
+			if (cluster < 0) {
+				cluster = clusterVertex.size;
+				cellToCluster.put(cell, cluster);
+				clusterVertex.add(v);
+				clusterCount.add(0);
+			}
+			vertexToCluster.put(v, cluster);
+			clusterCount.incr(cluster, 1);
+		}
+		return clusterVertex.size;
+	}
+
+	/** Generates the lower levels of detail for every non-skinned {@link GL20#GL_TRIANGLES} {@link NodePart} of the model which
+	 * doesn't have a {@link NodePart#lodGroup} yet. The simplified parts of all parts sharing the same {@link Mesh} are stored
+	 * in one or more new meshes, which are added to and managed by the model. The current vertices of the meshes are used, so
+	 * this must be called before creating any {@link com.badlogic.gdx.graphics.g3d.ModelInstance} of the model.
+	 * @param model The model to generate the levels of detail for.
+	 * @param thresholds The minimum screen size of each level (see {@link LodGroup}), the first value is for the original part.
+	 * @param ratios The vertex ratio of each simplified level relative to the original part, must have one value less than the
+	 *           thresholds. */
+	public void generateLods (final Model model, final float[] thresholds, final float[] ratios) {
+		if (ratios.length != thresholds.length - 1)
+			throw new GdxRuntimeException("There must be one more threshold than ratios");
+		final ObjectMap<Mesh, Array<NodePart>> parts = new ObjectMap<Mesh, Array<NodePart>>();
+		for (final Node node : model.nodes)
+			collectParts(node, parts);
+
+		final MeshBuilder builder = new MeshBuilder();
+		for (final ObjectMap.Entry<Mesh, Array<NodePart>> entry : parts) {
+			final Mesh mesh = entry.key;
+			final VertexAttributes attributes = mesh.getVertexAttributes();
+			final float[] vertices = mesh.getVertices(new float[mesh.getNumVertices() * attributes.vertexSize / 4]);
+			final short[] indices = new short[mesh.getNumIndices()];
+			mesh.getIndices(indices);
+
+			builder.begin(attributes, GL20.GL_TRIANGLES);
+			for (final NodePart nodePart : entry.value) {
+				final MeshPart source = nodePart.meshPart;
+				final LodGroup lodGroup = new LodGroup().add(source, thresholds[0]);
+				for (int i = 0; i < ratios.length; i++) {
+					if (builder.getNumVertices() + Math.min(source.size, mesh.getNumVertices()) > MeshBuilder.MAX_VERTICES) {
+						addMesh(model, builder.end());
+						builder.begin(attributes, GL20.GL_TRIANGLES);
+					}
+					final MeshPart part = builder.part(source.id + "_lod" + (i + 1), GL20.GL_TRIANGLES);
+					simplify(builder, vertices, indices, source.offset, source.size, ratios[i]);
+					model.meshParts.add(part);
+					lodGroup.add(part, thresholds[i + 1]);
+				}
+				nodePart.lodGroup = lodGroup;
+				nodePart.lodLevel = 0;
+			}
+			addMesh(model, builder.end());
+		}
+	}
+
+	private static void addMesh (final Model model, final Mesh mesh) {
+		model.meshes.add(mesh);
+		model.manageDisposable(mesh);
+	}
+
+	private static void collectParts (final Node node, final ObjectMap<Mesh, Array<NodePart>> out) {
+		for (final NodePart nodePart : node.parts) {
+			if (nodePart.bones != null || nodePart.invBoneBindTransforms != null || nodePart.lodGroup != null) continue;
+			final MeshPart meshPart = nodePart.meshPart;
+			if (meshPart.primitiveType != GL20.GL_TRIANGLES || meshPart.mesh.getNumIndices() <= 0) continue;
+			Array<NodePart> parts = out.get(meshPart.mesh);
+			if (parts == null) out.put(meshPart.mesh, parts = new Array<NodePart>());
+			parts.add(nodePart);
+		}
+		for (final Node child : node.getChildren())
+			collectParts(child, out);
+	}
+}
@@ -18,6 +18,7 @@ package com.badlogic.gdx.graphics.glutils;
 
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Mesh.VertexDataType;
 import com.badlogic.gdx.graphics.VertexAttribute;
 import com.badlogic.gdx.graphics.VertexAttributes.Usage;
 import com.badlogic.gdx.math.Matrix4;
@@ -57,12 +58,20 @@ public class ImmediateModeRenderer20 implements ImmediateModeRenderer {
 
 	public ImmediateModeRenderer20 (int maxVertices, boolean hasNormals, boolean hasColors, int numTexCoords,
 		ShaderProgram shader) {
+		this(maxVertices, hasNormals, hasColors, numTexCoords, shader, null);
+	}
+
+	/** @param vertexDataType The type of the vertex data of the mesh, null for the default one. On GL30
+	 *           {@link VertexDataType#VertexBufferObjectRing} avoids stalls when flushing many times per frame. */
+	public ImmediateModeRenderer20 (int maxVertices, boolean hasNormals, boolean hasColors, int numTexCoords,
+		ShaderProgram shader, VertexDataType vertexDataType) {
 		this.maxVertices = maxVertices;
 		this.numTexCoords = numTexCoords;
 		this.shader = shader;
 
 		VertexAttribute[] attribs = buildVertexAttributes(hasNormals, hasColors, numTexCoords);
-		mesh = new Mesh(false, maxVertices, 0, attribs);
+		mesh = vertexDataType == null ? new Mesh(false, maxVertices, 0, attribs)
+			: new Mesh(vertexDataType, false, maxVertices, 0, attribs);
 
 		vertices = new float[maxVertices * (mesh.getVertexAttributes().vertexSize / 4)];
 		vertexSize = mesh.getVertexAttributes().vertexSize / 4;
@@ -0,0 +1,269 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.glutils;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.Application.ApplicationType;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.IntArray;
+
+/** A {@link VertexData} implementation for dynamic geometry on GL30, such as the vertices of a batch which are replaced many
+ * times per frame. The vertex buffer object is a ring {@link #getRingSize()} times larger than the vertices: each upload is
+ * written after the previous one, and the whole storage is orphaned with glBufferData when the ring wraps around. The attribute
+ * pointers of the vertex array object are moved to the uploaded region.
+ * <p>
+ * The region is written through glMapBufferRange with GL_MAP_UNSYNCHRONIZED_BIT, so the driver neither waits for the draw calls
+ * still using the ring nor copies the vertices to a staging buffer. WebGL has no buffer mapping, the region is written with
+ * glBufferSubData there. Like the other {@link VertexData} implementations, the vertices are first copied to a client side
+ * buffer by {@link #setVertices(float[], int, int)}.
+ * <p>
+ * Vertices are uploaded when this VertexData is bound, or immediately if it already is.
+ * <p>
+ * If the OpenGL ES context was lost you can call {@link #invalidate()} to recreate the buffer. Instances must be disposed via
+ * {@link #dispose()} when no longer needed. */
+public class VertexBufferObjectRing implements VertexData {
+	final static IntBuffer tmpHandle = BufferUtils.newIntBuffer(1);
+
+	final VertexAttributes attributes;
+	final FloatBuffer buffer;
+	final ByteBuffer byteBuffer;
+	final int ringSize;
+	final int capacity;
+	final boolean mapBuffer;
+	int bufferHandle;
+	int vaoHandle = -1;
+	/** The byte offset in the vertex buffer object at which the next upload is written. */
+	int writeOffset;
+	/** The byte offset of the region the attribute pointers point to, -1 if they must be set. */
+	int boundOffset = -1;
+	int uploadedOffset;
+	boolean isDirty = false;
+	boolean isBound = false;
+	ShaderProgram boundShader;
+	int[] boundLocations;
+	IntArray cachedLocations = new IntArray();
+
+	/** Creates a ring of 4 times numVertices vertices. */
+	public VertexBufferObjectRing (int numVertices, VertexAttribute... attributes) {
+		this(numVertices, 4, new VertexAttributes(attributes));
+	}
+
+	/** @param numVertices the maximum number of vertices uploaded at once
+	 * @param ringSize the amount of uploads of numVertices the ring can hold before being orphaned */
+	public VertexBufferObjectRing (int numVertices, int ringSize, VertexAttributes attributes) {
+		if (ringSize < 1) throw new IllegalArgumentException("ringSize must be > 0");
+		this.attributes = attributes;
+		this.ringSize = ringSize;
+		byteBuffer = BufferUtils.newByteBuffer(attributes.vertexSize * numVertices);
+		buffer = byteBuffer.asFloatBuffer();
+		buffer.flip();
+		byteBuffer.flip();
+		capacity = byteBuffer.capacity() * ringSize;
+		mapBuffer = Gdx.app.getType() != ApplicationType.WebGL;
+		createBuffer();
+	}
+
+	/** @return the amount of uploads of {@link #getNumMaxVertices()} vertices the ring can hold before being orphaned. */
+	public int getRingSize () {
+		return ringSize;
+	}
+
+	@Override
+	public VertexAttributes getAttributes () {
+		return attributes;
+	}
+
+	@Override
+	public int getNumVertices () {
+		return buffer.limit() * 4 / attributes.vertexSize;
+	}
+
+	@Override
+	public int getNumMaxVertices () {
+		return byteBuffer.capacity() / attributes.vertexSize;
+	}
+
+	@Override
+	public FloatBuffer getBuffer () {
+		isDirty = true;
+		return buffer;
+	}
+
+	@Override
+	public void setVertices (float[] vertices, int offset, int count) {
+		isDirty = true;
+		BufferUtils.copy(vertices, byteBuffer, count, offset);
+		buffer.position(0);
+		buffer.limit(count);
+		if (isBound) uploadBound();
+	}
+
+	/** Updates a part of the vertices, note that all of them are uploaded again as they are written to a new region of the
+	 * ring. */
+	@Override
+	public void updateVertices (int targetOffset, float[] vertices, int sourceOffset, int count) {
+		isDirty = true;
+		final int pos = byteBuffer.position();
+		byteBuffer.position(targetOffset * 4);
+		BufferUtils.copy(vertices, sourceOffset, count, byteBuffer);
+		byteBuffer.position(pos);
+		buffer.position(0);
+		if (isBound) uploadBound();
+	}
+
+	@Override
+	public void bind (ShaderProgram shader) {
+		bind(shader, null);
+	}
+
+	@Override
+	public void bind (ShaderProgram shader, int[] locations) {
+		Gdx.gl30.glBindVertexArray(vaoHandle);
+		isBound = true;
+		boundShader = shader;
+		boundLocations = locations;
+		if (isDirty) upload();
+		bindAttributes(shader, locations);
+	}
+
+	/** Uploads the vertices while bound, the attribute pointers are moved to the new region right away. */
+	private void uploadBound () {
+		upload();
+		bindAttributes(boundShader, boundLocations);
+	}
+
+	/** Writes the vertices after the previously uploaded ones, orphaning the storage if they don't fit. */
+	private void upload () {
+		GL30 gl = Gdx.gl30;
+		int bytes = buffer.limit() * 4;
+		byteBuffer.limit(bytes);
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
+		if (writeOffset + bytes > capacity) {
+			gl.glBufferData(GL20.GL_ARRAY_BUFFER, capacity, null, GL20.GL_STREAM_DRAW);
+			writeOffset = 0;
+		}
+		if (bytes > 0 && !(mapBuffer && write(gl, bytes)))
+			gl.glBufferSubData(GL20.GL_ARRAY_BUFFER, writeOffset, bytes, byteBuffer);
+		uploadedOffset = writeOffset;
+		// Keep the regions aligned on vertices
+		int vertexSize = attributes.vertexSize;
+		writeOffset += (bytes + vertexSize - 1) / vertexSize * vertexSize;
+		isDirty = false;
+	}
+
+	/** Writes the vertices to the mapped region at the write offset. The region hasn't been used since the storage was orphaned,
+	 * so the mapping doesn't have to be synchronized with the pending draw calls.
+	 * @return false if the region couldn't be mapped or its content was lost, it must be written with glBufferSubData then. */
+	private boolean write (GL30 gl, int bytes) {
+		ByteBuffer region = (ByteBuffer)gl.glMapBufferRange(GL20.GL_ARRAY_BUFFER, writeOffset, bytes,
+			GL30.GL_MAP_WRITE_BIT | GL30.GL_MAP_INVALIDATE_RANGE_BIT | GL30.GL_MAP_UNSYNCHRONIZED_BIT);
+		if (region == null) return false;
+		region.put(byteBuffer);
+		byteBuffer.position(0);
+		return gl.glUnmapBuffer(GL20.GL_ARRAY_BUFFER);
+	}
+
+	private void bindAttributes (ShaderProgram shader, int[] locations) {
+		boolean stillValid = cachedLocations.size != 0 && boundOffset == uploadedOffset;
+		final int numAttributes = attributes.size();
+		if (stillValid) {
+			if (locations == null) {
+				for (int i = 0; stillValid && i < numAttributes; i++)
+					stillValid = shader.getAttributeLocation(attributes.get(i).alias) == cachedLocations.get(i);
+			} else {
+				stillValid = locations.length == cachedLocations.size;
+				for (int i = 0; stillValid && i < numAttributes; i++)
+					stillValid = locations[i] == cachedLocations.get(i);
+			}
+		}
+		if (stillValid) return;
+
+		Gdx.gl20.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
+		for (int i = 0; i < cachedLocations.size; i++) {
+			int location = cachedLocations.get(i);
+			if (location >= 0) shader.disableVertexAttribute(location);
+		}
+		cachedLocations.clear();
+		for (int i = 0; i < numAttributes; i++) {
+			VertexAttribute attribute = attributes.get(i);
+			int location = locations == null ? shader.getAttributeLocation(attribute.alias) : locations[i];
+			cachedLocations.add(location);
+			if (location < 0) continue;
+			shader.enableVertexAttribute(location);
+			shader.setVertexAttribute(location, attribute.numComponents, attribute.type, attribute.normalized,
+				attributes.vertexSize, uploadedOffset + attribute.offset);
+		}
+		boundOffset = uploadedOffset;
+	}
+
+	@Override
+	public void unbind (ShaderProgram shader) {
+		unbind(shader, null);
+	}
+
+	@Override
+	public void unbind (ShaderProgram shader, int[] locations) {
+		Gdx.gl30.glBindVertexArray(0);
+		isBound = false;
+		boundShader = null;
+		boundLocations = null;
+	}
+
+	/** Invalidates the VertexBufferObjectRing so a new OpenGL buffer handle is created. Use this in case of a context loss. */
+	@Override
+	public void invalidate () {
+		createBuffer();
+		cachedLocations.clear();
+		isDirty = true;
+	}
+
+	private void createBuffer () {
+		GL30 gl = Gdx.gl30;
+		bufferHandle = gl.glGenBuffer();
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
+		gl.glBufferData(GL20.GL_ARRAY_BUFFER, capacity, null, GL20.GL_STREAM_DRAW);
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		writeOffset = 0;
+		boundOffset = -1;
+		tmpHandle.clear();
+		gl.glGenVertexArrays(1, tmpHandle);
+		vaoHandle = tmpHandle.get();
+	}
+
+	@Override
+	public void dispose () {
+		GL30 gl = Gdx.gl30;
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		gl.glDeleteBuffer(bufferHandle);
+		bufferHandle = 0;
+		if (vaoHandle != -1) {
+			tmpHandle.clear();
+			tmpHandle.put(vaoHandle);
+			tmpHandle.flip();
+			gl.glDeleteVertexArrays(1, tmpHandle);
+			vaoHandle = -1;
+		}
+	}
+}
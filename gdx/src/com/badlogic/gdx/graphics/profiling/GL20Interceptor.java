@@ -44,7 +44,9 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	@Override
 	public void glActiveTexture (int texture) {
 		calls++;
+		beginCall();
 		gl20.glActiveTexture(texture);
+		endCall("glActiveTexture");
 		check();
 	}
 
@@ -52,49 +54,63 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	public void glBindTexture (int target, int texture) {
 		textureBindings++;
 		calls++;
+		beginCall();
 		gl20.glBindTexture(target, texture);
+		endCall("glBindTexture");
 		check();
 	}
 
 	@Override
 	public void glBlendFunc (int sfactor, int dfactor) {
 		calls++;
+		beginCall();
 		gl20.glBlendFunc(sfactor, dfactor);
+		endCall("glBlendFunc");
 		check();
 	}
 
 	@Override
 	public void glClear (int mask) {
 		calls++;
+		beginCall();
 		gl20.glClear(mask);
+		endCall("glClear");
 		check();
 	}
 
 	@Override
 	public void glClearColor (float red, float green, float blue, float alpha) {
 		calls++;
+		beginCall();
 		gl20.glClearColor(red, green, blue, alpha);
+		endCall("glClearColor");
 		check();
 	}
 
 	@Override
 	public void glClearDepthf (float depth) {
 		calls++;
+		beginCall();
 		gl20.glClearDepthf(depth);
+		endCall("glClearDepthf");
 		check();
 	}
 
 	@Override
 	public void glClearStencil (int s) {
 		calls++;
+		beginCall();
 		gl20.glClearStencil(s);
+		endCall("glClearStencil");
 		check();
 	}
 
 	@Override
 	public void glColorMask (boolean red, boolean green, boolean blue, boolean alpha) {
 		calls++;
+		beginCall();
 		gl20.glColorMask(red, green, blue, alpha);
+		endCall("glColorMask");
 		check();
 	}
 
@@ -102,7 +118,9 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	public void glCompressedTexImage2D (int target, int level, int internalformat, int width, int height, int border,
 		int imageSize, Buffer data) {
 		calls++;
+		beginCall();
 		gl20.glCompressedTexImage2D(target, level, internalformat, width, height, border, imageSize, data);
+		endCall("glCompressedTexImage2D");
 		check();
 	}
 
@@ -110,70 +128,90 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	public void glCompressedTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format,
 		int imageSize, Buffer data) {
 		calls++;
+		beginCall();
 		gl20.glCompressedTexSubImage2D(target, level, xoffset, yoffset, width, height, format, imageSize, data);
+		endCall("glCompressedTexSubImage2D");
 		check();
 	}
 
 	@Override
 	public void glCopyTexImage2D (int target, int level, int internalformat, int x, int y, int width, int height, int border) {
 		calls++;
+		beginCall();
 		gl20.glCopyTexImage2D(target, level, internalformat, x, y, width, height, border);
+		endCall("glCopyTexImage2D");
 		check();
 	}
 
 	@Override
 	public void glCopyTexSubImage2D (int target, int level, int xoffset, int yoffset, int x, int y, int width, int height) {
 		calls++;
+		beginCall();
 		gl20.glCopyTexSubImage2D(target, level, xoffset, yoffset, x, y, width, height);
+		endCall("glCopyTexSubImage2D");
 		check();
 	}
 
 	@Override
 	public void glCullFace (int mode) {
 		calls++;
+		beginCall();
 		gl20.glCullFace(mode);
+		endCall("glCullFace");
 		check();
 	}
 
 	@Override
 	public void glDeleteTextures (int n, IntBuffer textures) {
 		calls++;
+		beginCall();
 		gl20.glDeleteTextures(n, textures);
+		endCall("glDeleteTextures");
 		check();
 	}
 
 	@Override
 	public void glDeleteTexture (int texture) {
 		calls++;
+		beginCall();
 		gl20.glDeleteTexture(texture);
+		endCall("glDeleteTexture");
 		check();
 	}
 
 	@Override
 	public void glDepthFunc (int func) {
 		calls++;
+		beginCall();
 		gl20.glDepthFunc(func);
+		endCall("glDepthFunc");
 		check();
 	}
 
 	@Override
 	public void glDepthMask (boolean flag) {
 		calls++;
+		beginCall();
 		gl20.glDepthMask(flag);
+		endCall("glDepthMask");
 		check();
 	}
 
 	@Override
 	public void glDepthRangef (float zNear, float zFar) {
 		calls++;
+		beginCall();
 		gl20.glDepthRangef(zNear, zFar);
+		endCall("glDepthRangef");
 		check();
 	}
 
 	@Override
 	public void glDisable (int cap) {
 		calls++;
+		beginCall();
 		gl20.glDisable(cap);
+		endCall("glDisable");
 		check();
 	}
 
@@ -182,7 +220,9 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 		vertexCount.put(count);
 		drawCalls++;
 		calls++;
+		beginCall();
 		gl20.glDrawArrays(mode, first, count);
+		endCall("glDrawArrays");
 		check();
 	}
 
@@ -191,49 +231,63 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 		vertexCount.put(count);
 		drawCalls++;
 		calls++;
+		beginCall();
 		gl20.glDrawElements(mode, count, type, indices);
+		endCall("glDrawElements");
 		check();
 	}
 
 	@Override
 	public void glEnable (int cap) {
 		calls++;
+		beginCall();
 		gl20.glEnable(cap);
+		endCall("glEnable");
 		check();
 	}
 
 	@Override
 	public void glFinish () {
 		calls++;
+		beginCall();
 		gl20.glFinish();
+		endCall("glFinish");
 		check();
 	}
 
 	@Override
 	public void glFlush () {
 		calls++;
+		beginCall();
 		gl20.glFlush();
+		endCall("glFlush");
 		check();
 	}
 
 	@Override
 	public void glFrontFace (int mode) {
 		calls++;
+		beginCall();
 		gl20.glFrontFace(mode);
+		endCall("glFrontFace");
 		check();
 	}
 
 	@Override
 	public void glGenTextures (int n, IntBuffer textures) {
 		calls++;
+		beginCall();
 		gl20.glGenTextures(n, textures);
+		endCall("glGenTextures");
 		check();
 	}
 
 	@Override
 	public int glGenTexture () {
 		calls++;
+		beginCall();
 		int result = gl20.glGenTexture();
+		endCall("glGenTexture");
 		check();
 		return result;
 	}
@@ -241,21 +295,28 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	@Override
 	public int glGetError () {
 		calls++;
+		beginCall();
 		//Errors by glGetError are undetectable
-		return gl20.glGetError();
+		int result = gl20.glGetError();
+		endCall("glGetError");
+		return result;
 	}
 
 	@Override
 	public void glGetIntegerv (int pname, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl20.glGetIntegerv(pname, params);
+		endCall("glGetIntegerv");
 		check();
 	}
 
 	@Override
 	public String glGetString (int name) {
 		calls++;
+		beginCall();
 		String result = gl20.glGetString(name);
+		endCall("glGetString");
 		check();
 		return result;
 	}
@@ -263,63 +324,81 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	@Override
 	public void glHint (int target, int mode) {
 		calls++;
+		beginCall();
 		gl20.glHint(target, mode);
+		endCall("glHint");
 		check();
 	}
 
 	@Override
 	public void glLineWidth (float width) {
 		calls++;
+		beginCall();
 		gl20.glLineWidth(width);
+		endCall("glLineWidth");
 		check();
 	}
 
 	@Override
 	public void glPixelStorei (int pname, int param) {
 		calls++;
+		beginCall();
 		gl20.glPixelStorei(pname, param);
+		endCall("glPixelStorei");
 		check();
 	}
 
 	@Override
 	public void glPolygonOffset (float factor, float units) {
 		calls++;
+		beginCall();
 		gl20.glPolygonOffset(factor, units);
+		endCall("glPolygonOffset");
 		check();
 	}
 
 	@Override
 	public void glReadPixels (int x, int y, int width, int height, int format, int type, Buffer pixels) {
 		calls++;
+		beginCall();
 		gl20.glReadPixels(x, y, width, height, format, type, pixels);
+		endCall("glReadPixels");
 		check();
 	}
 
 	@Override
 	public void glScissor (int x, int y, int width, int height) {
 		calls++;
+		beginCall();
 		gl20.glScissor(x, y, width, height);
+		endCall("glScissor");
 		check();
 	}
 
 	@Override
 	public void glStencilFunc (int func, int ref, int mask) {
 		calls++;
+		beginCall();
 		gl20.glStencilFunc(func, ref, mask);
+		endCall("glStencilFunc");
 		check();
 	}
 
 	@Override
 	public void glStencilMask (int mask) {
 		calls++;
+		beginCall();
 		gl20.glStencilMask(mask);
+		endCall("glStencilMask");
 		check();
 	}
 
 	@Override
 	public void glStencilOp (int fail, int zfail, int zpass) {
 		calls++;
+		beginCall();
 		gl20.glStencilOp(fail, zfail, zpass);
+		endCall("glStencilOp");
 		check();
 	}
 
@@ -327,14 +406,18 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	public void glTexImage2D (int target, int level, int internalformat, int width, int height, int border, int format, int type,
 		Buffer pixels) {
 		calls++;
+		beginCall();
 		gl20.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+		endCall("glTexImage2D");
 		check();
 	}
 
 	@Override
 	public void glTexParameterf (int target, int pname, float param) {
 		calls++;
+		beginCall();
 		gl20.glTexParameterf(target, pname, param);
+		endCall("glTexParameterf");
 		check();
 	}
 
@@ -342,98 +425,126 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	public void glTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int type,
 		Buffer pixels) {
 		calls++;
+		beginCall();
 		gl20.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+		endCall("glTexSubImage2D");
 		check();
 	}
 
 	@Override
 	public void glViewport (int x, int y, int width, int height) {
 		calls++;
+		beginCall();
 		gl20.glViewport(x, y, width, height);
+		endCall("glViewport");
 		check();
 	}
 
 	@Override
 	public void glAttachShader (int program, int shader) {
 		calls++;
+		beginCall();
 		gl20.glAttachShader(program, shader);
+		endCall("glAttachShader");
 		check();
 	}
 
 	@Override
 	public void glBindAttribLocation (int program, int index, String name) {
 		calls++;
+		beginCall();
 		gl20.glBindAttribLocation(program, index, name);
+		endCall("glBindAttribLocation");
 		check();
 	}
 
 	@Override
 	public void glBindBuffer (int target, int buffer) {
 		calls++;
+		beginCall();
 		gl20.glBindBuffer(target, buffer);
+		endCall("glBindBuffer");
 		check();
 	}
 
 	@Override
 	public void glBindFramebuffer (int target, int framebuffer) {
 		calls++;
+		beginCall();
 		gl20.glBindFramebuffer(target, framebuffer);
+		endCall("glBindFramebuffer");
 		check();
 	}
 
 	@Override
 	public void glBindRenderbuffer (int target, int renderbuffer) {
 		calls++;
+		beginCall();
 		gl20.glBindRenderbuffer(target, renderbuffer);
+		endCall("glBindRenderbuffer");
 		check();
 	}
 
 	@Override
 	public void glBlendColor (float red, float green, float blue, float alpha) {
 		calls++;
+		beginCall();
 		gl20.glBlendColor(red, green, blue, alpha);
+		endCall("glBlendColor");
 		check();
 	}
 
 	@Override
 	public void glBlendEquation (int mode) {
 		calls++;
+		beginCall();
 		gl20.glBlendEquation(mode);
+		endCall("glBlendEquation");
 		check();
 	}
 
 	@Override
 	public void glBlendEquationSeparate (int modeRGB, int modeAlpha) {
 		calls++;
+		beginCall();
 		gl20.glBlendEquationSeparate(modeRGB, modeAlpha);
+		endCall("glBlendEquationSeparate");
 		check();
 	}
 
 	@Override
 	public void glBlendFuncSeparate (int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
 		calls++;
+		beginCall();
 		gl20.glBlendFuncSeparate(srcRGB, dstRGB, srcAlpha, dstAlpha);
+		endCall("glBlendFuncSeparate");
 		check();
 	}
 
 	@Override
 	public void glBufferData (int target, int size, Buffer data, int usage) {
 		calls++;
+		beginCall();
 		gl20.glBufferData(target, size, data, usage);
+		endCall("glBufferData");
 		check();
 	}
 
 	@Override
 	public void glBufferSubData (int target, int offset, int size, Buffer data) {
 		calls++;
+		beginCall();
 		gl20.glBufferSubData(target, offset, size, data);
+		endCall("glBufferSubData");
 		check();
 	}
 
 	@Override
 	public int glCheckFramebufferStatus (int target) {
 		calls++;
+		beginCall();
 		int result = gl20.glCheckFramebufferStatus(target);
+		endCall("glCheckFramebufferStatus");
 		check();
 		return result;
 	}
@@ -441,14 +552,18 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	@Override
 	public void glCompileShader (int shader) {
 		calls++;
+		beginCall();
 		gl20.glCompileShader(shader);
+		endCall("glCompileShader");
 		check();
 	}
 
 	@Override
 	public int glCreateProgram () {
 		calls++;
+		beginCall();
 		int result = gl20.glCreateProgram();
+		endCall("glCreateProgram");
 		check();
 		return result;
 	}
@@ -456,7 +571,9 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	@Override
 	public int glCreateShader (int type) {
 		calls++;
+		beginCall();
 		int result = gl20.glCreateShader(type);
+		endCall("glCreateShader");
 		check();
 		return result;
 	}
@@ -464,70 +581,90 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	@Override
 	public void glDeleteBuffer (int buffer) {
 		calls++;
+		beginCall();
 		gl20.glDeleteBuffer(buffer);
+		endCall("glDeleteBuffer");
 		check();
 	}
 
 	@Override
 	public void glDeleteBuffers (int n, IntBuffer buffers) {
 		calls++;
+		beginCall();
 		gl20.glDeleteBuffers(n, buffers);
+		endCall("glDeleteBuffers");
 		check();
 	}
 
 	@Override
 	public void glDeleteFramebuffer (int framebuffer) {
 		calls++;
+		beginCall();
 		gl20.glDeleteFramebuffer(framebuffer);
+		endCall("glDeleteFramebuffer");
 		check();
 	}
 
 	@Override
 	public void glDeleteFramebuffers (int n, IntBuffer framebuffers) {
 		calls++;
+		beginCall();
 		gl20.glDeleteFramebuffers(n, framebuffers);
+		endCall("glDeleteFramebuffers");
 		check();
 	}
 
 	@Override
 	public void glDeleteProgram (int program) {
 		calls++;
+		beginCall();
 		gl20.glDeleteProgram(program);
+		endCall("glDeleteProgram");
 		check();
 	}
 
 	@Override
 	public void glDeleteRenderbuffer (int renderbuffer) {
 		calls++;
+		beginCall();
 		gl20.glDeleteRenderbuffer(renderbuffer);
+		endCall("glDeleteRenderbuffer");
 		check();
 	}
 
 	@Override
 	public void glDeleteRenderbuffers (int n, IntBuffer renderbuffers) {
 		calls++;
+		beginCall();
 		gl20.glDeleteRenderbuffers(n, renderbuffers);
+		endCall("glDeleteRenderbuffers");
 		check();
 	}
 
 	@Override
 	public void glDeleteShader (int shader) {
 		calls++;
+		beginCall();
 		gl20.glDeleteShader(shader);
+		endCall("glDeleteShader");
 		check();
 	}
 
 	@Override
 	public void glDetachShader (int program, int shader) {
 		calls++;
+		beginCall();
 		gl20.glDetachShader(program, shader);
+		endCall("glDetachShader");
 		check();
 	}
 
 	@Override
 	public void glDisableVertexAttribArray (int index) {
 		calls++;
+		beginCall();
 		gl20.glDisableVertexAttribArray(index);
+		endCall("glDisableVertexAttribArray");
 		check();
 	}
 
@@ -536,35 +673,45 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 		vertexCount.put(count);
 		drawCalls++;
 		calls++;
+		beginCall();
 		gl20.glDrawElements(mode, count, type, indices);
+		endCall("glDrawElements");
 		check();
 	}
 
 	@Override
 	public void glEnableVertexAttribArray (int index) {
 		calls++;
+		beginCall();
 		gl20.glEnableVertexAttribArray(index);
+		endCall("glEnableVertexAttribArray");
 		check();
 	}
 
 	@Override
 	public void glFramebufferRenderbuffer (int target, int attachment, int renderbuffertarget, int renderbuffer) {
 		calls++;
+		beginCall();
 		gl20.glFramebufferRenderbuffer(target, attachment, renderbuffertarget, renderbuffer);
+		endCall("glFramebufferRenderbuffer");
 		check();
 	}
 
 	@Override
 	public void glFramebufferTexture2D (int target, int attachment, int textarget, int texture, int level) {
 		calls++;
+		beginCall();
 		gl20.glFramebufferTexture2D(target, attachment, textarget, texture, level);
+		endCall("glFramebufferTexture2D");
 		check();
 	}
 
 	@Override
 	public int glGenBuffer () {
 		calls++;
+		beginCall();
 		int result = gl20.glGenBuffer();
+		endCall("glGenBuffer");
 		check();
 		return result;
 	}
@@ -572,21 +719,27 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	@Override
 	public void glGenBuffers (int n, IntBuffer buffers) {
 		calls++;
+		beginCall();
 		gl20.glGenBuffers(n, buffers);
+		endCall("glGenBuffers");
 		check();
 	}
 
 	@Override
 	public void glGenerateMipmap (int target) {
 		calls++;
+		beginCall();
 		gl20.glGenerateMipmap(target);
+		endCall("glGenerateMipmap");
 		check();
 	}
 
 	@Override
 	public int glGenFramebuffer () {
 		calls++;
+		beginCall();
 		int result = gl20.glGenFramebuffer();
+		endCall("glGenFramebuffer");
 		check();
 		return result;
 	}
@@ -594,14 +747,18 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	@Override
 	public void glGenFramebuffers (int n, IntBuffer framebuffers) {
 		calls++;
+		beginCall();
 		gl20.glGenFramebuffers(n, framebuffers);
+		endCall("glGenFramebuffers");
 		check();
 	}
 
 	@Override
 	public int glGenRenderbuffer () {
 		calls++;
+		beginCall();
 		int result = gl20.glGenRenderbuffer();
+		endCall("glGenRenderbuffer");
 		check();
 		return result;
 	}
@@ -609,14 +766,18 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	@Override
 	public void glGenRenderbuffers (int n, IntBuffer renderbuffers) {
 		calls++;
+		beginCall();
 		gl20.glGenRenderbuffers(n, renderbuffers);
+		endCall("glGenRenderbuffers");
 		check();
 	}
 
 	@Override
 	public String glGetActiveAttrib (int program, int index, IntBuffer size, IntBuffer type) {
 		calls++;
+		beginCall();
 		String result = gl20.glGetActiveAttrib(program, index, size, type);
+		endCall("glGetActiveAttrib");
 		check();
 		return result;
 	}
@@ -624,7 +785,9 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	@Override
 	public String glGetActiveUniform (int program, int index, IntBuffer size, IntBuffer type) {
 		calls++;
+		beginCall();
 		String result = gl20.glGetActiveUniform(program, index, size, type);
+		endCall("glGetActiveUniform");
 		check();
 		return result;
 	}
@@ -632,14 +795,18 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	@Override
 	public void glGetAttachedShaders (int program, int maxcount, Buffer count, IntBuffer shaders) {
 		calls++;
+		beginCall();
 		gl20.glGetAttachedShaders(program, maxcount, count, shaders);
+		endCall("glGetAttachedShaders");
 		check();
 	}
 
 	@Override
 	public int glGetAttribLocation (int program, String name) {
 		calls++;
+		beginCall();
 		int result = gl20.glGetAttribLocation(program, name);
+		endCall("glGetAttribLocation");
 		check();
 		return result;
 	}
@@ -647,42 +814,54 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	@Override
 	public void glGetBooleanv (int pname, Buffer params) {
 		calls++;
+		beginCall();
 		gl20.glGetBooleanv(pname, params);
+		endCall("glGetBooleanv");
 		check();
 	}
 
 	@Override
 	public void glGetBufferParameteriv (int target, int pname, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl20.glGetBufferParameteriv(target, pname, params);
+		endCall("glGetBufferParameteriv");
 		check();
 	}
 
 	@Override
 	public void glGetFloatv (int pname, FloatBuffer params) {
 		calls++;
+		beginCall();
 		gl20.glGetFloatv(pname, params);
+		endCall("glGetFloatv");
 		check();
 	}
 
 	@Override
 	public void glGetFramebufferAttachmentParameteriv (int target, int attachment, int pname, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl20.glGetFramebufferAttachmentParameteriv(target, attachment, pname, params);
+		endCall("glGetFramebufferAttachmentParameteriv");
 		check();
 	}
 
 	@Override
 	public void glGetProgramiv (int program, int pname, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl20.glGetProgramiv(program, pname, params);
+		endCall("glGetProgramiv");
 		check();
 	}
 
 	@Override
 	public String glGetProgramInfoLog (int program) {
 		calls++;
+		beginCall();
 		String result = gl20.glGetProgramInfoLog(program);
+		endCall("glGetProgramInfoLog");
 		check();
 		return result;
 	}
@@ -690,21 +869,27 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	@Override
 	public void glGetRenderbufferParameteriv (int target, int pname, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl20.glGetRenderbufferParameteriv(target, pname, params);
+		endCall("glGetRenderbufferParameteriv");
 		check();
 	}
 
 	@Override
 	public void glGetShaderiv (int shader, int pname, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl20.glGetShaderiv(shader, pname, params);
+		endCall("glGetShaderiv");
 		check();
 	}
 
 	@Override
 	public String glGetShaderInfoLog (int shader) {
 		calls++;
+		beginCall();
 		String result = gl20.glGetShaderInfoLog(shader);
+		endCall("glGetShaderInfoLog");
 		check();
 		return result;
 	}
@@ -712,42 +897,54 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	@Override
 	public void glGetShaderPrecisionFormat (int shadertype, int precisiontype, IntBuffer range, IntBuffer precision) {
 		calls++;
+		beginCall();
 		gl20.glGetShaderPrecisionFormat(shadertype, precisiontype, range, precision);
+		endCall("glGetShaderPrecisionFormat");
 		check();
 	}
 
 	@Override
 	public void glGetTexParameterfv (int target, int pname, FloatBuffer params) {
 		calls++;
+		beginCall();
 		gl20.glGetTexParameterfv(target, pname, params);
+		endCall("glGetTexParameterfv");
 		check();
 	}
 
 	@Override
 	public void glGetTexParameteriv (int target, int pname, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl20.glGetTexParameteriv(target, pname, params);
+		endCall("glGetTexParameteriv");
 		check();
 	}
 
 	@Override
 	public void glGetUniformfv (int program, int location, FloatBuffer params) {
 		calls++;
+		beginCall();
 		gl20.glGetUniformfv(program, location, params);
+		endCall("glGetUniformfv");
 		check();
 	}
 
 	@Override
 	public void glGetUniformiv (int program, int location, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl20.glGetUniformiv(program, location, params);
+		endCall("glGetUniformiv");
 		check();
 	}
 
 	@Override
 	public int glGetUniformLocation (int program, String name) {
 		calls++;
+		beginCall();
 		int result = gl20.glGetUniformLocation(program, name);
+		endCall("glGetUniformLocation");
 		check();
 		return result;
 	}
@@ -755,28 +952,36 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	@Override
 	public void glGetVertexAttribfv (int index, int pname, FloatBuffer params) {
 		calls++;
+		beginCall();
 		gl20.glGetVertexAttribfv(index, pname, params);
+		endCall("glGetVertexAttribfv");
 		check();
 	}
 
 	@Override
 	public void glGetVertexAttribiv (int index, int pname, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl20.glGetVertexAttribiv(index, pname, params);
+		endCall("glGetVertexAttribiv");
 		check();
 	}
 
 	@Override
 	public void glGetVertexAttribPointerv (int index, int pname, Buffer pointer) {
 		calls++;
+		beginCall();
 		gl20.glGetVertexAttribPointerv(index, pname, pointer);
+		endCall("glGetVertexAttribPointerv");
 		check();
 	}
 
 	@Override
 	public boolean glIsBuffer (int buffer) {
 		calls++;
+		beginCall();
 		boolean result = gl20.glIsBuffer(buffer);
+		endCall("glIsBuffer");
 		check();
 		return result;
 	}
@@ -784,7 +989,9 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	@Override
 	public boolean glIsEnabled (int cap) {
 		calls++;
+		beginCall();
 		boolean result = gl20.glIsEnabled(cap);
+		endCall("glIsEnabled");
 		check();
 		return result;
 	}
@@ -792,7 +999,9 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	@Override
 	public boolean glIsFramebuffer (int framebuffer) {
 		calls++;
+		beginCall();
 		boolean result = gl20.glIsFramebuffer(framebuffer);
+		endCall("glIsFramebuffer");
 		check();
 		return result;
 	}
@@ -800,7 +1009,9 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	@Override
 	public boolean glIsProgram (int program) {
 		calls++;
+		beginCall();
 		boolean result = gl20.glIsProgram(program);
+		endCall("glIsProgram");
 		check();
 		return result;
 	}
@@ -808,7 +1019,9 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	@Override
 	public boolean glIsRenderbuffer (int renderbuffer) {
 		calls++;
+		beginCall();
 		boolean result = gl20.glIsRenderbuffer(renderbuffer);
+		endCall("glIsRenderbuffer");
 		check();
 		return result;
 	}
@@ -816,7 +1029,9 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	@Override
 	public boolean glIsShader (int shader) {
 		calls++;
+		beginCall();
 		boolean result = gl20.glIsShader(shader);
+		endCall("glIsShader");
 		check();
 		return result;
 	}
@@ -824,7 +1039,9 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	@Override
 	public boolean glIsTexture (int texture) {
 		calls++;
+		beginCall();
 		boolean result = gl20.glIsTexture(texture);
+		endCall("glIsTexture");
 		check();
 		return result;
 	}
@@ -832,294 +1049,378 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	@Override
 	public void glLinkProgram (int program) {
 		calls++;
+		beginCall();
 		gl20.glLinkProgram(program);
+		endCall("glLinkProgram");
 		check();
 	}
 
 	@Override
 	public void glReleaseShaderCompiler () {
 		calls++;
+		beginCall();
 		gl20.glReleaseShaderCompiler();
+		endCall("glReleaseShaderCompiler");
 		check();
 	}
 
 	@Override
 	public void glRenderbufferStorage (int target, int internalformat, int width, int height) {
 		calls++;
+		beginCall();
 		gl20.glRenderbufferStorage(target, internalformat, width, height);
+		endCall("glRenderbufferStorage");
 		check();
 	}
 
 	@Override
 	public void glSampleCoverage (float value, boolean invert) {
 		calls++;
+		beginCall();
 		gl20.glSampleCoverage(value, invert);
+		endCall("glSampleCoverage");
 		check();
 	}
 
 	@Override
 	public void glShaderBinary (int n, IntBuffer shaders, int binaryformat, Buffer binary, int length) {
 		calls++;
+		beginCall();
 		gl20.glShaderBinary(n, shaders, binaryformat, binary, length);
+		endCall("glShaderBinary");
 		check();
 	}
 
 	@Override
 	public void glShaderSource (int shader, String string) {
 		calls++;
+		beginCall();
 		gl20.glShaderSource(shader, string);
+		endCall("glShaderSource");
 		check();
 	}
 
 	@Override
 	public void glStencilFuncSeparate (int face, int func, int ref, int mask) {
 		calls++;
+		beginCall();
 		gl20.glStencilFuncSeparate(face, func, ref, mask);
+		endCall("glStencilFuncSeparate");
 		check();
 	}
 
 	@Override
 	public void glStencilMaskSeparate (int face, int mask) {
 		calls++;
+		beginCall();
 		gl20.glStencilMaskSeparate(face, mask);
+		endCall("glStencilMaskSeparate");
 		check();
 	}
 
 	@Override
 	public void glStencilOpSeparate (int face, int fail, int zfail, int zpass) {
 		calls++;
+		beginCall();
 		gl20.glStencilOpSeparate(face, fail, zfail, zpass);
+		endCall("glStencilOpSeparate");
 		check();
 	}
 
 	@Override
 	public void glTexParameterfv (int target, int pname, FloatBuffer params) {
 		calls++;
+		beginCall();
 		gl20.glTexParameterfv(target, pname, params);
+		endCall("glTexParameterfv");
 		check();
 	}
 
 	@Override
 	public void glTexParameteri (int target, int pname, int param) {
 		calls++;
+		beginCall();
 		gl20.glTexParameteri(target, pname, param);
+		endCall("glTexParameteri");
 		check();
 	}
 
 	@Override
 	public void glTexParameteriv (int target, int pname, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl20.glTexParameteriv(target, pname, params);
+		endCall("glTexParameteriv");
 		check();
 	}
 
 	@Override
 	public void glUniform1f (int location, float x) {
 		calls++;
+		beginCall();
 		gl20.glUniform1f(location, x);
+		endCall("glUniform1f");
 		check();
 	}
 
 	@Override
 	public void glUniform1fv (int location, int count, FloatBuffer v) {
 		calls++;
+		beginCall();
 		gl20.glUniform1fv(location, count, v);
+		endCall("glUniform1fv");
 		check();
 	}
 
 	@Override
 	public void glUniform1fv (int location, int count, float[] v, int offset) {
 		calls++;
+		beginCall();
 		gl20.glUniform1fv(location, count, v, offset);
+		endCall("glUniform1fv");
 		check();
 	}
 
 	@Override
 	public void glUniform1i (int location, int x) {
 		calls++;
+		beginCall();
 		gl20.glUniform1i(location, x);
+		endCall("glUniform1i");
 		check();
 	}
 
 	@Override
 	public void glUniform1iv (int location, int count, IntBuffer v) {
 		calls++;
+		beginCall();
 		gl20.glUniform1iv(location, count, v);
+		endCall("glUniform1iv");
 		check();
 	}
 
 	@Override
 	public void glUniform1iv (int location, int count, int[] v, int offset) {
 		calls++;
+		beginCall();
 		gl20.glUniform1iv(location, count, v, offset);
+		endCall("glUniform1iv");
 		check();
 	}
 
 	@Override
 	public void glUniform2f (int location, float x, float y) {
 		calls++;
+		beginCall();
 		gl20.glUniform2f(location, x, y);
+		endCall("glUniform2f");
 		check();
 	}
 
 	@Override
 	public void glUniform2fv (int location, int count, FloatBuffer v) {
 		calls++;
+		beginCall();
 		gl20.glUniform2fv(location, count, v);
+		endCall("glUniform2fv");
 		check();
 	}
 
 	@Override
 	public void glUniform2fv (int location, int count, float[] v, int offset) {
 		calls++;
+		beginCall();
 		gl20.glUniform2fv(location, count, v, offset);
+		endCall("glUniform2fv");
 		check();
 	}
 
 	@Override
 	public void glUniform2i (int location, int x, int y) {
 		calls++;
+		beginCall();
 		gl20.glUniform2i(location, x, y);
+		endCall("glUniform2i");
 		check();
 	}
 
 	@Override
 	public void glUniform2iv (int location, int count, IntBuffer v) {
 		calls++;
+		beginCall();
 		gl20.glUniform2iv(location, count, v);
+		endCall("glUniform2iv");
 		check();
 	}
 
 	@Override
 	public void glUniform2iv (int location, int count, int[] v, int offset) {
 		calls++;
+		beginCall();
 		gl20.glUniform2iv(location, count, v, offset);
+		endCall("glUniform2iv");
 		check();
 	}
 
 	@Override
 	public void glUniform3f (int location, float x, float y, float z) {
 		calls++;
+		beginCall();
 		gl20.glUniform3f(location, x, y, z);
+		endCall("glUniform3f");
 		check();
 	}
 
 	@Override
 	public void glUniform3fv (int location, int count, FloatBuffer v) {
 		calls++;
+		beginCall();
 		gl20.glUniform3fv(location, count, v);
+		endCall("glUniform3fv");
 		check();
 	}
 
 	@Override
 	public void glUniform3fv (int location, int count, float[] v, int offset) {
 		calls++;
+		beginCall();
 		gl20.glUniform3fv(location, count, v, offset);
+		endCall("glUniform3fv");
 		check();
 	}
 
 	@Override
 	public void glUniform3i (int location, int x, int y, int z) {
 		calls++;
+		beginCall();
 		gl20.glUniform3i(location, x, y, z);
+		endCall("glUniform3i");
 		check();
 	}
 
 	@Override
 	public void glUniform3iv (int location, int count, IntBuffer v) {
 		calls++;
+		beginCall();
 		gl20.glUniform3iv(location, count, v);
+		endCall("glUniform3iv");
 		check();
 	}
 
 	@Override
 	public void glUniform3iv (int location, int count, int[] v, int offset) {
 		calls++;
+		beginCall();
 		gl20.glUniform3iv(location, count, v, offset);
+		endCall("glUniform3iv");
 		check();
 	}
 
 	@Override
 	public void glUniform4f (int location, float x, float y, float z, float w) {
 		calls++;
+		beginCall();
 		gl20.glUniform4f(location, x, y, z, w);
+		endCall("glUniform4f");
 		check();
 	}
 
 	@Override
 	public void glUniform4fv (int location, int count, FloatBuffer v) {
 		calls++;
+		beginCall();
 		gl20.glUniform4fv(location, count, v);
+		endCall("glUniform4fv");
 		check();
 	}
 
 	@Override
 	public void glUniform4fv (int location, int count, float[] v, int offset) {
 		calls++;
+		beginCall();
 		gl20.glUniform4fv(location, count, v, offset);
+		endCall("glUniform4fv");
 		check();
 	}
 
 	@Override
 	public void glUniform4i (int location, int x, int y, int z, int w) {
 		calls++;
+		beginCall();
 		gl20.glUniform4i(location, x, y, z, w);
+		endCall("glUniform4i");
 		check();
 	}
 
 	@Override
 	public void glUniform4iv (int location, int count, IntBuffer v) {
 		calls++;
+		beginCall();
 		gl20.glUniform4iv(location, count, v);
+		endCall("glUniform4iv");
 		check();
 	}
 
 	@Override
 	public void glUniform4iv (int location, int count, int[] v, int offset) {
 		calls++;
+		beginCall();
 		gl20.glUniform4iv(location, count, v, offset);
+		endCall("glUniform4iv");
 		check();
 	}
 
 	@Override
 	public void glUniformMatrix2fv (int location, int count, boolean transpose, FloatBuffer value) {
 		calls++;
+		beginCall();
 		gl20.glUniformMatrix2fv(location, count, transpose, value);
+		endCall("glUniformMatrix2fv");
 		check();
 	}
 
 	@Override
 	public void glUniformMatrix2fv (int location, int count, boolean transpose, float[] value, int offset) {
 		calls++;
+		beginCall();
 		gl20.glUniformMatrix2fv(location, count, transpose, value, offset);
+		endCall("glUniformMatrix2fv");
 		check();
 	}
 
 	@Override
 	public void glUniformMatrix3fv (int location, int count, boolean transpose, FloatBuffer value) {
 		calls++;
+		beginCall();
 		gl20.glUniformMatrix3fv(location, count, transpose, value);
+		endCall("glUniformMatrix3fv");
 		check();
 	}
 
 	@Override
 	public void glUniformMatrix3fv (int location, int count, boolean transpose, float[] value, int offset) {
 		calls++;
+		beginCall();
 		gl20.glUniformMatrix3fv(location, count, transpose, value, offset);
+		endCall("glUniformMatrix3fv");
 		check();
 	}
 
 	@Override
 	public void glUniformMatrix4fv (int location, int count, boolean transpose, FloatBuffer value) {
 		calls++;
+		beginCall();
 		gl20.glUniformMatrix4fv(location, count, transpose, value);
+		endCall("glUniformMatrix4fv");
 		check();
 	}
 
 	@Override
 	public void glUniformMatrix4fv (int location, int count, boolean transpose, float[] value, int offset) {
 		calls++;
+		beginCall();
 		gl20.glUniformMatrix4fv(location, count, transpose, value, offset);
+		endCall("glUniformMatrix4fv");
 		check();
 	}
 
@@ -1127,84 +1428,108 @@ public class GL20Interceptor extends GLInterceptor implements GL20 {
 	public void glUseProgram (int program) {
 		shaderSwitches++;
 		calls++;
+		beginCall();
 		gl20.glUseProgram(program);
+		endCall("glUseProgram");
 		check();
 	}
 
 	@Override
 	public void glValidateProgram (int program) {
 		calls++;
+		beginCall();
 		gl20.glValidateProgram(program);
+		endCall("glValidateProgram");
 		check();
 	}
 
 	@Override
 	public void glVertexAttrib1f (int indx, float x) {
 		calls++;
+		beginCall();
 		gl20.glVertexAttrib1f(indx, x);
+		endCall("glVertexAttrib1f");
 		check();
 	}
 
 	@Override
 	public void glVertexAttrib1fv (int indx, FloatBuffer values) {
 		calls++;
+		beginCall();
 		gl20.glVertexAttrib1fv(indx, values);
+		endCall("glVertexAttrib1fv");
 		check();
 	}
 
 	@Override
 	public void glVertexAttrib2f (int indx, float x, float y) {
 		calls++;
+		beginCall();
 		gl20.glVertexAttrib2f(indx, x, y);
+		endCall("glVertexAttrib2f");
 		check();
 	}
 
 	@Override
 	public void glVertexAttrib2fv (int indx, FloatBuffer values) {
 		calls++;
+		beginCall();
 		gl20.glVertexAttrib2fv(indx, values);
+		endCall("glVertexAttrib2fv");
 		check();
 	}
 
 	@Override
 	public void glVertexAttrib3f (int indx, float x, float y, float z) {
 		calls++;
+		beginCall();
 		gl20.glVertexAttrib3f(indx, x, y, z);
+		endCall("glVertexAttrib3f");
 		check();
 	}
 
 	@Override
 	public void glVertexAttrib3fv (int indx, FloatBuffer values) {
 		calls++;
+		beginCall();
 		gl20.glVertexAttrib3fv(indx, values);
+		endCall("glVertexAttrib3fv");
 		check();
 	}
 
 	@Override
 	public void glVertexAttrib4f (int indx, float x, float y, float z, float w) {
 		calls++;
+		beginCall();
 		gl20.glVertexAttrib4f(indx, x, y, z, w);
+		endCall("glVertexAttrib4f");
 		check();
 	}
 
 	@Override
 	public void glVertexAttrib4fv (int indx, FloatBuffer values) {
 		calls++;
+		beginCall();
 		gl20.glVertexAttrib4fv(indx, values);
+		endCall("glVertexAttrib4fv");
 		check();
 	}
 
 	@Override
 	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, Buffer ptr) {
 		calls++;
+		beginCall();
 		gl20.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+		endCall("glVertexAttribPointer");
 		check();
 	}
 
 	@Override
 	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, int ptr) {
 		calls++;
+		beginCall();
 		gl20.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+		endCall("glVertexAttribPointer");
 		check();
 	}
 }
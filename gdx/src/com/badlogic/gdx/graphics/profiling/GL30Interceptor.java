@@ -46,7 +46,9 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public void glActiveTexture (int texture) {
 		calls++;
+		beginCall();
 		gl30.glActiveTexture(texture);
+		endCall("glActiveTexture");
 		check();
 	}
 
@@ -54,49 +56,63 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	public void glBindTexture (int target, int texture) {
 		textureBindings++;
 		calls++;
+		beginCall();
 		gl30.glBindTexture(target, texture);
+		endCall("glBindTexture");
 		check();
 	}
 
 	@Override
 	public void glBlendFunc (int sfactor, int dfactor) {
 		calls++;
+		beginCall();
 		gl30.glBlendFunc(sfactor, dfactor);
+		endCall("glBlendFunc");
 		check();
 	}
 
 	@Override
 	public void glClear (int mask) {
 		calls++;
+		beginCall();
 		gl30.glClear(mask);
+		endCall("glClear");
 		check();
 	}
 
 	@Override
 	public void glClearColor (float red, float green, float blue, float alpha) {
 		calls++;
+		beginCall();
 		gl30.glClearColor(red, green, blue, alpha);
+		endCall("glClearColor");
 		check();
 	}
 
 	@Override
 	public void glClearDepthf (float depth) {
 		calls++;
+		beginCall();
 		gl30.glClearDepthf(depth);
+		endCall("glClearDepthf");
 		check();
 	}
 
 	@Override
 	public void glClearStencil (int s) {
 		calls++;
+		beginCall();
 		gl30.glClearStencil(s);
+		endCall("glClearStencil");
 		check();
 	}
 
 	@Override
 	public void glColorMask (boolean red, boolean green, boolean blue, boolean alpha) {
 		calls++;
+		beginCall();
 		gl30.glColorMask(red, green, blue, alpha);
+		endCall("glColorMask");
 		check();
 	}
 
@@ -104,7 +120,9 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	public void glCompressedTexImage2D (int target, int level, int internalformat, int width, int height, int border,
 		int imageSize, Buffer data) {
 		calls++;
+		beginCall();
 		gl30.glCompressedTexImage2D(target, level, internalformat, width, height, border, imageSize, data);
+		endCall("glCompressedTexImage2D");
 		check();
 	}
 
@@ -112,70 +130,90 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	public void glCompressedTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format,
 		int imageSize, Buffer data) {
 		calls++;
+		beginCall();
 		gl30.glCompressedTexSubImage2D(target, level, xoffset, yoffset, width, height, format, imageSize, data);
+		endCall("glCompressedTexSubImage2D");
 		check();
 	}
 
 	@Override
 	public void glCopyTexImage2D (int target, int level, int internalformat, int x, int y, int width, int height, int border) {
 		calls++;
+		beginCall();
 		gl30.glCopyTexImage2D(target, level, internalformat, x, y, width, height, border);
+		endCall("glCopyTexImage2D");
 		check();
 	}
 
 	@Override
 	public void glCopyTexSubImage2D (int target, int level, int xoffset, int yoffset, int x, int y, int width, int height) {
 		calls++;
+		beginCall();
 		gl30.glCopyTexSubImage2D(target, level, xoffset, yoffset, x, y, width, height);
+		endCall("glCopyTexSubImage2D");
 		check();
 	}
 
 	@Override
 	public void glCullFace (int mode) {
 		calls++;
+		beginCall();
 		gl30.glCullFace(mode);
+		endCall("glCullFace");
 		check();
 	}
 
 	@Override
 	public void glDeleteTextures (int n, IntBuffer textures) {
 		calls++;
+		beginCall();
 		gl30.glDeleteTextures(n, textures);
+		endCall("glDeleteTextures");
 		check();
 	}
 
 	@Override
 	public void glDeleteTexture (int texture) {
 		calls++;
+		beginCall();
 		gl30.glDeleteTexture(texture);
+		endCall("glDeleteTexture");
 		check();
 	}
 
 	@Override
 	public void glDepthFunc (int func) {
 		calls++;
+		beginCall();
 		gl30.glDepthFunc(func);
+		endCall("glDepthFunc");
 		check();
 	}
 
 	@Override
 	public void glDepthMask (boolean flag) {
 		calls++;
+		beginCall();
 		gl30.glDepthMask(flag);
+		endCall("glDepthMask");
 		check();
 	}
 
 	@Override
 	public void glDepthRangef (float zNear, float zFar) {
 		calls++;
+		beginCall();
 		gl30.glDepthRangef(zNear, zFar);
+		endCall("glDepthRangef");
 		check();
 	}
 
 	@Override
 	public void glDisable (int cap) {
 		calls++;
+		beginCall();
 		gl30.glDisable(cap);
+		endCall("glDisable");
 		check();
 	}
 
@@ -184,7 +222,9 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 		vertexCount.put(count);
 		drawCalls++;
 		calls++;
+		beginCall();
 		gl30.glDrawArrays(mode, first, count);
+		endCall("glDrawArrays");
 		check();
 	}
 
@@ -193,49 +233,63 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 		vertexCount.put(count);
 		drawCalls++;
 		calls++;
+		beginCall();
 		gl30.glDrawElements(mode, count, type, indices);
+		endCall("glDrawElements");
 		check();
 	}
 
 	@Override
 	public void glEnable (int cap) {
 		calls++;
+		beginCall();
 		gl30.glEnable(cap);
+		endCall("glEnable");
 		check();
 	}
 
 	@Override
 	public void glFinish () {
 		calls++;
+		beginCall();
 		gl30.glFinish();
+		endCall("glFinish");
 		check();
 	}
 
 	@Override
 	public void glFlush () {
 		calls++;
+		beginCall();
 		gl30.glFlush();
+		endCall("glFlush");
 		check();
 	}
 
 	@Override
 	public void glFrontFace (int mode) {
 		calls++;
+		beginCall();
 		gl30.glFrontFace(mode);
+		endCall("glFrontFace");
 		check();
 	}
 
 	@Override
 	public void glGenTextures (int n, IntBuffer textures) {
 		calls++;
+		beginCall();
 		gl30.glGenTextures(n, textures);
+		endCall("glGenTextures");
 		check();
 	}
 
 	@Override
 	public int glGenTexture () {
 		calls++;
+		beginCall();
 		int result = gl30.glGenTexture();
+		endCall("glGenTexture");
 		check();
 		return result;
 	}
@@ -243,21 +297,28 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public int glGetError () {
 		calls++;
+		beginCall();
 		//Errors by glGetError are undetectable
-		return gl30.glGetError();
+		int result = gl30.glGetError();
+		endCall("glGetError");
+		return result;
 	}
 
 	@Override
 	public void glGetIntegerv (int pname, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl30.glGetIntegerv(pname, params);
+		endCall("glGetIntegerv");
 		check();
 	}
 
 	@Override
 	public String glGetString (int name) {
 		calls++;
+		beginCall();
 		String result = gl30.glGetString(name);
+		endCall("glGetString");
 		check();
 		return result;
 	}
@@ -265,63 +326,81 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public void glHint (int target, int mode) {
 		calls++;
+		beginCall();
 		gl30.glHint(target, mode);
+		endCall("glHint");
 		check();
 	}
 
 	@Override
 	public void glLineWidth (float width) {
 		calls++;
+		beginCall();
 		gl30.glLineWidth(width);
+		endCall("glLineWidth");
 		check();
 	}
 
 	@Override
 	public void glPixelStorei (int pname, int param) {
 		calls++;
+		beginCall();
 		gl30.glPixelStorei(pname, param);
+		endCall("glPixelStorei");
 		check();
 	}
 
 	@Override
 	public void glPolygonOffset (float factor, float units) {
 		calls++;
+		beginCall();
 		gl30.glPolygonOffset(factor, units);
+		endCall("glPolygonOffset");
 		check();
 	}
 
 	@Override
 	public void glReadPixels (int x, int y, int width, int height, int format, int type, Buffer pixels) {
 		calls++;
+		beginCall();
 		gl30.glReadPixels(x, y, width, height, format, type, pixels);
+		endCall("glReadPixels");
 		check();
 	}
 
 	@Override
 	public void glScissor (int x, int y, int width, int height) {
 		calls++;
+		beginCall();
 		gl30.glScissor(x, y, width, height);
+		endCall("glScissor");
 		check();
 	}
 
 	@Override
 	public void glStencilFunc (int func, int ref, int mask) {
 		calls++;
+		beginCall();
 		gl30.glStencilFunc(func, ref, mask);
+		endCall("glStencilFunc");
 		check();
 	}
 
 	@Override
 	public void glStencilMask (int mask) {
 		calls++;
+		beginCall();
 		gl30.glStencilMask(mask);
+		endCall("glStencilMask");
 		check();
 	}
 
 	@Override
 	public void glStencilOp (int fail, int zfail, int zpass) {
 		calls++;
+		beginCall();
 		gl30.glStencilOp(fail, zfail, zpass);
+		endCall("glStencilOp");
 		check();
 	}
 
@@ -329,14 +408,18 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	public void glTexImage2D (int target, int level, int internalformat, int width, int height, int border, int format, int type,
 		Buffer pixels) {
 		calls++;
+		beginCall();
 		gl30.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+		endCall("glTexImage2D");
 		check();
 	}
 
 	@Override
 	public void glTexParameterf (int target, int pname, float param) {
 		calls++;
+		beginCall();
 		gl30.glTexParameterf(target, pname, param);
+		endCall("glTexParameterf");
 		check();
 	}
 
@@ -344,98 +427,126 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	public void glTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int type,
 		Buffer pixels) {
 		calls++;
+		beginCall();
 		gl30.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+		endCall("glTexSubImage2D");
 		check();
 	}
 
 	@Override
 	public void glViewport (int x, int y, int width, int height) {
 		calls++;
+		beginCall();
 		gl30.glViewport(x, y, width, height);
+		endCall("glViewport");
 		check();
 	}
 
 	@Override
 	public void glAttachShader (int program, int shader) {
 		calls++;
+		beginCall();
 		gl30.glAttachShader(program, shader);
+		endCall("glAttachShader");
 		check();
 	}
 
 	@Override
 	public void glBindAttribLocation (int program, int index, String name) {
 		calls++;
+		beginCall();
 		gl30.glBindAttribLocation(program, index, name);
+		endCall("glBindAttribLocation");
 		check();
 	}
 
 	@Override
 	public void glBindBuffer (int target, int buffer) {
 		calls++;
+		beginCall();
 		gl30.glBindBuffer(target, buffer);
+		endCall("glBindBuffer");
 		check();
 	}
 
 	@Override
 	public void glBindFramebuffer (int target, int framebuffer) {
 		calls++;
+		beginCall();
 		gl30.glBindFramebuffer(target, framebuffer);
+		endCall("glBindFramebuffer");
 		check();
 	}
 
 	@Override
 	public void glBindRenderbuffer (int target, int renderbuffer) {
 		calls++;
+		beginCall();
 		gl30.glBindRenderbuffer(target, renderbuffer);
+		endCall("glBindRenderbuffer");
 		check();
 	}
 
 	@Override
 	public void glBlendColor (float red, float green, float blue, float alpha) {
 		calls++;
+		beginCall();
 		gl30.glBlendColor(red, green, blue, alpha);
+		endCall("glBlendColor");
 		check();
 	}
 
 	@Override
 	public void glBlendEquation (int mode) {
 		calls++;
+		beginCall();
 		gl30.glBlendEquation(mode);
+		endCall("glBlendEquation");
 		check();
 	}
 
 	@Override
 	public void glBlendEquationSeparate (int modeRGB, int modeAlpha) {
 		calls++;
+		beginCall();
 		gl30.glBlendEquationSeparate(modeRGB, modeAlpha);
+		endCall("glBlendEquationSeparate");
 		check();
 	}
 
 	@Override
 	public void glBlendFuncSeparate (int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
 		calls++;
+		beginCall();
 		gl30.glBlendFuncSeparate(srcRGB, dstRGB, srcAlpha, dstAlpha);
+		endCall("glBlendFuncSeparate");
 		check();
 	}
 
 	@Override
 	public void glBufferData (int target, int size, Buffer data, int usage) {
 		calls++;
+		beginCall();
 		gl30.glBufferData(target, size, data, usage);
+		endCall("glBufferData");
 		check();
 	}
 
 	@Override
 	public void glBufferSubData (int target, int offset, int size, Buffer data) {
 		calls++;
+		beginCall();
 		gl30.glBufferSubData(target, offset, size, data);
+		endCall("glBufferSubData");
 		check();
 	}
 
 	@Override
 	public int glCheckFramebufferStatus (int target) {
 		calls++;
+		beginCall();
 		int result = gl30.glCheckFramebufferStatus(target);
+		endCall("glCheckFramebufferStatus");
 		check();
 		return result;
 	}
@@ -443,14 +554,18 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public void glCompileShader (int shader) {
 		calls++;
+		beginCall();
 		gl30.glCompileShader(shader);
+		endCall("glCompileShader");
 		check();
 	}
 
 	@Override
 	public int glCreateProgram () {
 		calls++;
+		beginCall();
 		int result = gl30.glCreateProgram();
+		endCall("glCreateProgram");
 		check();
 		return result;
 	}
@@ -458,7 +573,9 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public int glCreateShader (int type) {
 		calls++;
+		beginCall();
 		int result = gl30.glCreateShader(type);
+		endCall("glCreateShader");
 		check();
 		return result;
 	}
@@ -466,70 +583,90 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public void glDeleteBuffer (int buffer) {
 		calls++;
+		beginCall();
 		gl30.glDeleteBuffer(buffer);
+		endCall("glDeleteBuffer");
 		check();
 	}
 
 	@Override
 	public void glDeleteBuffers (int n, IntBuffer buffers) {
 		calls++;
+		beginCall();
 		gl30.glDeleteBuffers(n, buffers);
+		endCall("glDeleteBuffers");
 		check();
 	}
 
 	@Override
 	public void glDeleteFramebuffer (int framebuffer) {
 		calls++;
+		beginCall();
 		gl30.glDeleteFramebuffer(framebuffer);
+		endCall("glDeleteFramebuffer");
 		check();
 	}
 
 	@Override
 	public void glDeleteFramebuffers (int n, IntBuffer framebuffers) {
 		calls++;
+		beginCall();
 		gl30.glDeleteFramebuffers(n, framebuffers);
+		endCall("glDeleteFramebuffers");
 		check();
 	}
 
 	@Override
 	public void glDeleteProgram (int program) {
 		calls++;
+		beginCall();
 		gl30.glDeleteProgram(program);
+		endCall("glDeleteProgram");
 		check();
 	}
 
 	@Override
 	public void glDeleteRenderbuffer (int renderbuffer) {
 		calls++;
+		beginCall();
 		gl30.glDeleteRenderbuffer(renderbuffer);
+		endCall("glDeleteRenderbuffer");
 		check();
 	}
 
 	@Override
 	public void glDeleteRenderbuffers (int n, IntBuffer renderbuffers) {
 		calls++;
+		beginCall();
 		gl30.glDeleteRenderbuffers(n, renderbuffers);
+		endCall("glDeleteRenderbuffers");
 		check();
 	}
 
 	@Override
 	public void glDeleteShader (int shader) {
 		calls++;
+		beginCall();
 		gl30.glDeleteShader(shader);
+		endCall("glDeleteShader");
 		check();
 	}
 
 	@Override
 	public void glDetachShader (int program, int shader) {
 		calls++;
+		beginCall();
 		gl30.glDetachShader(program, shader);
+		endCall("glDetachShader");
 		check();
 	}
 
 	@Override
 	public void glDisableVertexAttribArray (int index) {
 		calls++;
+		beginCall();
 		gl30.glDisableVertexAttribArray(index);
+		endCall("glDisableVertexAttribArray");
 		check();
 	}
 
@@ -538,35 +675,45 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 		vertexCount.put(count);
 		drawCalls++;
 		calls++;
+		beginCall();
 		gl30.glDrawElements(mode, count, type, indices);
+		endCall("glDrawElements");
 		check();
 	}
 
 	@Override
 	public void glEnableVertexAttribArray (int index) {
 		calls++;
+		beginCall();
 		gl30.glEnableVertexAttribArray(index);
+		endCall("glEnableVertexAttribArray");
 		check();
 	}
 
 	@Override
 	public void glFramebufferRenderbuffer (int target, int attachment, int renderbuffertarget, int renderbuffer) {
 		calls++;
+		beginCall();
 		gl30.glFramebufferRenderbuffer(target, attachment, renderbuffertarget, renderbuffer);
+		endCall("glFramebufferRenderbuffer");
 		check();
 	}
 
 	@Override
 	public void glFramebufferTexture2D (int target, int attachment, int textarget, int texture, int level) {
 		calls++;
+		beginCall();
 		gl30.glFramebufferTexture2D(target, attachment, textarget, texture, level);
+		endCall("glFramebufferTexture2D");
 		check();
 	}
 
 	@Override
 	public int glGenBuffer () {
 		calls++;
+		beginCall();
 		int result = gl30.glGenBuffer();
+		endCall("glGenBuffer");
 		check();
 		return result;
 	}
@@ -574,21 +721,27 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public void glGenBuffers (int n, IntBuffer buffers) {
 		calls++;
+		beginCall();
 		gl30.glGenBuffers(n, buffers);
+		endCall("glGenBuffers");
 		check();
 	}
 
 	@Override
 	public void glGenerateMipmap (int target) {
 		calls++;
+		beginCall();
 		gl30.glGenerateMipmap(target);
+		endCall("glGenerateMipmap");
 		check();
 	}
 
 	@Override
 	public int glGenFramebuffer () {
 		calls++;
+		beginCall();
 		int result = gl30.glGenFramebuffer();
+		endCall("glGenFramebuffer");
 		check();
 		return result;
 	}
@@ -596,14 +749,18 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public void glGenFramebuffers (int n, IntBuffer framebuffers) {
 		calls++;
+		beginCall();
 		gl30.glGenFramebuffers(n, framebuffers);
+		endCall("glGenFramebuffers");
 		check();
 	}
 
 	@Override
 	public int glGenRenderbuffer () {
 		calls++;
+		beginCall();
 		int result = gl30.glGenRenderbuffer();
+		endCall("glGenRenderbuffer");
 		check();
 		return result;
 	}
@@ -611,14 +768,18 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public void glGenRenderbuffers (int n, IntBuffer renderbuffers) {
 		calls++;
+		beginCall();
 		gl30.glGenRenderbuffers(n, renderbuffers);
+		endCall("glGenRenderbuffers");
 		check();
 	}
 
 	@Override
 	public String glGetActiveAttrib (int program, int index, IntBuffer size, IntBuffer type) {
 		calls++;
+		beginCall();
 		String result = gl30.glGetActiveAttrib(program, index, size, type);
+		endCall("glGetActiveAttrib");
 		check();
 		return result;
 	}
@@ -626,7 +787,9 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public String glGetActiveUniform (int program, int index, IntBuffer size, IntBuffer type) {
 		calls++;
+		beginCall();
 		String result = gl30.glGetActiveUniform(program, index, size, type);
+		endCall("glGetActiveUniform");
 		check();
 		return result;
 	}
@@ -634,14 +797,18 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public void glGetAttachedShaders (int program, int maxcount, Buffer count, IntBuffer shaders) {
 		calls++;
+		beginCall();
 		gl30.glGetAttachedShaders(program, maxcount, count, shaders);
+		endCall("glGetAttachedShaders");
 		check();
 	}
 
 	@Override
 	public int glGetAttribLocation (int program, String name) {
 		calls++;
+		beginCall();
 		int result = gl30.glGetAttribLocation(program, name);
+		endCall("glGetAttribLocation");
 		check();
 		return result;
 	}
@@ -649,42 +816,54 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public void glGetBooleanv (int pname, Buffer params) {
 		calls++;
+		beginCall();
 		gl30.glGetBooleanv(pname, params);
+		endCall("glGetBooleanv");
 		check();
 	}
 
 	@Override
 	public void glGetBufferParameteriv (int target, int pname, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl30.glGetBufferParameteriv(target, pname, params);
+		endCall("glGetBufferParameteriv");
 		check();
 	}
 
 	@Override
 	public void glGetFloatv (int pname, FloatBuffer params) {
 		calls++;
+		beginCall();
 		gl30.glGetFloatv(pname, params);
+		endCall("glGetFloatv");
 		check();
 	}
 
 	@Override
 	public void glGetFramebufferAttachmentParameteriv (int target, int attachment, int pname, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl30.glGetFramebufferAttachmentParameteriv(target, attachment, pname, params);
+		endCall("glGetFramebufferAttachmentParameteriv");
 		check();
 	}
 
 	@Override
 	public void glGetProgramiv (int program, int pname, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl30.glGetProgramiv(program, pname, params);
+		endCall("glGetProgramiv");
 		check();
 	}
 
 	@Override
 	public String glGetProgramInfoLog (int program) {
 		calls++;
+		beginCall();
 		String result = gl30.glGetProgramInfoLog(program);
+		endCall("glGetProgramInfoLog");
 		check();
 		return result;
 	}
@@ -692,21 +871,27 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public void glGetRenderbufferParameteriv (int target, int pname, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl30.glGetRenderbufferParameteriv(target, pname, params);
+		endCall("glGetRenderbufferParameteriv");
 		check();
 	}
 
 	@Override
 	public void glGetShaderiv (int shader, int pname, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl30.glGetShaderiv(shader, pname, params);
+		endCall("glGetShaderiv");
 		check();
 	}
 
 	@Override
 	public String glGetShaderInfoLog (int shader) {
 		calls++;
+		beginCall();
 		String result = gl30.glGetShaderInfoLog(shader);
+		endCall("glGetShaderInfoLog");
 		check();
 		return result;
 	}
@@ -714,42 +899,54 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public void glGetShaderPrecisionFormat (int shadertype, int precisiontype, IntBuffer range, IntBuffer precision) {
 		calls++;
+		beginCall();
 		gl30.glGetShaderPrecisionFormat(shadertype, precisiontype, range, precision);
+		endCall("glGetShaderPrecisionFormat");
 		check();
 	}
 
 	@Override
 	public void glGetTexParameterfv (int target, int pname, FloatBuffer params) {
 		calls++;
+		beginCall();
 		gl30.glGetTexParameterfv(target, pname, params);
+		endCall("glGetTexParameterfv");
 		check();
 	}
 
 	@Override
 	public void glGetTexParameteriv (int target, int pname, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl30.glGetTexParameteriv(target, pname, params);
+		endCall("glGetTexParameteriv");
 		check();
 	}
 
 	@Override
 	public void glGetUniformfv (int program, int location, FloatBuffer params) {
 		calls++;
+		beginCall();
 		gl30.glGetUniformfv(program, location, params);
+		endCall("glGetUniformfv");
 		check();
 	}
 
 	@Override
 	public void glGetUniformiv (int program, int location, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl30.glGetUniformiv(program, location, params);
+		endCall("glGetUniformiv");
 		check();
 	}
 
 	@Override
 	public int glGetUniformLocation (int program, String name) {
 		calls++;
+		beginCall();
 		int result = gl30.glGetUniformLocation(program, name);
+		endCall("glGetUniformLocation");
 		check();
 		return result;
 	}
@@ -757,28 +954,36 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public void glGetVertexAttribfv (int index, int pname, FloatBuffer params) {
 		calls++;
+		beginCall();
 		gl30.glGetVertexAttribfv(index, pname, params);
+		endCall("glGetVertexAttribfv");
 		check();
 	}
 
 	@Override
 	public void glGetVertexAttribiv (int index, int pname, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl30.glGetVertexAttribiv(index, pname, params);
+		endCall("glGetVertexAttribiv");
 		check();
 	}
 
 	@Override
 	public void glGetVertexAttribPointerv (int index, int pname, Buffer pointer) {
 		calls++;
+		beginCall();
 		gl30.glGetVertexAttribPointerv(index, pname, pointer);
+		endCall("glGetVertexAttribPointerv");
 		check();
 	}
 
 	@Override
 	public boolean glIsBuffer (int buffer) {
 		calls++;
+		beginCall();
 		boolean result = gl30.glIsBuffer(buffer);
+		endCall("glIsBuffer");
 		check();
 		return result;
 	}
@@ -786,7 +991,9 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public boolean glIsEnabled (int cap) {
 		calls++;
+		beginCall();
 		boolean result = gl30.glIsEnabled(cap);
+		endCall("glIsEnabled");
 		check();
 		return result;
 	}
@@ -794,7 +1001,9 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public boolean glIsFramebuffer (int framebuffer) {
 		calls++;
+		beginCall();
 		boolean result = gl30.glIsFramebuffer(framebuffer);
+		endCall("glIsFramebuffer");
 		check();
 		return result;
 	}
@@ -802,7 +1011,9 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public boolean glIsProgram (int program) {
 		calls++;
+		beginCall();
 		boolean result = gl30.glIsProgram(program);
+		endCall("glIsProgram");
 		check();
 		return result;
 	}
@@ -810,7 +1021,9 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public boolean glIsRenderbuffer (int renderbuffer) {
 		calls++;
+		beginCall();
 		boolean result = gl30.glIsRenderbuffer(renderbuffer);
+		endCall("glIsRenderbuffer");
 		check();
 		return result;
 	}
@@ -818,7 +1031,9 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public boolean glIsShader (int shader) {
 		calls++;
+		beginCall();
 		boolean result = gl30.glIsShader(shader);
+		endCall("glIsShader");
 		check();
 		return result;
 	}
@@ -826,7 +1041,9 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public boolean glIsTexture (int texture) {
 		calls++;
+		beginCall();
 		boolean result = gl30.glIsTexture(texture);
+		endCall("glIsTexture");
 		check();
 		return result;
 	}
@@ -834,294 +1051,378 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public void glLinkProgram (int program) {
 		calls++;
+		beginCall();
 		gl30.glLinkProgram(program);
+		endCall("glLinkProgram");
 		check();
 	}
 
 	@Override
 	public void glReleaseShaderCompiler () {
 		calls++;
+		beginCall();
 		gl30.glReleaseShaderCompiler();
+		endCall("glReleaseShaderCompiler");
 		check();
 	}
 
 	@Override
 	public void glRenderbufferStorage (int target, int internalformat, int width, int height) {
 		calls++;
+		beginCall();
 		gl30.glRenderbufferStorage(target, internalformat, width, height);
+		endCall("glRenderbufferStorage");
 		check();
 	}
 
 	@Override
 	public void glSampleCoverage (float value, boolean invert) {
 		calls++;
+		beginCall();
 		gl30.glSampleCoverage(value, invert);
+		endCall("glSampleCoverage");
 		check();
 	}
 
 	@Override
 	public void glShaderBinary (int n, IntBuffer shaders, int binaryformat, Buffer binary, int length) {
 		calls++;
+		beginCall();
 		gl30.glShaderBinary(n, shaders, binaryformat, binary, length);
+		endCall("glShaderBinary");
 		check();
 	}
 
 	@Override
 	public void glShaderSource (int shader, String string) {
 		calls++;
+		beginCall();
 		gl30.glShaderSource(shader, string);
+		endCall("glShaderSource");
 		check();
 	}
 
 	@Override
 	public void glStencilFuncSeparate (int face, int func, int ref, int mask) {
 		calls++;
+		beginCall();
 		gl30.glStencilFuncSeparate(face, func, ref, mask);
+		endCall("glStencilFuncSeparate");
 		check();
 	}
 
 	@Override
 	public void glStencilMaskSeparate (int face, int mask) {
 		calls++;
+		beginCall();
 		gl30.glStencilMaskSeparate(face, mask);
+		endCall("glStencilMaskSeparate");
 		check();
 	}
 
 	@Override
 	public void glStencilOpSeparate (int face, int fail, int zfail, int zpass) {
 		calls++;
+		beginCall();
 		gl30.glStencilOpSeparate(face, fail, zfail, zpass);
+		endCall("glStencilOpSeparate");
 		check();
 	}
 
 	@Override
 	public void glTexParameterfv (int target, int pname, FloatBuffer params) {
 		calls++;
+		beginCall();
 		gl30.glTexParameterfv(target, pname, params);
+		endCall("glTexParameterfv");
 		check();
 	}
 
 	@Override
 	public void glTexParameteri (int target, int pname, int param) {
 		calls++;
+		beginCall();
 		gl30.glTexParameteri(target, pname, param);
+		endCall("glTexParameteri");
 		check();
 	}
 
 	@Override
 	public void glTexParameteriv (int target, int pname, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl30.glTexParameteriv(target, pname, params);
+		endCall("glTexParameteriv");
 		check();
 	}
 
 	@Override
 	public void glUniform1f (int location, float x) {
 		calls++;
+		beginCall();
 		gl30.glUniform1f(location, x);
+		endCall("glUniform1f");
 		check();
 	}
 
 	@Override
 	public void glUniform1fv (int location, int count, FloatBuffer v) {
 		calls++;
+		beginCall();
 		gl30.glUniform1fv(location, count, v);
+		endCall("glUniform1fv");
 		check();
 	}
 
 	@Override
 	public void glUniform1fv (int location, int count, float[] v, int offset) {
 		calls++;
+		beginCall();
 		gl30.glUniform1fv(location, count, v, offset);
+		endCall("glUniform1fv");
 		check();
 	}
 
 	@Override
 	public void glUniform1i (int location, int x) {
 		calls++;
+		beginCall();
 		gl30.glUniform1i(location, x);
+		endCall("glUniform1i");
 		check();
 	}
 
 	@Override
 	public void glUniform1iv (int location, int count, IntBuffer v) {
 		calls++;
+		beginCall();
 		gl30.glUniform1iv(location, count, v);
+		endCall("glUniform1iv");
 		check();
 	}
 
 	@Override
 	public void glUniform1iv (int location, int count, int[] v, int offset) {
 		calls++;
+		beginCall();
 		gl30.glUniform1iv(location, count, v, offset);
+		endCall("glUniform1iv");
 		check();
 	}
 
 	@Override
 	public void glUniform2f (int location, float x, float y) {
 		calls++;
+		beginCall();
 		gl30.glUniform2f(location, x, y);
+		endCall("glUniform2f");
 		check();
 	}
 
 	@Override
 	public void glUniform2fv (int location, int count, FloatBuffer v) {
 		calls++;
+		beginCall();
 		gl30.glUniform2fv(location, count, v);
+		endCall("glUniform2fv");
 		check();
 	}
 
 	@Override
 	public void glUniform2fv (int location, int count, float[] v, int offset) {
 		calls++;
+		beginCall();
 		gl30.glUniform2fv(location, count, v, offset);
+		endCall("glUniform2fv");
 		check();
 	}
 
 	@Override
 	public void glUniform2i (int location, int x, int y) {
 		calls++;
+		beginCall();
 		gl30.glUniform2i(location, x, y);
+		endCall("glUniform2i");
 		check();
 	}
 
 	@Override
 	public void glUniform2iv (int location, int count, IntBuffer v) {
 		calls++;
+		beginCall();
 		gl30.glUniform2iv(location, count, v);
+		endCall("glUniform2iv");
 		check();
 	}
 
 	@Override
 	public void glUniform2iv (int location, int count, int[] v, int offset) {
 		calls++;
+		beginCall();
 		gl30.glUniform2iv(location, count, v, offset);
+		endCall("glUniform2iv");
 		check();
 	}
 
 	@Override
 	public void glUniform3f (int location, float x, float y, float z) {
 		calls++;
+		beginCall();
 		gl30.glUniform3f(location, x, y, z);
+		endCall("glUniform3f");
 		check();
 	}
 
 	@Override
 	public void glUniform3fv (int location, int count, FloatBuffer v) {
 		calls++;
+		beginCall();
 		gl30.glUniform3fv(location, count, v);
+		endCall("glUniform3fv");
 		check();
 	}
 
 	@Override
 	public void glUniform3fv (int location, int count, float[] v, int offset) {
 		calls++;
+		beginCall();
 		gl30.glUniform3fv(location, count, v, offset);
+		endCall("glUniform3fv");
 		check();
 	}
 
 	@Override
 	public void glUniform3i (int location, int x, int y, int z) {
 		calls++;
+		beginCall();
 		gl30.glUniform3i(location, x, y, z);
+		endCall("glUniform3i");
 		check();
 	}
 
 	@Override
 	public void glUniform3iv (int location, int count, IntBuffer v) {
 		calls++;
+		beginCall();
 		gl30.glUniform3iv(location, count, v);
+		endCall("glUniform3iv");
 		check();
 	}
 
 	@Override
 	public void glUniform3iv (int location, int count, int[] v, int offset) {
 		calls++;
+		beginCall();
 		gl30.glUniform3iv(location, count, v, offset);
+		endCall("glUniform3iv");
 		check();
 	}
 
 	@Override
 	public void glUniform4f (int location, float x, float y, float z, float w) {
 		calls++;
+		beginCall();
 		gl30.glUniform4f(location, x, y, z, w);
+		endCall("glUniform4f");
 		check();
 	}
 
 	@Override
 	public void glUniform4fv (int location, int count, FloatBuffer v) {
 		calls++;
+		beginCall();
 		gl30.glUniform4fv(location, count, v);
+		endCall("glUniform4fv");
 		check();
 	}
 
 	@Override
 	public void glUniform4fv (int location, int count, float[] v, int offset) {
 		calls++;
+		beginCall();
 		gl30.glUniform4fv(location, count, v, offset);
+		endCall("glUniform4fv");
 		check();
 	}
 
 	@Override
 	public void glUniform4i (int location, int x, int y, int z, int w) {
 		calls++;
+		beginCall();
 		gl30.glUniform4i(location, x, y, z, w);
+		endCall("glUniform4i");
 		check();
 	}
 
 	@Override
 	public void glUniform4iv (int location, int count, IntBuffer v) {
 		calls++;
+		beginCall();
 		gl30.glUniform4iv(location, count, v);
+		endCall("glUniform4iv");
 		check();
 	}
 
 	@Override
 	public void glUniform4iv (int location, int count, int[] v, int offset) {
 		calls++;
+		beginCall();
 		gl30.glUniform4iv(location, count, v, offset);
+		endCall("glUniform4iv");
 		check();
 	}
 
 	@Override
 	public void glUniformMatrix2fv (int location, int count, boolean transpose, FloatBuffer value) {
 		calls++;
+		beginCall();
 		gl30.glUniformMatrix2fv(location, count, transpose, value);
+		endCall("glUniformMatrix2fv");
 		check();
 	}
 
 	@Override
 	public void glUniformMatrix2fv (int location, int count, boolean transpose, float[] value, int offset) {
 		calls++;
+		beginCall();
 		gl30.glUniformMatrix2fv(location, count, transpose, value, offset);
+		endCall("glUniformMatrix2fv");
 		check();
 	}
 
 	@Override
 	public void glUniformMatrix3fv (int location, int count, boolean transpose, FloatBuffer value) {
 		calls++;
+		beginCall();
 		gl30.glUniformMatrix3fv(location, count, transpose, value);
+		endCall("glUniformMatrix3fv");
 		check();
 	}
 
 	@Override
 	public void glUniformMatrix3fv (int location, int count, boolean transpose, float[] value, int offset) {
 		calls++;
+		beginCall();
 		gl30.glUniformMatrix3fv(location, count, transpose, value, offset);
+		endCall("glUniformMatrix3fv");
 		check();
 	}
 
 	@Override
 	public void glUniformMatrix4fv (int location, int count, boolean transpose, FloatBuffer value) {
 		calls++;
+		beginCall();
 		gl30.glUniformMatrix4fv(location, count, transpose, value);
+		endCall("glUniformMatrix4fv");
 		check();
 	}
 
 	@Override
 	public void glUniformMatrix4fv (int location, int count, boolean transpose, float[] value, int offset) {
 		calls++;
+		beginCall();
 		gl30.glUniformMatrix4fv(location, count, transpose, value, offset);
+		endCall("glUniformMatrix4fv");
 		check();
 	}
 
@@ -1129,84 +1430,108 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	public void glUseProgram (int program) {
 		shaderSwitches++;
 		calls++;
+		beginCall();
 		gl30.glUseProgram(program);
+		endCall("glUseProgram");
 		check();
 	}
 
 	@Override
 	public void glValidateProgram (int program) {
 		calls++;
+		beginCall();
 		gl30.glValidateProgram(program);
+		endCall("glValidateProgram");
 		check();
 	}
 
 	@Override
 	public void glVertexAttrib1f (int indx, float x) {
 		calls++;
+		beginCall();
 		gl30.glVertexAttrib1f(indx, x);
+		endCall("glVertexAttrib1f");
 		check();
 	}
 
 	@Override
 	public void glVertexAttrib1fv (int indx, FloatBuffer values) {
 		calls++;
+		beginCall();
 		gl30.glVertexAttrib1fv(indx, values);
+		endCall("glVertexAttrib1fv");
 		check();
 	}
 
 	@Override
 	public void glVertexAttrib2f (int indx, float x, float y) {
 		calls++;
+		beginCall();
 		gl30.glVertexAttrib2f(indx, x, y);
+		endCall("glVertexAttrib2f");
 		check();
 	}
 
 	@Override
 	public void glVertexAttrib2fv (int indx, FloatBuffer values) {
 		calls++;
+		beginCall();
 		gl30.glVertexAttrib2fv(indx, values);
+		endCall("glVertexAttrib2fv");
 		check();
 	}
 
 	@Override
 	public void glVertexAttrib3f (int indx, float x, float y, float z) {
 		calls++;
+		beginCall();
 		gl30.glVertexAttrib3f(indx, x, y, z);
+		endCall("glVertexAttrib3f");
 		check();
 	}
 
 	@Override
 	public void glVertexAttrib3fv (int indx, FloatBuffer values) {
 		calls++;
+		beginCall();
 		gl30.glVertexAttrib3fv(indx, values);
+		endCall("glVertexAttrib3fv");
 		check();
 	}
 
 	@Override
 	public void glVertexAttrib4f (int indx, float x, float y, float z, float w) {
 		calls++;
+		beginCall();
 		gl30.glVertexAttrib4f(indx, x, y, z, w);
+		endCall("glVertexAttrib4f");
 		check();
 	}
 
 	@Override
 	public void glVertexAttrib4fv (int indx, FloatBuffer values) {
 		calls++;
+		beginCall();
 		gl30.glVertexAttrib4fv(indx, values);
+		endCall("glVertexAttrib4fv");
 		check();
 	}
 
 	@Override
 	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, Buffer ptr) {
 		calls++;
+		beginCall();
 		gl30.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+		endCall("glVertexAttribPointer");
 		check();
 	}
 
 	@Override
 	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, int ptr) {
 		calls++;
+		beginCall();
 		gl30.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+		endCall("glVertexAttribPointer");
 		check();
 	}
 
@@ -1215,7 +1540,9 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public void glReadBuffer (int mode) {
 		calls++;
+		beginCall();
 		gl30.glReadBuffer(mode);
+		endCall("glReadBuffer");
 		check();
 	}
 
@@ -1224,7 +1551,9 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 		vertexCount.put(count);
 		drawCalls++;
 		calls++;
+		beginCall();
 		gl30.glDrawRangeElements(mode, start, end, count, type, indices);
+		endCall("glDrawRangeElements");
 		check();
 	}
 
@@ -1233,7 +1562,9 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 		vertexCount.put(count);
 		drawCalls++;
 		calls++;
+		beginCall();
 		gl30.glDrawRangeElements(mode, start, end, count, type, offset);
+		endCall("glDrawRangeElements");
 		check();
 	}
 
@@ -1241,7 +1572,9 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	public void glTexImage3D (int target, int level, int internalformat, int width, int height, int depth, int border, int format,
 		int type, Buffer pixels) {
 		calls++;
+		beginCall();
 		gl30.glTexImage3D(target, level, internalformat, width, height, depth, border, format, type, pixels);
+		endCall("glTexImage3D");
 		check();
 	}
 
@@ -1249,7 +1582,9 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	public void glTexImage3D (int target, int level, int internalformat, int width, int height, int depth, int border, int format,
 		int type, int offset) {
 		calls++;
+		beginCall();
 		gl30.glTexImage3D(target, level, internalformat, width, height, depth, border, format, type, offset);
+		endCall("glTexImage3D");
 		check();
 	}
 
@@ -1257,7 +1592,9 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	public void glTexSubImage3D (int target, int level, int xoffset, int yoffset, int zoffset, int width, int height, int depth,
 		int format, int type, Buffer pixels) {
 		calls++;
+		beginCall();
 		gl30.glTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, pixels);
+		endCall("glTexSubImage3D");
 		check();
 	}
 
@@ -1265,7 +1602,9 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	public void glTexSubImage3D (int target, int level, int xoffset, int yoffset, int zoffset, int width, int height, int depth,
 		int format, int type, int offset) {
 		calls++;
+		beginCall();
 		gl30.glTexSubImage3D(target, level, xoffset, yoffset, zoffset, width, height, depth, format, type, offset);
+		endCall("glTexSubImage3D");
 		check();
 	}
 
@@ -1273,42 +1612,54 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	public void glCopyTexSubImage3D (int target, int level, int xoffset, int yoffset, int zoffset, int x, int y, int width,
 		int height) {
 		calls++;
+		beginCall();
 		gl30.glCopyTexSubImage3D(target, level, xoffset, yoffset, zoffset, x, y, width, height);
+		endCall("glCopyTexSubImage3D");
 		check();
 	}
 
 	@Override
 	public void glGenQueries (int n, int[] ids, int offset) {
 		calls++;
+		beginCall();
 		gl30.glGenQueries(n, ids, offset);
+		endCall("glGenQueries");
 		check();
 	}
 
 	@Override
 	public void glGenQueries (int n, IntBuffer ids) {
 		calls++;
+		beginCall();
 		gl30.glGenQueries(n, ids);
+		endCall("glGenQueries");
 		check();
 	}
 
 	@Override
 	public void glDeleteQueries (int n, int[] ids, int offset) {
 		calls++;
+		beginCall();
 		gl30.glDeleteQueries(n, ids, offset);
+		endCall("glDeleteQueries");
 		check();
 	}
 
 	@Override
 	public void glDeleteQueries (int n, IntBuffer ids) {
 		calls++;
+		beginCall();
 		gl30.glDeleteQueries(n, ids);
+		endCall("glDeleteQueries");
 		check();
 	}
 
 	@Override
 	public boolean glIsQuery (int id) {
 		calls++;
+		beginCall();
 		final boolean result = gl30.glIsQuery(id);
+		endCall("glIsQuery");
 		check();
 		return result;
 	}
@@ -1316,35 +1667,45 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public void glBeginQuery (int target, int id) {
 		calls++;
+		beginCall();
 		gl30.glBeginQuery(target, id);
+		endCall("glBeginQuery");
 		check();
 	}
 
 	@Override
 	public void glEndQuery (int target) {
 		calls++;
+		beginCall();
 		gl30.glEndQuery(target);
+		endCall("glEndQuery");
 		check();
 	}
 
 	@Override
 	public void glGetQueryiv (int target, int pname, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl30.glGetQueryiv(target, pname, params);
+		endCall("glGetQueryiv");
 		check();
 	}
 
 	@Override
 	public void glGetQueryObjectuiv (int id, int pname, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl30.glGetQueryObjectuiv(id, pname, params);
+		endCall("glGetQueryObjectuiv");
 		check();
 	}
 
 	@Override
 	public boolean glUnmapBuffer (int target) {
 		calls++;
+		beginCall();
 		final boolean result = gl30.glUnmapBuffer(target);
+		endCall("glUnmapBuffer");
 		check();
 		return result;
 	}
@@ -1352,7 +1713,9 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public Buffer glGetBufferPointerv (int target, int pname) {
 		calls++;
+		beginCall();
 		final Buffer result = gl30.glGetBufferPointerv(target, pname);
+		endCall("glGetBufferPointerv");
 		check();
 		return result;
 	}
@@ -1361,49 +1724,63 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	public void glDrawBuffers (int n, IntBuffer bufs) {
 		drawCalls++;
 		calls++;
+		beginCall();
 		gl30.glDrawBuffers(n, bufs);
+		endCall("glDrawBuffers");
 		check();
 	}
 
 	@Override
 	public void glUniformMatrix2x3fv (int location, int count, boolean transpose, FloatBuffer value) {
 		calls++;
+		beginCall();
 		gl30.glUniformMatrix2x3fv(location, count, transpose, value);
+		endCall("glUniformMatrix2x3fv");
 		check();
 	}
 
 	@Override
 	public void glUniformMatrix3x2fv (int location, int count, boolean transpose, FloatBuffer value) {
 		calls++;
+		beginCall();
 		gl30.glUniformMatrix3x2fv(location, count, transpose, value);
+		endCall("glUniformMatrix3x2fv");
 		check();
 	}
 
 	@Override
 	public void glUniformMatrix2x4fv (int location, int count, boolean transpose, FloatBuffer value) {
 		calls++;
+		beginCall();
 		gl30.glUniformMatrix2x4fv(location, count, transpose, value);
+		endCall("glUniformMatrix2x4fv");
 		check();
 	}
 
 	@Override
 	public void glUniformMatrix4x2fv (int location, int count, boolean transpose, FloatBuffer value) {
 		calls++;
+		beginCall();
 		gl30.glUniformMatrix4x2fv(location, count, transpose, value);
+		endCall("glUniformMatrix4x2fv");
 		check();
 	}
 
 	@Override
 	public void glUniformMatrix3x4fv (int location, int count, boolean transpose, FloatBuffer value) {
 		calls++;
+		beginCall();
 		gl30.glUniformMatrix3x4fv(location, count, transpose, value);
+		endCall("glUniformMatrix3x4fv");
 		check();
 	}
 
 	@Override
 	public void glUniformMatrix4x3fv (int location, int count, boolean transpose, FloatBuffer value) {
 		calls++;
+		beginCall();
 		gl30.glUniformMatrix4x3fv(location, count, transpose, value);
+		endCall("glUniformMatrix4x3fv");
 		check();
 	}
 
@@ -1411,70 +1788,100 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	public void glBlitFramebuffer (int srcX0, int srcY0, int srcX1, int srcY1, int dstX0, int dstY0, int dstX1, int dstY1,
 		int mask, int filter) {
 		calls++;
+		beginCall();
 		gl30.glBlitFramebuffer(srcX0, srcY0, srcX1, srcY1, dstX0, dstY0, dstX1, dstY1, mask, filter);
+		endCall("glBlitFramebuffer");
 		check();
 	}
 
 	@Override
 	public void glRenderbufferStorageMultisample (int target, int samples, int internalformat, int width, int height) {
 		calls++;
+		beginCall();
 		gl30.glRenderbufferStorageMultisample(target, samples, internalformat, width, height);
+		endCall("glRenderbufferStorageMultisample");
 		check();
 	}
 
 	@Override
 	public void glFramebufferTextureLayer (int target, int attachment, int texture, int level, int layer) {
 		calls++;
+		beginCall();
 		gl30.glFramebufferTextureLayer(target, attachment, texture, level, layer);
+		endCall("glFramebufferTextureLayer");
 		check();
 	}
 
+	@Override
+	public Buffer glMapBufferRange (int target, int offset, int length, int access) {
+		calls++;
+		beginCall();
+		final Buffer result = gl30.glMapBufferRange(target, offset, length, access);
+		endCall("glMapBufferRange");
+		check();
+		return result;
+	}
+
 	@Override
 	public void glFlushMappedBufferRange (int target, int offset, int length) {
 		calls++;
+		beginCall();
 		gl30.glFlushMappedBufferRange(target, offset, length);
+		endCall("glFlushMappedBufferRange");
 		check();
 	}
 
 	@Override
 	public void glBindVertexArray (int array) {
 		calls++;
+		beginCall();
 		gl30.glBindVertexArray(array);
+		endCall("glBindVertexArray");
 		check();
 	}
 
 	@Override
 	public void glDeleteVertexArrays (int n, int[] arrays, int offset) {
 		calls++;
+		beginCall();
 		gl30.glDeleteVertexArrays(n, arrays, offset);
+		endCall("glDeleteVertexArrays");
 		check();
 	}
 
 	@Override
 	public void glDeleteVertexArrays (int n, IntBuffer arrays) {
 		calls++;
+		beginCall();
 		gl30.glDeleteVertexArrays(n, arrays);
+		endCall("glDeleteVertexArrays");
 		check();
 	}
 
 	@Override
 	public void glGenVertexArrays (int n, int[] arrays, int offset) {
 		calls++;
+		beginCall();
 		gl30.glGenVertexArrays(n, arrays, offset);
+		endCall("glGenVertexArrays");
 		check();
 	}
 
 	@Override
 	public void glGenVertexArrays (int n, IntBuffer arrays) {
 		calls++;
+		beginCall();
 		gl30.glGenVertexArrays(n, arrays);
+		endCall("glGenVertexArrays");
 		check();
 	}
 
 	@Override
 	public boolean glIsVertexArray (int array) {
 		calls++;
+		beginCall();
 		final boolean result = gl30.glIsVertexArray(array);
+		endCall("glIsVertexArray");
 		check();
 		return result;
 	}
@@ -1482,84 +1889,108 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public void glBeginTransformFeedback (int primitiveMode) {
 		calls++;
+		beginCall();
 		gl30.glBeginTransformFeedback(primitiveMode);
+		endCall("glBeginTransformFeedback");
 		check();
 	}
 
 	@Override
 	public void glEndTransformFeedback () {
 		calls++;
+		beginCall();
 		gl30.glEndTransformFeedback();
+		endCall("glEndTransformFeedback");
 		check();
 	}
 
 	@Override
 	public void glBindBufferRange (int target, int index, int buffer, int offset, int size) {
 		calls++;
+		beginCall();
 		gl30.glBindBufferRange(target, index, buffer, offset, size);
+		endCall("glBindBufferRange");
 		check();
 	}
 
 	@Override
 	public void glBindBufferBase (int target, int index, int buffer) {
 		calls++;
+		beginCall();
 		gl30.glBindBufferBase(target, index, buffer);
+		endCall("glBindBufferBase");
 		check();
 	}
 
 	@Override
 	public void glTransformFeedbackVaryings (int program, String[] varyings, int bufferMode) {
 		calls++;
+		beginCall();
 		gl30.glTransformFeedbackVaryings(program, varyings, bufferMode);
+		endCall("glTransformFeedbackVaryings");
 		check();
 	}
 
 	@Override
 	public void glVertexAttribIPointer (int index, int size, int type, int stride, int offset) {
 		calls++;
+		beginCall();
 		gl30.glVertexAttribIPointer(index, size, type, stride, offset);
+		endCall("glVertexAttribIPointer");
 		check();
 	}
 
 	@Override
 	public void glGetVertexAttribIiv (int index, int pname, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl30.glGetVertexAttribIiv(index, pname, params);
+		endCall("glGetVertexAttribIiv");
 		check();
 	}
 
 	@Override
 	public void glGetVertexAttribIuiv (int index, int pname, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl30.glGetVertexAttribIuiv(index, pname, params);
+		endCall("glGetVertexAttribIuiv");
 		check();
 	}
 
 	@Override
 	public void glVertexAttribI4i (int index, int x, int y, int z, int w) {
 		calls++;
+		beginCall();
 		gl30.glVertexAttribI4i(index, x, y, z, w);
+		endCall("glVertexAttribI4i");
 		check();
 	}
 
 	@Override
 	public void glVertexAttribI4ui (int index, int x, int y, int z, int w) {
 		calls++;
+		beginCall();
 		gl30.glVertexAttribI4ui(index, x, y, z, w);
+		endCall("glVertexAttribI4ui");
 		check();
 	}
 
 	@Override
 	public void glGetUniformuiv (int program, int location, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl30.glGetUniformuiv(program, location, params);
+		endCall("glGetUniformuiv");
 		check();
 	}
 
 	@Override
 	public int glGetFragDataLocation (int program, String name) {
 		calls++;
+		beginCall();
 		final int result = gl30.glGetFragDataLocation(program, name);
+		endCall("glGetFragDataLocation");
 		check();
 		return result;
 	}
@@ -1567,56 +1998,72 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public void glUniform1uiv (int location, int count, IntBuffer value) {
 		calls++;
+		beginCall();
 		gl30.glUniform1uiv(location, count, value);
+		endCall("glUniform1uiv");
 		check();
 	}
 
 	@Override
 	public void glUniform3uiv (int location, int count, IntBuffer value) {
 		calls++;
+		beginCall();
 		gl30.glUniform3uiv(location, count, value);
+		endCall("glUniform3uiv");
 		check();
 	}
 
 	@Override
 	public void glUniform4uiv (int location, int count, IntBuffer value) {
 		calls++;
+		beginCall();
 		gl30.glUniform4uiv(location, count, value);
+		endCall("glUniform4uiv");
 		check();
 	}
 
 	@Override
 	public void glClearBufferiv (int buffer, int drawbuffer, IntBuffer value) {
 		calls++;
+		beginCall();
 		gl30.glClearBufferiv(buffer, drawbuffer, value);
+		endCall("glClearBufferiv");
 		check();
 	}
 
 	@Override
 	public void glClearBufferuiv (int buffer, int drawbuffer, IntBuffer value) {
 		calls++;
+		beginCall();
 		gl30.glClearBufferuiv(buffer, drawbuffer, value);
+		endCall("glClearBufferuiv");
 		check();
 	}
 
 	@Override
 	public void glClearBufferfv (int buffer, int drawbuffer, FloatBuffer value) {
 		calls++;
+		beginCall();
 		gl30.glClearBufferfv(buffer, drawbuffer, value);
+		endCall("glClearBufferfv");
 		check();
 	}
 
 	@Override
 	public void glClearBufferfi (int buffer, int drawbuffer, float depth, int stencil) {
 		calls++;
+		beginCall();
 		gl30.glClearBufferfi(buffer, drawbuffer, depth, stencil);
+		endCall("glClearBufferfi");
 		check();
 	}
 
 	@Override
 	public String glGetStringi (int name, int index) {
 		calls++;
+		beginCall();
 		final String result = gl30.glGetStringi(name, index);
+		endCall("glGetStringi");
 		check();
 		return result;
 	}
@@ -1624,28 +2071,36 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public void glCopyBufferSubData (int readTarget, int writeTarget, int readOffset, int writeOffset, int size) {
 		calls++;
+		beginCall();
 		gl30.glCopyBufferSubData(readTarget, writeTarget, readOffset, writeOffset, size);
+		endCall("glCopyBufferSubData");
 		check();
 	}
 
 	@Override
 	public void glGetUniformIndices (int program, String[] uniformNames, IntBuffer uniformIndices) {
 		calls++;
+		beginCall();
 		gl30.glGetUniformIndices(program, uniformNames, uniformIndices);
+		endCall("glGetUniformIndices");
 		check();
 	}
 
 	@Override
 	public void glGetActiveUniformsiv (int program, int uniformCount, IntBuffer uniformIndices, int pname, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl30.glGetActiveUniformsiv(program, uniformCount, uniformIndices, pname, params);
+		endCall("glGetActiveUniformsiv");
 		check();
 	}
 
 	@Override
 	public int glGetUniformBlockIndex (int program, String uniformBlockName) {
 		calls++;
+		beginCall();
 		final int result = gl30.glGetUniformBlockIndex(program, uniformBlockName);
+		endCall("glGetUniformBlockIndex");
 		check();
 		return result;
 	}
@@ -1653,21 +2108,27 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public void glGetActiveUniformBlockiv (int program, int uniformBlockIndex, int pname, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl30.glGetActiveUniformBlockiv(program, uniformBlockIndex, pname, params);
+		endCall("glGetActiveUniformBlockiv");
 		check();
 	}
 
 	@Override
 	public void glGetActiveUniformBlockName (int program, int uniformBlockIndex, Buffer length, Buffer uniformBlockName) {
 		calls++;
+		beginCall();
 		gl30.glGetActiveUniformBlockName(program, uniformBlockIndex, length, uniformBlockName);
+		endCall("glGetActiveUniformBlockName");
 		check();
 	}
 
 	@Override
 	public String glGetActiveUniformBlockName (int program, int uniformBlockIndex) {
 		calls++;
+		beginCall();
 		final String result = gl30.glGetActiveUniformBlockName(program, uniformBlockIndex);
+		endCall("glGetActiveUniformBlockName");
 		check();
 		return result;
 	}
@@ -1675,7 +2136,9 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public void glUniformBlockBinding (int program, int uniformBlockIndex, int uniformBlockBinding) {
 		calls++;
+		beginCall();
 		gl30.glUniformBlockBinding(program, uniformBlockIndex, uniformBlockBinding);
+		endCall("glUniformBlockBinding");
 		check();
 	}
 
@@ -1684,7 +2147,9 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 		vertexCount.put(count);
 		drawCalls++;
 		calls++;
+		beginCall();
 		gl30.glDrawArraysInstanced(mode, first, count, instanceCount);
+		endCall("glDrawArraysInstanced");
 		check();
 	}
 
@@ -1693,56 +2158,72 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 		vertexCount.put(count);
 		drawCalls++;
 		calls++;
+		beginCall();
 		gl30.glDrawElementsInstanced(mode, count, type, indicesOffset, instanceCount);
+		endCall("glDrawElementsInstanced");
 		check();
 	}
 
 	@Override
 	public void glGetInteger64v (int pname, LongBuffer params) {
 		calls++;
+		beginCall();
 		gl30.glGetInteger64v(pname, params);
+		endCall("glGetInteger64v");
 		check();
 	}
 
 	@Override
 	public void glGetBufferParameteri64v (int target, int pname, LongBuffer params) {
 		calls++;
+		beginCall();
 		gl30.glGetBufferParameteri64v(target, pname, params);
+		endCall("glGetBufferParameteri64v");
 		check();
 	}
 
 	@Override
 	public void glGenSamplers (int count, int[] samplers, int offset) {
 		calls++;
+		beginCall();
 		gl30.glGenSamplers(count, samplers, offset);
+		endCall("glGenSamplers");
 		check();
 	}
 
 	@Override
 	public void glGenSamplers (int count, IntBuffer samplers) {
 		calls++;
+		beginCall();
 		gl30.glGenSamplers(count, samplers);
+		endCall("glGenSamplers");
 		check();
 	}
 
 	@Override
 	public void glDeleteSamplers (int count, int[] samplers, int offset) {
 		calls++;
+		beginCall();
 		gl30.glDeleteSamplers(count, samplers, offset);
+		endCall("glDeleteSamplers");
 		check();
 	}
 
 	@Override
 	public void glDeleteSamplers (int count, IntBuffer samplers) {
 		calls++;
+		beginCall();
 		gl30.glDeleteSamplers(count, samplers);
+		endCall("glDeleteSamplers");
 		check();
 	}
 
 	@Override
 	public boolean glIsSampler (int sampler) {
 		calls++;
+		beginCall();
 		final boolean result = gl30.glIsSampler(sampler);
+		endCall("glIsSampler");
 		check();
 		return result;
 	}
@@ -1750,98 +2231,126 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public void glBindSampler (int unit, int sampler) {
 		calls++;
+		beginCall();
 		gl30.glBindSampler(unit, sampler);
+		endCall("glBindSampler");
 		check();
 	}
 
 	@Override
 	public void glSamplerParameteri (int sampler, int pname, int param) {
 		calls++;
+		beginCall();
 		gl30.glSamplerParameteri(sampler, pname, param);
+		endCall("glSamplerParameteri");
 		check();
 	}
 
 	@Override
 	public void glSamplerParameteriv (int sampler, int pname, IntBuffer param) {
 		calls++;
+		beginCall();
 		gl30.glSamplerParameteriv(sampler, pname, param);
+		endCall("glSamplerParameteriv");
 		check();
 	}
 
 	@Override
 	public void glSamplerParameterf (int sampler, int pname, float param) {
 		calls++;
+		beginCall();
 		gl30.glSamplerParameterf(sampler, pname, param);
+		endCall("glSamplerParameterf");
 		check();
 	}
 
 	@Override
 	public void glSamplerParameterfv (int sampler, int pname, FloatBuffer param) {
 		calls++;
+		beginCall();
 		gl30.glSamplerParameterfv(sampler, pname, param);
+		endCall("glSamplerParameterfv");
 		check();
 	}
 
 	@Override
 	public void glGetSamplerParameteriv (int sampler, int pname, IntBuffer params) {
 		calls++;
+		beginCall();
 		gl30.glGetSamplerParameteriv(sampler, pname, params);
+		endCall("glGetSamplerParameteriv");
 		check();
 	}
 
 	@Override
 	public void glGetSamplerParameterfv (int sampler, int pname, FloatBuffer params) {
 		calls++;
+		beginCall();
 		gl30.glGetSamplerParameterfv(sampler, pname, params);
+		endCall("glGetSamplerParameterfv");
 		check();
 	}
 
 	@Override
 	public void glVertexAttribDivisor (int index, int divisor) {
 		calls++;
+		beginCall();
 		gl30.glVertexAttribDivisor(index, divisor);
+		endCall("glVertexAttribDivisor");
 		check();
 	}
 
 	@Override
 	public void glBindTransformFeedback (int target, int id) {
 		calls++;
+		beginCall();
 		gl30.glBindTransformFeedback(target, id);
+		endCall("glBindTransformFeedback");
 		check();
 	}
 
 	@Override
 	public void glDeleteTransformFeedbacks (int n, int[] ids, int offset) {
 		calls++;
+		beginCall();
 		gl30.glDeleteTransformFeedbacks(n, ids, offset);
+		endCall("glDeleteTransformFeedbacks");
 		check();
 	}
 
 	@Override
 	public void glDeleteTransformFeedbacks (int n, IntBuffer ids) {
 		calls++;
+		beginCall();
 		gl30.glDeleteTransformFeedbacks(n, ids);
+		endCall("glDeleteTransformFeedbacks");
 		check();
 	}
 
 	@Override
 	public void glGenTransformFeedbacks (int n, int[] ids, int offset) {
 		calls++;
+		beginCall();
 		gl30.glGenTransformFeedbacks(n, ids, offset);
+		endCall("glGenTransformFeedbacks");
 		check();
 	}
 
 	@Override
 	public void glGenTransformFeedbacks (int n, IntBuffer ids) {
 		calls++;
+		beginCall();
 		gl30.glGenTransformFeedbacks(n, ids);
+		endCall("glGenTransformFeedbacks");
 		check();
 	}
 
 	@Override
 	public boolean glIsTransformFeedback (int id) {
 		calls++;
+		beginCall();
 		final boolean result = gl30.glIsTransformFeedback(id);
+		endCall("glIsTransformFeedback");
 		check();
 		return result;
 	}
@@ -1849,28 +2358,36 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	@Override
 	public void glPauseTransformFeedback () {
 		calls++;
+		beginCall();
 		gl30.glPauseTransformFeedback();
+		endCall("glPauseTransformFeedback");
 		check();
 	}
 
 	@Override
 	public void glResumeTransformFeedback () {
 		calls++;
+		beginCall();
 		gl30.glResumeTransformFeedback();
+		endCall("glResumeTransformFeedback");
 		check();
 	}
 
 	@Override
 	public void glProgramParameteri (int program, int pname, int value) {
 		calls++;
+		beginCall();
 		gl30.glProgramParameteri(program, pname, value);
+		endCall("glProgramParameteri");
 		check();
 	}
 
 	@Override
 	public void glInvalidateFramebuffer (int target, int numAttachments, IntBuffer attachments) {
 		calls++;
+		beginCall();
 		gl30.glInvalidateFramebuffer(target, numAttachments, attachments);
+		endCall("glInvalidateFramebuffer");
 		check();
 	}
 
@@ -1878,7 +2395,9 @@ public class GL30Interceptor extends GLInterceptor implements GL30 {
 	public void glInvalidateSubFramebuffer (int target, int numAttachments, IntBuffer attachments, int x, int y, int width,
 		int height) {
 		calls++;
+		beginCall();
 		gl30.glInvalidateSubFramebuffer(target, numAttachments, attachments, x, y, width, height);
+		endCall("glInvalidateSubFramebuffer");
 		check();
 	}
 }
@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.profiling;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ByteArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonWriter;
+import com.badlogic.gdx.utils.JsonWriter.OutputType;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Records the GL calls going through a {@link GLInterceptor} with their CPU start and end times, split in frames and grouped by
+ * user defined scopes, see {@link GLProfiler#startCapture()}. Every event is kept in memory until the capture is discarded.
+ * <p>
+ * The capture can be exported with {@link #writeChromeTrace(Writer)} to the Chrome trace event format, which can be opened in
+ * chrome://tracing or Perfetto: frames are shown on one track, scopes and the GL calls they contain on another. */
+public class GLFrameCapture {
+	static final byte CALL = 0, BEGIN_SCOPE = 1, END_SCOPE = 2;
+
+	final ByteArray types = new ByteArray();
+	final Array<String> names = new Array<String>();
+	final LongArray starts = new LongArray(), ends = new LongArray();
+	final LongArray frameStarts = new LongArray();
+	final long startTime;
+	long endTime = -1;
+	int scopeDepth;
+	/** The amount of open scopes begun before the capture started, their ends aren't recorded. */
+	int outerScopes;
+
+	public GLFrameCapture () {
+		this(0);
+	}
+
+	/** @param scopeDepth the amount of scopes already open, which can be ended in this capture */
+	GLFrameCapture (int scopeDepth) {
+		this.scopeDepth = scopeDepth;
+		outerScopes = scopeDepth;
+		startTime = TimeUtils.nanoTime();
+		frameStarts.add(startTime);
+	}
+
+	void call (String name, long start, long end) {
+		if (endTime != -1) return;
+		types.add(CALL);
+		names.add(name);
+		starts.add(start);
+		ends.add(end);
+	}
+
+	/** Begins a scope, the GL calls until the matching {@link #endScope()} are grouped under its name. Scopes can be nested. */
+	public void beginScope (String name) {
+		scopeDepth++;
+		if (endTime != -1) return;
+		long time = TimeUtils.nanoTime();
+		types.add(BEGIN_SCOPE);
+		names.add(name);
+		starts.add(time);
+		ends.add(time);
+	}
+
+	/** Ends the scope begun last. */
+	public void endScope () {
+		if (scopeDepth == 0) throw new IllegalStateException("beginScope must be called before endScope.");
+		scopeDepth--;
+		if (scopeDepth < outerScopes) {
+			outerScopes = scopeDepth;
+			return;
+		}
+		if (endTime != -1) return;
+		long time = TimeUtils.nanoTime();
+		types.add(END_SCOPE);
+		names.add(null);
+		starts.add(time);
+		ends.add(time);
+	}
+
+	/** Ends the current frame and begins the next one. */
+	void nextFrame () {
+		if (endTime == -1) frameStarts.add(TimeUtils.nanoTime());
+	}
+
+	/** Ends the capture, later events are ignored. */
+	void stop () {
+		if (endTime == -1) endTime = TimeUtils.nanoTime();
+	}
+
+	/** @return the amount of frames captured, including the current one */
+	public int getFrameCount () {
+		return frameStarts.size;
+	}
+
+	/** @return the amount of GL calls captured */
+	public int getCallCount () {
+		int count = 0;
+		byte[] types = this.types.items;
+		for (int i = 0, n = this.types.size; i < n; i++)
+			if (types[i] == CALL) count++;
+		return count;
+	}
+
+	/** Writes the capture as Chrome trace event JSON. Timestamps are in microseconds since the capture started. The writer is not
+	 * closed. */
+	public void writeChromeTrace (Writer writer) throws IOException {
+		long endTime = this.endTime != -1 ? this.endTime : TimeUtils.nanoTime();
+		JsonWriter json = new JsonWriter(writer);
+		json.setOutputType(OutputType.json);
+		json.object().array("traceEvents");
+		writeThreadName(json, 0, "GL calls");
+		writeThreadName(json, 1, "Frames");
+
+		for (int i = 0, n = frameStarts.size; i < n; i++) {
+			long start = frameStarts.get(i), end = i + 1 < n ? frameStarts.get(i + 1) : endTime;
+			writeEvent(json, "Frame " + i, "frame", "X", 1, start);
+			json.set("dur", (end - start) / 1000.0).pop();
+		}
+
+		byte[] types = this.types.items;
+		for (int i = 0, n = this.types.size; i < n; i++) {
+			switch (types[i]) {
+			case CALL:
+				writeEvent(json, names.get(i), "gl", "X", 0, starts.get(i));
+				json.set("dur", (ends.get(i) - starts.get(i)) / 1000.0).pop();
+				break;
+			case BEGIN_SCOPE:
+				writeEvent(json, names.get(i), "scope", "B", 0, starts.get(i)).pop();
+				break;
+			case END_SCOPE:
+				writeEvent(json, null, "scope", "E", 0, starts.get(i)).pop();
+				break;
+			}
+		}
+		json.pop().pop();
+		json.flush();
+	}
+
+	/** @return the capture as Chrome trace event JSON, see {@link #writeChromeTrace(Writer)} */
+	public String toChromeTrace () {
+		StringWriter writer = new StringWriter();
+		try {
+			writeChromeTrace(writer);
+		} catch (IOException ex) {
+			throw new GdxRuntimeException(ex);
+		}
+		return writer.toString();
+	}
+
+	/** Writes the common fields of an event, leaving its object open. */
+	private JsonWriter writeEvent (JsonWriter json, String name, String category, String phase, int thread, long time)
+		throws IOException {
+		json.object();
+		if (name != null) json.set("name", name);
+		json.set("cat", category);
+		json.set("ph", phase);
+		json.set("ts", (time - startTime) / 1000.0);
+		json.set("pid", 0);
+		json.set("tid", thread);
+		return json;
+	}
+
+	private void writeThreadName (JsonWriter json, int thread, String name) throws IOException {
+		json.object();
+		json.set("name", "thread_name");
+		json.set("ph", "M");
+		json.set("pid", 0);
+		json.set("tid", thread);
+		json.object("args").set("name", name).pop();
+		json.pop();
+	}
+}
@@ -18,6 +18,7 @@ package com.badlogic.gdx.graphics.profiling;
 
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.math.FloatCounter;
+import com.badlogic.gdx.utils.TimeUtils;
 
 public abstract class GLInterceptor implements GL20 {
 
@@ -28,6 +29,9 @@ public abstract class GLInterceptor implements GL20 {
 	protected final FloatCounter vertexCount = new FloatCounter(0);
 
 	protected GLProfiler glProfiler;
+	/** The capture GL calls are recorded to, null when not capturing. */
+	protected GLFrameCapture capture;
+	private long callStart;
 
 	protected GLInterceptor (GLProfiler profiler) {
 		this.glProfiler = profiler;
@@ -50,6 +54,16 @@ public abstract class GLInterceptor implements GL20 {
 		}
 	}
 
+	/** Called before a GL call is forwarded, records its start time when capturing. */
+	protected void beginCall () {
+		if (capture != null) callStart = TimeUtils.nanoTime();
+	}
+
+	/** Called after a GL call was forwarded, records it when capturing. */
+	protected void endCall (String name) {
+		if (capture != null) capture.call(name, callStart, TimeUtils.nanoTime());
+	}
+
 	public int getCalls () {
 		return calls;
 	}
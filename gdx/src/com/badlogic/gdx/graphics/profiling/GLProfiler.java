@@ -35,6 +35,7 @@ public class GLProfiler {
 	private GLInterceptor glInterceptor;
 	private GLErrorListener listener;
 	private boolean enabled = false;
+	private int scopeDepth;
 
 	/**
 	 * Create a new instance of GLProfiler to monitor a {@link com.badlogic.gdx.Graphics} instance's gl calls
@@ -133,9 +134,49 @@ public class GLProfiler {
 	}
 
 	/** Will reset the statistical information which has been collected so far. This should be called after every frame.
-	 * Error listener is kept as it is. */
+	 * Error listener is kept as it is. When capturing, begins the next captured frame. */
 	public void reset () {
 		glInterceptor.reset();
+		if (glInterceptor.capture != null) glInterceptor.capture.nextFrame();
+	}
+
+	/** Starts recording the GL calls made while the profiler is enabled with their CPU timestamps, replacing any capture in
+	 * progress. Frames are delimited by {@link #reset()} and calls can be grouped with {@link #beginScope(String)}. Scopes begun
+	 * before the capture started can still be ended, they just aren't recorded.
+	 * @return the new capture, which can be exported with {@link GLFrameCapture#writeChromeTrace(java.io.Writer)} */
+	public GLFrameCapture startCapture () {
+		stopCapture();
+		glInterceptor.capture = new GLFrameCapture(scopeDepth);
+		return glInterceptor.capture;
+	}
+
+	/** Stops recording GL calls.
+	 * @return the capture, null if none was in progress */
+	public GLFrameCapture stopCapture () {
+		GLFrameCapture capture = glInterceptor.capture;
+		if (capture == null) return null;
+		capture.stop();
+		glInterceptor.capture = null;
+		return capture;
+	}
+
+	/** @return the capture in progress, null if not capturing */
+	public GLFrameCapture getCapture () {
+		return glInterceptor.capture;
+	}
+
+	/** Begins a scope in the capture in progress, see {@link GLFrameCapture#beginScope(String)}. The scope is only recorded when
+	 * capturing, but must be ended with {@link #endScope()} in any case. */
+	public void beginScope (String name) {
+		scopeDepth++;
+		if (glInterceptor.capture != null) glInterceptor.capture.beginScope(name);
+	}
+
+	/** Ends the scope begun last, recording it in the capture in progress. */
+	public void endScope () {
+		if (scopeDepth == 0) throw new IllegalStateException("beginScope must be called before endScope.");
+		scopeDepth--;
+		if (glInterceptor.capture != null) glInterceptor.capture.endScope();
 	}
 
 }
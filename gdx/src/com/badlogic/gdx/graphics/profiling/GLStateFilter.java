@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.profiling;
+
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.graphics.GL30;
+
+/** When enabled, drops redundant GL calls, such as using the program already in use or binding the texture already bound, before
+ * they reach the driver, see {@link GL20StateFilter}. Enabling will wrap Gdx.gl* instances with a {@link GL20StateFilter} or
+ * {@link GL30StateFilter} which route the remaining GL calls to the actual GL instances. It is typically enabled at startup, in
+ * {@link com.badlogic.gdx.ApplicationListener#create()}.
+ * <p>
+ * While enabled, the GL state must only be changed through Gdx.gl*. If it was changed otherwise, e.g. by native code, or the
+ * context was lost, call {@link #invalidate()}. A {@link GLProfiler} created after the filter was enabled profiles the calls
+ * which weren't dropped, it must be disabled before the filter. */
+public class GLStateFilter {
+
+	private Graphics graphics;
+	private GL20StateFilter filter;
+	private boolean enabled = false;
+
+	/** Create a new instance of GLStateFilter to filter a {@link com.badlogic.gdx.Graphics} instance's gl calls
+	 * @param graphics instance to filter with this instance, With Lwjgl 2.x you can pass in Gdx.graphics, with Lwjgl3 use
+	 *           Lwjgl3Window.getGraphics() */
+	public GLStateFilter (Graphics graphics) {
+		this.graphics = graphics;
+		GL30 gl30 = graphics.getGL30();
+		if (gl30 != null) {
+			filter = new GL30StateFilter(gl30);
+		} else {
+			filter = new GL20StateFilter(graphics.getGL20());
+		}
+	}
+
+	/** Enables filtering by replacing the {@code GL20} and {@code GL30} instances with filtering ones. The state is unknown until
+	 * set again. */
+	public void enable () {
+		if (enabled) return;
+
+		filter.invalidate();
+		if (filter instanceof GL30StateFilter) {
+			graphics.setGL30((GL30StateFilter)filter);
+		} else {
+			graphics.setGL20(filter);
+		}
+
+		enabled = true;
+	}
+
+	/** Disables filtering by resetting the {@code GL20} and {@code GL30} instances with the original ones. */
+	public void disable () {
+		if (!enabled) return;
+
+		if (filter instanceof GL30StateFilter) graphics.setGL30(((GL30StateFilter)filter).gl30);
+		else graphics.setGL20(filter.gl20);
+
+		enabled = false;
+	}
+
+	/** @return true if the GLStateFilter is currently filtering */
+	public boolean isEnabled () {
+		return enabled;
+	}
+
+	/** Forgets the state tracked by the filter, see {@link GL20StateFilter#invalidate()}. */
+	public void invalidate () {
+		filter.invalidate();
+	}
+
+	/** @return the amount of gl calls forwarded to the driver since the last reset */
+	public int getCalls () {
+		return filter.getCalls();
+	}
+
+	/** @return the amount of redundant gl calls dropped since the last reset */
+	public int getFilteredCalls () {
+		return filter.getFilteredCalls();
+	}
+
+	/** Will reset the counters. This should be called after every frame. */
+	public void reset () {
+		filter.reset();
+	}
+}
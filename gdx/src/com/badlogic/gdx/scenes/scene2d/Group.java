@@ -24,6 +24,7 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.utils.Cullable;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.DeferredSnapshotArray;
 import com.badlogic.gdx.utils.Null;
 import com.badlogic.gdx.utils.SnapshotArray;
 
@@ -36,13 +37,24 @@ import com.badlogic.gdx.utils.SnapshotArray;
 public class Group extends Actor implements Cullable {
 	static private final Vector2 tmp = new Vector2();
 
-	final SnapshotArray<Actor> children = new SnapshotArray(true, 4, Actor.class);
+	final SnapshotArray<Actor> children;
 	private final Affine2 worldTransform = new Affine2();
 	private final Matrix4 computedTransform = new Matrix4();
 	private final Matrix4 oldTransform = new Matrix4();
 	boolean transform = true;
 	private @Null Rectangle cullingArea;
 
+	public Group () {
+		this(false);
+	}
+
+	/** @param deferCopies If true, the children are stored in a {@link DeferredSnapshotArray}, so adding children or nesting
+	 *           iterations while the children are being iterated (eg during {@link #act(float)}) doesn't copy the children array,
+	 *           and removing children copies it in a single pass. */
+	public Group (boolean deferCopies) {
+		children = deferCopies ? new DeferredSnapshotArray(true, 4, Actor.class) : new SnapshotArray(true, 4, Actor.class);
+	}
+
 	public void act (float delta) {
 		super.act(delta);
 		Actor[] actors = children.begin();
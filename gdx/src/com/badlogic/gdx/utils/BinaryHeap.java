@@ -19,7 +19,9 @@ package com.badlogic.gdx.utils;
 import java.util.Arrays;
 
 /** A binary heap that stores nodes which each have a float value and are sorted either lowest first or highest first. The
- * {@link Node} class can be extended to store additional information.
+ * {@link Node} class can be extended to store additional information. Nodes track their index in the heap, so
+ * {@link #setValue(Node, float)} and {@link #remove(Node)} are O(log n) and {@link #contains(Node, boolean)} with identity is
+ * O(1). See {@link IntBinaryHeap} for a heap of int ids that doesn't need node objects.
  * @author Nathan Sweet */
 public class BinaryHeap<T extends BinaryHeap.Node> {
 	public int size;
@@ -60,16 +62,16 @@ public class BinaryHeap<T extends BinaryHeap.Node> {
 	}
 
 	/** Returns true if the heap contains the specified node.
-	 * @param identity If true, == comparison will be used. If false, .equals() comparison will be used. */
+	 * @param identity If true, == comparison will be used, which is O(1). If false, .equals() comparison will be used. */
 	public boolean contains (T node, boolean identity) {
 		if (node == null) throw new IllegalArgumentException("node cannot be null.");
+		Node[] nodes = this.nodes;
 		if (identity) {
-			for (Node n : nodes)
-				if (n == node) return true;
-		} else {
-			for (Node other : nodes)
-				if (other.equals(node)) return true;
+			int index = node.index;
+			return index >= 0 && index < size && nodes[index] == node;
 		}
+		for (int i = 0, n = size; i < n; i++)
+			if (nodes[i].equals(node)) return true;
 		return false;
 	}
 
@@ -95,7 +97,7 @@ public class BinaryHeap<T extends BinaryHeap.Node> {
 
 	/** @return The specified node. */
 	public T remove (T node) {
-		if (--size > 0) {
+		if (--size > 0 && node.index != size) {
 			Node moved = nodes[size];
 			nodes[size] = null;
 			nodes[node.index] = moved;
@@ -104,7 +106,7 @@ public class BinaryHeap<T extends BinaryHeap.Node> {
 			else
 				down(node.index);
 		} else
-			nodes[0] = null;
+			nodes[size] = null;
 		return node;
 	}
 
@@ -0,0 +1,995 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+/** A compressed bitset for large, sparse or clustered index spaces, such as entity or tile ids. Unlike {@link Bits}, memory use
+ * and the cost of {@link #and(CompressedBits)}, {@link #or(CompressedBits)} and similar operations depend on the number of set
+ * bits rather than on the highest set index.
+ * <p>
+ * Indices are split into a high 16 bit key and a low 16 bit value. Each key that has set bits owns a container, which is a
+ * sorted array of values while it holds at most 4096 bits and a 1024 long bitmap otherwise. {@link #runOptimize()} converts
+ * containers into run length encoded containers where that is smaller, which is useful for sets made of long ranges. Run
+ * containers are converted back to an array or bitmap the next time they are modified.
+ * <p>
+ * Set bits are iterated in ascending order with:
+ * 
+ * <pre>
+ * for (int i = bits.nextSetBit(0); i != -1; i = bits.nextSetBit(i + 1)) {
+ * 	...
+ * }
+ * </pre>
+ * 
+ * Indices must be >= 0. */
+public class CompressedBits {
+	static final int ARRAY_MAX = 4096;
+
+	int[] keys;
+	Container[] containers;
+	int size;
+
+	public CompressedBits () {
+		keys = new int[4];
+		containers = new Container[4];
+	}
+
+	/** Creates a bitset containing the same bits as the specified bitset. */
+	public CompressedBits (CompressedBits bits) {
+		keys = new int[Math.max(4, bits.size)];
+		containers = new Container[keys.length];
+		size = bits.size;
+		System.arraycopy(bits.keys, 0, keys, 0, size);
+		for (int i = 0; i < size; i++)
+			containers[i] = bits.containers[i].copy();
+	}
+
+	/** @param index the index of the bit
+	 * @return whether the bit is set */
+	public boolean get (int index) {
+		int i = indexOfKey(index >>> 16);
+		if (i < 0) return false;
+		return containers[i].contains(index & 0xffff);
+	}
+
+	/** Returns the bit at the given index and clears it in one go.
+	 * @param index the index of the bit
+	 * @return whether the bit was set before invocation */
+	public boolean getAndClear (int index) {
+		if (!get(index)) return false;
+		clear(index);
+		return true;
+	}
+
+	/** Returns the bit at the given index and sets it in one go.
+	 * @param index the index of the bit
+	 * @return whether the bit was set before invocation */
+	public boolean getAndSet (int index) {
+		if (get(index)) return true;
+		set(index);
+		return false;
+	}
+
+	/** @param index the index of the bit to set */
+	public void set (int index) {
+		int key = index >>> 16;
+		int i = indexOfKey(key);
+		if (i < 0) {
+			i = -(i + 1);
+			insertContainer(i, key, new ArrayContainer());
+		}
+		containers[i] = containers[i].add(index & 0xffff);
+	}
+
+	/** @param index the index of the bit to flip */
+	public void flip (int index) {
+		if (get(index))
+			clear(index);
+		else
+			set(index);
+	}
+
+	/** @param index the index of the bit to clear */
+	public void clear (int index) {
+		int i = indexOfKey(index >>> 16);
+		if (i < 0) return;
+		Container container = containers[i].remove(index & 0xffff);
+		if (container.cardinality() == 0)
+			removeContainer(i);
+		else
+			containers[i] = container;
+	}
+
+	/** Clears the entire bitset */
+	public void clear () {
+		Container[] containers = this.containers;
+		for (int i = 0, n = size; i < n; i++)
+			containers[i] = null;
+		size = 0;
+	}
+
+	/** Returns the number of bits that are set to true. */
+	public int cardinality () {
+		int count = 0;
+		for (int i = 0, n = size; i < n; i++)
+			count += containers[i].cardinality();
+		return count;
+	}
+
+	/** Returns the "logical size" of this bitset: the index of the highest set bit in the bitset plus one. Returns zero if the
+	 * bitset contains no set bits.
+	 * @return the logical size of this bitset */
+	public int length () {
+		if (size == 0) return 0;
+		return (keys[size - 1] << 16 | containers[size - 1].last()) + 1;
+	}
+
+	/** @return true if this bitset contains at least one bit set to true */
+	public boolean notEmpty () {
+		return size > 0;
+	}
+
+	/** @return true if this bitset contains no bits that are set to true */
+	public boolean isEmpty () {
+		return size == 0;
+	}
+
+	/** Returns the index of the first bit that is set to true that occurs on or after the specified starting index. If no such bit
+	 * exists then -1 is returned. */
+	public int nextSetBit (int fromIndex) {
+		int i = indexOfKey(fromIndex >>> 16), low = fromIndex & 0xffff;
+		if (i < 0) {
+			i = -(i + 1);
+			low = 0;
+		}
+		for (int n = size; i < n; i++, low = 0) {
+			int value = containers[i].nextSetBit(low);
+			if (value != -1) return keys[i] << 16 | value;
+		}
+		return -1;
+	}
+
+	/** Returns the index of the first bit that is set to false that occurs on or after the specified starting index. */
+	public int nextClearBit (int fromIndex) {
+		int key = fromIndex >>> 16, low = fromIndex & 0xffff;
+		int i = indexOfKey(key);
+		if (i < 0) return fromIndex;
+		for (int n = size; i < n && keys[i] == key; i++, key++, low = 0) {
+			int value = containers[i].nextClearBit(low);
+			if (value != -1) return key << 16 | value;
+		}
+		return key << 16;
+	}
+
+	/** Performs a logical <b>AND</b> of this target bit set with the argument bit set. This bit set is modified so that each bit in
+	 * it has the value true if and only if it both initially had the value true and the corresponding bit in the bit set argument
+	 * also had the value true.
+	 * @param other a bit set */
+	public void and (CompressedBits other) {
+		int[] keys = this.keys, otherKeys = other.keys;
+		Container[] containers = this.containers;
+		int n = size, otherSize = other.size, written = 0;
+		for (int i = 0, j = 0; i < n && j < otherSize;) {
+			int key = keys[i], otherKey = otherKeys[j];
+			if (key < otherKey)
+				i++;
+			else if (key > otherKey)
+				j++;
+			else {
+				Container container = and(containers[i], other.containers[j]);
+				if (container != null) {
+					keys[written] = key;
+					containers[written++] = container;
+				}
+				i++;
+				j++;
+			}
+		}
+		for (int i = written; i < n; i++)
+			containers[i] = null;
+		size = written;
+	}
+
+	/** Clears all of the bits in this bit set whose corresponding bit is set in the specified bit set.
+	 * 
+	 * @param other a bit set */
+	public void andNot (CompressedBits other) {
+		int[] keys = this.keys, otherKeys = other.keys;
+		Container[] containers = this.containers;
+		int n = size, otherSize = other.size, written = 0;
+		for (int i = 0, j = 0; i < n; i++) {
+			int key = keys[i];
+			while (j < otherSize && otherKeys[j] < key)
+				j++;
+			Container container = containers[i];
+			if (j < otherSize && otherKeys[j] == key) container = andNot(container, other.containers[j]);
+			if (container != null) {
+				keys[written] = key;
+				containers[written++] = container;
+			}
+		}
+		for (int i = written; i < n; i++)
+			containers[i] = null;
+		size = written;
+	}
+
+	/** Performs a logical <b>OR</b> of this bit set with the bit set argument. This bit set is modified so that a bit in it has the
+	 * value true if and only if it either already had the value true or the corresponding bit in the bit set argument has the
+	 * value true.
+	 * @param other a bit set */
+	public void or (CompressedBits other) {
+		merge(other, false);
+	}
+
+	/** Performs a logical <b>XOR</b> of this bit set with the bit set argument. This bit set is modified so that a bit in it has
+	 * the value true if and only if one of the following statements holds:
+	 * <ul>
+	 * <li>The bit initially has the value true, and the corresponding bit in the argument has the value false.</li>
+	 * <li>The bit initially has the value false, and the corresponding bit in the argument has the value true.</li>
+	 * </ul>
+	 * @param other a bit set */
+	public void xor (CompressedBits other) {
+		merge(other, true);
+	}
+
+	private void merge (CompressedBits other, boolean xor) {
+		int[] keys = this.keys, otherKeys = other.keys;
+		Container[] containers = this.containers, otherContainers = other.containers;
+		int n = size, otherSize = other.size, written = 0;
+		int[] newKeys = new int[Math.max(4, n + otherSize)];
+		Container[] newContainers = new Container[newKeys.length];
+		int i = 0, j = 0;
+		while (i < n || j < otherSize) {
+			int key = i < n ? keys[i] : Integer.MAX_VALUE, otherKey = j < otherSize ? otherKeys[j] : Integer.MAX_VALUE;
+			Container container;
+			if (key < otherKey) {
+				container = containers[i++];
+			} else if (key > otherKey) {
+				container = otherContainers[j++].copy();
+				key = otherKey;
+			} else {
+				container = xor ? xor(containers[i++], otherContainers[j++]) : or(containers[i++], otherContainers[j++]);
+			}
+			if (container != null) {
+				newKeys[written] = key;
+				newContainers[written++] = container;
+			}
+		}
+		this.keys = newKeys;
+		this.containers = newContainers;
+		size = written;
+	}
+
+	/** Returns true if the specified bit set has any bits set to true that are also set to true in this bit set.
+	 * 
+	 * @param other a bit set
+	 * @return boolean indicating whether this bit set intersects the specified bit set */
+	public boolean intersects (CompressedBits other) {
+		int[] keys = this.keys, otherKeys = other.keys;
+		for (int i = 0, j = 0, n = size, otherSize = other.size; i < n && j < otherSize;) {
+			int key = keys[i], otherKey = otherKeys[j];
+			if (key < otherKey)
+				i++;
+			else if (key > otherKey)
+				j++;
+			else if (intersects(containers[i++], other.containers[j++])) //
+				return true;
+		}
+		return false;
+	}
+
+	/** Returns true if this bit set is a super set of the specified set, i.e. it has all bits set to true that are also set to true
+	 * in the specified bit set.
+	 * 
+	 * @param other a bit set
+	 * @return boolean indicating whether this bit set is a super set of the specified set */
+	public boolean containsAll (CompressedBits other) {
+		int[] otherKeys = other.keys;
+		for (int j = 0, otherSize = other.size; j < otherSize; j++) {
+			int i = indexOfKey(otherKeys[j]);
+			if (i < 0 || andNot(other.containers[j], containers[i]) != null) return false;
+		}
+		return true;
+	}
+
+	/** Converts containers to run length encoded containers where that uses less memory. This is most effective after adding
+	 * long runs of consecutive indices. */
+	public void runOptimize () {
+		for (int i = 0, n = size; i < n; i++)
+			containers[i] = containers[i].runOptimize();
+	}
+
+	/** Returns an estimate of the memory used by the containers, in bytes. */
+	public int getSizeInBytes () {
+		int bytes = keys.length * 4 + containers.length * 4;
+		for (int i = 0, n = size; i < n; i++)
+			bytes += containers[i].sizeInBytes();
+		return bytes;
+	}
+
+	private int indexOfKey (int key) {
+		int[] keys = this.keys;
+		int low = 0, high = size - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int midKey = keys[mid];
+			if (midKey < key)
+				low = mid + 1;
+			else if (midKey > key)
+				high = mid - 1;
+			else
+				return mid;
+		}
+		return -(low + 1);
+	}
+
+	private void insertContainer (int index, int key, Container container) {
+		if (size == keys.length) {
+			int newSize = Math.max(8, (int)(size * 1.75f));
+			int[] newKeys = new int[newSize];
+			System.arraycopy(keys, 0, newKeys, 0, size);
+			keys = newKeys;
+			Container[] newContainers = new Container[newSize];
+			System.arraycopy(containers, 0, newContainers, 0, size);
+			containers = newContainers;
+		}
+		System.arraycopy(keys, index, keys, index + 1, size - index);
+		System.arraycopy(containers, index, containers, index + 1, size - index);
+		keys[index] = key;
+		containers[index] = container;
+		size++;
+	}
+
+	private void removeContainer (int index) {
+		size--;
+		System.arraycopy(keys, index + 1, keys, index, size - index);
+		System.arraycopy(containers, index + 1, containers, index, size - index);
+		containers[size] = null;
+	}
+
+	@Override
+	public int hashCode () {
+		int hash = 0;
+		for (int i = nextSetBit(0); i != -1; i = nextSetBit(i + 1))
+			hash = 127 * hash + i;
+		return hash;
+	}
+
+	@Override
+	public boolean equals (Object obj) {
+		if (this == obj) return true;
+		if (obj == null || getClass() != obj.getClass()) return false;
+		CompressedBits other = (CompressedBits)obj;
+		if (size != other.size) return false;
+		for (int i = 0, n = size; i < n; i++) {
+			if (keys[i] != other.keys[i]) return false;
+			Container container = containers[i], otherContainer = other.containers[i];
+			if (container.cardinality() != otherContainer.cardinality()) return false;
+			for (int value = container.nextSetBit(0); value != -1; value = container.nextSetBit(value + 1))
+				if (!otherContainer.contains(value)) return false;
+		}
+		return true;
+	}
+
+	public String toString () {
+		if (size == 0) return "[]";
+		StringBuilder buffer = new StringBuilder(32);
+		buffer.append('[');
+		for (int i = nextSetBit(0); i != -1; i = nextSetBit(i + 1)) {
+			if (buffer.length > 1) buffer.append(", ");
+			buffer.append(i);
+		}
+		buffer.append(']');
+		return buffer.toString();
+	}
+
+	// Container operations. The results never share state with the second argument and are null when empty.
+
+	static Container and (Container a, Container b) {
+		if (a instanceof ArrayContainer && b instanceof ArrayContainer) return intersect((ArrayContainer)a, (ArrayContainer)b);
+		if (a instanceof RunContainer && b instanceof RunContainer) return ((RunContainer)a).and((RunContainer)b);
+		if (a instanceof ArrayContainer) return filter((ArrayContainer)a, b, true);
+		if (b instanceof ArrayContainer) return filter((ArrayContainer)b, a, true);
+		BitmapContainer result = a.toBitmapCopy();
+		long[] words = result.words, otherWords = b.toBitmap().words;
+		for (int i = 0; i < 1024; i++)
+			words[i] &= otherWords[i];
+		return result.normalize();
+	}
+
+	static Container andNot (Container a, Container b) {
+		if (a instanceof ArrayContainer) return filter((ArrayContainer)a, b, false);
+		BitmapContainer result = a.toBitmapCopy();
+		long[] words = result.words;
+		if (b instanceof ArrayContainer) {
+			ArrayContainer array = (ArrayContainer)b;
+			for (int i = 0, n = array.size; i < n; i++) {
+				int value = array.values[i];
+				words[value >>> 6] &= ~(1L << value);
+			}
+		} else {
+			long[] otherWords = b.toBitmap().words;
+			for (int i = 0; i < 1024; i++)
+				words[i] &= ~otherWords[i];
+		}
+		return result.normalize();
+	}
+
+	static Container or (Container a, Container b) {
+		if (a instanceof ArrayContainer && b instanceof ArrayContainer) {
+			ArrayContainer array = (ArrayContainer)a, otherArray = (ArrayContainer)b;
+			if (array.size + otherArray.size <= ARRAY_MAX) return merge(array, otherArray, false);
+		}
+		if (a instanceof RunContainer && b instanceof RunContainer) return ((RunContainer)a).or((RunContainer)b);
+		BitmapContainer result = a.toBitmapCopy();
+		long[] words = result.words;
+		if (b instanceof ArrayContainer) {
+			ArrayContainer array = (ArrayContainer)b;
+			for (int i = 0, n = array.size; i < n; i++) {
+				int value = array.values[i];
+				words[value >>> 6] |= 1L << value;
+			}
+		} else {
+			long[] otherWords = b.toBitmap().words;
+			for (int i = 0; i < 1024; i++)
+				words[i] |= otherWords[i];
+		}
+		return result.normalize();
+	}
+
+	static Container xor (Container a, Container b) {
+		if (a instanceof ArrayContainer && b instanceof ArrayContainer) {
+			ArrayContainer array = (ArrayContainer)a, otherArray = (ArrayContainer)b;
+			if (array.size + otherArray.size <= ARRAY_MAX) return merge(array, otherArray, true);
+		}
+		BitmapContainer result = a.toBitmapCopy();
+		long[] words = result.words;
+		if (b instanceof ArrayContainer) {
+			ArrayContainer array = (ArrayContainer)b;
+			for (int i = 0, n = array.size; i < n; i++) {
+				int value = array.values[i];
+				words[value >>> 6] ^= 1L << value;
+			}
+		} else {
+			long[] otherWords = b.toBitmap().words;
+			for (int i = 0; i < 1024; i++)
+				words[i] ^= otherWords[i];
+		}
+		return result.normalize();
+	}
+
+	static boolean intersects (Container a, Container b) {
+		if (b instanceof ArrayContainer) {
+			Container temp = a;
+			a = b;
+			b = temp;
+		}
+		if (a instanceof ArrayContainer) {
+			ArrayContainer array = (ArrayContainer)a;
+			for (int i = 0, n = array.size; i < n; i++)
+				if (b.contains(array.values[i])) return true;
+			return false;
+		}
+		long[] words = a.toBitmap().words, otherWords = b.toBitmap().words;
+		for (int i = 0; i < 1024; i++)
+			if ((words[i] & otherWords[i]) != 0) return true;
+		return false;
+	}
+
+	/** Returns the values of the array that are (or are not) contained in the other container. */
+	static Container filter (ArrayContainer array, Container other, boolean contained) {
+		char[] values = array.values, result = new char[array.size];
+		int count = 0;
+		for (int i = 0, n = array.size; i < n; i++)
+			if (other.contains(values[i]) == contained) result[count++] = values[i];
+		return count == 0 ? null : new ArrayContainer(result, count);
+	}
+
+	static Container intersect (ArrayContainer a, ArrayContainer b) {
+		if (a.size > 1024 && b.size > 1024) {
+			// For large arrays probing a temporary bitmap is faster than a merge.
+			long[] words = new long[1024];
+			char[] otherValues = b.values, values = a.values, result = new char[a.size];
+			for (int i = 0, n = b.size; i < n; i++) {
+				int value = otherValues[i];
+				words[value >>> 6] |= 1L << value;
+			}
+			int count = 0;
+			for (int i = 0, n = a.size; i < n; i++) {
+				int value = values[i];
+				result[count] = (char)value;
+				count += (int)(words[value >>> 6] >>> value) & 1;
+			}
+			return count == 0 ? null : new ArrayContainer(result, count);
+		}
+		char[] values = a.values, otherValues = b.values, result = new char[a.size];
+		int i = 0, j = 0, n = a.size, otherSize = b.size, count = 0;
+		// Branch free, the comparisons are unpredictable for random values.
+		while (i < n && j < otherSize) {
+			char value = values[i], otherValue = otherValues[j];
+			result[count] = value;
+			count += value == otherValue ? 1 : 0;
+			i += value <= otherValue ? 1 : 0;
+			j += value >= otherValue ? 1 : 0;
+		}
+		return count == 0 ? null : new ArrayContainer(result, count);
+	}
+
+	/** Merges two sorted arrays whose combined size is at most {@link #ARRAY_MAX}. */
+	static Container merge (ArrayContainer a, ArrayContainer b, boolean xor) {
+		char[] values = a.values, otherValues = b.values, result = new char[a.size + b.size];
+		int i = 0, j = 0, n = a.size, otherSize = b.size, count = 0;
+		while (i < n && j < otherSize) {
+			char value = values[i], otherValue = otherValues[j];
+			if (value < otherValue) {
+				result[count++] = value;
+				i++;
+			} else if (value > otherValue) {
+				result[count++] = otherValue;
+				j++;
+			} else {
+				if (!xor) result[count++] = value;
+				i++;
+				j++;
+			}
+		}
+		while (i < n)
+			result[count++] = values[i++];
+		while (j < otherSize)
+			result[count++] = otherValues[j++];
+		return count == 0 ? null : new ArrayContainer(result, count);
+	}
+
+	/** Holds the low 16 bits of the indices that share a key. Values are in the range 0 to 65535. */
+	static abstract class Container {
+		abstract boolean contains (int value);
+
+		/** @return this container or a new container if a different representation is needed */
+		abstract Container add (int value);
+
+		/** @return this container or a new container if a different representation is needed */
+		abstract Container remove (int value);
+
+		abstract int cardinality ();
+
+		/** @return the first value >= the specified value, or -1 */
+		abstract int nextSetBit (int value);
+
+		/** @return the first unset value >= the specified value, or -1 */
+		abstract int nextClearBit (int value);
+
+		abstract int last ();
+
+		/** @return a bitmap with the same bits, which may be this container and must not be modified */
+		abstract BitmapContainer toBitmap ();
+
+		abstract Container copy ();
+
+		abstract int sizeInBytes ();
+
+		BitmapContainer toBitmapCopy () {
+			BitmapContainer bitmap = toBitmap();
+			return bitmap == this ? (BitmapContainer)copy() : bitmap;
+		}
+
+		/** @return the number of runs of consecutive values */
+		int runCount () {
+			int runs = 0;
+			for (int value = nextSetBit(0); value != -1; value = nextSetBit(value)) {
+				runs++;
+				value = nextClearBit(value);
+				if (value == -1) break;
+			}
+			return runs;
+		}
+
+		Container runOptimize () {
+			int runs = runCount();
+			if (RunContainer.sizeInBytes(runs) >= sizeInBytes()) return this;
+			char[] values = new char[runs * 2];
+			int count = 0;
+			for (int value = nextSetBit(0); value != -1; value = nextSetBit(value)) {
+				int end = nextClearBit(value);
+				values[count++] = (char)value;
+				values[count++] = (char)((end == -1 ? 65536 : end) - value - 1);
+				if (end == -1) break;
+				value = end;
+			}
+			return new RunContainer(values, runs);
+		}
+	}
+
+	/** A sorted array of values, used while there are at most {@link CompressedBits#ARRAY_MAX} values. */
+	static final class ArrayContainer extends Container {
+		char[] values;
+		int size;
+
+		ArrayContainer () {
+			values = new char[4];
+		}
+
+		ArrayContainer (char[] values, int size) {
+			this.values = values;
+			this.size = size;
+		}
+
+		private int indexOf (int value) {
+			char[] values = this.values;
+			int low = 0, high = size - 1;
+			while (low <= high) {
+				int mid = (low + high) >>> 1;
+				int midValue = values[mid];
+				if (midValue < value)
+					low = mid + 1;
+				else if (midValue > value)
+					high = mid - 1;
+				else
+					return mid;
+			}
+			return -(low + 1);
+		}
+
+		boolean contains (int value) {
+			return indexOf(value) >= 0;
+		}
+
+		Container add (int value) {
+			int index = indexOf(value);
+			if (index >= 0) return this;
+			if (size == ARRAY_MAX) return toBitmap().add(value);
+			index = -(index + 1);
+			char[] values = this.values;
+			if (size == values.length) {
+				values = new char[Math.min(ARRAY_MAX, Math.max(8, (int)(size * 1.75f)))];
+				System.arraycopy(this.values, 0, values, 0, index);
+				System.arraycopy(this.values, index, values, index + 1, size - index);
+				this.values = values;
+			} else
+				System.arraycopy(values, index, values, index + 1, size - index);
+			values[index] = (char)value;
+			size++;
+			return this;
+		}
+
+		Container remove (int value) {
+			int index = indexOf(value);
+			if (index < 0) return this;
+			size--;
+			System.arraycopy(values, index + 1, values, index, size - index);
+			return this;
+		}
+
+		int cardinality () {
+			return size;
+		}
+
+		int nextSetBit (int value) {
+			int index = indexOf(value);
+			if (index < 0) index = -(index + 1);
+			return index < size ? values[index] : -1;
+		}
+
+		int nextClearBit (int value) {
+			int index = indexOf(value);
+			if (index < 0) return value;
+			char[] values = this.values;
+			for (int n = size - 1; index < n && values[index + 1] == values[index] + 1; index++) {
+			}
+			value = values[index] + 1;
+			return value > 0xffff ? -1 : value;
+		}
+
+		int last () {
+			return values[size - 1];
+		}
+
+		BitmapContainer toBitmap () {
+			BitmapContainer bitmap = new BitmapContainer();
+			long[] words = bitmap.words;
+			for (int i = 0, n = size; i < n; i++) {
+				int value = values[i];
+				words[value >>> 6] |= 1L << value;
+			}
+			bitmap.cardinality = size;
+			return bitmap;
+		}
+
+		Container copy () {
+			char[] values = new char[Math.max(4, size)];
+			System.arraycopy(this.values, 0, values, 0, size);
+			return new ArrayContainer(values, size);
+		}
+
+		int sizeInBytes () {
+			return 16 + values.length * 2;
+		}
+	}
+
+	/** A bitmap of all 65536 values, used when there are more than {@link CompressedBits#ARRAY_MAX} values. */
+	static final class BitmapContainer extends Container {
+		final long[] words = new long[1024];
+		int cardinality;
+
+		boolean contains (int value) {
+			return (words[value >>> 6] & (1L << value)) != 0;
+		}
+
+		Container add (int value) {
+			long bit = 1L << value;
+			int word = value >>> 6;
+			if ((words[word] & bit) == 0) {
+				words[word] |= bit;
+				cardinality++;
+			}
+			return this;
+		}
+
+		Container remove (int value) {
+			long bit = 1L << value;
+			int word = value >>> 6;
+			if ((words[word] & bit) != 0) {
+				words[word] &= ~bit;
+				cardinality--;
+				// Convert with some slack so toggling a bit at the threshold doesn't convert every time.
+				if (cardinality <= ARRAY_MAX / 2) return toArray();
+			}
+			return this;
+		}
+
+		int cardinality () {
+			return cardinality;
+		}
+
+		int nextSetBit (int value) {
+			if (value > 0xffff) return -1;
+			long[] words = this.words;
+			int word = value >>> 6;
+			long bits = words[word] & (-1L << value);
+			while (true) {
+				if (bits != 0) return word << 6 | Long.numberOfTrailingZeros(bits);
+				if (++word == 1024) return -1;
+				bits = words[word];
+			}
+		}
+
+		int nextClearBit (int value) {
+			if (value > 0xffff) return -1;
+			long[] words = this.words;
+			int word = value >>> 6;
+			long bits = ~words[word] & (-1L << value);
+			while (true) {
+				if (bits != 0) return word << 6 | Long.numberOfTrailingZeros(bits);
+				if (++word == 1024) return -1;
+				bits = ~words[word];
+			}
+		}
+
+		int last () {
+			for (int word = 1023; word >= 0; word--)
+				if (words[word] != 0) return word << 6 | 63 - Long.numberOfLeadingZeros(words[word]);
+			return -1;
+		}
+
+		BitmapContainer toBitmap () {
+			return this;
+		}
+
+		Container copy () {
+			BitmapContainer bitmap = new BitmapContainer();
+			System.arraycopy(words, 0, bitmap.words, 0, 1024);
+			bitmap.cardinality = cardinality;
+			return bitmap;
+		}
+
+		int sizeInBytes () {
+			return 16 + 1024 * 8;
+		}
+
+		int runCount () {
+			long[] words = this.words;
+			int runs = 0;
+			long carry = 0;
+			for (int i = 0; i < 1024; i++) {
+				long bits = words[i];
+				runs += Long.bitCount(bits & ~(bits << 1 | carry));
+				carry = bits >>> 63;
+			}
+			return runs;
+		}
+
+		ArrayContainer toArray () {
+			char[] values = new char[Math.max(4, cardinality)];
+			int count = 0;
+			for (int value = nextSetBit(0); value != -1; value = nextSetBit(value + 1))
+				values[count++] = (char)value;
+			return new ArrayContainer(values, count);
+		}
+
+		/** Recounts the cardinality after bulk word operations and picks the smallest representation.
+		 * @return this container, an array container or null if empty */
+		Container normalize () {
+			int cardinality = 0;
+			for (int i = 0; i < 1024; i++)
+				cardinality += Long.bitCount(words[i]);
+			this.cardinality = cardinality;
+			if (cardinality == 0) return null;
+			if (cardinality <= ARRAY_MAX) return toArray();
+			return this;
+		}
+	}
+
+	/** Runs of consecutive values, stored as start and length - 1 pairs. Created by {@link CompressedBits#runOptimize()}. */
+	static final class RunContainer extends Container {
+		final char[] runs;
+		final int count;
+
+		RunContainer (char[] runs, int count) {
+			this.runs = runs;
+			this.count = count;
+		}
+
+		static int sizeInBytes (int runs) {
+			return 16 + runs * 4;
+		}
+
+		/** @return the index of the last run starting at or before the value, or -1 */
+		private int runBefore (int value) {
+			char[] runs = this.runs;
+			int low = 0, high = count - 1;
+			while (low <= high) {
+				int mid = (low + high) >>> 1;
+				if (runs[mid * 2] <= value)
+					low = mid + 1;
+				else
+					high = mid - 1;
+			}
+			return high;
+		}
+
+		boolean contains (int value) {
+			int run = runBefore(value);
+			return run != -1 && value <= runs[run * 2] + runs[run * 2 + 1];
+		}
+
+		Container add (int value) {
+			if (contains(value)) return this;
+			return toMutable().add(value);
+		}
+
+		Container remove (int value) {
+			if (!contains(value)) return this;
+			return toMutable().remove(value);
+		}
+
+		private Container toMutable () {
+			if (cardinality() > ARRAY_MAX) return toBitmap();
+			char[] values = new char[Math.max(4, cardinality())];
+			int size = 0;
+			for (int i = 0; i < count; i++)
+				for (int value = runs[i * 2], end = value + runs[i * 2 + 1]; value <= end; value++)
+					values[size++] = (char)value;
+			return new ArrayContainer(values, size);
+		}
+
+		int cardinality () {
+			int cardinality = count;
+			for (int i = 0; i < count; i++)
+				cardinality += runs[i * 2 + 1];
+			return cardinality;
+		}
+
+		int nextSetBit (int value) {
+			int run = runBefore(value);
+			if (run != -1 && value <= runs[run * 2] + runs[run * 2 + 1]) return value;
+			run++;
+			return run < count ? runs[run * 2] : -1;
+		}
+
+		int nextClearBit (int value) {
+			int run = runBefore(value);
+			if (run == -1) return value;
+			int end = runs[run * 2] + runs[run * 2 + 1];
+			if (value > end) return value;
+			return end == 0xffff ? -1 : end + 1;
+		}
+
+		int last () {
+			return runs[count * 2 - 2] + runs[count * 2 - 1];
+		}
+
+		BitmapContainer toBitmap () {
+			BitmapContainer bitmap = new BitmapContainer();
+			long[] words = bitmap.words;
+			for (int i = 0; i < count; i++) {
+				int start = runs[i * 2], end = start + runs[i * 2 + 1];
+				int startWord = start >>> 6, endWord = end >>> 6;
+				long startMask = -1L << start, endMask = -1L >>> 63 - (end & 63);
+				if (startWord == endWord)
+					words[startWord] |= startMask & endMask;
+				else {
+					words[startWord] |= startMask;
+					for (int word = startWord + 1; word < endWord; word++)
+						words[word] = -1L;
+					words[endWord] |= endMask;
+				}
+			}
+			bitmap.cardinality = cardinality();
+			return bitmap;
+		}
+
+		RunContainer and (RunContainer other) {
+			char[] runs = this.runs, otherRuns = other.runs, result = new char[(count + other.count) * 2];
+			int i = 0, j = 0, written = 0;
+			while (i < count && j < other.count) {
+				int start = runs[i * 2], end = start + runs[i * 2 + 1];
+				int otherStart = otherRuns[j * 2], otherEnd = otherStart + otherRuns[j * 2 + 1];
+				int overlapStart = Math.max(start, otherStart), overlapEnd = Math.min(end, otherEnd);
+				if (overlapStart <= overlapEnd) {
+					result[written++] = (char)overlapStart;
+					result[written++] = (char)(overlapEnd - overlapStart);
+				}
+				if (end < otherEnd)
+					i++;
+				else
+					j++;
+			}
+			return written == 0 ? null : new RunContainer(result, written / 2);
+		}
+
+		RunContainer or (RunContainer other) {
+			char[] runs = this.runs, otherRuns = other.runs, result = new char[(count + other.count) * 2];
+			int i = 0, j = 0, written = 0, start = -1, end = -1;
+			while (i < count || j < other.count) {
+				int nextStart, nextEnd;
+				if (j == other.count || (i < count && runs[i * 2] <= otherRuns[j * 2])) {
+					nextStart = runs[i * 2];
+					nextEnd = nextStart + runs[i++ * 2 + 1];
+				} else {
+					nextStart = otherRuns[j * 2];
+					nextEnd = nextStart + otherRuns[j++ * 2 + 1];
+				}
+				if (start != -1 && nextStart <= end + 1)
+					end = Math.max(end, nextEnd);
+				else {
+					if (start != -1) {
+						result[written++] = (char)start;
+						result[written++] = (char)(end - start);
+					}
+					start = nextStart;
+					end = nextEnd;
+				}
+			}
+			result[written++] = (char)start;
+			result[written++] = (char)(end - start);
+			return new RunContainer(result, written / 2);
+		}
+
+		Container copy () {
+			return this; // Immutable.
+		}
+
+		int sizeInBytes () {
+			return sizeInBytes(count);
+		}
+
+		int runCount () {
+			return count;
+		}
+
+		Container runOptimize () {
+			return this;
+		}
+	}
+}
@@ -0,0 +1,257 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import static com.badlogic.gdx.utils.ObjectSet.tableSize;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.badlogic.gdx.math.MathUtils;
+
+/** A thread safe unordered map where the keys are unboxed ints and values are objects. Like {@link IntMap}, it uses linear
+ * probing and Fibonacci hashing and no allocation is done except when growing.
+ * <p>
+ * Reads are lock-free. The map is split in segments, selected by the upper bits of the hash, each with its own table and lock,
+ * so writes to different segments don't contend. Null values are not allowed.
+ * <p>
+ * Removed entries keep their key in the table, so readers can probe without locking. The table of a segment is rebuilt without
+ * them when it fills up, so maps with many distinct keys put and removed rehash more often than {@link IntMap}.
+ * <p>
+ * {@link #keys(IntArray)} and {@link #size()} are weakly consistent: they reflect some of the changes made concurrently. */
+public class ConcurrentIntMap<V> {
+	private final Segment<V>[] segments;
+	private final int segmentBits;
+	private final float loadFactor;
+	private final AtomicReference<V> zeroValue = new AtomicReference<V>();
+
+	/** Creates a new map with an initial capacity of 51, a load factor of 0.8 and 16 segments. */
+	public ConcurrentIntMap () {
+		this(51, 0.8f, 16);
+	}
+
+	/** Creates a new map with a load factor of 0.8 and 16 segments. */
+	public ConcurrentIntMap (int initialCapacity) {
+		this(initialCapacity, 0.8f, 16);
+	}
+
+	/** Creates a new map which will hold initialCapacity items before growing.
+	 * @param concurrencyLevel The amount of segments, increased to the next power of two. Writes to different segments can
+	 *           happen concurrently. */
+	public ConcurrentIntMap (int initialCapacity, float loadFactor, int concurrencyLevel) {
+		if (loadFactor <= 0f || loadFactor >= 1f)
+			throw new IllegalArgumentException("loadFactor must be > 0 and < 1: " + loadFactor);
+		if (concurrencyLevel < 1) throw new IllegalArgumentException("concurrencyLevel must be > 0: " + concurrencyLevel);
+		this.loadFactor = loadFactor;
+		int segmentCount = MathUtils.nextPowerOfTwo(Math.min(concurrencyLevel, 1 << 16));
+		segmentBits = Integer.numberOfTrailingZeros(segmentCount);
+		segments = new Segment[segmentCount];
+		int segmentCapacity = (initialCapacity + segmentCount - 1) / segmentCount;
+		for (int i = 0; i < segmentCount; i++)
+			segments[i] = new Segment<V>(segmentCapacity, loadFactor);
+	}
+
+	private Segment<V> segment (long hash) {
+		return segmentBits == 0 ? segments[0] : segments[(int)(hash >>> -segmentBits)];
+	}
+
+	/** Returns the value for the specified key, or null if the key is not in the map. */
+	public @Null V get (int key) {
+		return get(key, null);
+	}
+
+	/** Returns the value for the specified key, or the default value if the key is not in the map. */
+	public V get (int key, @Null V defaultValue) {
+		if (key == 0) {
+			V value = zeroValue.get();
+			return value == null ? defaultValue : value;
+		}
+		long hash = key * 0x9E3779B97F4A7C15L;
+		Table<V> table = segment(hash).table;
+		AtomicIntegerArray keys = table.keys;
+		for (int i = table.place(hash << segmentBits);; i = i + 1 & table.mask) {
+			int other = keys.get(i);
+			if (other == 0) return defaultValue;
+			if (other == key) {
+				V value = table.values.get(i);
+				return value == null ? defaultValue : value;
+			}
+		}
+	}
+
+	public boolean containsKey (int key) {
+		return get(key, null) != null;
+	}
+
+	/** Returns the old value associated with the specified key, or null. */
+	public @Null V put (int key, V value) {
+		return put(key, value, false);
+	}
+
+	/** Puts the value only if the key is not in the map.
+	 * @return the value already associated with the specified key, or null if the value was put */
+	public @Null V putIfAbsent (int key, V value) {
+		return put(key, value, true);
+	}
+
+	private V put (int key, V value, boolean onlyIfAbsent) {
+		if (value == null) throw new IllegalArgumentException("value cannot be null.");
+		if (key == 0) {
+			if (onlyIfAbsent) return zeroValue.compareAndSet(null, value) ? null : zeroValue.get();
+			return zeroValue.getAndSet(value);
+		}
+		long hash = key * 0x9E3779B97F4A7C15L;
+		Segment<V> segment = segment(hash);
+		synchronized (segment) {
+			Table<V> table = segment.table;
+			AtomicIntegerArray keys = table.keys;
+			int i = table.place(hash << segmentBits);
+			for (;; i = i + 1 & table.mask) {
+				int other = keys.get(i);
+				if (other == key) {
+					V oldValue = table.values.get(i);
+					if (oldValue == null)
+						segment.size++;
+					else if (onlyIfAbsent) //
+						return oldValue;
+					table.values.set(i, value);
+					return oldValue;
+				}
+				if (other == 0) break;
+			}
+			// The value is set before the key, so readers finding the key see the value.
+			table.values.set(i, value);
+			keys.set(i, key);
+			segment.size++;
+			if (++segment.used >= table.threshold) segment.rehash(segmentBits);
+			return null;
+		}
+	}
+
+	/** Returns the value for the removed key, or null if the key is not in the map. */
+	public @Null V remove (int key) {
+		if (key == 0) return zeroValue.getAndSet(null);
+		long hash = key * 0x9E3779B97F4A7C15L;
+		Segment<V> segment = segment(hash);
+		synchronized (segment) {
+			Table<V> table = segment.table;
+			AtomicIntegerArray keys = table.keys;
+			for (int i = table.place(hash << segmentBits);; i = i + 1 & table.mask) {
+				int other = keys.get(i);
+				if (other == 0) return null;
+				if (other == key) {
+					V oldValue = table.values.getAndSet(i, null);
+					if (oldValue != null) segment.size--;
+					return oldValue;
+				}
+			}
+		}
+	}
+
+	/** Returns the number of key-value mappings, which may already have changed if other threads are writing. */
+	public int size () {
+		int size = zeroValue.get() != null ? 1 : 0;
+		for (Segment<V> segment : segments)
+			size += segment.size;
+		return size;
+	}
+
+	public boolean isEmpty () {
+		return size() == 0;
+	}
+
+	/** Removes all mappings, reducing the table of each segment to its initial size. */
+	public void clear () {
+		zeroValue.set(null);
+		for (Segment<V> segment : segments) {
+			synchronized (segment) {
+				segment.table = new Table<V>(tableSize(segment.initialCapacity, loadFactor), loadFactor);
+				segment.size = 0;
+				segment.used = 0;
+			}
+		}
+	}
+
+	/** Adds the keys in the map to the specified array. */
+	public IntArray keys (IntArray keys) {
+		if (zeroValue.get() != null) keys.add(0);
+		for (Segment<V> segment : segments) {
+			Table<V> table = segment.table;
+			for (int i = 0, n = table.keys.length(); i < n; i++) {
+				int key = table.keys.get(i);
+				if (key != 0 && table.values.get(i) != null) keys.add(key);
+			}
+		}
+		return keys;
+	}
+
+	static final class Segment<V> {
+		final int initialCapacity;
+		final float loadFactor;
+		volatile Table<V> table;
+		/** The amount of keys with a value, written while holding the lock. */
+		volatile int size;
+		/** The amount of slots with a key, including removed entries. */
+		int used;
+
+		Segment (int initialCapacity, float loadFactor) {
+			this.initialCapacity = initialCapacity;
+			this.loadFactor = loadFactor;
+			table = new Table<V>(tableSize(initialCapacity, loadFactor), loadFactor);
+		}
+
+		/** Copies the entries with a value to a new table, larger if most slots are in use, which is then published. */
+		void rehash (int segmentBits) {
+			Table<V> oldTable = table;
+			Table<V> newTable = new Table<V>(tableSize(Math.max(size * 2, initialCapacity), loadFactor), loadFactor);
+			AtomicIntegerArray oldKeys = oldTable.keys, newKeys = newTable.keys;
+			for (int i = 0, n = oldKeys.length(); i < n; i++) {
+				int key = oldKeys.get(i);
+				if (key == 0) continue;
+				V value = oldTable.values.get(i);
+				if (value == null) continue;
+				int index = newTable.place(key * 0x9E3779B97F4A7C15L << segmentBits);
+				while (newKeys.get(index) != 0)
+					index = index + 1 & newTable.mask;
+				newTable.values.set(index, value);
+				newKeys.set(index, key);
+			}
+			used = size;
+			table = newTable;
+		}
+	}
+
+	static final class Table<V> {
+		final AtomicIntegerArray keys;
+		final AtomicReferenceArray<V> values;
+		final int mask, shift, threshold;
+
+		Table (int tableSize, float loadFactor) {
+			keys = new AtomicIntegerArray(tableSize);
+			values = new AtomicReferenceArray<V>(tableSize);
+			mask = tableSize - 1;
+			shift = Long.numberOfLeadingZeros(mask);
+			threshold = (int)(tableSize * loadFactor);
+		}
+
+		/** @param hash the Fibonacci hash, shifted left past the bits selecting the segment */
+		int place (long hash) {
+			return (int)(hash >>> shift);
+		}
+	}
+}
@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import static com.badlogic.gdx.utils.ObjectSet.tableSize;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.badlogic.gdx.math.MathUtils;
+
+/** A thread safe unordered map where the keys are objects and the values are unboxed ints. Like {@link ObjectIntMap}, it uses
+ * linear probing and Fibonacci hashing and no allocation is done except when growing. Null keys are not allowed.
+ * <p>
+ * Reads are lock-free. The map is split in segments, selected by the upper bits of the hash, each with its own table and lock,
+ * so writes to different segments don't contend. {@link #getAndIncrement(Object, int, int)} is atomic.
+ * <p>
+ * Removed keys are replaced by a marker, so readers can probe without locking. The table of a segment is rebuilt without them
+ * when it fills up, so maps with many keys put and removed rehash more often than {@link ObjectIntMap}.
+ * <p>
+ * {@link #keys(Array)} and {@link #size()} are weakly consistent: they reflect some of the changes made concurrently. */
+public class ConcurrentObjectIntMap<K> {
+	static final Object REMOVED = new Object();
+
+	private final Segment[] segments;
+	private final int segmentBits;
+	private final float loadFactor;
+
+	/** Creates a new map with an initial capacity of 51, a load factor of 0.8 and 16 segments. */
+	public ConcurrentObjectIntMap () {
+		this(51, 0.8f, 16);
+	}
+
+	/** Creates a new map with a load factor of 0.8 and 16 segments. */
+	public ConcurrentObjectIntMap (int initialCapacity) {
+		this(initialCapacity, 0.8f, 16);
+	}
+
+	/** Creates a new map which will hold initialCapacity items before growing.
+	 * @param concurrencyLevel The amount of segments, increased to the next power of two. Writes to different segments can
+	 *           happen concurrently. */
+	public ConcurrentObjectIntMap (int initialCapacity, float loadFactor, int concurrencyLevel) {
+		if (loadFactor <= 0f || loadFactor >= 1f)
+			throw new IllegalArgumentException("loadFactor must be > 0 and < 1: " + loadFactor);
+		if (concurrencyLevel < 1) throw new IllegalArgumentException("concurrencyLevel must be > 0: " + concurrencyLevel);
+		this.loadFactor = loadFactor;
+		int segmentCount = MathUtils.nextPowerOfTwo(Math.min(concurrencyLevel, 1 << 16));
+		segmentBits = Integer.numberOfTrailingZeros(segmentCount);
+		segments = new Segment[segmentCount];
+		int segmentCapacity = (initialCapacity + segmentCount - 1) / segmentCount;
+		for (int i = 0; i < segmentCount; i++)
+			segments[i] = new Segment(segmentCapacity, loadFactor);
+	}
+
+	private Segment segment (long hash) {
+		return segmentBits == 0 ? segments[0] : segments[(int)(hash >>> -segmentBits)];
+	}
+
+	/** Returns the value for the specified key, or the default value if the key is not in the map. */
+	public int get (K key, int defaultValue) {
+		if (key == null) throw new IllegalArgumentException("key cannot be null.");
+		long hash = key.hashCode() * 0x9E3779B97F4A7C15L;
+		Table table = segment(hash).table;
+		AtomicReferenceArray<Object> keys = table.keys;
+		for (int i = table.place(hash << segmentBits);; i = i + 1 & table.mask) {
+			Object other = keys.get(i);
+			if (other == null) return defaultValue;
+			if (other.equals(key)) return table.values.get(i);
+		}
+	}
+
+	public boolean containsKey (K key) {
+		if (key == null) throw new IllegalArgumentException("key cannot be null.");
+		long hash = key.hashCode() * 0x9E3779B97F4A7C15L;
+		Table table = segment(hash).table;
+		AtomicReferenceArray<Object> keys = table.keys;
+		for (int i = table.place(hash << segmentBits);; i = i + 1 & table.mask) {
+			Object other = keys.get(i);
+			if (other == null) return false;
+			if (other.equals(key)) return true;
+		}
+	}
+
+	public void put (K key, int value) {
+		if (key == null) throw new IllegalArgumentException("key cannot be null.");
+		long hash = key.hashCode() * 0x9E3779B97F4A7C15L;
+		Segment segment = segment(hash);
+		synchronized (segment) {
+			Table table = segment.table;
+			int i = segment.locateKey(table, key, hash << segmentBits);
+			if (i >= 0) {
+				table.values.set(i, value);
+				return;
+			}
+			segment.add(table, -(i + 1), key, value, segmentBits);
+		}
+	}
+
+	/** Returns the key's current value and increments the stored value. If the key is not in the map, defaultValue + increment
+	 * is put into the map and defaultValue is returned. The increment is atomic. */
+	public int getAndIncrement (K key, int defaultValue, int increment) {
+		if (key == null) throw new IllegalArgumentException("key cannot be null.");
+		long hash = key.hashCode() * 0x9E3779B97F4A7C15L;
+		Segment segment = segment(hash);
+		synchronized (segment) {
+			Table table = segment.table;
+			int i = segment.locateKey(table, key, hash << segmentBits);
+			if (i >= 0) {
+				int oldValue = table.values.get(i);
+				table.values.set(i, oldValue + increment);
+				return oldValue;
+			}
+			segment.add(table, -(i + 1), key, defaultValue + increment, segmentBits);
+			return defaultValue;
+		}
+	}
+
+	/** Returns the value for the removed key, or the default value if the key is not in the map. */
+	public int remove (K key, int defaultValue) {
+		if (key == null) throw new IllegalArgumentException("key cannot be null.");
+		long hash = key.hashCode() * 0x9E3779B97F4A7C15L;
+		Segment segment = segment(hash);
+		synchronized (segment) {
+			Table table = segment.table;
+			int i = segment.locateKey(table, key, hash << segmentBits);
+			if (i < 0) return defaultValue;
+			table.keys.set(i, REMOVED);
+			segment.size--;
+			return table.values.get(i);
+		}
+	}
+
+	/** Returns the number of key-value mappings, which may already have changed if other threads are writing. */
+	public int size () {
+		int size = 0;
+		for (Segment segment : segments)
+			size += segment.size;
+		return size;
+	}
+
+	public boolean isEmpty () {
+		return size() == 0;
+	}
+
+	/** Removes all mappings, reducing the table of each segment to its initial size. */
+	public void clear () {
+		for (Segment segment : segments) {
+			synchronized (segment) {
+				segment.table = new Table(tableSize(segment.initialCapacity, loadFactor), loadFactor);
+				segment.size = 0;
+				segment.used = 0;
+			}
+		}
+	}
+
+	/** Adds the keys in the map to the specified array. */
+	public Array<K> keys (Array<K> keys) {
+		for (Segment segment : segments) {
+			AtomicReferenceArray<Object> tableKeys = segment.table.keys;
+			for (int i = 0, n = tableKeys.length(); i < n; i++) {
+				Object key = tableKeys.get(i);
+				if (key != null && key != REMOVED) keys.add((K)key);
+			}
+		}
+		return keys;
+	}
+
+	static final class Segment {
+		final int initialCapacity;
+		final float loadFactor;
+		volatile Table table;
+		/** The amount of keys in the table, written while holding the lock. */
+		volatile int size;
+		/** The amount of slots which aren't empty, including removed keys. */
+		int used;
+
+		Segment (int initialCapacity, float loadFactor) {
+			this.initialCapacity = initialCapacity;
+			this.loadFactor = loadFactor;
+			table = new Table(tableSize(initialCapacity, loadFactor), loadFactor);
+		}
+
+		/** Returns the index of the key if present, else -(index + 1) for the next empty index. Removed slots are not reused, as a
+		 * reader which found the previous key could see the value of the new one. */
+		int locateKey (Table table, Object key, long hash) {
+			AtomicReferenceArray<Object> keys = table.keys;
+			for (int i = table.place(hash);; i = i + 1 & table.mask) {
+				Object other = keys.get(i);
+				if (other == null) return -(i + 1);
+				if (other.equals(key)) return i;
+			}
+		}
+
+		/** Adds a key which isn't in the table at the specified empty index. */
+		void add (Table table, int index, Object key, int value, int segmentBits) {
+			// The value is set before the key, so readers finding the key see the value.
+			table.values.set(index, value);
+			table.keys.set(index, key);
+			size++;
+			if (++used >= table.threshold) rehash(segmentBits);
+		}
+
+		/** Copies the keys which weren't removed to a new table, larger if most slots are in use, which is then published. */
+		void rehash (int segmentBits) {
+			Table oldTable = table;
+			Table newTable = new Table(tableSize(Math.max(size * 2, initialCapacity), loadFactor), loadFactor);
+			AtomicReferenceArray<Object> oldKeys = oldTable.keys, newKeys = newTable.keys;
+			for (int i = 0, n = oldKeys.length(); i < n; i++) {
+				Object key = oldKeys.get(i);
+				if (key == null || key == REMOVED) continue;
+				int index = newTable.place(key.hashCode() * 0x9E3779B97F4A7C15L << segmentBits);
+				while (newKeys.get(index) != null)
+					index = index + 1 & newTable.mask;
+				newTable.values.set(index, oldTable.values.get(i));
+				newKeys.set(index, key);
+			}
+			used = size;
+			table = newTable;
+		}
+	}
+
+	static final class Table {
+		final AtomicReferenceArray<Object> keys;
+		final AtomicIntegerArray values;
+		final int mask, shift, threshold;
+
+		Table (int tableSize, float loadFactor) {
+			keys = new AtomicReferenceArray<Object>(tableSize);
+			values = new AtomicIntegerArray(tableSize);
+			mask = tableSize - 1;
+			shift = Long.numberOfLeadingZeros(mask);
+			threshold = (int)(tableSize * loadFactor);
+		}
+
+		/** @param hash the Fibonacci hash, shifted left past the bits selecting the segment */
+		int place (long hash) {
+			return (int)(hash >>> shift);
+		}
+	}
+}
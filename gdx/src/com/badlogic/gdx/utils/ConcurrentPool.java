@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.badlogic.gdx.math.MathUtils;
+
+/** A thread safe {@link Pool}. Each thread obtains and frees objects from its own cache, without synchronization. When a cache is
+ * full, half of it is moved to a shared overflow, from which threads with an empty cache take objects back, so objects freed by
+ * one thread and obtained by another are reused. The overflow is a lock-free array of slots, claimed with compare-and-set.
+ * <p>
+ * {@link #max} is the maximum number of objects in the overflow, each thread cache holds up to {@link #localMax} more. Objects
+ * are reset before being freed, so {@link #reset(Object)} must not touch state shared with other threads. {@link #clear()}
+ * and {@link #getFree()} only see the cache of the calling thread and the overflow. {@link #peak} is approximate.
+ * <p>
+ * The pool does not check if an object is already freed, so the same object must not be freed multiple times. */
+abstract public class ConcurrentPool<T> extends Pool<T> {
+	/** The maximum number of free objects cached per thread. */
+	public final int localMax;
+
+	private final ThreadLocal<Cache<T>> caches = new ThreadLocal<Cache<T>>() {
+		protected Cache<T> initialValue () {
+			return new Cache<T>(localMax);
+		}
+	};
+	private final AtomicReferenceArray<T> shared;
+	private final AtomicInteger sharedCount = new AtomicInteger();
+	private final int mask;
+
+	/** Creates a pool caching up to 64 objects per thread and up to 1024 shared objects. */
+	public ConcurrentPool () {
+		this(64, 1024);
+	}
+
+	/** @param localMax The maximum number of free objects cached per thread.
+	 * @param max The maximum number of free objects in the shared overflow. */
+	public ConcurrentPool (int localMax, int max) {
+		super(0, max);
+		if (localMax < 1) throw new IllegalArgumentException("localMax must be > 0: " + localMax);
+		if (max < 1 || max > 1 << 30) throw new IllegalArgumentException("max must be > 0 and <= 2^30: " + max);
+		this.localMax = localMax;
+		shared = new AtomicReferenceArray<T>(MathUtils.nextPowerOfTwo(max));
+		mask = shared.length() - 1;
+	}
+
+	@Override
+	public T obtain () {
+		Cache<T> cache = caches.get();
+		Array<T> objects = cache.objects;
+		if (objects.size == 0 && sharedCount.get() > 0) {
+			// Take back up to half a cache at once.
+			take(cache, Math.max(1, localMax / 2));
+		}
+		boolean created = objects.size == 0;
+		T object = created ? newObject() : objects.pop();
+		PoolStats stats = getStats();
+		if (stats != null) stats.obtained(object, created);
+		return object;
+	}
+
+	/** Resets the object then puts it in the cache of the calling thread, moving half of the cache to the shared overflow if it is
+	 * full. If the overflow already contains {@link #max} objects, the object is not pooled. */
+	@Override
+	public void free (T object) {
+		if (object == null) throw new IllegalArgumentException("object cannot be null.");
+		reset(object);
+		// Counted before the object is published, as another thread may obtain it right away.
+		PoolStats stats = getStats();
+		if (stats != null) stats.freed(object, true);
+		if (!put(object) && stats != null) stats.discarded();
+	}
+
+	@Override
+	public void freeAll (Array<T> objects) {
+		if (objects == null) throw new IllegalArgumentException("objects cannot be null.");
+		for (int i = 0, n = objects.size; i < n; i++) {
+			T object = objects.get(i);
+			if (object != null) free(object);
+		}
+	}
+
+	/** Adds the specified number of new free objects to the cache of the calling thread, overflowing to the shared objects. */
+	@Override
+	public void fill (int size) {
+		for (int i = 0; i < size; i++)
+			put(newObject());
+		PoolStats stats = getStats();
+		if (stats != null) stats.filled(size);
+	}
+
+	/** Removes the free objects cached by the calling thread and the shared objects. */
+	@Override
+	public void clear () {
+		caches.get().objects.clear();
+		for (int i = 0, n = shared.length(); i < n && sharedCount.get() > 0; i++)
+			if (shared.getAndSet(i, null) != null) sharedCount.decrementAndGet();
+	}
+
+	/** The number of objects available to be obtained by the calling thread. */
+	@Override
+	public int getFree () {
+		return caches.get().objects.size + sharedCount.get();
+	}
+
+	/** Puts the object in the cache of the calling thread, moving half of the cache to the shared overflow if it is full.
+	 * @return false if an object was dropped because the overflow is full */
+	private boolean put (T object) {
+		Cache<T> cache = caches.get();
+		boolean pooled = true;
+		if (cache.objects.size == localMax) pooled = give(cache, Math.max(1, localMax / 2));
+		cache.objects.add(object);
+		return pooled;
+	}
+
+	/** Moves up to count objects from the shared overflow to the cache. */
+	private void take (Cache<T> cache, int count) {
+		AtomicReferenceArray<T> shared = this.shared;
+		Array<T> objects = cache.objects;
+		int mask = this.mask, index = cache.index & mask;
+		for (int i = 0; i <= mask && count > 0; i++, index = index + 1 & mask) {
+			T object = shared.get(index);
+			if (object == null || !shared.compareAndSet(index, object, null)) continue;
+			objects.add(object);
+			count--;
+			if (sharedCount.decrementAndGet() == 0) break;
+		}
+		cache.index = index;
+	}
+
+	/** Moves up to count objects from the cache to the shared overflow. If none fit, one object is dropped.
+	 * @return false if an object was dropped */
+	private boolean give (Cache<T> cache, int count) {
+		AtomicReferenceArray<T> shared = this.shared;
+		Array<T> objects = cache.objects;
+		int mask = this.mask, index = cache.index & mask;
+		for (int i = 0; i <= mask && count > 0; i++, index = index + 1 & mask) {
+			if (sharedCount.get() >= max) break;
+			if (shared.get(index) != null || !shared.compareAndSet(index, null, objects.peek())) continue;
+			objects.pop();
+			count--;
+			peak = Math.max(peak, sharedCount.incrementAndGet());
+		}
+		cache.index = index;
+		if (objects.size < localMax) return true;
+		objects.pop(); // The overflow is full.
+		return false;
+	}
+
+	static private class Cache<T> {
+		final Array<T> objects;
+		/** The slot of the shared overflow this thread continues scanning from. */
+		int index;
+
+		Cache (int localMax) {
+			objects = new Array<T>(false, localMax);
+			index = (int)(Thread.currentThread().getId() * 0x9E3779B97F4A7C15L >>> 32);
+		}
+	}
+}
@@ -0,0 +1,229 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import com.badlogic.gdx.utils.reflect.ArrayReflection;
+
+/** A {@link SnapshotArray} that defers copying the backing array until a modification changes the items seen by an iteration.
+ * Like SnapshotArray, the items provided by {@link #begin()} between indexes 0 and {@link #size} at the time begin was called are
+ * not modified until {@link #end()} is called, and the array always reflects every modification. The backing array is only
+ * copied when a modification changes that range:
+ * <ul>
+ * <li>Adding items, and modifying or removing items that were added after begin was called, doesn't copy.</li>
+ * <li>Removing items inside the range copies the backing array without the removed items, in a single pass.</li>
+ * <li>Nested iterations share the same snapshot instead of copying.</li>
+ * <li>Removing values which aren't in the array doesn't copy.</li>
+ * </ul>
+ * Copies reuse the array released by the last end when possible. Iteration is done the same way as with SnapshotArray. */
+public class DeferredSnapshotArray<T> extends SnapshotArray<T> {
+	private T[] snapshot, recycled;
+	private int iterating, snapshotSize;
+
+	public DeferredSnapshotArray () {
+		super();
+	}
+
+	public DeferredSnapshotArray (Array array) {
+		super(array);
+	}
+
+	public DeferredSnapshotArray (boolean ordered, int capacity, Class arrayType) {
+		super(ordered, capacity, arrayType);
+	}
+
+	public DeferredSnapshotArray (boolean ordered, int capacity) {
+		super(ordered, capacity);
+	}
+
+	public DeferredSnapshotArray (boolean ordered, T[] array, int startIndex, int count) {
+		super(ordered, array, startIndex, count);
+	}
+
+	public DeferredSnapshotArray (Class arrayType) {
+		super(arrayType);
+	}
+
+	public DeferredSnapshotArray (int capacity) {
+		super(capacity);
+	}
+
+	public DeferredSnapshotArray (T[] array) {
+		super(array);
+	}
+
+	/** Returns the backing array, whose items between 0 and {@link #size} are guaranteed to not be modified before
+	 * {@link #end()}. */
+	public T[] begin () {
+		if (iterating == 0 || snapshot != items) {
+			snapshot = items;
+			snapshotSize = size;
+		} else
+			snapshotSize = Math.max(snapshotSize, size);
+		iterating++;
+		return items;
+	}
+
+	/** Releases the guarantee that the array returned by {@link #begin()} won't be modified. */
+	public void end () {
+		if (iterating == 0) return;
+		if (--iterating > 0) return;
+		T[] snapshot = this.snapshot;
+		this.snapshot = null;
+		snapshotSize = 0;
+		if (snapshot != items) {
+			// The backing array was copied, keep around the old array.
+			Arrays.fill(snapshot, null);
+			recycled = snapshot;
+		}
+	}
+
+	/** Returns true if the items before {@link #snapshotSize} must not be modified. Items are never removed from that range
+	 * without copying, so size is at least snapshotSize. */
+	private boolean deferring () {
+		return iterating > 0 && snapshot == items;
+	}
+
+	/** Copies the backing array if the items before index are in use. */
+	private void copy (int index) {
+		if (!deferring() || index >= snapshotSize) return;
+		T[] items = this.items, copy = newArray(items.length);
+		System.arraycopy(items, 0, copy, 0, size);
+		this.items = copy;
+	}
+
+	/** Copies the backing array without the specified items. */
+	private void copyRemoving (int start, int count) {
+		T[] items = this.items, copy = newArray(items.length);
+		System.arraycopy(items, 0, copy, 0, start);
+		System.arraycopy(items, start + count, copy, start, size - start - count);
+		this.items = copy;
+		size -= count;
+	}
+
+	/** Returns an empty array with at least the specified length, reusing the recycled array if possible. */
+	private T[] newArray (int length) {
+		T[] recycled = this.recycled;
+		if (recycled != null && recycled.length >= length) {
+			this.recycled = null;
+			return recycled;
+		}
+		return (T[])ArrayReflection.newInstance(items.getClass().getComponentType(), length);
+	}
+
+	public T removeIndex (int index) {
+		if (index >= size) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		if (deferring() && index < snapshotSize) {
+			T value = items[index];
+			copyRemoving(index, 1);
+			return value;
+		}
+		return super.removeIndex(index);
+	}
+
+	public boolean removeValue (T value, boolean identity) {
+		int index = indexOf(value, identity);
+		if (index == -1) return false;
+		removeIndex(index);
+		return true;
+	}
+
+	public void removeRange (int start, int end) {
+		if (end >= size) throw new IndexOutOfBoundsException("end can't be >= size: " + end + " >= " + size);
+		if (start > end) throw new IndexOutOfBoundsException("start can't be > end: " + start + " > " + end);
+		if (deferring() && start < snapshotSize)
+			copyRemoving(start, end - start + 1);
+		else
+			super.removeRange(start, end);
+	}
+
+	public boolean removeAll (Array<? extends T> array, boolean identity) {
+		boolean modified = false;
+		for (int i = 0, n = array.size; i < n; i++)
+			if (removeValue(array.get(i), identity)) modified = true;
+		return modified;
+	}
+
+	public T pop () {
+		if (size == 0) throw new IllegalStateException("Array is empty.");
+		return removeIndex(size - 1);
+	}
+
+	public void clear () {
+		if (deferring() && snapshotSize > 0) {
+			items = newArray(items.length);
+			size = 0;
+		} else
+			super.clear();
+	}
+
+	public void truncate (int newSize) {
+		if (newSize < 0) throw new IllegalArgumentException("newSize must be >= 0: " + newSize);
+		if (size <= newSize) return;
+		if (deferring() && newSize < snapshotSize)
+			copyRemoving(newSize, size - newSize);
+		else
+			super.truncate(newSize);
+	}
+
+	public void set (int index, T value) {
+		copy(index);
+		super.set(index, value);
+	}
+
+	public void insert (int index, T value) {
+		copy(index);
+		super.insert(index, value);
+	}
+
+	public void insertRange (int index, int count) {
+		copy(index);
+		super.insertRange(index, count);
+	}
+
+	public void swap (int first, int second) {
+		copy(Math.min(first, second));
+		super.swap(first, second);
+	}
+
+	public void sort () {
+		copy(0);
+		super.sort();
+	}
+
+	public void sort (Comparator<? super T> comparator) {
+		copy(0);
+		super.sort(comparator);
+	}
+
+	public void reverse () {
+		copy(0);
+		super.reverse();
+	}
+
+	public void shuffle () {
+		copy(0);
+		super.shuffle();
+	}
+
+	/** @see #DeferredSnapshotArray(Object[]) */
+	static public <T> DeferredSnapshotArray<T> with (T... array) {
+		return new DeferredSnapshotArray(array);
+	}
+}
@@ -0,0 +1,357 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
+/** A resizable, ordered or unordered float array backed by a direct {@link ByteBuffer} in native byte order. The contents can be
+ * passed to GL or JNI methods through {@link #getBuffer()} without first being copied from a heap array with
+ * {@link BufferUtils}. The buffer is allocated with {@link BufferUtils#newByteBuffer(int)} and released by the garbage
+ * collector, so no disposal is required.
+ * <p>
+ * Growing the array allocates a new buffer, which invalidates any buffer previously returned by {@link #getBuffer()} or
+ * {@link #getByteBuffer()}. Call {@link #ensureCapacity(int)} up front to avoid this. If unordered, this class avoids a memory
+ * copy when removing elements (the last element is moved to the removed element's position). */
+public class DirectFloatArray {
+	static private final int BYTES = 4;
+
+	private ByteBuffer bytes;
+	private FloatBuffer items;
+	public int size;
+	public boolean ordered;
+
+	/** Creates an ordered array with a capacity of 16. */
+	public DirectFloatArray () {
+		this(true, 16);
+	}
+
+	/** Creates an ordered array with the specified capacity. */
+	public DirectFloatArray (int capacity) {
+		this(true, capacity);
+	}
+
+	/** @param ordered If false, methods that remove elements may change the order of other elements in the array, which avoids a
+	 *           memory copy.
+	 * @param capacity Any elements added beyond this will cause the backing buffer to be grown. */
+	public DirectFloatArray (boolean ordered, int capacity) {
+		this.ordered = ordered;
+		bytes = BufferUtils.newByteBuffer(capacity * BYTES);
+		items = bytes.asFloatBuffer();
+	}
+
+	/** Creates a new ordered array containing the elements in the specified array. The capacity is set to the number of elements,
+	 * so any subsequent elements added will cause the backing buffer to be grown. */
+	public DirectFloatArray (float[] array) {
+		this(true, array.length);
+		addAll(array, 0, array.length);
+	}
+
+	public void add (float value) {
+		FloatBuffer items = this.items;
+		if (size == items.capacity()) items = resize(Math.max(8, (int)(size * 1.75f)));
+		items.limit(items.capacity());
+		items.put(size++, value);
+	}
+
+	public void add (float value1, float value2) {
+		FloatBuffer items = this.items;
+		if (size + 1 >= items.capacity()) items = resize(Math.max(8, (int)(size * 1.75f)));
+		items.limit(items.capacity());
+		items.put(size, value1);
+		items.put(size + 1, value2);
+		size += 2;
+	}
+
+	public void add (float value1, float value2, float value3) {
+		FloatBuffer items = this.items;
+		if (size + 2 >= items.capacity()) items = resize(Math.max(8, (int)(size * 1.75f)));
+		items.limit(items.capacity());
+		items.put(size, value1);
+		items.put(size + 1, value2);
+		items.put(size + 2, value3);
+		size += 3;
+	}
+
+	public void add (float value1, float value2, float value3, float value4) {
+		FloatBuffer items = this.items;
+		if (size + 3 >= items.capacity()) items = resize(Math.max(8, (int)(size * 1.8f))); // 1.75 isn't enough when size=5.
+		items.limit(items.capacity());
+		items.put(size, value1);
+		items.put(size + 1, value2);
+		items.put(size + 2, value3);
+		items.put(size + 3, value4);
+		size += 4;
+	}
+
+	public void addAll (FloatArray array) {
+		addAll(array.items, 0, array.size);
+	}
+
+	public void addAll (FloatArray array, int offset, int length) {
+		if (offset + length > array.size)
+			throw new IllegalArgumentException("offset + length must be <= size: " + offset + " + " + length + " <= " + array.size);
+		addAll(array.items, offset, length);
+	}
+
+	public void addAll (float... array) {
+		addAll(array, 0, array.length);
+	}
+
+	public void addAll (float[] array, int offset, int length) {
+		FloatBuffer items = this.items;
+		int sizeNeeded = size + length;
+		if (sizeNeeded > items.capacity()) items = resize(Math.max(Math.max(8, sizeNeeded), (int)(size * 1.75f)));
+		items.clear();
+		items.position(size);
+		items.put(array, offset, length);
+		items.position(0);
+		size += length;
+	}
+
+	public float get (int index) {
+		if (index >= size) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		return items.get(index);
+	}
+
+	public void set (int index, float value) {
+		if (index >= size) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		items.limit(items.capacity());
+		items.put(index, value);
+	}
+
+	public void insert (int index, float value) {
+		if (index > size) throw new IndexOutOfBoundsException("index can't be > size: " + index + " > " + size);
+		FloatBuffer items = this.items;
+		if (size == items.capacity()) items = resize(Math.max(8, (int)(size * 1.75f)));
+		items.limit(items.capacity());
+		if (ordered)
+			move(index, index + 1, size - index);
+		else
+			items.put(size, items.get(index));
+		size++;
+		items.put(index, value);
+	}
+
+	/** Inserts the specified number of items at the specified index. The new items will have values equal to the values at those
+	 * indices before the insertion. */
+	public void insertRange (int index, int count) {
+		if (index > size) throw new IndexOutOfBoundsException("index can't be > size: " + index + " > " + size);
+		int sizeNeeded = size + count;
+		if (sizeNeeded > items.capacity()) resize(Math.max(Math.max(8, sizeNeeded), (int)(size * 1.75f)));
+		items.limit(items.capacity());
+		move(index, index + count, size - index);
+		size = sizeNeeded;
+	}
+
+	public void swap (int first, int second) {
+		if (first >= size) throw new IndexOutOfBoundsException("first can't be >= size: " + first + " >= " + size);
+		if (second >= size) throw new IndexOutOfBoundsException("second can't be >= size: " + second + " >= " + size);
+		FloatBuffer items = this.items;
+		items.limit(items.capacity());
+		float firstValue = items.get(first);
+		items.put(first, items.get(second));
+		items.put(second, firstValue);
+	}
+
+	public boolean contains (float value) {
+		return indexOf(value) != -1;
+	}
+
+	public int indexOf (float value) {
+		FloatBuffer items = this.items;
+		for (int i = 0, n = size; i < n; i++)
+			if (items.get(i) == value) return i;
+		return -1;
+	}
+
+	public int lastIndexOf (float value) {
+		FloatBuffer items = this.items;
+		for (int i = size - 1; i >= 0; i--)
+			if (items.get(i) == value) return i;
+		return -1;
+	}
+
+	public boolean removeValue (float value) {
+		int index = indexOf(value);
+		if (index == -1) return false;
+		removeIndex(index);
+		return true;
+	}
+
+	/** Removes and returns the item at the specified index. */
+	public float removeIndex (int index) {
+		if (index >= size) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		FloatBuffer items = this.items;
+		items.limit(items.capacity());
+		float value = items.get(index);
+		size--;
+		if (ordered)
+			move(index + 1, index, size - index);
+		else
+			items.put(index, items.get(size));
+		return value;
+	}
+
+	/** Removes the items between the specified indices, inclusive. */
+	public void removeRange (int start, int end) {
+		int n = size;
+		if (end >= n) throw new IndexOutOfBoundsException("end can't be >= size: " + end + " >= " + size);
+		if (start > end) throw new IndexOutOfBoundsException("start can't be > end: " + start + " > " + end);
+		int count = end - start + 1, lastIndex = n - count;
+		int from = ordered ? start + count : Math.max(lastIndex, end + 1);
+		move(from, start, n - from);
+		size = n - count;
+	}
+
+	/** Removes and returns the last item. */
+	public float pop () {
+		if (size == 0) throw new IllegalStateException("Array is empty.");
+		return items.get(--size);
+	}
+
+	/** Returns the last item. */
+	public float peek () {
+		if (size == 0) throw new IllegalStateException("Array is empty.");
+		return items.get(size - 1);
+	}
+
+	/** Returns the first item. */
+	public float first () {
+		if (size == 0) throw new IllegalStateException("Array is empty.");
+		return items.get(0);
+	}
+
+	/** Returns true if the array has one or more items. */
+	public boolean notEmpty () {
+		return size > 0;
+	}
+
+	/** Returns true if the array is empty. */
+	public boolean isEmpty () {
+		return size == 0;
+	}
+
+	public void clear () {
+		size = 0;
+	}
+
+	/** Returns the number of items the backing buffer can hold before it must be grown. */
+	public int capacity () {
+		return items.capacity();
+	}
+
+	/** Reduces the size of the backing buffer to the size of the actual items. This is useful to release memory when many items
+	 * have been removed, or if it is known that more items will not be added.
+	 * @return {@link #getBuffer()} */
+	public FloatBuffer shrink () {
+		if (items.capacity() != size) resize(size);
+		return getBuffer();
+	}
+
+	/** Increases the size of the backing buffer to accommodate the specified number of additional items. Useful before adding many
+	 * items to avoid multiple backing buffer resizes, which would also invalidate previously returned buffers.
+	 * @return {@link #getBuffer()} */
+	public FloatBuffer ensureCapacity (int additionalCapacity) {
+		if (additionalCapacity < 0) throw new IllegalArgumentException("additionalCapacity must be >= 0: " + additionalCapacity);
+		int sizeNeeded = size + additionalCapacity;
+		if (sizeNeeded > items.capacity()) resize(Math.max(Math.max(8, sizeNeeded), (int)(size * 1.75f)));
+		return getBuffer();
+	}
+
+	/** Sets the array size, leaving any values beyond the current size undefined.
+	 * @return {@link #getBuffer()} */
+	public FloatBuffer setSize (int newSize) {
+		if (newSize < 0) throw new IllegalArgumentException("newSize must be >= 0: " + newSize);
+		if (newSize > items.capacity()) resize(Math.max(8, newSize));
+		size = newSize;
+		return getBuffer();
+	}
+
+	/** Reduces the size of the array to the specified size. If the array is already smaller than the specified size, no action is
+	 * taken. */
+	public void truncate (int newSize) {
+		if (size > newSize) size = newSize;
+	}
+
+	/** Moves the specified number of items with a single bulk copy of the backing bytes. The copy between direct buffers is a
+	 * memmove, so the ranges can overlap. */
+	private void move (int from, int to, int count) {
+		if (count <= 0) return;
+		ByteBuffer bytes = this.bytes, source = bytes.duplicate();
+		source.limit((from + count) * BYTES);
+		source.position(from * BYTES);
+		bytes.clear();
+		bytes.position(to * BYTES);
+		bytes.put(source);
+		bytes.clear();
+	}
+
+	/** Allocates a new backing buffer and copies the current items into it with a single bulk copy. */
+	protected FloatBuffer resize (int newSize) {
+		ByteBuffer newBytes = BufferUtils.newByteBuffer(newSize * BYTES);
+		ByteBuffer bytes = this.bytes;
+		bytes.limit(Math.min(size, newSize) * BYTES);
+		bytes.position(0);
+		newBytes.put(bytes);
+		newBytes.clear();
+		this.bytes = newBytes;
+		items = newBytes.asFloatBuffer();
+		return items;
+	}
+
+	/** Returns the backing buffer with its position set to zero and its limit set to {@link #size}, ready to be passed to GL or
+	 * JNI methods. The buffer is only valid until the backing buffer is grown. Its position and limit must not be relied on after
+	 * this array is modified. */
+	public FloatBuffer getBuffer () {
+		FloatBuffer items = this.items;
+		items.limit(size);
+		items.position(0);
+		return items;
+	}
+
+	/** Returns the backing byte buffer with its position set to zero and its limit set to {@link #size} items, for methods that
+	 * take a {@link ByteBuffer}. The same validity rules as {@link #getBuffer()} apply. */
+	public ByteBuffer getByteBuffer () {
+		ByteBuffer bytes = this.bytes;
+		bytes.limit(size * BYTES);
+		bytes.position(0);
+		return bytes;
+	}
+
+	public float[] toArray () {
+		float[] array = new float[size];
+		FloatBuffer items = getBuffer();
+		items.get(array);
+		items.position(0);
+		return array;
+	}
+
+	public String toString () {
+		if (size == 0) return "[]";
+		FloatBuffer items = this.items;
+		StringBuilder buffer = new StringBuilder(32);
+		buffer.append('[');
+		buffer.append(items.get(0));
+		for (int i = 1; i < size; i++) {
+			buffer.append(", ");
+			buffer.append(items.get(i));
+		}
+		buffer.append(']');
+		return buffer.toString();
+	}
+}
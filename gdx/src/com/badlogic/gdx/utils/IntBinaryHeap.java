@@ -0,0 +1,241 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+/** A binary heap of int ids that each have a float value, sorted either lowest first or highest first. Unlike
+ * {@link BinaryHeap}, no node objects are needed: ids, values and the heap index of each id are stored in primitive arrays.
+ * {@link #add(int, float)}, {@link #setValue(int, float)}, {@link #remove(int)} and {@link #pop()} are O(log n) and
+ * {@link #contains(int)} is O(1), which suits pathfinding over graphs whose nodes are identified by index.
+ * <p>
+ * Ids must be >= 0. Memory for the index lookup is proportional to the largest id added. */
+public class IntBinaryHeap {
+	public int size;
+
+	private int[] ids;
+	private float[] values;
+	/** For each id, its index in the heap plus one, or 0 if the id is not in the heap. */
+	private int[] indices;
+	private final boolean isMaxHeap;
+
+	public IntBinaryHeap () {
+		this(16, false);
+	}
+
+	/** @param capacity The number of ids the heap can hold, and the largest id + 1, before its arrays are grown. */
+	public IntBinaryHeap (int capacity, boolean isMaxHeap) {
+		this.isMaxHeap = isMaxHeap;
+		ids = new int[capacity];
+		values = new float[capacity];
+		indices = new int[capacity];
+	}
+
+	/** Adds the id to the heap with the specified value. The id should not already be in the heap. */
+	public void add (int id, float value) {
+		if (id < 0) throw new IllegalArgumentException("id must be >= 0: " + id);
+		if (id >= indices.length) {
+			int[] newIndices = new int[Math.max(id + 1, indices.length << 1)];
+			System.arraycopy(indices, 0, newIndices, 0, indices.length);
+			indices = newIndices;
+		}
+		if (size == ids.length) {
+			int newSize = Math.max(8, size << 1);
+			int[] newIds = new int[newSize];
+			System.arraycopy(ids, 0, newIds, 0, size);
+			ids = newIds;
+			float[] newValues = new float[newSize];
+			System.arraycopy(values, 0, newValues, 0, size);
+			values = newValues;
+		}
+		ids[size] = id;
+		values[size] = value;
+		up(size++);
+	}
+
+	/** Returns true if the heap contains the specified id. */
+	public boolean contains (int id) {
+		return id >= 0 && id < indices.length && indices[id] != 0;
+	}
+
+	/** Returns the value of the id, which should be in the heap. */
+	public float getValue (int id) {
+		return values[index(id)];
+	}
+
+	/** Returns the value of the id, or the default value if the id is not in the heap. */
+	public float getValue (int id, float defaultValue) {
+		if (!contains(id)) return defaultValue;
+		return values[indices[id] - 1];
+	}
+
+	/** Changes the value of the id, which should already be in the heap. */
+	public void setValue (int id, float value) {
+		int index = index(id);
+		float oldValue = values[index];
+		values[index] = value;
+		if (value < oldValue ^ isMaxHeap)
+			up(index);
+		else
+			down(index);
+	}
+
+	/** Adds the id with the specified value if it is not in the heap, otherwise changes its value. */
+	public void put (int id, float value) {
+		if (contains(id))
+			setValue(id, value);
+		else
+			add(id, value);
+	}
+
+	/** Returns the first id in the heap. This is the id with the lowest value (or highest value if this heap is configured as a max
+	 * heap). */
+	public int peek () {
+		if (size == 0) throw new IllegalStateException("The heap is empty.");
+		return ids[0];
+	}
+
+	/** Returns the value of the first id in the heap. */
+	public float peekValue () {
+		if (size == 0) throw new IllegalStateException("The heap is empty.");
+		return values[0];
+	}
+
+	/** Removes the first id in the heap and returns it. This is the id with the lowest value (or highest value if this heap is
+	 * configured as a max heap). */
+	public int pop () {
+		if (size == 0) throw new IllegalStateException("The heap is empty.");
+		int removed = ids[0];
+		indices[removed] = 0;
+		if (--size > 0) {
+			ids[0] = ids[size];
+			values[0] = values[size];
+			down(0);
+		}
+		return removed;
+	}
+
+	/** Removes the id from the heap.
+	 * @return true if the id was in the heap. */
+	public boolean remove (int id) {
+		if (!contains(id)) return false;
+		int index = indices[id] - 1;
+		indices[id] = 0;
+		if (--size > index) {
+			float value = values[index], movedValue = values[size];
+			ids[index] = ids[size];
+			values[index] = movedValue;
+			if (movedValue < value ^ isMaxHeap)
+				up(index);
+			else
+				down(index);
+		}
+		return true;
+	}
+
+	/** Returns true if the heap has one or more ids. */
+	public boolean notEmpty () {
+		return size > 0;
+	}
+
+	/** Returns true if the heap is empty. */
+	public boolean isEmpty () {
+		return size == 0;
+	}
+
+	public void clear () {
+		int[] ids = this.ids, indices = this.indices;
+		for (int i = 0, n = size; i < n; i++)
+			indices[ids[i]] = 0;
+		size = 0;
+	}
+
+	private int index (int id) {
+		if (!contains(id)) throw new IllegalArgumentException("id is not in the heap: " + id);
+		return indices[id] - 1;
+	}
+
+	private void up (int index) {
+		int[] ids = this.ids, indices = this.indices;
+		float[] values = this.values;
+		int id = ids[index];
+		float value = values[index];
+		while (index > 0) {
+			int parentIndex = (index - 1) >> 1;
+			float parentValue = values[parentIndex];
+			if (value < parentValue ^ isMaxHeap) {
+				int parentId = ids[parentIndex];
+				ids[index] = parentId;
+				values[index] = parentValue;
+				indices[parentId] = index + 1;
+				index = parentIndex;
+			} else
+				break;
+		}
+		ids[index] = id;
+		values[index] = value;
+		indices[id] = index + 1;
+	}
+
+	private void down (int index) {
+		int[] ids = this.ids, indices = this.indices;
+		float[] values = this.values;
+		int size = this.size;
+
+		int id = ids[index];
+		float value = values[index];
+
+		while (true) {
+			int childIndex = 1 + (index << 1);
+			if (childIndex >= size) break;
+
+			// Pick the smaller child (larger if max heap).
+			float childValue = values[childIndex];
+			int rightIndex = childIndex + 1;
+			if (rightIndex < size) {
+				float rightValue = values[rightIndex];
+				if (rightValue < childValue ^ isMaxHeap) {
+					childIndex = rightIndex;
+					childValue = rightValue;
+				}
+			}
+
+			if (childValue == value || (childValue > value ^ isMaxHeap)) break;
+			int childId = ids[childIndex];
+			ids[index] = childId;
+			values[index] = childValue;
+			indices[childId] = index + 1;
+			index = childIndex;
+		}
+
+		ids[index] = id;
+		values[index] = value;
+		indices[id] = index + 1;
+	}
+
+	public String toString () {
+		if (size == 0) return "[]";
+		StringBuilder buffer = new StringBuilder(32);
+		buffer.append('[');
+		for (int i = 0; i < size; i++) {
+			if (i > 0) buffer.append(", ");
+			buffer.append(ids[i]);
+			buffer.append('=');
+			buffer.append(values[i]);
+		}
+		buffer.append(']');
+		return buffer.toString();
+	}
+}
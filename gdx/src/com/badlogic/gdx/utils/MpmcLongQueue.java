@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/** A bounded lock-free queue of unboxed longs for any number of producer and consumer threads, see {@link MpmcQueue}. */
+public class MpmcLongQueue extends RingQueue {
+	private final AtomicLongArray buffer;
+	private final AtomicLongArray sequences;
+
+	/** @param capacity Increased to the next power of two. */
+	public MpmcLongQueue (int capacity) {
+		super(capacity);
+		buffer = new AtomicLongArray(this.capacity);
+		sequences = new AtomicLongArray(this.capacity);
+		for (int i = 0; i < this.capacity; i++)
+			sequences.set(i, i);
+	}
+
+	/** Adds the value to the end of the queue.
+	 * @return false if the queue is full */
+	public boolean offer (long value) {
+		AtomicLongArray indices = this.indices, sequences = this.sequences;
+		while (true) {
+			long producer = indices.get(PRODUCER);
+			int index = (int)producer & mask;
+			long sequence = sequences.get(index);
+			if (sequence < producer) return false; // The slot wasn't read since the previous lap.
+			if (sequence == producer && indices.compareAndSet(PRODUCER, producer, producer + 1)) {
+				buffer.lazySet(index, value);
+				sequences.lazySet(index, producer + 1);
+				return true;
+			}
+		}
+	}
+
+	/** Removes the value at the front of the queue.
+	 * @return the default value if the queue is empty */
+	public long poll (long defaultValue) {
+		AtomicLongArray indices = this.indices, sequences = this.sequences;
+		while (true) {
+			long consumer = indices.get(CONSUMER);
+			int index = (int)consumer & mask;
+			long sequence = sequences.get(index);
+			if (sequence < consumer + 1) return defaultValue; // The slot wasn't written yet.
+			if (sequence == consumer + 1 && indices.compareAndSet(CONSUMER, consumer, consumer + 1)) {
+				long value = buffer.get(index);
+				sequences.lazySet(index, consumer + capacity);
+				return value;
+			}
+		}
+	}
+
+	/** Removes up to limit values from the front of the queue, passing them to the consumer.
+	 * @return the number of values drained */
+	public int drain (LongConsumer consumer, int limit) {
+		AtomicLongArray indices = this.indices, sequences = this.sequences;
+		int count = 0;
+		while (count < limit) {
+			long index = indices.get(CONSUMER);
+			int slot = (int)index & mask;
+			long sequence = sequences.get(slot);
+			if (sequence < index + 1) break;
+			if (sequence == index + 1 && indices.compareAndSet(CONSUMER, index, index + 1)) {
+				long value = buffer.get(slot);
+				sequences.lazySet(slot, index + capacity);
+				count++;
+				consumer.accept(value);
+			}
+		}
+		return count;
+	}
+}
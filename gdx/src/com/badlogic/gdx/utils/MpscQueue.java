@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/** A bounded lock-free queue for any number of producer threads and a single consumer thread. Any thread may call
+ * {@link #offer(Object)} but only one thread may call {@link #poll()} and {@link #drain(Consumer, int)}. Null values are not
+ * allowed.
+ * <p>
+ * Producers claim a slot by incrementing the producer index with compare-and-set, then store the value. The consumer waits for
+ * the value of a claimed slot to be stored. */
+public class MpscQueue<T> extends RingQueue {
+	private final AtomicReferenceArray<T> buffer;
+
+	/** @param capacity Increased to the next power of two. */
+	public MpscQueue (int capacity) {
+		super(capacity);
+		buffer = new AtomicReferenceArray<T>(this.capacity);
+	}
+
+	/** Adds the value to the end of the queue.
+	 * @return false if the queue is full */
+	public boolean offer (T value) {
+		if (value == null) throw new IllegalArgumentException("value cannot be null.");
+		AtomicLongArray indices = this.indices;
+		long producer;
+		do {
+			producer = indices.get(PRODUCER);
+			long wrap = producer - capacity;
+			if (indices.get(CONSUMER_CACHE) <= wrap) {
+				long consumer = indices.get(CONSUMER);
+				if (consumer <= wrap) return false;
+				indices.set(CONSUMER_CACHE, consumer);
+			}
+		} while (!indices.compareAndSet(PRODUCER, producer, producer + 1));
+		buffer.lazySet((int)producer & mask, value);
+		return true;
+	}
+
+	/** Removes the value at the front of the queue.
+	 * @return null if the queue is empty */
+	public @Null T poll () {
+		AtomicLongArray indices = this.indices;
+		long consumer = indices.get(CONSUMER);
+		int index = (int)consumer & mask;
+		T value = buffer.get(index);
+		if (value == null) {
+			if (consumer >= indices.get(PRODUCER)) return null;
+			// The slot was claimed, wait for the producer to store the value.
+			do {
+				value = buffer.get(index);
+			} while (value == null);
+		}
+		buffer.lazySet(index, null);
+		indices.lazySet(CONSUMER, consumer + 1);
+		return value;
+	}
+
+	/** Removes up to limit values from the front of the queue, passing them to the consumer. Stops early at a slot which was
+	 * claimed but not stored yet.
+	 * @return the number of values drained */
+	public int drain (Consumer<T> consumer, int limit) {
+		AtomicLongArray indices = this.indices;
+		AtomicReferenceArray<T> buffer = this.buffer;
+		long start = indices.get(CONSUMER);
+		int i = 0;
+		try {
+			while (i < limit) {
+				int index = (int)(start + i) & mask;
+				T value = buffer.get(index);
+				if (value == null) break;
+				buffer.lazySet(index, null);
+				i++;
+				consumer.accept(value);
+			}
+		} finally {
+			indices.lazySet(CONSUMER, start + i);
+		}
+		return i;
+	}
+}
@@ -0,0 +1,304 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.utils.ObjectIntMap.Keys;
+
+/** A map that associates any number of values with each key, such as the entities in each grid cell or the renderables using
+ * each material. Unlike an ObjectMap of Arrays, no allocation is done per key: all values are stored in shared flat arrays, with
+ * the values for each key linked together in insertion order. Values of removed entries are reused by later additions.
+ * <p>
+ * Values are iterated without allocation:
+ * 
+ * <pre>
+ * for (int i = map.first(key); i != -1; i = map.next(i)) {
+ * 	V value = map.getValue(i);
+ * }
+ * </pre>
+ * 
+ * After values for many keys have been added in interleaved order, {@link #compact()} stores the values of each key
+ * contiguously so iteration walks memory sequentially.
+ * <p>
+ * Keys are stored in an {@link ObjectIntMap}, so the same hashing rules apply. Null keys and values are not allowed. */
+public class ObjectMultiMap<K, V> {
+	/** The number of key/value pairs in the map. */
+	public int size;
+
+	/** Maps each key to the index of its head, tail and count entries. */
+	final ObjectIntMap<K> keyIndices;
+	private int[] heads, tails, counts;
+	private final IntArray freeKeyIndices = new IntArray();
+	private int keyIndexCount;
+
+	private V[] values;
+	private int[] nextSlots;
+	private int slotCount, freeSlot = -1;
+
+	public ObjectMultiMap () {
+		this(16, 64);
+	}
+
+	/** @param keyCapacity The number of keys the map can hold before the key table is grown.
+	 * @param valueCapacity The number of values the map can hold before the value arrays are grown. */
+	public ObjectMultiMap (int keyCapacity, int valueCapacity) {
+		keyIndices = new ObjectIntMap(keyCapacity);
+		keyCapacity = Math.max(keyCapacity, 4);
+		heads = new int[keyCapacity];
+		tails = new int[keyCapacity];
+		counts = new int[keyCapacity];
+		values = (V[])new Object[Math.max(valueCapacity, 4)];
+		nextSlots = new int[values.length];
+	}
+
+	/** Adds the value to the values for the key. */
+	public void put (K key, V value) {
+		if (key == null) throw new IllegalArgumentException("key cannot be null.");
+		if (value == null) throw new IllegalArgumentException("value cannot be null.");
+		int slot = obtainSlot();
+		values[slot] = value;
+		nextSlots[slot] = -1;
+		int keyIndex = keyIndices.get(key, -1);
+		if (keyIndex == -1) {
+			keyIndex = obtainKeyIndex();
+			keyIndices.put(key, keyIndex);
+			heads[keyIndex] = slot;
+			counts[keyIndex] = 1;
+		} else {
+			nextSlots[tails[keyIndex]] = slot;
+			counts[keyIndex]++;
+		}
+		tails[keyIndex] = slot;
+		size++;
+	}
+
+	/** Returns the slot of the first value for the key, or -1 if the key has no values. */
+	public int first (K key) {
+		int keyIndex = keyIndices.get(key, -1);
+		return keyIndex == -1 ? -1 : heads[keyIndex];
+	}
+
+	/** Returns the slot of the value after the specified slot for the same key, or -1 if there are no more values. */
+	public int next (int slot) {
+		return nextSlots[slot];
+	}
+
+	/** Returns the value stored in a slot returned by {@link #first(Object)} or {@link #next(int)}. Slots are valid until the map
+	 * is modified. */
+	public V getValue (int slot) {
+		return values[slot];
+	}
+
+	/** Returns the number of values for the key. */
+	public int count (K key) {
+		int keyIndex = keyIndices.get(key, -1);
+		return keyIndex == -1 ? 0 : counts[keyIndex];
+	}
+
+	/** Adds the values for the key to the specified array.
+	 * @return The specified array. */
+	public Array<V> get (K key, Array<V> values) {
+		int keyIndex = keyIndices.get(key, -1);
+		if (keyIndex == -1) return values;
+		values.ensureCapacity(counts[keyIndex]);
+		V[] items = this.values;
+		for (int slot = heads[keyIndex]; slot != -1; slot = nextSlots[slot])
+			values.add(items[slot]);
+		return values;
+	}
+
+	public boolean containsKey (K key) {
+		return keyIndices.containsKey(key);
+	}
+
+	/** Returns true if the value is one of the values for the key.
+	 * @param identity If true, == comparison will be used. If false, .equals() comparison will be used. */
+	public boolean contains (K key, V value, boolean identity) {
+		return indexOf(first(key), value, identity) != -1;
+	}
+
+	private int indexOf (int slot, V value, boolean identity) {
+		V[] values = this.values;
+		if (identity || value == null) {
+			for (; slot != -1; slot = nextSlots[slot])
+				if (values[slot] == value) return slot;
+		} else {
+			for (; slot != -1; slot = nextSlots[slot])
+				if (value.equals(values[slot])) return slot;
+		}
+		return -1;
+	}
+
+	/** Removes the first occurrence of the value from the values for the key.
+	 * @param identity If true, == comparison will be used. If false, .equals() comparison will be used.
+	 * @return true if the value was found. */
+	public boolean remove (K key, V value, boolean identity) {
+		int keyIndex = keyIndices.get(key, -1);
+		if (keyIndex == -1) return false;
+		V[] values = this.values;
+		int[] nextSlots = this.nextSlots;
+		for (int slot = heads[keyIndex], previous = -1; slot != -1; previous = slot, slot = nextSlots[slot]) {
+			V other = values[slot];
+			if (identity ? other != value : !other.equals(value)) continue;
+			if (--counts[keyIndex] == 0) {
+				removeKey(key, keyIndex);
+			} else {
+				if (previous == -1)
+					heads[keyIndex] = nextSlots[slot];
+				else
+					nextSlots[previous] = nextSlots[slot];
+				if (tails[keyIndex] == slot) tails[keyIndex] = previous;
+			}
+			freeSlot(slot);
+			size--;
+			return true;
+		}
+		return false;
+	}
+
+	/** Removes all values for the key.
+	 * @return The number of values removed. */
+	public int remove (K key) {
+		int keyIndex = keyIndices.get(key, -1);
+		if (keyIndex == -1) return 0;
+		int count = counts[keyIndex];
+		for (int slot = heads[keyIndex]; slot != -1;) {
+			int next = nextSlots[slot];
+			freeSlot(slot);
+			slot = next;
+		}
+		removeKey(key, keyIndex);
+		size -= count;
+		return count;
+	}
+
+	private void removeKey (K key, int keyIndex) {
+		keyIndices.remove(key, -1);
+		freeKeyIndices.add(keyIndex);
+	}
+
+	private int obtainKeyIndex () {
+		if (freeKeyIndices.size > 0) return freeKeyIndices.pop();
+		if (keyIndexCount == heads.length) {
+			int newSize = Math.max(8, (int)(keyIndexCount * 1.75f));
+			heads = Arrays.copyOf(heads, newSize);
+			tails = Arrays.copyOf(tails, newSize);
+			counts = Arrays.copyOf(counts, newSize);
+		}
+		return keyIndexCount++;
+	}
+
+	private int obtainSlot () {
+		int slot = freeSlot;
+		if (slot != -1) {
+			freeSlot = nextSlots[slot];
+			return slot;
+		}
+		if (slotCount == values.length) resizeValues(Math.max(8, (int)(slotCount * 1.75f)));
+		return slotCount++;
+	}
+
+	private void freeSlot (int slot) {
+		values[slot] = null;
+		nextSlots[slot] = freeSlot;
+		freeSlot = slot;
+	}
+
+	private void resizeValues (int newSize) {
+		V[] newValues = (V[])new Object[newSize];
+		System.arraycopy(values, 0, newValues, 0, slotCount);
+		values = newValues;
+		nextSlots = Arrays.copyOf(nextSlots, newSize);
+	}
+
+	/** Increases the size of the value arrays to accommodate the specified number of additional values. Useful before adding many
+	 * values to avoid multiple backing array resizes. */
+	public void ensureCapacity (int additionalCapacity) {
+		if (additionalCapacity < 0) throw new IllegalArgumentException("additionalCapacity must be >= 0: " + additionalCapacity);
+		int sizeNeeded = size + additionalCapacity;
+		if (sizeNeeded > values.length) {
+			compact();
+			if (sizeNeeded > values.length) resizeValues(sizeNeeded);
+		}
+	}
+
+	/** Moves the values so the values for each key are stored contiguously, in insertion order, and removes unused space left by
+	 * removed values. This makes iterating the values of a key walk memory sequentially. Slots previously returned are
+	 * invalidated. */
+	public void compact () {
+		V[] values = this.values, newValues = (V[])new Object[Math.max(4, size)];
+		int[] nextSlots = this.nextSlots, newNextSlots = new int[newValues.length];
+		int slot = 0;
+		for (ObjectIntMap.Entry<K> entry : new ObjectIntMap.Entries<K>(keyIndices)) {
+			int keyIndex = entry.value, oldSlot = heads[keyIndex];
+			heads[keyIndex] = slot;
+			for (; oldSlot != -1; oldSlot = nextSlots[oldSlot]) {
+				newValues[slot] = values[oldSlot];
+				newNextSlots[slot] = slot + 1;
+				slot++;
+			}
+			newNextSlots[slot - 1] = -1;
+			tails[keyIndex] = slot - 1;
+		}
+		this.values = newValues;
+		this.nextSlots = newNextSlots;
+		slotCount = slot;
+		freeSlot = -1;
+	}
+
+	/** Returns the keys of the map. The iterator must not be used to remove keys. */
+	public Keys<K> keys () {
+		return keyIndices.keys();
+	}
+
+	public boolean notEmpty () {
+		return size > 0;
+	}
+
+	public boolean isEmpty () {
+		return size == 0;
+	}
+
+	public void clear () {
+		keyIndices.clear();
+		freeKeyIndices.clear();
+		keyIndexCount = 0;
+		Arrays.fill(values, 0, slotCount, null);
+		slotCount = 0;
+		freeSlot = -1;
+		size = 0;
+	}
+
+	public String toString () {
+		if (size == 0) return "{}";
+		StringBuilder buffer = new StringBuilder(32);
+		buffer.append('{');
+		for (ObjectIntMap.Entry<K> entry : new ObjectIntMap.Entries<K>(keyIndices)) {
+			if (buffer.length > 1) buffer.append(", ");
+			buffer.append(entry.key);
+			buffer.append("=[");
+			for (int slot = heads[entry.value]; slot != -1; slot = nextSlots[slot]) {
+				buffer.append(values[slot]);
+				if (nextSlots[slot] != -1) buffer.append(", ");
+			}
+			buffer.append(']');
+		}
+		buffer.append('}');
+		return buffer.toString();
+	}
+}
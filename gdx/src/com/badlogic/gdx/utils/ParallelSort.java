@@ -0,0 +1,270 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/** Sorts large arrays using multiple threads of a {@link ForkJoinPool}. Objects are sorted with a stable parallel merge sort,
+ * which sorts chunks with {@link Arrays#sort(Object[], int, int, Comparator)} and merges them in parallel. Primitive keys are
+ * sorted with a parallel {@link RadixSort}, where each pass counts and scatters chunks of the keys in parallel.<br>
+ * <br>
+ * Ranges smaller than {@link #threshold} are sorted on the calling thread, since the cost of splitting the work is higher than
+ * the gain for small arrays. Like {@link Sort}, working memory is kept and reused, so multiple threads must not use the same
+ * instance at the same time. */
+public class ParallelSort {
+	static private ParallelSort instance;
+	static private ForkJoinPool defaultPool;
+
+	/** Ranges smaller than this are sorted on the calling thread. */
+	public int threshold = 1 << 16;
+	/** The smallest number of items a single task sorts or merges. */
+	public int chunkSize = 1 << 13;
+
+	final ForkJoinPool pool;
+	private final Sort sort = new Sort();
+	private final ParallelRadixSort radixSort = new ParallelRadixSort();
+	private Object[] scratch;
+
+	/** Uses a shared pool with one thread per available processor. */
+	public ParallelSort () {
+		this(defaultPool());
+	}
+
+	public ParallelSort (ForkJoinPool pool) {
+		if (pool == null) throw new IllegalArgumentException("pool cannot be null.");
+		this.pool = pool;
+	}
+
+	public <T> void sort (Array<T> a, Comparator<? super T> c) {
+		sort(a.items, c, 0, a.size);
+	}
+
+	public <T> void sort (T[] a, Comparator<? super T> c) {
+		sort(a, c, 0, a.length);
+	}
+
+	/** Sorts the range with a stable merge sort. The comparator is called from multiple threads at the same time. */
+	public <T> void sort (T[] a, Comparator<? super T> c, int fromIndex, int toIndex) {
+		if (c == null) throw new IllegalArgumentException("comparator cannot be null.");
+		int n = toIndex - fromIndex;
+		if (n < threshold || pool.getParallelism() < 2) {
+			sort.sort(a, c, fromIndex, toIndex);
+			return;
+		}
+		Object[] scratch = this.scratch;
+		if (scratch == null || scratch.length < toIndex) this.scratch = scratch = new Object[toIndex];
+		try {
+			pool.invoke(new MergeSortTask(a, scratch, c, fromIndex, toIndex, false, Math.max(2, chunkSize)));
+		} finally {
+			Arrays.fill(scratch, fromIndex, toIndex, null);
+		}
+	}
+
+	public void sort (IntArray a) {
+		radixSort.sort(a);
+	}
+
+	public void sort (LongArray a) {
+		radixSort.sort(a);
+	}
+
+	public void sort (FloatArray a) {
+		radixSort.sort(a);
+	}
+
+	public void sort (int[] a, int fromIndex, int toIndex) {
+		radixSort.sort(a, fromIndex, toIndex);
+	}
+
+	public void sort (long[] a, int fromIndex, int toIndex) {
+		radixSort.sort(a, fromIndex, toIndex);
+	}
+
+	public void sort (float[] a, int fromIndex, int toIndex) {
+		radixSort.sort(a, fromIndex, toIndex);
+	}
+
+	/** @see RadixSort#sort(int[], int[], int, int) */
+	public void sort (int[] keys, int[] values, int fromIndex, int toIndex) {
+		radixSort.sort(keys, values, fromIndex, toIndex);
+	}
+
+	/** @see RadixSort#sort(long[], int[], int, int) */
+	public void sort (long[] keys, int[] values, int fromIndex, int toIndex) {
+		radixSort.sort(keys, values, fromIndex, toIndex);
+	}
+
+	/** @see RadixSort#sort(float[], int[], int, int) */
+	public void sort (float[] keys, int[] values, int fromIndex, int toIndex) {
+		radixSort.sort(keys, values, fromIndex, toIndex);
+	}
+
+	/** Returns a ParallelSort instance for convenience. Multiple threads must not use this instance at the same time. */
+	static public ParallelSort instance () {
+		if (instance == null) instance = new ParallelSort();
+		return instance;
+	}
+
+	static synchronized ForkJoinPool defaultPool () {
+		if (defaultPool == null) defaultPool = new ForkJoinPool();
+		return defaultPool;
+	}
+
+	/** Runs the radix sort passes for each chunk on the pool. */
+	class ParallelRadixSort extends RadixSort {
+		int chunkCount (int n) {
+			if (n < threshold || pool.getParallelism() < 2) return 1;
+			return Math.max(1, Math.min(pool.getParallelism() * 4, n / Math.max(1, chunkSize)));
+		}
+
+		void forEachChunk (int chunks, int n, final ChunkTask task) {
+			if (chunks == 1) {
+				task.run(0, 0, n);
+				return;
+			}
+			pool.invoke(new ChunkAction(task, chunks, n, 0, chunks));
+		}
+	}
+
+	static class ChunkAction extends RecursiveAction {
+		final RadixSort.ChunkTask task;
+		final int chunks, n, first, last;
+
+		ChunkAction (RadixSort.ChunkTask task, int chunks, int n, int first, int last) {
+			this.task = task;
+			this.chunks = chunks;
+			this.n = n;
+			this.first = first;
+			this.last = last;
+		}
+
+		protected void compute () {
+			if (last - first == 1) {
+				task.run(first, (int)((long)n * first / chunks), (int)((long)n * (first + 1) / chunks));
+				return;
+			}
+			int middle = (first + last) >>> 1;
+			invokeAll(new ChunkAction(task, chunks, n, first, middle), new ChunkAction(task, chunks, n, middle, last));
+		}
+	}
+
+	/** Sorts a range of items into either the items array or the scratch array. The halves are sorted into the other array, then
+	 * merged into the target, so no copying is needed between levels. */
+	static class MergeSortTask extends RecursiveAction {
+		final Object[] items, scratch;
+		final Comparator c;
+		final int from, to, chunkSize;
+		final boolean intoScratch;
+
+		MergeSortTask (Object[] items, Object[] scratch, Comparator c, int from, int to, boolean intoScratch, int chunkSize) {
+			this.items = items;
+			this.scratch = scratch;
+			this.c = c;
+			this.from = from;
+			this.to = to;
+			this.intoScratch = intoScratch;
+			this.chunkSize = chunkSize;
+		}
+
+		protected void compute () {
+			if (to - from <= chunkSize) {
+				Arrays.sort(items, from, to, c);
+				if (intoScratch) System.arraycopy(items, from, scratch, from, to - from);
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new MergeSortTask(items, scratch, c, from, middle, !intoScratch, chunkSize),
+				new MergeSortTask(items, scratch, c, middle, to, !intoScratch, chunkSize));
+			Object[] src = intoScratch ? items : scratch, dst = intoScratch ? scratch : items;
+			new MergeTask(src, dst, c, from, middle, middle, to, from, chunkSize).compute();
+		}
+	}
+
+	/** Merges two sorted runs of src into dst, splitting the work in parallel while the runs are large. Items from the first run
+	 * come first when equal, which keeps the sort stable. */
+	static class MergeTask extends RecursiveAction {
+		final Object[] src, dst;
+		final Comparator c;
+		final int from1, to1, from2, to2, dstIndex, chunkSize;
+
+		MergeTask (Object[] src, Object[] dst, Comparator c, int from1, int to1, int from2, int to2, int dstIndex, int chunkSize) {
+			this.src = src;
+			this.dst = dst;
+			this.c = c;
+			this.from1 = from1;
+			this.to1 = to1;
+			this.from2 = from2;
+			this.to2 = to2;
+			this.dstIndex = dstIndex;
+			this.chunkSize = chunkSize;
+		}
+
+		protected void compute () {
+			Object[] src = this.src, dst = this.dst;
+			Comparator c = this.c;
+			int length1 = to1 - from1, length2 = to2 - from2;
+			if (length1 + length2 <= chunkSize) {
+				int i = from1, j = from2, k = dstIndex;
+				while (i < to1 && j < to2)
+					dst[k++] = c.compare(src[j], src[i]) < 0 ? src[j++] : src[i++];
+				System.arraycopy(src, i, dst, k, to1 - i);
+				System.arraycopy(src, j, dst, k + to1 - i, to2 - j);
+				return;
+			}
+			int split1, split2;
+			if (length1 >= length2) {
+				// Items of the second run less than the middle item go before it.
+				split1 = (from1 + to1) >>> 1;
+				split2 = lowerBound(src, c, src[split1], from2, to2);
+			} else {
+				// Items of the first run less than or equal to the middle item go before it.
+				split2 = (from2 + to2) >>> 1;
+				split1 = upperBound(src, c, src[split2], from1, to1);
+			}
+			int dstSplit = dstIndex + (split1 - from1) + (split2 - from2);
+			invokeAll(new MergeTask(src, dst, c, from1, split1, from2, split2, dstIndex, chunkSize),
+				new MergeTask(src, dst, c, split1, to1, split2, to2, dstSplit, chunkSize));
+		}
+
+		/** Returns the first index in the range with an item >= the key. */
+		static int lowerBound (Object[] items, Comparator c, Object key, int low, int high) {
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (c.compare(items[mid], key) < 0)
+					low = mid + 1;
+				else
+					high = mid;
+			}
+			return low;
+		}
+
+		/** Returns the first index in the range with an item > the key. */
+		static int upperBound (Object[] items, Comparator c, Object key, int low, int high) {
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (c.compare(items[mid], key) <= 0)
+					low = mid + 1;
+				else
+					high = mid;
+			}
+			return low;
+		}
+	}
+}
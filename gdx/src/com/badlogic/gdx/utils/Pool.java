@@ -26,6 +26,7 @@ abstract public class Pool<T> {
 	public int peak;
 
 	private final Array<T> freeObjects;
+	private @Null PoolStats stats;
 
 	/** Creates a pool with an initial capacity of 16 and no maximum. */
 	public Pool () {
@@ -50,7 +51,11 @@ abstract public class Pool<T> {
 	/** Returns an object from this pool. The object may be new (from {@link #newObject()}) or reused (previously
 	 * {@link #free(Object) freed}). */
 	public T obtain () {
-		return freeObjects.size == 0 ? newObject() : freeObjects.pop();
+		if (stats == null) return freeObjects.size == 0 ? newObject() : freeObjects.pop();
+		boolean created = freeObjects.size == 0;
+		T object = created ? newObject() : freeObjects.pop();
+		stats.obtained(object, created);
+		return object;
 	}
 
 	/** Puts the specified object in the pool, making it eligible to be returned by {@link #obtain()}. If the pool already contains
@@ -59,6 +64,7 @@ abstract public class Pool<T> {
 	 * The pool does not check if an object is already freed, so the same object must not be freed multiple times. */
 	public void free (T object) {
 		if (object == null) throw new IllegalArgumentException("object cannot be null.");
+		if (stats != null) stats.freed(object, freeObjects.size < max);
 		if (freeObjects.size < max) {
 			freeObjects.add(object);
 			peak = Math.max(peak, freeObjects.size);
@@ -71,6 +77,7 @@ abstract public class Pool<T> {
 	 *
 	 * @param size the number of objects to be added */
 	public void fill (int size) {
+		if (stats != null) stats.filled(Math.max(0, Math.min(size, max - freeObjects.size)));
 		for (int i = 0; i < size; i++)
 			if (freeObjects.size < max) freeObjects.add(newObject());
 		peak = Math.max(peak, freeObjects.size);
@@ -93,6 +100,7 @@ abstract public class Pool<T> {
 		for (int i = 0, n = objects.size; i < n; i++) {
 			T object = objects.get(i);
 			if (object == null) continue;
+			if (stats != null) stats.freed(object, freeObjects.size < max);
 			if (freeObjects.size < max) freeObjects.add(object);
 			reset(object);
 		}
@@ -109,6 +117,15 @@ abstract public class Pool<T> {
 		return freeObjects.size;
 	}
 
+	/** Sets the statistics updated when objects are obtained and freed, null (the default) to disable them. */
+	public void setStats (@Null PoolStats stats) {
+		this.stats = stats;
+	}
+
+	public @Null PoolStats getStats () {
+		return stats;
+	}
+
 	/** Objects implementing this interface will have {@link #reset()} called when passed to {@link Pool#free(Object)}. */
 	static public interface Poolable {
 		/** Resets the object for reuse. Object references should be nulled and fields may be set to default values. */
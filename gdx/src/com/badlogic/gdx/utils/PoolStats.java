@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.Comparator;
+
+/** Counts the objects obtained from and freed to a {@link Pool}, see {@link Pool#setStats(PoolStats)}. When created with
+ * captureStacks, the stack trace of each obtained object is kept until it is freed, so {@link #appendReport(StringBuilder)} can
+ * tell where the objects which are never freed come from. Capturing stacks is slow and meant for debugging.
+ * <p>
+ * Methods are synchronized, so statistics can be shared by several pools or used with a {@link ConcurrentPool}. */
+public class PoolStats {
+	/** The amount of objects obtained. */
+	public int obtained;
+	/** The amount of objects created by {@link Pool#newObject()} because the pool was empty when obtaining. */
+	public int created;
+	/** The amount of objects created by {@link Pool#fill(int)}. */
+	public int prefilled;
+	/** The amount of objects freed, including those which weren't pooled because the pool was full. */
+	public int freed;
+	/** The amount of objects freed which weren't pooled because the pool was full. */
+	public int discarded;
+	/** The amount of objects obtained and not freed yet. Objects obtained before the statistics were set aren't counted. */
+	public int outstanding;
+	/** The highest number of outstanding objects. */
+	public int peakOutstanding;
+
+	final boolean captureStacks;
+	private final IdentityMap<Object, Throwable> stacks;
+
+	public PoolStats () {
+		this(false);
+	}
+
+	/** @param captureStacks If true, the stack traces of the outstanding objects are kept. */
+	public PoolStats (boolean captureStacks) {
+		this.captureStacks = captureStacks;
+		stacks = captureStacks ? new IdentityMap<Object, Throwable>() : null;
+	}
+
+	synchronized void obtained (Object object, boolean created) {
+		obtained++;
+		if (created) this.created++;
+		outstanding++;
+		peakOutstanding = Math.max(peakOutstanding, outstanding);
+		if (captureStacks) stacks.put(object, new Throwable());
+	}
+
+	synchronized void freed (Object object, boolean pooled) {
+		freed++;
+		if (!pooled) discarded++;
+		// Objects obtained before the statistics were set aren't outstanding. They are only known when capturing stacks,
+		// otherwise the count is kept from going negative
+		if (captureStacks ? stacks.remove(object) != null : outstanding > 0) outstanding--;
+	}
+
+	synchronized void discarded () {
+		discarded++;
+	}
+
+	synchronized void filled (int count) {
+		prefilled += count;
+	}
+
+	/** @return the ratio of obtained objects which were reused or prefilled rather than created, 1 if none were obtained */
+	public synchronized float getHitRate () {
+		if (obtained == 0) return 1;
+		return 1 - created / (float)obtained;
+	}
+
+	/** Resets the counters. The stack traces of outstanding objects are kept. */
+	public synchronized void reset () {
+		obtained = 0;
+		created = 0;
+		prefilled = 0;
+		freed = 0;
+		discarded = 0;
+		peakOutstanding = outstanding;
+	}
+
+	/** Appends the counters on one line and, when capturing stacks, where the outstanding objects were obtained, most frequent
+	 * first. */
+	public synchronized void appendReport (StringBuilder buffer) {
+		buffer.append("obtained ").append(obtained);
+		buffer.append(", created ").append(created);
+		buffer.append(" (hit rate ").append(Math.round(getHitRate() * 100)).append("%)");
+		if (prefilled > 0) buffer.append(", prefilled ").append(prefilled);
+		buffer.append(", freed ").append(freed);
+		buffer.append(", discarded ").append(discarded);
+		buffer.append(", outstanding ").append(outstanding);
+		buffer.append(" (peak ").append(peakOutstanding).append(')');
+		if (!captureStacks || stacks.size == 0) return;
+
+		final ObjectIntMap<String> counts = new ObjectIntMap<String>();
+		for (Throwable stack : stacks.values())
+			counts.getAndIncrement(caller(stack), 0, 1);
+		Array<String> callers = counts.keys().toArray();
+		callers.sort(new Comparator<String>() {
+			public int compare (String a, String b) {
+				return counts.get(b, 0) - counts.get(a, 0);
+			}
+		});
+		for (String caller : callers)
+			buffer.append("\n  ").append(counts.get(caller, 0)).append(" not freed, obtained at ").append(caller);
+	}
+
+	/** Returns the first frames of the stack trace after the obtain methods. */
+	private String caller (Throwable stack) {
+		StackTraceElement[] elements = stack.getStackTrace();
+		int start = 0;
+		while (start < elements.length) {
+			String method = elements[start].getMethodName();
+			if (!method.equals("obtained") && !method.equals("obtain")) break;
+			start++;
+		}
+		if (start == elements.length) return "unknown";
+		StringBuilder buffer = new StringBuilder(64);
+		for (int i = start, n = Math.min(start + 3, elements.length); i < n; i++) {
+			if (i > start) buffer.append(" < ");
+			buffer.append(elements[i].toString());
+		}
+		return buffer.toString();
+	}
+}
@@ -17,19 +17,26 @@
 package com.badlogic.gdx.utils;
 
 /** Stores a map of {@link Pool}s (usually {@link ReflectionPool}s) by type for convenient static access.
+ * <p>
+ * The map is thread safe, but the pools it creates are not. To obtain and free objects of a type from several threads, set a
+ * {@link ConcurrentPool} for that type first.
  * @author Nathan Sweet */
 public class Pools {
 	static private final ObjectMap<Class, Pool> typePools = new ObjectMap();
+	static private boolean statsEnabled, captureStacks;
 
 	/** Returns a new or existing pool for the specified type, stored in a Class to {@link Pool} map. Note the max size is ignored
 	 * if this is not the first time this pool has been requested. */
 	static public <T> Pool<T> get (Class<T> type, int max) {
-		Pool pool = typePools.get(type);
-		if (pool == null) {
-			pool = new ReflectionPool(type, 4, max);
-			typePools.put(type, pool);
+		synchronized (typePools) {
+			Pool pool = typePools.get(type);
+			if (pool == null) {
+				pool = new ReflectionPool(type, 4, max);
+				if (statsEnabled) pool.setStats(new PoolStats(captureStacks));
+				typePools.put(type, pool);
+			}
+			return pool;
 		}
-		return pool;
 	}
 
 	/** Returns a new or existing pool for the specified type, stored in a Class to {@link Pool} map. The max size of the pool used
@@ -40,7 +47,45 @@ public class Pools {
 
 	/** Sets an existing pool for the specified type, stored in a Class to {@link Pool} map. */
 	static public <T> void set (Class<T> type, Pool<T> pool) {
-		typePools.put(type, pool);
+		synchronized (typePools) {
+			if (statsEnabled && pool.getStats() == null) pool.setStats(new PoolStats(captureStacks));
+			typePools.put(type, pool);
+		}
+	}
+
+	/** Enables or disables {@link PoolStats} for the pools in the map, including the pools added later.
+	 * @param captureStacks If true, the stack traces of obtained objects are kept until they are freed to report leaks. This is
+	 *           slow. */
+	static public void setStats (boolean enabled, boolean captureStacks) {
+		synchronized (typePools) {
+			statsEnabled = enabled;
+			Pools.captureStacks = captureStacks;
+			for (Pool pool : typePools.values())
+				pool.setStats(enabled ? new PoolStats(captureStacks) : null);
+		}
+	}
+
+	/** Returns a report with one line per pool in the map: the amount of free objects and, if enabled, the
+	 * {@link PoolStats#appendReport(StringBuilder) statistics}. */
+	static public String getReport () {
+		StringBuilder buffer = new StringBuilder(256);
+		synchronized (typePools) {
+			for (ObjectMap.Entry<Class, Pool> entry : typePools.entries()) {
+				Pool pool = entry.value;
+				if (buffer.length() > 0) buffer.append('\n');
+				buffer.append(entry.key.getName());
+				buffer.append(": free ").append(pool.getFree());
+				buffer.append(" (peak ").append(pool.peak);
+				if (pool.max != Integer.MAX_VALUE) buffer.append(", max ").append(pool.max);
+				buffer.append(')');
+				PoolStats stats = pool.getStats();
+				if (stats != null) {
+					buffer.append(", ");
+					stats.appendReport(buffer);
+				}
+			}
+		}
+		return buffer.toString();
 	}
 
 	/** Obtains an object from the {@link #get(Class) pool}. */
@@ -51,7 +96,7 @@ public class Pools {
 	/** Frees an object from the {@link #get(Class) pool}. */
 	static public void free (Object object) {
 		if (object == null) throw new IllegalArgumentException("object cannot be null.");
-		Pool pool = typePools.get(object.getClass());
+		Pool pool = getPool(object.getClass());
 		if (pool == null) return; // Ignore freeing an object that was never retained.
 		pool.free(object);
 	}
@@ -71,7 +116,7 @@ public class Pools {
 			Object object = objects.get(i);
 			if (object == null) continue;
 			if (pool == null) {
-				pool = typePools.get(object.getClass());
+				pool = getPool(object.getClass());
 				if (pool == null) continue; // Ignore freeing an object that was never retained.
 			}
 			pool.free(object);
@@ -79,6 +124,12 @@ public class Pools {
 		}
 	}
 
+	static private @Null Pool getPool (Class type) {
+		synchronized (typePools) {
+			return typePools.get(type);
+		}
+	}
+
 	private Pools () {
 	}
 }
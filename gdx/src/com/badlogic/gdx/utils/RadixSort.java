@@ -0,0 +1,334 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+/** Sorts int, long and float keys with a least significant digit radix sort, optionally reordering an int array of values (such
+ * as indices into another array) along with the keys. The sort is stable and O(n), which is faster than comparison sorts for
+ * large arrays. Passes where all keys have the same digit are skipped, so keys with a small range sort faster.<br>
+ * <br>
+ * Sorting requires working memory the size of the range being sorted and this class allows that memory to be reused to avoid
+ * allocation. Float keys are ordered like {@link java.util.Arrays#sort(float[])}: -0 before 0 and NaN last.
+ * @see ParallelSort */
+public class RadixSort {
+	static private final int RADIX = 256;
+
+	private int[] intScratch, valueScratch, floatKeys;
+	private long[] longScratch;
+	private int[][] counts;
+	// The tasks are reused, so sorting doesn't allocate once the working memory is large enough.
+	private final FloatBits floatBits = new FloatBits();
+	private final IntPass intPass = new IntPass();
+	private final LongPass longPass = new LongPass();
+
+	public void sort (IntArray a) {
+		sort(a.items, null, 0, a.size);
+	}
+
+	public void sort (LongArray a) {
+		sort(a.items, null, 0, a.size);
+	}
+
+	public void sort (FloatArray a) {
+		sort(a.items, null, 0, a.size);
+	}
+
+	public void sort (int[] a, int fromIndex, int toIndex) {
+		sort(a, null, fromIndex, toIndex);
+	}
+
+	public void sort (long[] a, int fromIndex, int toIndex) {
+		sort(a, null, fromIndex, toIndex);
+	}
+
+	public void sort (float[] a, int fromIndex, int toIndex) {
+		sort(a, null, fromIndex, toIndex);
+	}
+
+	/** Sorts the keys and reorders the values the same way. For example, if values initially holds 0 to n - 1, afterward it holds
+	 * the permutation that sorts the keys.
+	 * @param values May be null. */
+	public void sort (int[] keys, int[] values, int fromIndex, int toIndex) {
+		checkRange(keys, keys.length, values, fromIndex, toIndex);
+		sortInts(keys, fromIndex, values, fromIndex, toIndex - fromIndex, 0x80);
+	}
+
+	/** Sorts the keys and reorders the values the same way.
+	 * @param values May be null. */
+	public void sort (long[] keys, int[] values, int fromIndex, int toIndex) {
+		checkRange(keys, keys.length, values, fromIndex, toIndex);
+		sortLongs(keys, fromIndex, values, toIndex - fromIndex);
+	}
+
+	/** Sorts the keys and reorders the values the same way.
+	 * @param values May be null. */
+	public void sort (float[] keys, int[] values, int fromIndex, int toIndex) {
+		checkRange(keys, keys.length, values, fromIndex, toIndex);
+		int n = toIndex - fromIndex;
+		if (n < 2) return;
+		if (floatKeys == null || floatKeys.length < n) floatKeys = new int[n];
+		FloatBits floatBits = this.floatBits;
+		floatBits.floats = keys;
+		floatBits.ints = floatKeys;
+		floatBits.offset = fromIndex;
+		try {
+			// Map the float bits so that unsigned int order matches float order.
+			floatBits.restore = false;
+			forEachChunk(chunkCount(n), n, floatBits);
+			sortInts(floatKeys, 0, values, fromIndex, n, 0);
+			floatBits.restore = true;
+			forEachChunk(chunkCount(n), n, floatBits);
+		} finally {
+			floatBits.floats = null;
+		}
+	}
+
+	private void checkRange (Object keys, int length, int[] values, int fromIndex, int toIndex) {
+		if (keys == null) throw new IllegalArgumentException("keys cannot be null.");
+		if (fromIndex < 0 || fromIndex > toIndex || toIndex > length)
+			throw new IndexOutOfBoundsException("Invalid range: " + fromIndex + " to " + toIndex + ", length: " + length);
+		if (values != null && values.length < toIndex)
+			throw new IllegalArgumentException("values must have a length >= toIndex: " + values.length + " < " + toIndex);
+	}
+
+	/** @param signFlip XORed with the most significant digit, 0x80 to sort signed keys or 0 to sort unsigned keys. */
+	private void sortInts (int[] keys, int keyOffset, int[] values, int valueOffset, int n, int signFlip) {
+		if (n < 2) return;
+		if (intScratch == null || intScratch.length < n) intScratch = new int[n];
+		if (values != null && (valueScratch == null || valueScratch.length < n)) valueScratch = new int[n];
+		int chunks = chunkCount(n);
+		int[][] counts = counts(chunks);
+
+		IntPass pass = intPass;
+		pass.src = keys;
+		pass.dst = intScratch;
+		pass.srcValues = values;
+		pass.dstValues = valueScratch;
+		pass.srcOffset = keyOffset;
+		pass.dstOffset = 0;
+		pass.srcValueOffset = valueOffset;
+		pass.dstValueOffset = 0;
+		try {
+			for (int shift = 0; shift < 32; shift += 8) {
+				pass.shift = shift;
+				pass.flip = shift == 24 ? signFlip : 0;
+				pass.scatter = false;
+				forEachChunk(chunks, n, pass);
+				if (!offsets(counts, chunks, n, pass.dstOffset)) continue;
+				pass.scatter = true;
+				forEachChunk(chunks, n, pass);
+				pass.swap();
+			}
+			if (pass.src != keys) {
+				System.arraycopy(pass.src, pass.srcOffset, keys, keyOffset, n);
+				if (values != null) System.arraycopy(pass.srcValues, pass.srcValueOffset, values, valueOffset, n);
+			}
+		} finally {
+			pass.src = pass.dst = pass.srcValues = pass.dstValues = null;
+		}
+	}
+
+	private void sortLongs (long[] keys, int fromIndex, int[] values, int n) {
+		if (n < 2) return;
+		if (longScratch == null || longScratch.length < n) longScratch = new long[n];
+		if (values != null && (valueScratch == null || valueScratch.length < n)) valueScratch = new int[n];
+		int chunks = chunkCount(n);
+		int[][] counts = counts(chunks);
+
+		LongPass pass = longPass;
+		pass.src = keys;
+		pass.dst = longScratch;
+		pass.srcValues = values;
+		pass.dstValues = valueScratch;
+		pass.srcOffset = fromIndex;
+		pass.dstOffset = 0;
+		try {
+			for (int shift = 0; shift < 64; shift += 8) {
+				pass.shift = shift;
+				pass.flip = shift == 56 ? 0x80 : 0;
+				pass.scatter = false;
+				forEachChunk(chunks, n, pass);
+				if (!offsets(counts, chunks, n, pass.dstOffset)) continue;
+				pass.scatter = true;
+				forEachChunk(chunks, n, pass);
+				pass.swap();
+			}
+			if (pass.src != keys) {
+				System.arraycopy(pass.src, pass.srcOffset, keys, fromIndex, n);
+				if (values != null) System.arraycopy(pass.srcValues, pass.srcOffset, values, fromIndex, n);
+			}
+		} finally {
+			pass.src = pass.dst = null;
+			pass.srcValues = pass.dstValues = null;
+		}
+	}
+
+	private int[][] counts (int chunks) {
+		int[][] counts = this.counts;
+		if (counts == null || counts.length < chunks) {
+			counts = new int[chunks][RADIX];
+			this.counts = counts;
+		}
+		return counts;
+	}
+
+	/** Turns the per chunk digit counts into the index where each chunk writes its first key with each digit. Chunks write keys
+	 * with the same digit in chunk order, which keeps the sort stable.
+	 * @return false if all keys have the same digit, so the pass can be skipped. */
+	static private boolean offsets (int[][] counts, int chunks, int n, int offset) {
+		for (int digit = 0; digit < RADIX; digit++) {
+			int total = 0;
+			for (int chunk = 0; chunk < chunks; chunk++)
+				total += counts[chunk][digit];
+			if (total == n) return false;
+			if (total != 0) break;
+		}
+		for (int digit = 0; digit < RADIX; digit++) {
+			for (int chunk = 0; chunk < chunks; chunk++) {
+				int[] count = counts[chunk];
+				int c = count[digit];
+				count[digit] = offset;
+				offset += c;
+			}
+		}
+		return true;
+	}
+
+	/** Returns the number of chunks to split n keys into. Each chunk is processed by a single {@link ChunkTask#run(int, int, int)}
+	 * call. */
+	int chunkCount (int n) {
+		return 1;
+	}
+
+	/** Runs the task for each chunk and returns when all chunks are done. */
+	void forEachChunk (int chunks, int n, ChunkTask task) {
+		for (int chunk = 0; chunk < chunks; chunk++)
+			task.run(chunk, (int)((long)n * chunk / chunks), (int)((long)n * (chunk + 1) / chunks));
+	}
+
+	/** Maps float keys to ints whose unsigned order matches the float order, or maps them back. */
+	static class FloatBits implements ChunkTask {
+		float[] floats;
+		int[] ints;
+		int offset;
+		boolean restore;
+
+		public void run (int chunk, int start, int end) {
+			float[] floats = this.floats;
+			int[] ints = this.ints;
+			int offset = this.offset;
+			if (restore) {
+				for (int i = start; i < end; i++) {
+					int bits = ints[i];
+					floats[offset + i] = Float.intBitsToFloat(bits ^ (~bits >> 31 | 0x80000000));
+				}
+			} else {
+				for (int i = start; i < end; i++) {
+					int bits = Float.floatToIntBits(floats[offset + i]);
+					ints[i] = bits ^ (bits >> 31 | 0x80000000);
+				}
+			}
+		}
+	}
+
+	/** Counts the digits of each chunk of int keys or scatters the chunk to the destination, for one pass. The source and
+	 * destination are swapped after each pass. */
+	class IntPass implements ChunkTask {
+		int[] src, dst, srcValues, dstValues;
+		int srcOffset, dstOffset, srcValueOffset, dstValueOffset, shift, flip;
+		boolean scatter;
+
+		public void run (int chunk, int start, int end) {
+			int[] src = this.src, count = counts[chunk];
+			int srcOffset = this.srcOffset, shift = this.shift, flip = this.flip;
+			if (!scatter) {
+				for (int i = 0; i < RADIX; i++)
+					count[i] = 0;
+				for (int i = srcOffset + start, last = srcOffset + end; i < last; i++)
+					count[(src[i] >>> shift & 0xff) ^ flip]++;
+				return;
+			}
+			int[] dst = this.dst, srcValues = this.srcValues, dstValues = this.dstValues;
+			int valueDelta = dstValueOffset - dstOffset;
+			for (int i = start; i < end; i++) {
+				int key = src[srcOffset + i];
+				int index = count[(key >>> shift & 0xff) ^ flip]++;
+				dst[index] = key;
+				if (srcValues != null) dstValues[index + valueDelta] = srcValues[srcValueOffset + i];
+			}
+		}
+
+		void swap () {
+			int[] keys = src, values = srcValues;
+			src = dst;
+			dst = keys;
+			srcValues = dstValues;
+			dstValues = values;
+			int offset = srcOffset, valueOffset = srcValueOffset;
+			srcOffset = dstOffset;
+			dstOffset = offset;
+			srcValueOffset = dstValueOffset;
+			dstValueOffset = valueOffset;
+		}
+	}
+
+	/** Counts or scatters each chunk of long keys, see {@link IntPass}. The values use the same offsets as the keys. */
+	class LongPass implements ChunkTask {
+		long[] src, dst;
+		int[] srcValues, dstValues;
+		int srcOffset, dstOffset, shift, flip;
+		boolean scatter;
+
+		public void run (int chunk, int start, int end) {
+			long[] src = this.src;
+			int[] count = counts[chunk];
+			int shift = this.shift, flip = this.flip;
+			if (!scatter) {
+				for (int i = 0; i < RADIX; i++)
+					count[i] = 0;
+				for (int i = srcOffset + start, last = srcOffset + end; i < last; i++)
+					count[((int)(src[i] >>> shift) & 0xff) ^ flip]++;
+				return;
+			}
+			long[] dst = this.dst;
+			int[] srcValues = this.srcValues, dstValues = this.dstValues;
+			for (int i = srcOffset + start, last = srcOffset + end; i < last; i++) {
+				long key = src[i];
+				int index = count[((int)(key >>> shift) & 0xff) ^ flip]++;
+				dst[index] = key;
+				if (srcValues != null) dstValues[index] = srcValues[i];
+			}
+		}
+
+		void swap () {
+			long[] keys = src;
+			int[] values = srcValues;
+			src = dst;
+			dst = keys;
+			srcValues = dstValues;
+			dstValues = values;
+			int offset = srcOffset;
+			srcOffset = dstOffset;
+			dstOffset = offset;
+		}
+	}
+
+	static interface ChunkTask {
+		/** @param start The first index of the chunk, relative to the start of the range being sorted.
+		 * @param end The index after the last index of the chunk. */
+		public void run (int chunk, int start, int end);
+	}
+}
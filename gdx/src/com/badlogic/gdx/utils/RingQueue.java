@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.badlogic.gdx.math.MathUtils;
+
+/** Base class of the bounded lock-free queues handing off values between threads: {@link SpscQueue}, {@link MpscQueue},
+ * {@link MpmcQueue}, {@link MpmcIntQueue} and {@link MpmcLongQueue}. Values are stored in a ring with a power of two capacity.
+ * <p>
+ * The producer and consumer indices increase forever and are stored 128 bytes apart, so threads producing and threads consuming
+ * don't invalidate each other's cache lines. Compared to {@link AtomicQueue}, the queues support batches with drain methods.
+ * @see Consumer */
+abstract public class RingQueue {
+	/** Each index is next to the cache of the other index kept by the same side. */
+	static final int PRODUCER = 8, CONSUMER_CACHE = 9, CONSUMER = 24, PRODUCER_CACHE = 25;
+
+	/** The producer and consumer indices and their cached counterparts, padded on both sides. */
+	final AtomicLongArray indices = new AtomicLongArray(40);
+	final int capacity, mask;
+
+	/** @param capacity Increased to the next power of two. */
+	RingQueue (int capacity) {
+		if (capacity < 1 || capacity > 1 << 30) throw new IllegalArgumentException("capacity must be > 0 and <= 2^30: " + capacity);
+		this.capacity = MathUtils.nextPowerOfTwo(Math.max(2, capacity));
+		mask = this.capacity - 1;
+	}
+
+	public int capacity () {
+		return capacity;
+	}
+
+	/** Returns the number of values in the queue, which may already have changed if other threads are using the queue. */
+	public int size () {
+		// Read the consumer index first, so the size can't be negative.
+		long consumer = indices.get(CONSUMER);
+		long producer = indices.get(PRODUCER);
+		return (int)Math.min(capacity, Math.max(0, producer - consumer));
+	}
+
+	public boolean isEmpty () {
+		return indices.get(CONSUMER) >= indices.get(PRODUCER);
+	}
+
+	/** Receives the values drained from a queue. */
+	static public interface Consumer<T> {
+		public void accept (T value);
+	}
+
+	/** Receives the values drained from a {@link MpmcIntQueue}. */
+	static public interface IntConsumer {
+		public void accept (int value);
+	}
+
+	/** Receives the values drained from a {@link MpmcLongQueue}. */
+	static public interface LongConsumer {
+		public void accept (long value);
+	}
+}
@@ -19,13 +19,15 @@ import java.util.Comparator;
  * avoid allocation. The sorting is otherwise identical to the Arrays.sort methods (uses timsort).<br>
  * <br>
  * Note that sorting primitive arrays with the Arrays.sort methods does not allocate memory (unless sorting large arrays of char,
- * short, or byte).
+ * short, or byte). Large primitive arrays can be sorted faster with the {@link RadixSort} methods, see {@link ParallelSort} to
+ * sort using multiple threads.
  * @author Nathan Sweet */
 public class Sort {
 	static private Sort instance;
 
 	private TimSort timSort;
 	private ComparableTimSort comparableTimSort;
+	private RadixSort radixSort;
 
 	public <T extends Comparable> void sort (Array<T> a) {
 		if (comparableTimSort == null) comparableTimSort = new ComparableTimSort();
@@ -59,6 +61,45 @@ public class Sort {
 		timSort.doSort(a, c, fromIndex, toIndex);
 	}
 
+	/** Sorts the items with a {@link RadixSort}, which is faster than {@link IntArray#sort()} for large arrays. */
+	public void sort (IntArray a) {
+		if (radixSort == null) radixSort = new RadixSort();
+		radixSort.sort(a);
+	}
+
+	/** Sorts the items with a {@link RadixSort}, which is faster than {@link LongArray#sort()} for large arrays. */
+	public void sort (LongArray a) {
+		if (radixSort == null) radixSort = new RadixSort();
+		radixSort.sort(a);
+	}
+
+	/** Sorts the items with a {@link RadixSort}, which is faster than {@link FloatArray#sort()} for large arrays. */
+	public void sort (FloatArray a) {
+		if (radixSort == null) radixSort = new RadixSort();
+		radixSort.sort(a);
+	}
+
+	/** Sorts the keys with a {@link RadixSort} and reorders the values the same way.
+	 * @see RadixSort#sort(int[], int[], int, int) */
+	public void sort (int[] keys, int[] values, int fromIndex, int toIndex) {
+		if (radixSort == null) radixSort = new RadixSort();
+		radixSort.sort(keys, values, fromIndex, toIndex);
+	}
+
+	/** Sorts the keys with a {@link RadixSort} and reorders the values the same way.
+	 * @see RadixSort#sort(long[], int[], int, int) */
+	public void sort (long[] keys, int[] values, int fromIndex, int toIndex) {
+		if (radixSort == null) radixSort = new RadixSort();
+		radixSort.sort(keys, values, fromIndex, toIndex);
+	}
+
+	/** Sorts the keys with a {@link RadixSort} and reorders the values the same way.
+	 * @see RadixSort#sort(float[], int[], int, int) */
+	public void sort (float[] keys, int[] values, int fromIndex, int toIndex) {
+		if (radixSort == null) radixSort = new RadixSort();
+		radixSort.sort(keys, values, fromIndex, toIndex);
+	}
+
 	/** Returns a Sort instance for convenience. Multiple threads must not use this instance at the same time. */
 	static public Sort instance () {
 		if (instance == null) instance = new Sort();
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/** A bounded lock-free queue for a single producer thread and a single consumer thread. Only one thread may call
+ * {@link #offer(Object)} and only one other thread may call {@link #poll()} and {@link #drain(Consumer, int)}. Null values are
+ * not allowed.
+ * <p>
+ * Each side caches the index of the other, so it is only read again when the queue looks full or empty. */
+public class SpscQueue<T> extends RingQueue {
+	private final AtomicReferenceArray<T> buffer;
+
+	/** @param capacity Increased to the next power of two. */
+	public SpscQueue (int capacity) {
+		super(capacity);
+		buffer = new AtomicReferenceArray<T>(this.capacity);
+	}
+
+	/** Adds the value to the end of the queue.
+	 * @return false if the queue is full */
+	public boolean offer (T value) {
+		if (value == null) throw new IllegalArgumentException("value cannot be null.");
+		AtomicLongArray indices = this.indices;
+		long producer = indices.get(PRODUCER);
+		long wrap = producer - capacity;
+		if (indices.get(CONSUMER_CACHE) <= wrap) {
+			long consumer = indices.get(CONSUMER);
+			if (consumer <= wrap) return false;
+			indices.lazySet(CONSUMER_CACHE, consumer);
+		}
+		buffer.lazySet((int)producer & mask, value);
+		indices.lazySet(PRODUCER, producer + 1);
+		return true;
+	}
+
+	/** Removes the value at the front of the queue.
+	 * @return null if the queue is empty */
+	public @Null T poll () {
+		AtomicLongArray indices = this.indices;
+		long consumer = indices.get(CONSUMER);
+		if (consumer >= indices.get(PRODUCER_CACHE)) {
+			long producer = indices.get(PRODUCER);
+			if (consumer >= producer) return null;
+			indices.lazySet(PRODUCER_CACHE, producer);
+		}
+		int index = (int)consumer & mask;
+		T value = buffer.get(index);
+		buffer.lazySet(index, null);
+		indices.lazySet(CONSUMER, consumer + 1);
+		return value;
+	}
+
+	/** Removes up to limit values from the front of the queue, passing them to the consumer. The consumer index is only
+	 * published once for the whole batch.
+	 * @return the number of values drained */
+	public int drain (Consumer<T> consumer, int limit) {
+		AtomicLongArray indices = this.indices;
+		long start = indices.get(CONSUMER);
+		long available = indices.get(PRODUCER) - start;
+		int count = (int)Math.min(available, limit);
+		if (count <= 0) return 0;
+		AtomicReferenceArray<T> buffer = this.buffer;
+		int i = 0;
+		try {
+			while (i < count) {
+				int index = (int)(start + i++) & mask;
+				T value = buffer.get(index);
+				buffer.lazySet(index, null);
+				consumer.accept(value);
+			}
+		} finally {
+			indices.lazySet(CONSUMER, start + i);
+		}
+		return count;
+	}
+}
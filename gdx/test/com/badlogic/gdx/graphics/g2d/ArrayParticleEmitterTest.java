@@ -0,0 +1,177 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.g2d.ParticleEmitter.SpawnShape;
+import com.badlogic.gdx.graphics.g2d.ParticleEmitter.SpriteMode;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
+
+public class ArrayParticleEmitterTest {
+
+	@Test
+	public void testSameVerticesAsParticleEmitter () {
+		// SpriteMode.animated changes the regions of the sprites, which requires a texture
+		for (SpriteMode mode : new SpriteMode[] {SpriteMode.single, SpriteMode.random}) {
+			for (int variant = 0; variant < 2; variant++) {
+				ParticleEmitter emitter = createEmitter(mode, variant == 1);
+				ParticleEmitter arrayEmitter = new ArrayParticleEmitter(emitter);
+				arrayEmitter.setSprites(emitter.getSprites());
+
+				// Each emitter uses its own copy of the random generator state, which must stay in sync
+				RandomXS128 random = (RandomXS128)MathUtils.random;
+				random.setSeed(1);
+				emitter.start();
+				long[] state = {random.getState(0), random.getState(1)};
+				random.setSeed(1);
+				arrayEmitter.start();
+				long[] arrayState = {random.getState(0), random.getState(1)};
+
+				for (int frame = 0; frame < 120; frame++) {
+					// Alternate between the two update paths
+					float delta = 1 / 60f + (frame % 3) * 0.002f;
+					random.setState(state[0], state[1]);
+					List<String> expected = frame % 2 == 0 ? updateAndDraw(emitter, delta) : draw(emitter, delta);
+					state[0] = random.getState(0);
+					state[1] = random.getState(1);
+					random.setState(arrayState[0], arrayState[1]);
+					List<String> actual = frame % 2 == 0 ? updateAndDraw(arrayEmitter, delta) : draw(arrayEmitter, delta);
+					arrayState[0] = random.getState(0);
+					arrayState[1] = random.getState(1);
+
+					assertEquals(mode + " " + variant + " frame " + frame, expected, actual);
+					assertEquals(emitter.getActiveCount(), arrayEmitter.getActiveCount());
+					assertArrayEquals(state, arrayState);
+				}
+				assertEquals(emitter.getBoundingBox().toString(), arrayEmitter.getBoundingBox().toString());
+			}
+		}
+	}
+
+	@Test
+	public void testBoundsMatchDrawnVertices () {
+		for (int variant = 0; variant < 2; variant++) {
+			ParticleEmitter emitter = createEmitter(SpriteMode.random, variant == 1);
+			ParticleEmitter arrayEmitter = new ArrayParticleEmitter(emitter);
+			arrayEmitter.setSprites(emitter.getSprites());
+			for (ParticleEmitter e : new ParticleEmitter[] {emitter, arrayEmitter}) {
+				e.start();
+				for (int frame = 0; frame < 60; frame++) {
+					List<String> quads = frame % 2 == 0 ? updateAndDraw(e, 1 / 60f) : draw(e, 1 / 60f);
+					if (frame % 2 == 1) {
+						// The particles emitted after drawing are included in the bounds
+						quads = new ArrayList<String>();
+						e.draw(recordingBatch(quads));
+					}
+					float minX = Float.POSITIVE_INFINITY, minY = minX, maxX = Float.NEGATIVE_INFINITY, maxY = maxX;
+					for (String quad : quads) {
+						String[] values = quad.substring(1, quad.length() - 1).split(", ");
+						for (int v = 0; v < 20; v += 5) {
+							float x = Float.parseFloat(values[v]), y = Float.parseFloat(values[v + 1]);
+							minX = Math.min(minX, x);
+							minY = Math.min(minY, y);
+							maxX = Math.max(maxX, x);
+							maxY = Math.max(maxY, y);
+						}
+					}
+					BoundingBox bounds = e.getBoundingBox();
+					assertEquals(minX, bounds.min.x, 0.01f);
+					assertEquals(minY, bounds.min.y, 0.01f);
+					assertEquals(maxX, bounds.max.x, 0.01f);
+					assertEquals(maxY, bounds.max.y, 0.01f);
+				}
+			}
+		}
+	}
+
+	private static ParticleEmitter createEmitter (SpriteMode mode, boolean rotating) {
+		ParticleEmitter emitter = new ParticleEmitter();
+		emitter.setMaxParticleCount(200);
+		emitter.setSpriteMode(mode);
+		emitter.setContinuous(true);
+		emitter.setAdditive(!rotating);
+		emitter.setAligned(rotating);
+		emitter.getDuration().setLow(1000);
+		emitter.getEmission().setHigh(200, 400);
+		emitter.getLife().setHigh(300, 800);
+		emitter.getXScale().setHigh(16, 32);
+		emitter.getXScale().setTimeline(new float[] {0, 1});
+		emitter.getXScale().setScaling(new float[] {1, 0.2f});
+		emitter.getVelocity().setActive(true);
+		emitter.getVelocity().setHigh(50, 100);
+		emitter.getAngle().setActive(true);
+		emitter.getAngle().setHigh(0, 360);
+		if (rotating) {
+			emitter.getAngle().setTimeline(new float[] {0, 1});
+			emitter.getAngle().setScaling(new float[] {0, 1});
+			emitter.getRotation().setActive(true);
+			emitter.getRotation().setHigh(0, 90);
+			emitter.getRotation().setTimeline(new float[] {0, 1});
+			emitter.getRotation().setScaling(new float[] {0, 1});
+			emitter.getGravity().setActive(true);
+			emitter.getGravity().setHigh(-50);
+			emitter.getSpawnShape().setShape(SpawnShape.ellipse);
+			emitter.getSpawnWidth().setHigh(40);
+			emitter.getSpawnHeight().setHigh(20);
+		}
+		emitter.getTint().setTimeline(new float[] {0, 1});
+		emitter.getTint().setColors(new float[] {1, 0.5f, 0, 0, 0.5f, 1});
+		emitter.getTransparency().setHigh(1);
+		emitter.getTransparency().setTimeline(new float[] {0, 1});
+		emitter.getTransparency().setScaling(new float[] {1, 0});
+
+		Array<Sprite> sprites = new Array<Sprite>();
+		for (int i = 0; i < 3; i++) {
+			Sprite sprite = new Sprite();
+			sprite.setSize(8 + i * 4, 8 + i * 2);
+			sprite.setOriginCenter();
+			sprites.add(sprite);
+		}
+		emitter.setSprites(sprites);
+		return emitter;
+	}
+
+	private static List<String> updateAndDraw (ParticleEmitter emitter, float delta) {
+		List<String> quads = new ArrayList<String>();
+		emitter.update(delta);
+		emitter.draw(recordingBatch(quads));
+		Collections.sort(quads);
+		return quads;
+	}
+
+	private static List<String> draw (ParticleEmitter emitter, float delta) {
+		List<String> quads = new ArrayList<String>();
+		emitter.draw(recordingBatch(quads), delta);
+		Collections.sort(quads);
+		return quads;
+	}
+
+	/** @return a batch recording each sprite drawn as a string of its vertices */
+	private static Batch recordingBatch (final List<String> quads) {
+		return (Batch)Proxy.newProxyInstance(Batch.class.getClassLoader(), new Class[] {Batch.class}, new InvocationHandler() {
+			@Override
+			public Object invoke (Object proxy, Method method, Object[] args) {
+				if (method.getName().equals("draw") && args.length == 4 && args[1] instanceof float[]) {
+					float[] vertices = (float[])args[1];
+					int offset = (Integer)args[2], count = (Integer)args[3];
+					for (int i = offset; i < offset + count; i += 20)
+						quads.add(Arrays.toString(Arrays.copyOfRange(vertices, i, i + 20)));
+				}
+				return null;
+			}
+		});
+	}
+}
@@ -0,0 +1,102 @@
+package com.badlogic.gdx.graphics.g2d;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.g2d.ParticleEffectPool.PooledEffect;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+public class ParticleEffectTest {
+	private int drawCount;
+
+	@Test
+	public void testCulling () {
+		ParticleEffect effect = createEffect();
+		Rectangle cullingArea = new Rectangle(-100, -100, 200, 200);
+		effect.setCullingArea(cullingArea);
+		Batch batch = countingBatch();
+
+		effect.start();
+		effect.draw(batch, 0.1f);
+		effect.draw(batch, 0.1f);
+		assertTrue(drawCount > 0);
+		int activeCount = effect.getEmitters().first().getActiveCount();
+		assertTrue(activeCount > 0);
+
+		// Moving the camera away culls the effect, which is still updated
+		cullingArea.x = 1000;
+		drawCount = 0;
+		effect.draw(batch, 0.1f);
+		effect.draw(batch);
+		assertEquals(0, drawCount);
+		assertTrue(effect.getEmitters().first().getActiveCount() > activeCount);
+
+		// Frozen effects are not updated
+		effect.setFreezeCulled(true);
+		activeCount = effect.getEmitters().first().getActiveCount();
+		effect.draw(batch, 0.1f);
+		effect.update(0.1f);
+		assertEquals(activeCount, effect.getEmitters().first().getActiveCount());
+		assertEquals(0, drawCount);
+
+		cullingArea.x = -100;
+		effect.draw(batch, 0.1f);
+		assertTrue(drawCount > 0);
+	}
+
+	@Test
+	public void testPoolSharesCullingArea () {
+		ParticleEffect template = createEffect();
+		Rectangle cullingArea = new Rectangle(1000, 1000, 10, 10);
+		template.setCullingArea(cullingArea);
+		template.setFreezeCulled(true);
+		ParticleEffectPool pool = new ParticleEffectPool(template, 1, 2);
+		PooledEffect effect = pool.obtain();
+		assertSame(cullingArea, effect.getCullingArea());
+		assertTrue(effect.isFreezeCulled());
+
+		effect.setCullingArea(null);
+		effect.setFreezeCulled(false);
+		effect.free();
+		assertSame(effect, pool.obtain());
+		assertSame(cullingArea, effect.getCullingArea());
+		assertTrue(effect.isFreezeCulled());
+	}
+
+	private static ParticleEffect createEffect () {
+		ParticleEmitter emitter = new ParticleEmitter();
+		emitter.setMaxParticleCount(100);
+		emitter.setContinuous(true);
+		emitter.getDuration().setLow(1000);
+		emitter.getEmission().setHigh(100);
+		emitter.getLife().setHigh(5000);
+		emitter.getXScale().setHigh(8);
+		emitter.getTint().setColors(new float[] {1, 1, 1});
+		emitter.getTransparency().setHigh(1);
+		Array<Sprite> sprites = new Array<Sprite>();
+		Sprite sprite = new Sprite();
+		sprite.setSize(8, 8);
+		sprites.add(sprite);
+		emitter.setSprites(sprites);
+
+		ParticleEffect effect = new ParticleEffect();
+		effect.getEmitters().add(emitter);
+		return effect;
+	}
+
+	private Batch countingBatch () {
+		return (Batch)Proxy.newProxyInstance(Batch.class.getClassLoader(), new Class[] {Batch.class}, new InvocationHandler() {
+			@Override
+			public Object invoke (Object proxy, Method method, Object[] args) {
+				if (method.getName().equals("draw")) drawCount++;
+				return null;
+			}
+		});
+	}
+}
@@ -0,0 +1,49 @@
+package com.badlogic.gdx.graphics.g3d.decals;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.math.Vector3;
+
+public class DecalTest {
+	@Test
+	public void testComputeVerticesMatchesUpdate () {
+		Random random = new Random(7);
+		float[] out = new float[Decal.SIZE * 2];
+		for (int n = 0; n < 100; n++) {
+			Decal expected = Decal.newDecal(1 + random.nextFloat() * 10, 1 + random.nextFloat() * 10, new TextureRegion());
+			Decal actual = Decal.newDecal(expected.getWidth(), expected.getHeight(), new TextureRegion());
+			for (Decal decal : new Decal[] {expected, actual}) {
+				random.setSeed(n);
+				decal.setPosition(random.nextFloat() * 100, random.nextFloat() * 100, random.nextFloat() * 100);
+				decal.setScale(random.nextFloat() * 2, random.nextFloat() * 2);
+				decal.setRotation(new Vector3(random.nextFloat(), random.nextFloat(), random.nextFloat()).nor(), Vector3.Y);
+				decal.rotateZ(random.nextFloat() * 360);
+				decal.setColor(random.nextFloat(), random.nextFloat(), random.nextFloat(), 1);
+				if (n % 2 == 0) decal.transformationOffset = new Vector2(random.nextFloat(), random.nextFloat());
+			}
+
+			float[] original = actual.vertices.clone();
+			actual.computeVertices(out, Decal.SIZE);
+			float[] vertices = expected.getVertices();
+			for (int i = 0; i < Decal.SIZE; i++)
+				assertEquals(vertices[i], out[Decal.SIZE + i], 0);
+			// The decal is only read
+			assertArrayEquals(original, actual.vertices, 0);
+			assertFalse(actual.updated);
+
+			actual.storeVertices(out, Decal.SIZE);
+			assertTrue(actual.updated);
+			assertArrayEquals(vertices, actual.vertices, 0);
+			// The decal is up to date, the vertices are copied
+			actual.computeVertices(out, 0);
+			for (int i = 0; i < Decal.SIZE; i++)
+				assertEquals(vertices[i], out[i], 0);
+		}
+	}
+}
@@ -0,0 +1,143 @@
+package com.badlogic.gdx.graphics.g3d.decals;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+
+public class RadixCameraGroupStrategyTest {
+	private Application app;
+	private GL20 gl;
+	private PerspectiveCamera camera;
+
+	@Before
+	public void setUp () {
+		app = Gdx.app;
+		gl = Gdx.gl20;
+		// The strategies compile their shader on construction, the stubs report every shader as compiled
+		Gdx.app = stub(Application.class);
+		Gdx.gl = Gdx.gl20 = stub(GL20.class);
+		camera = new PerspectiveCamera();
+		camera.position.set(3, -2, 5);
+	}
+
+	@After
+	public void tearDown () {
+		Gdx.app = app;
+		Gdx.gl = Gdx.gl20 = gl;
+	}
+
+	@Test
+	public void testBlendedMatchesComparator () {
+		Random random = new Random(11);
+		Array<Decal> expected = new Array<Decal>();
+		for (int i = 0; i < 2000; i++) {
+			Decal decal = Decal.newDecal(1, 1, new TextureRegion(), true);
+			if (i % 10 == 0 && i > 0)
+				decal.setPosition(expected.get(random.nextInt(i)).getPosition()); // Equal distances keep their order
+			else
+				decal.setPosition(random.nextFloat() * 200 - 100, random.nextFloat() * 200 - 100, random.nextFloat() * 200 - 100);
+			expected.add(decal);
+		}
+		Array<Decal> actual = new Array<Decal>(expected);
+
+		new CameraGroupStrategy(camera).beforeGroup(CameraGroupStrategy.GROUP_BLEND, expected);
+		new RadixCameraGroupStrategy(camera).beforeGroup(CameraGroupStrategy.GROUP_BLEND, actual);
+		assertOrder(expected, actual);
+	}
+
+	@Test
+	public void testBlendedSameDistance () {
+		Array<Decal> expected = new Array<Decal>();
+		for (int i = 0; i < 100; i++) {
+			Decal decal = Decal.newDecal(1, 1, new TextureRegion(), true);
+			decal.setPosition(10, 20, 30);
+			expected.add(decal);
+		}
+		Array<Decal> actual = new Array<Decal>(expected);
+
+		// All the radix passes are skipped
+		new RadixCameraGroupStrategy(camera).beforeGroup(CameraGroupStrategy.GROUP_BLEND, actual);
+		assertOrder(expected, actual);
+	}
+
+	@Test
+	public void testOpaqueGroupedByMaterial () {
+		Random random = new Random(5);
+		Array<Decal> decals = new Array<Decal>();
+		for (int i = 0; i < 1000; i++) {
+			// Runs of the same material, the blend factor distinguishes the materials of untextured decals
+			int material = random.nextInt(3) == 0 ? 7 : random.nextInt(20);
+			int run = 1 + random.nextInt(4);
+			for (int j = 0; j < run; j++)
+				decals.add(Decal.newDecal(1, 1, new TextureRegion(), DecalMaterial.NO_BLEND, material));
+		}
+
+		// The decals of each material in submission order, the materials in the order they first appear
+		ObjectMap<DecalMaterial, Array<Decal>> groups = new ObjectMap<DecalMaterial, Array<Decal>>();
+		Array<DecalMaterial> materials = new Array<DecalMaterial>();
+		for (Decal decal : decals) {
+			Array<Decal> group = groups.get(decal.getMaterial());
+			if (group == null) {
+				groups.put(decal.getMaterial(), group = new Array<Decal>());
+				materials.add(decal.getMaterial());
+			}
+			group.add(decal);
+		}
+		Array<Decal> expected = new Array<Decal>();
+		for (DecalMaterial material : materials)
+			expected.addAll(groups.get(material));
+
+		RadixCameraGroupStrategy strategy = new RadixCameraGroupStrategy(camera);
+		Array<Decal> actual = new Array<Decal>(decals);
+		strategy.beforeGroup(CameraGroupStrategy.GROUP_OPAQUE, actual);
+		assertOrder(expected, actual);
+
+		// The material ids are reset between calls
+		actual = new Array<Decal>(decals);
+		actual.reverse();
+		strategy.beforeGroup(CameraGroupStrategy.GROUP_OPAQUE, actual);
+		assertEquals(actual.first().getMaterial(), decals.peek().getMaterial());
+	}
+
+	private static void assertOrder (Array<Decal> expected, Array<Decal> actual) {
+		assertEquals(expected.size, actual.size);
+		for (int i = 0; i < expected.size; i++)
+			assertSame("index " + i, expected.get(i), actual.get(i));
+	}
+
+	private static <T> T stub (Class<T> type) {
+		return (T)Proxy.newProxyInstance(type.getClassLoader(), new Class[] {type}, new InvocationHandler() {
+			public Object invoke (Object proxy, Method method, Object[] args) {
+				String name = method.getName();
+				if (name.equals("hashCode")) return System.identityHashCode(proxy);
+				if (name.equals("equals")) return proxy == args[0];
+				if (name.equals("glCreateShader") || name.equals("glCreateProgram")) return 1;
+				if (name.equals("glGetShaderiv") || name.equals("glGetProgramiv")) {
+					int pname = (Integer)args[1];
+					((IntBuffer)args[2]).put(0, pname == GL20.GL_COMPILE_STATUS || pname == GL20.GL_LINK_STATUS ? 1 : 0);
+					return null;
+				}
+				Class<?> returnType = method.getReturnType();
+				if (returnType == int.class) return 0;
+				if (returnType == boolean.class) return false;
+				return null;
+			}
+		});
+	}
+}
@@ -0,0 +1,26 @@
+package com.badlogic.gdx.graphics.g3d.model;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class LodGroupTest {
+
+	@Test
+	public void testSelect () {
+		LodGroup group = new LodGroup().add(new MeshPart(), 0.5f).add(new MeshPart(), 0.2f).add(new MeshPart(), 0.05f);
+		group.hysteresis = 0.1f;
+
+		assertEquals(0, group.select(0, 1f));
+		assertEquals(1, group.select(-1, 0.3f));
+		assertEquals(-1, group.select(2, 0.01f));
+
+		// Within the hysteresis band the current level is kept
+		assertEquals(0, group.select(0, 0.48f));
+		assertEquals(1, group.select(0, 0.44f));
+		assertEquals(1, group.select(1, 0.52f));
+		assertEquals(0, group.select(1, 0.56f));
+		assertEquals(-1, group.select(-1, 0.052f));
+		assertEquals(2, group.select(-1, 0.06f));
+	}
+}
@@ -0,0 +1,281 @@
+package com.badlogic.gdx.graphics.g3d.particles;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Application.ApplicationType;
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.particles.batches.GpuParticleBatch;
+import com.badlogic.gdx.graphics.g3d.particles.renderers.GpuParticleRenderer;
+import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
+import com.badlogic.gdx.graphics.glutils.GLVersion;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+public class GpuParticleControllerTest {
+	private static final float DELTA = 1f / 30;
+
+	private Application app;
+	private Graphics graphics;
+	private Files files;
+	private GL20 gl;
+	private GL30 gl30;
+
+	private GLVersion glVersion;
+	/** The calls made to the GL stub, with the vertex array bound and the thread they were made on. */
+	private final Array<String> calls = new Array<String>();
+	private final Array<Thread> threads = new Array<Thread>();
+	private final Array<String> shaderSources = new Array<String>();
+	private int handles, vertexArray;
+
+	@Before
+	public void setUp () {
+		app = Gdx.app;
+		graphics = Gdx.graphics;
+		files = Gdx.files;
+		gl = Gdx.gl;
+		gl30 = Gdx.gl30;
+		glVersion = new GLVersion(ApplicationType.Desktop, "3.2.0", "", "");
+		Gdx.app = stub(Application.class);
+		Gdx.graphics = stub(Graphics.class);
+		Gdx.files = stub(Files.class);
+		Gdx.gl = Gdx.gl20 = Gdx.gl30 = stub(GL30.class);
+	}
+
+	@After
+	public void tearDown () {
+		Gdx.app = app;
+		Gdx.graphics = graphics;
+		Gdx.files = files;
+		Gdx.gl = Gdx.gl20 = gl;
+		Gdx.gl30 = gl30;
+	}
+
+	@Test
+	public void testVersionDirective () {
+		assertEquals("#version 150\n", GpuParticleShader.getVersionDirective());
+		glVersion = new GLVersion(ApplicationType.Desktop, "3.0 Mesa 20.0.8", "", "");
+		assertEquals("#version 130\n", GpuParticleShader.getVersionDirective());
+		glVersion = new GLVersion(ApplicationType.Desktop, "3.3.0 NVIDIA 450.80.02", "", "");
+		assertEquals("#version 330\n", GpuParticleShader.getVersionDirective());
+		glVersion = new GLVersion(ApplicationType.Desktop, "4.6.0", "", "");
+		assertEquals("#version 460\n", GpuParticleShader.getVersionDirective());
+		glVersion = new GLVersion(ApplicationType.Android, "OpenGL ES 3.2 V@415.0", "", "");
+		assertEquals("#version 300 es\n", GpuParticleShader.getVersionDirective());
+		glVersion = new GLVersion(ApplicationType.WebGL, "WebGL 2.0", "", "");
+		assertEquals("#version 300 es\n", GpuParticleShader.getVersionDirective());
+	}
+
+	@Test
+	public void testVertexArrayBound () {
+		GpuParticleBatch batch = new GpuParticleBatch();
+		GpuParticleController controller = new GpuParticleController("gpu", 100, new GpuParticleRenderer(batch));
+		ParticleSystem system = new ParticleSystem();
+		system.add(batch);
+		ParticleEffect effect = new ParticleEffect(controller);
+		system.add(effect);
+		effect.init();
+		effect.start();
+		assertTrue(controller.isGpu());
+		// The render and the transform feedback programs
+		assertEquals(4, shaderSources.size);
+		for (String source : shaderSources)
+			assertTrue(source.startsWith("#version 150\n"));
+
+		system.update(DELTA);
+		assertTrue(calls.contains("glBeginTransformFeedback", false));
+		system.begin();
+		system.draw();
+		system.end();
+		render(system);
+
+		int draws = 0;
+		for (String call : calls) {
+			if (!call.startsWith("glDrawArrays")) continue;
+			assertFalse(call, call.endsWith(" 0"));
+			draws++;
+		}
+		assertEquals(2, draws);
+		assertEquals(0, vertexArray);
+
+		effect.dispose();
+		assertTrue(calls.contains("glDeleteVertexArrays", false));
+		batch.dispose();
+	}
+
+	@Test
+	public void testWithoutGL30 () {
+		Gdx.gl30 = null;
+		GpuParticleBatch batch = new GpuParticleBatch();
+		GpuParticleController controller = new GpuParticleController("cpu", 100, new GpuParticleRenderer(batch));
+		ParticleSystem system = new ParticleSystem();
+		system.add(batch);
+		ParticleEffect effect = new ParticleEffect(controller);
+		system.add(effect);
+		effect.init();
+		effect.start();
+		assertFalse(controller.isGpu());
+
+		system.update(DELTA);
+		system.begin();
+		system.draw();
+		system.end();
+		render(system);
+		assertTrue(calls.contains("glDrawArrays 0", false));
+		assertFalse(calls.contains("glGenVertexArrays", false));
+		assertEquals(2, shaderSources.size);
+		for (String source : shaderSources)
+			assertTrue(source.startsWith("#version 120\n"));
+		effect.dispose();
+		batch.dispose();
+	}
+
+	@Test
+	public void testParallelUpdate () {
+		GpuParticleBatch batch = new GpuParticleBatch();
+		GpuParticleController gpuController = new GpuParticleController("gpu", 100, new GpuParticleRenderer(batch));
+		GpuParticleController cpuController = new GpuParticleController("cpu", 100, false, new GpuParticleRenderer(batch));
+		ParticleEffect effect = new ParticleEffect(gpuController, cpuController);
+		effect.translate(new Vector3(1, 2, 3));
+		ParticleSystem system = new ParticleSystem();
+		system.add(batch);
+		system.add(effect);
+		AsyncExecutor executor = new AsyncExecutor(2);
+		system.setExecutor(executor);
+		system.setSplitSize(1);
+		GpuParticleSimulation expected = new GpuParticleSimulation(100);
+		expected.position.set(1, 2, 3);
+		try {
+			effect.init();
+			effect.start();
+			assertFalse(gpuController.isParallelUpdateSupported());
+			assertTrue(cpuController.isParallelUpdateSupported());
+			for (int frame = 0; frame < 10; frame++) {
+				system.update(DELTA);
+				system.begin();
+				system.draw();
+				system.end();
+				expected.update(DELTA);
+				assertArrayEquals(expected.state, cpuController.simulation.state, 0);
+			}
+		} finally {
+			executor.dispose();
+		}
+		assertEquals(10, count("glBeginTransformFeedback"));
+		// The initial upload and one per frame
+		assertEquals(11, count("glBufferData cpu"));
+		for (Thread thread : threads)
+			assertSame(Thread.currentThread(), thread);
+		assertEquals(new Vector3(1, 2, 3), gpuController.simulation.position);
+	}
+
+	@Test
+	public void testCopy () {
+		GpuParticleBatch batch = new GpuParticleBatch();
+		GpuParticleController controller = new GpuParticleController("gpu", 100, false, new GpuParticleRenderer(batch));
+		controller.simulation.lifeMax = 5;
+		controller.simulation.gravity.set(1, 2, 3);
+		controller.pointSize = 12;
+		controller.color.set(1, 0, 0, 1);
+
+		ParticleController copied = new ParticleEffect(controller).copy().getControllers().first();
+		assertTrue(copied instanceof GpuParticleController);
+		GpuParticleController copy = (GpuParticleController)copied;
+		assertNotSame(controller.simulation, copy.simulation);
+		assertEquals(100, copy.simulation.capacity);
+		assertEquals(5, copy.simulation.lifeMax, 0);
+		assertEquals(controller.simulation.gravity, copy.simulation.gravity);
+		assertEquals(12, copy.pointSize, 0);
+		assertEquals(controller.color, copy.color);
+		assertTrue(copy.renderer.isCompatible(batch));
+		copy.init();
+		assertFalse(copy.isGpu());
+		copy.dispose();
+		batch.dispose();
+	}
+
+	private void render (ParticleSystem system) {
+		Array<Renderable> renderables = new Array<Renderable>();
+		Pool<Renderable> pool = new Pool<Renderable>() {
+			@Override
+			protected Renderable newObject () {
+				return new Renderable();
+			}
+		};
+		system.getRenderables(renderables, pool);
+		assertEquals(1, renderables.size);
+		Renderable renderable = renderables.first();
+		assertTrue(renderable.shader.canRender(renderable));
+		renderable.shader.begin(new PerspectiveCamera(), new RenderContext(null));
+		renderable.shader.render(renderable);
+		renderable.shader.end();
+	}
+
+	private int count (String call) {
+		int count = 0;
+		for (String c : calls)
+			if (c.equals(call)) count++;
+		return count;
+	}
+
+	private <T> T stub (Class<T> type) {
+		return (T)Proxy.newProxyInstance(type.getClassLoader(), new Class[] {type}, new InvocationHandler() {
+			public Object invoke (Object proxy, Method method, Object[] args) {
+				String name = method.getName();
+				if (name.equals("hashCode")) return System.identityHashCode(proxy);
+				if (name.equals("equals")) return proxy == args[0];
+				if (name.equals("getType")) return ApplicationType.Desktop;
+				if (name.equals("getGLVersion")) return glVersion;
+				if (name.equals("classpath")) return new FileHandle((String)args[0], FileType.Classpath) {
+				};
+				if (!name.startsWith("gl")) return null;
+				synchronized (calls) {
+					threads.add(Thread.currentThread());
+					if (name.equals("glDrawArrays"))
+						calls.add(name + " " + vertexArray);
+					else if (name.equals("glBufferData"))
+						calls.add(name + (args[3].equals(GL20.GL_STREAM_DRAW) ? " cpu" : " gpu"));
+					else
+						calls.add(name);
+				}
+				if (name.equals("glShaderSource")) shaderSources.add((String)args[1]);
+				if (name.equals("glBindVertexArray")) vertexArray = (Integer)args[0];
+				if (name.equals("glCreateShader") || name.equals("glCreateProgram") || name.equals("glGenBuffer")) return ++handles;
+				if (name.equals("glGenBuffers") || name.equals("glGenVertexArrays")) {
+					IntBuffer buffer = (IntBuffer)args[1];
+					for (int i = 0; i < (Integer)args[0]; i++)
+						buffer.put(i, ++handles);
+					return null;
+				}
+				if (name.equals("glGetShaderiv") || name.equals("glGetProgramiv")) {
+					int pname = (Integer)args[1];
+					((IntBuffer)args[2]).put(0, pname == GL20.GL_COMPILE_STATUS || pname == GL20.GL_LINK_STATUS ? 1 : 0);
+					return null;
+				}
+				Class<?> returnType = method.getReturnType();
+				if (returnType == int.class) return 0;
+				if (returnType == boolean.class) return false;
+				return null;
+			}
+		});
+	}
+}
@@ -0,0 +1,106 @@
+package com.badlogic.gdx.graphics.g3d.particles;
+
+import static com.badlogic.gdx.graphics.g3d.particles.GpuParticleSimulation.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class GpuParticleSimulationTest {
+	@Test
+	public void testReset () {
+		GpuParticleSimulation simulation = new GpuParticleSimulation(4);
+		simulation.lifeMax = 2;
+		simulation.reset();
+		for (int i = 0; i < 4; i++) {
+			assertEquals(-0.5f * i, simulation.state[i * STRIDE + AGE_OFFSET], 0);
+			assertFalse(simulation.isAlive(i));
+		}
+		simulation.update(0.1f);
+		assertTrue(simulation.isAlive(0));
+		assertEquals(1, simulation.state[GENERATION_OFFSET], 0);
+		assertFalse(simulation.isAlive(1));
+	}
+
+	@Test
+	public void testSpawn () {
+		GpuParticleSimulation simulation = new GpuParticleSimulation(1000);
+		simulation.position.set(1, 2, 3);
+		simulation.spawnExtent.set(0.5f, 0, 1);
+		simulation.velocityMin.set(-1, 2, 0);
+		simulation.velocityMax.set(1, 4, 0);
+		simulation.lifeMin = 0.5f;
+		simulation.lifeMax = 1;
+		simulation.reset();
+		// Spawns every particle, without moving it as spawning takes the whole frame
+		simulation.update(simulation.lifeMax);
+		float[] state = simulation.state;
+		for (int i = 0, offset = 0; i < simulation.capacity; i++, offset += STRIDE) {
+			assertTrue(simulation.isAlive(i));
+			assertEquals(1, state[offset + POSITION_OFFSET], 0.5f);
+			assertEquals(2, state[offset + POSITION_OFFSET + 1], 0);
+			assertEquals(3, state[offset + POSITION_OFFSET + 2], 1);
+			assertEquals(0, state[offset + VELOCITY_OFFSET], 1);
+			assertEquals(3, state[offset + VELOCITY_OFFSET + 1], 1);
+			assertEquals(0.75f, state[offset + LIFE_OFFSET], 0.25f);
+		}
+	}
+
+	@Test
+	public void testMotion () {
+		GpuParticleSimulation simulation = new GpuParticleSimulation(1);
+		simulation.velocityMin.set(0, 10, 0);
+		simulation.velocityMax.set(0, 10, 0);
+		simulation.gravity.set(0, -10, 0);
+		simulation.lifeMin = simulation.lifeMax = 10;
+		simulation.reset();
+		simulation.update(0);
+		for (int i = 0; i < 100; i++)
+			simulation.update(0.01f);
+		// Semi-implicit Euler: v = 10 - 10t, y = sum of v * dt
+		assertEquals(0, simulation.state[VELOCITY_OFFSET + 1], 1e-4f);
+		assertEquals(4.95f, simulation.state[POSITION_OFFSET + 1], 1e-3f);
+		assertEquals(1, simulation.state[AGE_OFFSET], 1e-4f);
+
+		simulation.drag = 1;
+		simulation.gravity.setZero();
+		simulation.state[VELOCITY_OFFSET + 1] = 1;
+		simulation.update(0.5f);
+		assertEquals(0.5f, simulation.state[VELOCITY_OFFSET + 1], 0);
+	}
+
+	@Test
+	public void testRespawnIsDeterministic () {
+		GpuParticleSimulation a = new GpuParticleSimulation(64), b = new GpuParticleSimulation(64);
+		a.seed = b.seed = 7;
+		for (int i = 0; i < 200; i++) {
+			a.update(1 / 30f);
+			b.update(1 / 30f);
+		}
+		assertArrayEquals(a.state, b.state, 0);
+		assertTrue(a.state[GENERATION_OFFSET] > 1);
+
+		float sum = 0;
+		for (int i = 0; i < 10000; i++) {
+			float random = a.random(i, 1, 0);
+			assertTrue(random >= 0 && random < 1);
+			sum += random;
+		}
+		assertEquals(0.5f, sum / 10000, 0.02f);
+		b.seed = 8;
+		assertTrue(a.random(3, 1, 0) != b.random(3, 1, 0));
+	}
+
+	@Test
+	public void testLongFrame () {
+		GpuParticleSimulation simulation = new GpuParticleSimulation(1);
+		simulation.lifeMin = simulation.lifeMax = 1;
+		simulation.reset();
+		simulation.update(0);
+		// A frame longer than the whole life respawns the particle at age 0
+		simulation.update(5);
+		assertEquals(0, simulation.state[AGE_OFFSET], 0);
+		assertEquals(2, simulation.state[GENERATION_OFFSET], 0);
+		simulation.update(0.25f);
+		assertEquals(0.25f, simulation.state[AGE_OFFSET], 0);
+	}
+}
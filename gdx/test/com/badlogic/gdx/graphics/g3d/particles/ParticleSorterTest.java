@@ -0,0 +1,67 @@
+package com.badlogic.gdx.graphics.g3d.particles;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.g3d.particles.renderers.ParticleControllerRenderData;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+
+public class ParticleSorterTest {
+
+	@Test
+	public void testRadixMatchesDistance () {
+		Random random = new Random(42);
+		Array<ParticleControllerRenderData> renderData = new Array<ParticleControllerRenderData>();
+		renderData.add(createData(random, 1000));
+		renderData.add(createData(random, 300));
+
+		// Only the view matrix is used by the sorters
+		Camera camera = new Camera() {
+			@Override
+			public void update () {
+			}
+
+			@Override
+			public void update (boolean updateFrustum) {
+			}
+		};
+
+		ParticleSorter.Distance distance = new ParticleSorter.Distance();
+		ParticleSorter.RadixDistance radix = new ParticleSorter.RadixDistance();
+		ParticleSorter.RadixDistance coherent = new ParticleSorter.RadixDistance(true);
+		for (ParticleSorter sorter : new ParticleSorter[] {distance, radix, coherent}) {
+			sorter.setCamera(camera);
+			sorter.ensureCapacity(1300);
+		}
+
+		Vector3 direction = new Vector3();
+		for (int frame = 0; frame < 5; ++frame) {
+			direction.set(-5, -10 + frame * 0.1f, -20).nor();
+			camera.view.val[Matrix4.M20] = -direction.x;
+			camera.view.val[Matrix4.M21] = -direction.y;
+			camera.view.val[Matrix4.M22] = -direction.z;
+			int[] expected = distance.sort(renderData).clone();
+			assertArrayEquals(expected, radix.sort(renderData));
+			assertArrayEquals(expected, coherent.sort(renderData));
+		}
+	}
+
+	private static ParticleControllerRenderData createData (Random random, int count) {
+		ParticleController controller = new ParticleController();
+		controller.particles = new ParallelArray(count);
+		ParticleControllerRenderData data = new ParticleControllerRenderData() {
+		};
+		data.controller = controller;
+		data.positionChannel = controller.particles.addChannel(ParticleChannels.Position);
+		controller.particles.size = count;
+		for (int i = 0; i < count * data.positionChannel.strideSize; ++i)
+			data.positionChannel.data[i] = random.nextFloat() * 20 - 10;
+		return data;
+	}
+}
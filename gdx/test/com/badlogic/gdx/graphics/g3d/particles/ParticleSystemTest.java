@@ -0,0 +1,173 @@
+package com.badlogic.gdx.graphics.g3d.particles;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.g3d.particles.ParallelArray.Channel;
+import com.badlogic.gdx.graphics.g3d.particles.ParallelArray.FloatChannel;
+import com.badlogic.gdx.graphics.g3d.particles.emitters.RegularEmitter;
+import com.badlogic.gdx.graphics.g3d.particles.influencers.ColorInfluencer;
+import com.badlogic.gdx.graphics.g3d.particles.influencers.DynamicsInfluencer;
+import com.badlogic.gdx.graphics.g3d.particles.influencers.RegionInfluencer;
+import com.badlogic.gdx.graphics.g3d.particles.influencers.RegionInfluencer.AspectTextureRegion;
+import com.badlogic.gdx.graphics.g3d.particles.influencers.ScaleInfluencer;
+import com.badlogic.gdx.graphics.g3d.particles.influencers.SpawnInfluencer;
+import com.badlogic.gdx.graphics.g3d.particles.renderers.BillboardRenderer;
+import com.badlogic.gdx.graphics.g3d.particles.values.PointSpawnShapeValue;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+
+public class ParticleSystemTest {
+	private static final float DELTA = 1f / 30;
+	private static final int FRAMES = 40;
+
+	@Test
+	public void testRangeUpdateMatchesUpdate () {
+		ParticleController expected = createController(), actual = createController();
+		assertTrue(actual.isRangeUpdateSupported());
+		start(expected, actual);
+		for (int frame = 0; frame < FRAMES; frame++) {
+			MathUtils.random.setSeed(frame);
+			expected.update(DELTA);
+
+			MathUtils.random.setSeed(frame);
+			actual.updateEmitter(DELTA);
+			for (int start = 0, size = actual.particles.size; start < size; start += 100)
+				actual.updateInfluencers(start, Math.min(100, size - start));
+
+			assertChannelsEqual(expected, actual);
+		}
+		assertTrue(actual.particles.size > 100);
+	}
+
+	@Test
+	public void testParallelUpdateMatchesUpdate () {
+		ParticleController expected = createController(), actual = createController();
+		ParticleSystem system = new ParticleSystem();
+		system.add(new ParticleEffect(actual));
+		system.setSplitSize(64);
+		AsyncExecutor executor = new AsyncExecutor(2);
+		system.setExecutor(executor);
+		try {
+			start(expected, actual);
+			for (int frame = 0; frame < FRAMES; frame++) {
+				// A single controller is updated by the first task, whose generator is seeded first
+				MathUtils.random.setSeed(frame);
+				expected.random = new RandomXS128(MathUtils.random.nextLong());
+				expected.update(DELTA);
+
+				MathUtils.random.setSeed(frame);
+				system.update(DELTA);
+
+				assertChannelsEqual(expected, actual);
+				assertSame(MathUtils.random, actual.random);
+			}
+			assertTrue(actual.particles.size > 64);
+		} finally {
+			executor.dispose();
+		}
+	}
+
+	@Test
+	public void testParallelUpdateReproducible () {
+		ParticleController[] expected = new ParticleController[6], actual = new ParticleController[6];
+		ParticleSystem expectedSystem = new ParticleSystem(), actualSystem = new ParticleSystem();
+		for (int i = 0; i < expected.length; i++) {
+			expectedSystem.add(new ParticleEffect(expected[i] = createController()));
+			actualSystem.add(new ParticleEffect(actual[i] = createController()));
+		}
+		expectedSystem.setSplitSize(64);
+		actualSystem.setSplitSize(64);
+		AsyncExecutor executor = new AsyncExecutor(3);
+		expectedSystem.setExecutor(executor);
+		actualSystem.setExecutor(executor);
+		try {
+			start(expected);
+			start(actual);
+			for (int frame = 0; frame < FRAMES; frame++) {
+				MathUtils.random.setSeed(frame);
+				expectedSystem.update(DELTA);
+				MathUtils.random.setSeed(frame);
+				actualSystem.update(DELTA);
+
+				for (int i = 0; i < expected.length; i++)
+					assertChannelsEqual(expected[i], actual[i]);
+			}
+			for (int i = 0; i < expected.length; i++)
+				assertTrue(actual[i].particles.size > 64);
+		} finally {
+			executor.dispose();
+		}
+	}
+
+	@Test
+	public void testRangeUpdateSupported () {
+		ParticleController controller = createController();
+		assertTrue(controller.isRangeUpdateSupported());
+		controller.influencers.add(new DynamicsInfluencer());
+		assertFalse(controller.isRangeUpdateSupported());
+	}
+
+	private static void start (ParticleController... controllers) {
+		for (ParticleController controller : controllers) {
+			MathUtils.random.setSeed(0);
+			controller.init();
+			controller.start();
+		}
+	}
+
+	private static void assertChannelsEqual (ParticleController expected, ParticleController actual) {
+		assertEquals(expected.particles.size, actual.particles.size);
+		assertEquals(expected.particles.arrays.size, actual.particles.arrays.size);
+		for (int i = 0; i < expected.particles.arrays.size; i++) {
+			Channel expectedChannel = expected.particles.arrays.get(i), actualChannel = actual.particles.arrays.get(i);
+			assertEquals(expectedChannel.id, actualChannel.id);
+			if (!(expectedChannel instanceof FloatChannel)) continue;
+			float[] expectedData = ((FloatChannel)expectedChannel).data, actualData = ((FloatChannel)actualChannel).data;
+			assertArrayEquals(expectedData, actualData, 0f);
+		}
+	}
+
+	private static ParticleController createController () {
+		RegularEmitter emitter = new RegularEmitter();
+		emitter.getDuration().setLow(3000);
+		emitter.getEmission().setHigh(2900);
+		emitter.getLife().setHigh(1000);
+		emitter.setMaxParticleCount(1000);
+
+		PointSpawnShapeValue spawnShape = new PointSpawnShapeValue();
+		spawnShape.xOffsetValue.setLow(0, 1f);
+		spawnShape.xOffsetValue.setActive(true);
+		spawnShape.yOffsetValue.setLow(0, 1f);
+		spawnShape.yOffsetValue.setActive(true);
+
+		ScaleInfluencer scaleInfluencer = new ScaleInfluencer();
+		scaleInfluencer.value.setTimeline(new float[] {0, 1});
+		scaleInfluencer.value.setScaling(new float[] {1, 0});
+		scaleInfluencer.value.setLow(0);
+		scaleInfluencer.value.setHigh(0.5f, 2f);
+
+		ColorInfluencer.Single colorInfluencer = new ColorInfluencer.Single();
+		colorInfluencer.colorValue.setColors(new float[] {1, 0.5f, 0, 0, 0, 1});
+		colorInfluencer.colorValue.setTimeline(new float[] {0, 1});
+		colorInfluencer.alphaValue.setHigh(0.5f, 1f);
+		colorInfluencer.alphaValue.setTimeline(new float[] {0, 0.5f, 1});
+		colorInfluencer.alphaValue.setScaling(new float[] {0, 1, 0});
+
+		RegionInfluencer.Animated regionInfluencer = new RegionInfluencer.Animated();
+		for (int i = 1; i < 4; i++) {
+			AspectTextureRegion region = new AspectTextureRegion(regionInfluencer.regions.first());
+			region.u = region.u2 = i / 4f;
+			regionInfluencer.regions.add(region);
+		}
+
+		return new ParticleController("controller", emitter, new BillboardRenderer(), new SpawnInfluencer(spawnShape),
+			scaleInfluencer, colorInfluencer, regionInfluencer);
+	}
+}
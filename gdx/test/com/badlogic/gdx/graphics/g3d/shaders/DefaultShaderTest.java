@@ -0,0 +1,143 @@
+package com.badlogic.gdx.graphics.g3d.shaders;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.environment.CascadedShadowMap;
+import com.badlogic.gdx.graphics.g3d.environment.ShadowMap;
+import com.badlogic.gdx.graphics.g3d.utils.TextureDescriptor;
+import com.badlogic.gdx.graphics.glutils.IndexData;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.graphics.glutils.VertexData;
+import com.badlogic.gdx.math.Matrix4;
+
+public class DefaultShaderTest {
+	private Application app;
+	private Mesh mesh;
+
+	@Before
+	public void setUp () {
+		app = Gdx.app;
+		// Meshes are managed per application, the vertex data only has to provide the attributes
+		Gdx.app = stub(Application.class, null);
+		mesh = new Mesh(stub(VertexData.class, new VertexAttributes(VertexAttribute.Position())), stub(IndexData.class, null),
+			false) {
+		};
+	}
+
+	@After
+	public void tearDown () {
+		Gdx.app = app;
+	}
+
+	@Test
+	public void testCanRenderShadowMap () {
+		DefaultShader shader = createShader(new TestShadowMap());
+		assertTrue(shader.canRender(createRenderable(new TestShadowMap())));
+		assertFalse(shader.canRender(createRenderable(null)));
+		assertFalse(shader.canRender(createRenderable(new TestCascadedShadowMap(1, false))));
+
+		assertFalse(createShader(null).canRender(createRenderable(new TestShadowMap())));
+	}
+
+	@Test
+	public void testCanRenderCascades () {
+		DefaultShader shader = createShader(new TestCascadedShadowMap(3, true));
+		assertEquals(3, shader.shadowMapCascades);
+		assertTrue(shader.shadowMapStatic);
+		assertTrue(shader.canRender(createRenderable(new TestCascadedShadowMap(3, true))));
+		assertFalse(shader.canRender(createRenderable(new TestCascadedShadowMap(2, true))));
+		assertFalse(shader.canRender(createRenderable(new TestCascadedShadowMap(3, false))));
+		assertFalse(shader.canRender(createRenderable(new TestShadowMap())));
+		assertFalse(shader.canRender(createRenderable(null)));
+	}
+
+	private DefaultShader createShader (ShadowMap shadowMap) {
+		// The program is only used by init(), which isn't called
+		return new DefaultShader(createRenderable(shadowMap), new DefaultShader.Config(), (ShaderProgram)null);
+	}
+
+	private Renderable createRenderable (ShadowMap shadowMap) {
+		Renderable renderable = new Renderable();
+		renderable.meshPart.mesh = mesh;
+		renderable.material = new Material();
+		renderable.environment = new Environment();
+		renderable.environment.shadowMap = shadowMap;
+		return renderable;
+	}
+
+	private static class TestShadowMap implements ShadowMap {
+		final Matrix4 projViewTrans = new Matrix4();
+		final TextureDescriptor depthMap = new TextureDescriptor();
+
+		@Override
+		public Matrix4 getProjViewTrans () {
+			return projViewTrans;
+		}
+
+		@Override
+		public TextureDescriptor getDepthMap () {
+			return depthMap;
+		}
+	}
+
+	private static class TestCascadedShadowMap extends TestShadowMap implements CascadedShadowMap {
+		final int cascadeCount;
+		final TextureDescriptor staticDepthMap;
+
+		TestCascadedShadowMap (int cascadeCount, boolean cacheStatic) {
+			this.cascadeCount = cascadeCount;
+			this.staticDepthMap = cacheStatic ? new TextureDescriptor() : null;
+		}
+
+		@Override
+		public int getCascadeCount () {
+			return cascadeCount;
+		}
+
+		@Override
+		public float[] getCascadeProjViewTrans () {
+			return new float[cascadeCount * 16];
+		}
+
+		@Override
+		public float[] getCascadeSplits () {
+			return new float[MAX_CASCADES];
+		}
+
+		@Override
+		public TextureDescriptor getStaticDepthMap () {
+			return staticDepthMap;
+		}
+	}
+
+	private static <T> T stub (Class<T> type, final VertexAttributes attributes) {
+		return (T)Proxy.newProxyInstance(type.getClassLoader(), new Class[] {type}, new InvocationHandler() {
+			public Object invoke (Object proxy, Method method, Object[] args) {
+				String name = method.getName();
+				if (name.equals("hashCode")) return System.identityHashCode(proxy);
+				if (name.equals("equals")) return proxy == args[0];
+				if (name.equals("getAttributes")) return attributes;
+				Class<?> returnType = method.getReturnType();
+				if (returnType == int.class) return 0;
+				if (returnType == boolean.class) return false;
+				return null;
+			}
+		});
+	}
+}
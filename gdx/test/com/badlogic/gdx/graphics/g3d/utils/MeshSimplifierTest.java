@@ -0,0 +1,101 @@
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.ShortArray;
+
+public class MeshSimplifierTest {
+
+	@Test
+	public void testSimplifyGrid () {
+		final int size = 33;
+		float[] vertices = createGridVertices(size);
+		short[] indices = createGridIndices(size);
+
+		MeshBuilder builder = new MeshBuilder();
+		builder.begin(new VertexAttributes(VertexAttribute.Position()), GL20.GL_TRIANGLES);
+		builder.part("lod", GL20.GL_TRIANGLES);
+		int added = new MeshSimplifier().simplify(builder, vertices, indices, 0, indices.length, 0.25f);
+		FloatArray outVertices = new FloatArray();
+		ShortArray outIndices = new ShortArray();
+		builder.end(outVertices, outIndices);
+
+		assertEquals(added * 3, outVertices.size);
+		assertTrue(added <= size * size / 4);
+		assertTrue(added > 3);
+		assertTrue(outIndices.size > 0);
+		assertEquals(0, outIndices.size % 3);
+		for (int j = 0; j < outIndices.size; j++)
+			assertTrue((outIndices.get(j) & 0xFFFF) < added);
+		for (int j = 0; j < outVertices.size; j += 3) {
+			assertTrue(outVertices.get(j) >= 0 && outVertices.get(j) <= size - 1);
+			assertTrue(outVertices.get(j + 1) >= 0 && outVertices.get(j + 1) <= size - 1);
+		}
+	}
+
+	@Test
+	public void testSimplifyAfterShortIndexRange () {
+		final int size = 33, offset = 33000;
+		float[] vertices = createGridVertices(size);
+		short[] indices = createGridIndices(size);
+		VertexAttributes attributes = new VertexAttributes(VertexAttribute.Position());
+
+		MeshBuilder builder = new MeshBuilder();
+		builder.begin(attributes, GL20.GL_TRIANGLES);
+		builder.part("lod", GL20.GL_TRIANGLES);
+		int expected = new MeshSimplifier().simplify(builder, vertices, indices, 0, indices.length, 0.25f);
+		builder.end(new FloatArray(), new ShortArray());
+
+		builder.begin(attributes, GL20.GL_TRIANGLES);
+		builder.part("lod", GL20.GL_TRIANGLES);
+		float[] vertex = new float[3];
+		for (int i = 0; i < offset; i++)
+			builder.vertex(vertex);
+		int added = new MeshSimplifier().simplify(builder, vertices, indices, 0, indices.length, 0.25f);
+		FloatArray outVertices = new FloatArray();
+		ShortArray outIndices = new ShortArray();
+		builder.end(outVertices, outIndices);
+
+		assertEquals(expected, added);
+		assertEquals((offset + added) * 3, outVertices.size);
+		for (int j = 0; j < outIndices.size; j++) {
+			final int index = outIndices.get(j) & 0xFFFF;
+			assertTrue(index >= offset && index < offset + added);
+		}
+	}
+
+	private static float[] createGridVertices (final int size) {
+		float[] vertices = new float[size * size * 3];
+		for (int y = 0; y < size; y++)
+			for (int x = 0; x < size; x++) {
+				final int o = (y * size + x) * 3;
+				vertices[o] = x;
+				vertices[o + 1] = y;
+				vertices[o + 2] = 0;
+			}
+		return vertices;
+	}
+
+	private static short[] createGridIndices (final int size) {
+		short[] indices = new short[(size - 1) * (size - 1) * 6];
+		int i = 0;
+		for (int y = 0; y < size - 1; y++)
+			for (int x = 0; x < size - 1; x++) {
+				final short v = (short)(y * size + x);
+				indices[i++] = v;
+				indices[i++] = (short)(v + 1);
+				indices[i++] = (short)(v + size + 1);
+				indices[i++] = (short)(v + size + 1);
+				indices[i++] = (short)(v + size);
+				indices[i++] = v;
+			}
+		return indices;
+	}
+}
@@ -0,0 +1,133 @@
+package com.badlogic.gdx.graphics.glutils;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Application.ApplicationType;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.utils.IntArray;
+
+public class VertexBufferObjectRingTest {
+	private Application app;
+	private GL20 gl;
+	private GL30 gl30;
+
+	private ApplicationType type = ApplicationType.Desktop;
+	private boolean unmapResult = true;
+	/** The offsets written by glMapBufferRange and glBufferSubData, and the amount of glBufferData calls. */
+	private final IntArray mapped = new IntArray(), subData = new IntArray();
+	private int bufferData;
+	private ByteBuffer region;
+	private ShaderProgram shader;
+
+	@Before
+	public void setUp () {
+		app = Gdx.app;
+		gl = Gdx.gl;
+		gl30 = Gdx.gl30;
+		Gdx.app = stub(Application.class);
+		Gdx.gl = Gdx.gl20 = Gdx.gl30 = stub(GL30.class);
+		shader = new ShaderProgram("", "");
+	}
+
+	@After
+	public void tearDown () {
+		Gdx.app = app;
+		Gdx.gl = Gdx.gl20 = gl;
+		Gdx.gl30 = gl30;
+	}
+
+	@Test
+	public void testMapsConsecutiveRegions () {
+		VertexBufferObjectRing ring = createRing();
+		for (int i = 0; i < 3; i++) {
+			upload(ring, i);
+			assertEquals(i + 1, mapped.size);
+			assertEquals(i, region.getFloat(0), 0);
+			assertEquals(i + 11, region.getFloat(11 * 4), 0);
+		}
+		// The third upload doesn't fit and orphans the storage
+		assertArrayEquals(new int[] {0, 48, 0}, mapped.toArray());
+		assertEquals(2, bufferData);
+		assertEquals(0, subData.size);
+	}
+
+	@Test
+	public void testWebGL () {
+		type = ApplicationType.WebGL;
+		VertexBufferObjectRing ring = createRing();
+		for (int i = 0; i < 3; i++)
+			upload(ring, i);
+		assertArrayEquals(new int[] {0, 48, 0}, subData.toArray());
+		assertEquals(0, mapped.size);
+	}
+
+	@Test
+	public void testUnmapFailure () {
+		unmapResult = false;
+		VertexBufferObjectRing ring = createRing();
+		upload(ring, 0);
+		upload(ring, 1);
+		assertArrayEquals(new int[] {0, 48}, mapped.toArray());
+		assertArrayEquals(new int[] {0, 48}, subData.toArray());
+	}
+
+	/** 4 vertices of 12 bytes, the ring holds 2 uploads. */
+	private VertexBufferObjectRing createRing () {
+		return new VertexBufferObjectRing(4, 2, new VertexAttributes(VertexAttribute.Position()));
+	}
+
+	private void upload (VertexBufferObjectRing ring, int value) {
+		FloatBuffer buffer = ring.getBuffer();
+		buffer.clear();
+		for (int i = 0; i < 12; i++)
+			buffer.put(value + i);
+		buffer.flip();
+		ring.bind(shader);
+		ring.unbind(shader);
+	}
+
+	private <T> T stub (Class<T> type) {
+		return (T)Proxy.newProxyInstance(type.getClassLoader(), new Class[] {type}, new InvocationHandler() {
+			public Object invoke (Object proxy, Method method, Object[] args) {
+				String name = method.getName();
+				if (name.equals("hashCode")) return System.identityHashCode(proxy);
+				if (name.equals("equals")) return proxy == args[0];
+				if (name.equals("getType")) return VertexBufferObjectRingTest.this.type;
+				if (name.equals("glCreateShader") || name.equals("glCreateProgram")) return 1;
+				if (name.equals("glGetShaderiv") || name.equals("glGetProgramiv")) {
+					int pname = (Integer)args[1];
+					((IntBuffer)args[2]).put(0, pname == GL20.GL_COMPILE_STATUS || pname == GL20.GL_LINK_STATUS ? 1 : 0);
+					return null;
+				}
+				if (name.equals("glMapBufferRange")) {
+					mapped.add((Integer)args[1]);
+					return region = ByteBuffer.allocate((Integer)args[2]).order(ByteOrder.nativeOrder());
+				}
+				if (name.equals("glUnmapBuffer")) return unmapResult;
+				if (name.equals("glBufferSubData")) subData.add((Integer)args[1]);
+				if (name.equals("glBufferData")) bufferData++;
+				Class<?> returnType = method.getReturnType();
+				if (returnType == int.class) return 0;
+				if (returnType == boolean.class) return false;
+				return null;
+			}
+		});
+	}
+}
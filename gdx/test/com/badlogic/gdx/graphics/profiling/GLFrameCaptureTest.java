@@ -0,0 +1,115 @@
+package com.badlogic.gdx.graphics.profiling;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+
+public class GLFrameCaptureTest {
+	private static GL20 newNoopGL () {
+		return (GL20)Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class[] {GL20.class}, new InvocationHandler() {
+			public Object invoke (Object proxy, Method method, Object[] args) {
+				return method.getReturnType() == int.class ? 0 : null;
+			}
+		});
+	}
+
+	private static GLProfiler newProfiler () {
+		final GL20 gl = newNoopGL();
+		return new GLProfiler((Graphics)Proxy.newProxyInstance(Graphics.class.getClassLoader(), new Class[] {Graphics.class},
+			new InvocationHandler() {
+				public Object invoke (Object proxy, Method method, Object[] args) {
+					return method.getName().equals("getGL20") ? gl : null;
+				}
+			}));
+	}
+
+	@Test
+	public void testInterceptorRecordsCalls () {
+		GL20Interceptor gl = new GL20Interceptor(null, newNoopGL());
+		gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+
+		GLFrameCapture capture = new GLFrameCapture();
+		gl.capture = capture;
+		capture.beginScope("world");
+		gl.glUseProgram(1);
+		gl.glDrawArrays(GL20.GL_TRIANGLES, 0, 3);
+		capture.endScope();
+		capture.nextFrame();
+		gl.glDrawArrays(GL20.GL_TRIANGLES, 0, 3);
+		gl.glGetError();
+		capture.stop();
+		gl.glDrawArrays(GL20.GL_TRIANGLES, 0, 3);
+
+		assertEquals(4, capture.getCallCount());
+		assertEquals("glGetError", capture.names.peek());
+		assertEquals(2, capture.getFrameCount());
+		assertEquals(6, gl.getCalls());
+	}
+
+	@Test
+	public void testCaptureStartedInScope () {
+		GLProfiler profiler = newProfiler();
+		profiler.beginScope("outer");
+		GLFrameCapture first = profiler.startCapture();
+		profiler.beginScope("inner");
+		// Restarting keeps both scopes open
+		GLFrameCapture second = profiler.startCapture();
+		profiler.endScope();
+		profiler.beginScope("next");
+		profiler.endScope();
+		profiler.endScope();
+
+		// Only the scopes begun during a capture are recorded
+		assertEquals(1, first.types.size);
+		assertEquals(GLFrameCapture.BEGIN_SCOPE, first.types.get(0));
+		assertEquals(2, second.types.size);
+		assertEquals("next", second.names.get(0));
+		assertEquals(GLFrameCapture.END_SCOPE, second.types.get(1));
+		assertEquals(0, second.scopeDepth);
+
+		try {
+			profiler.endScope();
+			fail();
+		} catch (IllegalStateException expected) {
+		}
+	}
+
+	@Test
+	public void testChromeTrace () {
+		GLFrameCapture capture = new GLFrameCapture();
+		capture.beginScope("stage");
+		capture.call("glDrawElements", capture.startTime + 1000, capture.startTime + 3000);
+		capture.endScope();
+		capture.nextFrame();
+		capture.stop();
+
+		JsonValue events = new JsonReader().parse(capture.toChromeTrace()).get("traceEvents");
+		// 2 thread names, 2 frames, begin, call and end
+		assertEquals(7, events.size);
+		JsonValue frame = events.get(2);
+		assertEquals("Frame 0", frame.getString("name"));
+		assertEquals("X", frame.getString("ph"));
+		assertEquals(1, frame.getInt("tid"));
+		assertEquals("stage", events.get(4).getString("name"));
+		assertEquals("B", events.get(4).getString("ph"));
+		JsonValue call = events.get(5);
+		assertEquals("glDrawElements", call.getString("name"));
+		assertEquals(1, call.getFloat("ts"), 0);
+		assertEquals(2, call.getFloat("dur"), 0);
+		assertEquals("E", events.get(6).getString("ph"));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testUnbalancedScopes () {
+		new GLFrameCapture().endScope();
+	}
+}
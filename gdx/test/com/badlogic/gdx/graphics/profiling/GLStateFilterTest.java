@@ -0,0 +1,105 @@
+package com.badlogic.gdx.graphics.profiling;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.Array;
+
+public class GLStateFilterTest {
+	/** @return a GL30 recording the names of the methods called */
+	private static GL30 newRecordingGL (final Array<String> calls) {
+		return (GL30)Proxy.newProxyInstance(GL30.class.getClassLoader(), new Class[] {GL30.class}, new InvocationHandler() {
+			public Object invoke (Object proxy, Method method, Object[] args) {
+				calls.add(method.getName());
+				Class<?> type = method.getReturnType();
+				if (type == int.class) return 0;
+				if (type == boolean.class) return false;
+				return null;
+			}
+		});
+	}
+
+	@Test
+	public void testRedundantCallsAreDropped () {
+		Array<String> calls = new Array<String>();
+		GL30StateFilter gl = new GL30StateFilter(newRecordingGL(calls));
+		calls.clear();
+
+		gl.glUseProgram(1);
+		gl.glUseProgram(1);
+		gl.glEnable(GL20.GL_BLEND);
+		gl.glEnable(GL20.GL_BLEND);
+		gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		gl.glBlendFuncSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		gl.glDepthMask(false);
+		gl.glDepthMask(false);
+		gl.glDisable(GL20.GL_BLEND);
+		assertEquals(5, gl.getCalls());
+		assertEquals(4, gl.getFilteredCalls());
+		assertEquals(5, calls.size);
+		assertEquals("glDisable", calls.peek());
+
+		gl.reset();
+		assertEquals(0, gl.getCalls());
+		assertEquals(0, gl.getFilteredCalls());
+	}
+
+	@Test
+	public void testTexturesAreTrackedPerUnit () {
+		Array<String> calls = new Array<String>();
+		GL30StateFilter gl = new GL30StateFilter(newRecordingGL(calls));
+		gl.glActiveTexture(GL20.GL_TEXTURE0);
+		gl.glBindTexture(GL20.GL_TEXTURE_2D, 5);
+		gl.glActiveTexture(GL20.GL_TEXTURE1);
+		gl.glBindTexture(GL20.GL_TEXTURE_2D, 5);
+		gl.glBindTexture(GL20.GL_TEXTURE_CUBE_MAP, 5);
+		gl.glActiveTexture(GL20.GL_TEXTURE0);
+		gl.glBindTexture(GL20.GL_TEXTURE_2D, 5);
+		assertEquals(6, gl.getCalls());
+		assertEquals(1, gl.getFilteredCalls());
+
+		gl.glDeleteTexture(5);
+		gl.glBindTexture(GL20.GL_TEXTURE_2D, 5);
+		assertEquals(8, gl.getCalls());
+	}
+
+	@Test
+	public void testElementArrayBufferFollowsVertexArray () {
+		Array<String> calls = new Array<String>();
+		GL30StateFilter gl = new GL30StateFilter(newRecordingGL(calls));
+		gl.glBindVertexArray(1);
+		gl.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, 2);
+		gl.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, 2);
+		gl.glBindVertexArray(1);
+		gl.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, 2);
+		assertEquals(2, gl.getCalls());
+		gl.glBindVertexArray(3);
+		gl.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, 2);
+		assertEquals(4, gl.getCalls());
+
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 4);
+		gl.glDeleteBuffer(4);
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 4);
+		assertEquals(7, gl.getCalls());
+	}
+
+	@Test
+	public void testInvalidateForgetsState () {
+		Array<String> calls = new Array<String>();
+		GL30StateFilter gl = new GL30StateFilter(newRecordingGL(calls));
+		gl.glUseProgram(1);
+		gl.glCullFace(GL20.GL_BACK);
+		gl.invalidate();
+		gl.glUseProgram(1);
+		gl.glCullFace(GL20.GL_BACK);
+		assertEquals(4, gl.getCalls());
+		assertEquals(0, gl.getFilteredCalls());
+	}
+}
@@ -0,0 +1,59 @@
+package com.badlogic.gdx.scenes.scene2d;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.Array;
+
+public class GroupTest {
+	@Test
+	public void testZIndexDuringAct () {
+		for (boolean deferCopies : new boolean[] {false, true}) {
+			Group group = new Group(deferCopies);
+			Array<Actor> acted = new Array<Actor>();
+			Actor a = new OrderActor("a", acted) {
+				public void act (float delta) {
+					super.act(delta);
+					setZIndex(2);
+				}
+			};
+			Actor b = new OrderActor("b", acted) {
+				public void act (float delta) {
+					super.act(delta);
+					toFront();
+				}
+			};
+			Actor c = new OrderActor("c", acted), d = new OrderActor("d", acted);
+			group.addActor(a);
+			group.addActor(b);
+			group.addActor(c);
+			group.addActor(d);
+			group.act(1);
+
+			// Every child acts once and the order matches setZIndex/toFront outside of act
+			assertEquals("[a, b, c, d]", acted.toString());
+			assertEquals("[c, a, d, b]", group.getChildren().toString());
+			assertEquals(4, group.getChildren().size);
+			assertEquals(1, a.getZIndex());
+			assertSame(b, group.getChildren().peek());
+		}
+	}
+
+	static class OrderActor extends Actor {
+		final Array<Actor> acted;
+
+		OrderActor (String name, Array<Actor> acted) {
+			setName(name);
+			this.acted = acted;
+		}
+
+		public void act (float delta) {
+			acted.add(this);
+		}
+
+		public String toString () {
+			return getName();
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.BinaryHeap.Node;
+
+public class BinaryHeapTest {
+	@Test
+	public void containsUsesIndex () {
+		BinaryHeap<Node> heap = new BinaryHeap();
+		Node a = heap.add(new Node(3)), b = heap.add(new Node(1)), c = new Node(2);
+		assertTrue(heap.contains(a, true));
+		assertTrue(heap.contains(b, true));
+		assertFalse(heap.contains(c, true));
+		assertFalse(heap.contains(c, false));
+		heap.remove(a);
+		assertFalse(heap.contains(a, true));
+		assertEquals(1, heap.size);
+		assertSame(b, heap.pop());
+		assertFalse(heap.contains(b, true));
+	}
+
+	@Test
+	public void removeLastNode () {
+		BinaryHeap<Node> heap = new BinaryHeap();
+		Node a = heap.add(new Node(1)), b = heap.add(new Node(2));
+		heap.remove(b);
+		assertFalse(heap.contains(b, true));
+		assertSame(a, heap.peek());
+		heap.add(new Node(0));
+		assertEquals(0, heap.pop().getValue(), 0);
+		assertSame(a, heap.pop());
+		assertTrue(heap.isEmpty());
+	}
+}
@@ -0,0 +1,169 @@
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class CompressedBitsTest {
+	private final Random random = new Random(123);
+
+	@Test
+	public void getSetClear () {
+		CompressedBits bits = new CompressedBits();
+		assertTrue(bits.isEmpty());
+		bits.set(5);
+		bits.set(1000000);
+		assertTrue(bits.get(5));
+		assertTrue(bits.get(1000000));
+		assertFalse(bits.get(6));
+		assertEquals(2, bits.cardinality());
+		assertEquals(1000001, bits.length());
+		assertTrue(bits.getAndClear(5));
+		assertFalse(bits.getAndSet(7));
+		bits.flip(7);
+		bits.clear(1000000);
+		assertTrue(bits.isEmpty());
+		assertEquals(0, bits.length());
+	}
+
+	@Test
+	public void andWithSubset () {
+		for (int count : new int[] {3, 3000}) {
+			CompressedBits bits = new CompressedBits(), subset = new CompressedBits();
+			for (int i = 0; i < count; i++)
+				bits.set(i);
+			for (int i = 0; i < (count + 1) / 2; i++)
+				subset.set(i * 2);
+			CompressedBits result = new CompressedBits(bits);
+			result.and(subset);
+			assertEquals(subset, result);
+			result = new CompressedBits(subset);
+			result.and(bits);
+			assertEquals(subset, result);
+		}
+	}
+
+	@Test
+	public void arrayToBitmapAndBack () {
+		CompressedBits bits = new CompressedBits();
+		for (int i = 0; i < 10000; i++)
+			bits.set(i * 2);
+		assertEquals(10000, bits.cardinality());
+		for (int i = 0; i < 10000; i++)
+			assertTrue(bits.get(i * 2));
+		for (int i = 0; i < 9999; i++)
+			bits.clear(i * 2);
+		assertEquals(1, bits.cardinality());
+		assertEquals(19998, bits.nextSetBit(0));
+	}
+
+	@Test
+	public void iterationAndClearBits () {
+		CompressedBits bits = new CompressedBits();
+		for (int i = 65530; i < 65536 * 2 + 3; i++)
+			bits.set(i);
+		assertEquals(65530, bits.nextSetBit(0));
+		assertEquals(65536 * 2 + 3, bits.nextClearBit(65530));
+		assertEquals(3, bits.nextClearBit(3));
+		bits.runOptimize();
+		assertEquals(65530, bits.nextSetBit(0));
+		assertEquals(65536 * 2 + 3, bits.nextClearBit(65530));
+		assertEquals(65536 * 2 + 3 - 65530, bits.cardinality());
+		int count = 0;
+		for (int i = bits.nextSetBit(0); i != -1; i = bits.nextSetBit(i + 1))
+			count++;
+		assertEquals(bits.cardinality(), count);
+	}
+
+	@Test
+	public void runOptimizeKeepsBitsAndSavesMemory () {
+		CompressedBits bits = new CompressedBits();
+		for (int i = 0; i < 200000; i++)
+			if (i % 50000 < 40000) bits.set(i);
+		CompressedBits copy = new CompressedBits(bits);
+		int before = bits.getSizeInBytes();
+		bits.runOptimize();
+		assertTrue(bits.getSizeInBytes() < before);
+		assertEquals(copy, bits);
+		assertEquals(copy.hashCode(), bits.hashCode());
+		bits.set(45000);
+		bits.clear(10);
+		assertTrue(bits.get(45000));
+		assertFalse(bits.get(10));
+		assertEquals(copy.cardinality(), bits.cardinality());
+	}
+
+	@Test
+	public void operationsMatchBits () {
+		for (int round = 0; round < 20; round++) {
+			Bits a = new Bits(), b = new Bits();
+			CompressedBits ca = new CompressedBits(), cb = new CompressedBits();
+			fill(a, ca, round);
+			fill(b, cb, round + 1);
+			if (round % 3 == 0) ca.runOptimize();
+			if (round % 4 == 0) cb.runOptimize();
+			assertEquals(a.intersects(b), ca.intersects(cb));
+			assertEquals(a.containsAll(b), ca.containsAll(cb));
+
+			Bits r = copy(a);
+			CompressedBits cr = new CompressedBits(ca);
+			r.and(b);
+			cr.and(cb);
+			assertBitsEqual(r, cr);
+
+			r = copy(a);
+			cr = new CompressedBits(ca);
+			r.andNot(b);
+			cr.andNot(cb);
+			assertBitsEqual(r, cr);
+
+			r = copy(a);
+			cr = new CompressedBits(ca);
+			r.or(b);
+			cr.or(cb);
+			assertBitsEqual(r, cr);
+			assertTrue(cr.containsAll(cb));
+
+			r = copy(a);
+			cr = new CompressedBits(ca);
+			r.xor(b);
+			cr.xor(cb);
+			assertBitsEqual(r, cr);
+		}
+	}
+
+	private void fill (Bits bits, CompressedBits compressed, int seed) {
+		int mode = seed % 3;
+		for (int i = 0; i < 300000; i++) {
+			boolean set;
+			if (mode == 0)
+				set = random.nextInt(100) == 0; // Sparse.
+			else if (mode == 1)
+				set = random.nextInt(3) != 0; // Dense.
+			else
+				set = (i / 1000) % 2 == 0; // Runs.
+			if (set) {
+				bits.set(i);
+				compressed.set(i);
+			}
+		}
+	}
+
+	private Bits copy (Bits bits) {
+		Bits copy = new Bits();
+		copy.or(bits);
+		return copy;
+	}
+
+	private void assertBitsEqual (Bits expected, CompressedBits actual) {
+		int count = 0;
+		for (int i = expected.nextSetBit(0); i != -1; i = expected.nextSetBit(i + 1)) {
+			assertTrue(actual.get(i));
+			count++;
+		}
+		assertEquals(count, actual.cardinality());
+		assertEquals(expected.length(), actual.length());
+	}
+}
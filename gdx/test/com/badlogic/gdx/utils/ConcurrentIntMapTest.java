@@ -0,0 +1,100 @@
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.math.MathUtils;
+
+public class ConcurrentIntMapTest {
+	static final int THREADS = 4, KEYS = 5000, STABLE_KEYS = 1000;
+
+	@Test
+	public void testSingleThreaded () {
+		ConcurrentIntMap<String> map = new ConcurrentIntMap<String>(4, 0.8f, 2);
+		IntMap<String> expected = new IntMap<String>();
+		MathUtils.random.setSeed(1);
+		for (int i = 0; i < 100000; i++) {
+			int key = MathUtils.random(-200, 200);
+			if (MathUtils.randomBoolean()) {
+				assertEquals(expected.put(key, "v" + i), map.put(key, "v" + i));
+			} else {
+				assertEquals(expected.remove(key), map.remove(key));
+			}
+			assertEquals(expected.size, map.size());
+		}
+		for (int key = -200; key <= 200; key++)
+			assertEquals(expected.get(key), map.get(key));
+		assertEquals(expected.size, map.keys(new IntArray()).size);
+		assertNull(map.putIfAbsent(1000, "v1"));
+		assertEquals("v1", map.putIfAbsent(1000, "v2"));
+		assertEquals("v1", map.get(1000));
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertNull(map.get(1000));
+	}
+
+	@Test
+	public void testConcurrentWritesAndReads () throws Exception {
+		final ConcurrentIntMap<Integer> map = new ConcurrentIntMap<Integer>(16, 0.8f, 4);
+		for (int key = 0; key < STABLE_KEYS; key++)
+			map.put(-key, -key);
+		final CyclicBarrier barrier = new CyclicBarrier(THREADS * 2);
+		final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+		final AtomicBoolean done = new AtomicBoolean();
+		Thread[] threads = new Thread[THREADS * 2];
+		for (int t = 0; t < THREADS; t++) {
+			final int base = 1 + t * KEYS;
+			// Writers put and remove keys of their own range, growing and rehashing the segments.
+			threads[t] = new Thread() {
+				public void run () {
+					try {
+						barrier.await();
+						for (int round = 0; round < 10; round++) {
+							for (int key = base; key < base + KEYS; key++)
+								assertNull(map.put(key, key + round));
+							for (int key = base; key < base + KEYS; key++)
+								assertEquals(key + round, (int)map.get(key));
+							if (round < 9) {
+								for (int key = base; key < base + KEYS; key++)
+									assertEquals(key + round, (int)map.remove(key));
+							}
+						}
+					} catch (Throwable ex) {
+						failure.compareAndSet(null, ex);
+					}
+				}
+			};
+			// Readers check the keys which are never written while the segments are rehashed.
+			threads[THREADS + t] = new Thread() {
+				public void run () {
+					try {
+						barrier.await();
+						while (!done.get()) {
+							for (int key = 0; key < STABLE_KEYS; key++)
+								assertEquals(-key, (int)map.get(-key));
+						}
+					} catch (Throwable ex) {
+						failure.compareAndSet(null, ex);
+					}
+				}
+			};
+		}
+		for (Thread thread : threads)
+			thread.start();
+		for (int t = 0; t < THREADS; t++)
+			threads[t].join();
+		done.set(true);
+		for (int t = THREADS; t < THREADS * 2; t++)
+			threads[t].join();
+		if (failure.get() != null) throw new AssertionError(failure.get());
+
+		assertEquals(STABLE_KEYS + THREADS * KEYS, map.size());
+		for (int key = 1; key <= THREADS * KEYS; key++)
+			assertEquals(key + 9, (int)map.get(key));
+	}
+}
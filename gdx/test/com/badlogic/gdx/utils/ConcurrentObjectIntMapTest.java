@@ -0,0 +1,135 @@
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.math.MathUtils;
+
+public class ConcurrentObjectIntMapTest {
+	static final int THREADS = 4, KEYS = 5000, STABLE_KEYS = 1000;
+
+	@Test
+	public void testSingleThreaded () {
+		ConcurrentObjectIntMap<String> map = new ConcurrentObjectIntMap<String>(4, 0.8f, 2);
+		ObjectIntMap<String> expected = new ObjectIntMap<String>();
+		MathUtils.random.setSeed(1);
+		for (int i = 0; i < 100000; i++) {
+			String key = "k" + MathUtils.random(200);
+			switch (MathUtils.random(2)) {
+			case 0:
+				map.put(key, i);
+				expected.put(key, i);
+				break;
+			case 1:
+				assertEquals(expected.getAndIncrement(key, -1, 2), map.getAndIncrement(key, -1, 2));
+				break;
+			default:
+				assertEquals(expected.remove(key, -1), map.remove(key, -1));
+			}
+			assertEquals(expected.size, map.size());
+		}
+		for (int i = 0; i <= 200; i++) {
+			assertEquals(expected.get("k" + i, -1), map.get("k" + i, -1));
+			assertEquals(expected.containsKey("k" + i), map.containsKey("k" + i));
+		}
+		assertEquals(expected.size, map.keys(new Array<String>()).size);
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertEquals(-1, map.get("k1", -1));
+	}
+
+	@Test
+	public void testConcurrentIncrements () throws Exception {
+		final ConcurrentObjectIntMap<String> map = new ConcurrentObjectIntMap<String>(4, 0.8f, 2);
+		final CyclicBarrier barrier = new CyclicBarrier(THREADS);
+		final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+		Thread[] threads = new Thread[THREADS];
+		for (int t = 0; t < THREADS; t++) {
+			threads[t] = new Thread() {
+				public void run () {
+					try {
+						barrier.await();
+						for (int i = 0; i < KEYS * 10; i++)
+							map.getAndIncrement("counter" + i % 100, 0, 1);
+					} catch (Throwable ex) {
+						failure.compareAndSet(null, ex);
+					}
+				}
+			};
+			threads[t].start();
+		}
+		for (Thread thread : threads)
+			thread.join();
+		if (failure.get() != null) throw new AssertionError(failure.get());
+		for (int i = 0; i < 100; i++)
+			assertEquals(THREADS * KEYS / 10, map.get("counter" + i, 0));
+	}
+
+	@Test
+	public void testConcurrentWritesAndReads () throws Exception {
+		final ConcurrentObjectIntMap<String> map = new ConcurrentObjectIntMap<String>(16, 0.8f, 4);
+		for (int i = 0; i < STABLE_KEYS; i++)
+			map.put("stable" + i, i);
+		final CyclicBarrier barrier = new CyclicBarrier(THREADS * 2);
+		final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+		final AtomicBoolean done = new AtomicBoolean();
+		Thread[] threads = new Thread[THREADS * 2];
+		for (int t = 0; t < THREADS; t++) {
+			final String[] keys = new String[KEYS];
+			for (int i = 0; i < KEYS; i++)
+				keys[i] = t + "_" + i;
+			// Writers put and remove keys of their own, growing and rehashing the segments.
+			threads[t] = new Thread() {
+				public void run () {
+					try {
+						barrier.await();
+						for (int round = 0; round < 10; round++) {
+							for (int i = 0; i < KEYS; i++)
+								map.put(keys[i], i + round);
+							for (int i = 0; i < KEYS; i++)
+								assertEquals(i + round, map.get(keys[i], -1));
+							if (round < 9) {
+								for (int i = 0; i < KEYS; i++)
+									assertEquals(i + round, map.remove(keys[i], -1));
+							}
+						}
+					} catch (Throwable ex) {
+						failure.compareAndSet(null, ex);
+					}
+				}
+			};
+			// Readers check the keys which are never written while the segments are rehashed.
+			threads[THREADS + t] = new Thread() {
+				public void run () {
+					try {
+						barrier.await();
+						while (!done.get()) {
+							for (int i = 0; i < STABLE_KEYS; i++)
+								assertEquals(i, map.get("stable" + i, -1));
+						}
+					} catch (Throwable ex) {
+						failure.compareAndSet(null, ex);
+					}
+				}
+			};
+		}
+		for (Thread thread : threads)
+			thread.start();
+		for (int t = 0; t < THREADS; t++)
+			threads[t].join();
+		done.set(true);
+		for (int t = THREADS; t < THREADS * 2; t++)
+			threads[t].join();
+		if (failure.get() != null) throw new AssertionError(failure.get());
+
+		assertEquals(STABLE_KEYS + THREADS * KEYS, map.size());
+		for (int t = 0; t < THREADS; t++)
+			for (int i = 0; i < KEYS; i++)
+				assertEquals(i + 9, map.get(t + "_" + i, -1));
+	}
+}
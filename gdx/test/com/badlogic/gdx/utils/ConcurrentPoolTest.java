@@ -0,0 +1,135 @@
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+public class ConcurrentPoolTest {
+	static final int THREADS = 4, ITERATIONS = 100000;
+
+	static class Item implements Pool.Poolable {
+		final AtomicInteger owners = new AtomicInteger();
+		int value;
+
+		public void reset () {
+			value = 0;
+		}
+	}
+
+	static class ItemPool extends ConcurrentPool<Item> {
+		final AtomicInteger created = new AtomicInteger();
+
+		ItemPool (int localMax, int max) {
+			super(localMax, max);
+		}
+
+		protected Item newObject () {
+			created.incrementAndGet();
+			return new Item();
+		}
+	}
+
+	@Test
+	public void testSingleThreaded () {
+		ItemPool pool = new ItemPool(4, 8);
+		Array<Item> items = new Array<Item>();
+		for (int i = 0; i < 20; i++)
+			items.add(pool.obtain());
+		items.get(0).value = 1;
+		pool.freeAll(items);
+		// 4 cached by the thread, 8 in the overflow, the rest dropped.
+		assertEquals(12, pool.getFree());
+		assertEquals(0, items.get(0).value);
+		for (int i = 0; i < 12; i++)
+			pool.obtain();
+		assertEquals(20, pool.created.get());
+		assertEquals(0, pool.getFree());
+		pool.obtain();
+		assertEquals(21, pool.created.get());
+
+		pool.fill(10);
+		pool.clear();
+		assertEquals(0, pool.getFree());
+	}
+
+	@Test
+	public void testObjectsMoveBetweenThreads () throws Exception {
+		final ItemPool pool = new ItemPool(16, 256);
+		final Array<Item> handoff = new Array<Item>();
+		// One thread obtains, another frees, objects come back through the overflow.
+		Thread producer = new Thread() {
+			public void run () {
+				for (int i = 0; i < ITERATIONS;) {
+					synchronized (handoff) {
+						if (handoff.size < 64) {
+							handoff.add(pool.obtain());
+							i++;
+						}
+					}
+				}
+			}
+		};
+		Thread consumer = new Thread() {
+			public void run () {
+				int freed = 0;
+				while (freed < ITERATIONS) {
+					Item item = null;
+					synchronized (handoff) {
+						if (handoff.size > 0) item = handoff.pop();
+					}
+					if (item == null) continue;
+					pool.free(item);
+					freed++;
+				}
+			}
+		};
+		producer.start();
+		consumer.start();
+		producer.join();
+		consumer.join();
+		assertTrue("Objects were not reused: " + pool.created.get(), pool.created.get() < ITERATIONS / 10);
+	}
+
+	@Test
+	public void testObjectsAreNeverShared () throws Exception {
+		final ItemPool pool = new ItemPool(8, 64);
+		final CyclicBarrier barrier = new CyclicBarrier(THREADS);
+		final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+		Thread[] threads = new Thread[THREADS];
+		for (int t = 0; t < THREADS; t++) {
+			threads[t] = new Thread() {
+				public void run () {
+					try {
+						barrier.await();
+						Array<Item> held = new Array<Item>();
+						for (int i = 0; i < ITERATIONS; i++) {
+							int count = 1 + i % 24;
+							for (int n = 0; n < count; n++) {
+								Item item = pool.obtain();
+								assertEquals(1, item.owners.incrementAndGet());
+								assertEquals(0, item.value);
+								item.value = n + 1;
+								held.add(item);
+							}
+							for (int n = 0; n < count; n++) {
+								Item item = held.pop();
+								item.owners.decrementAndGet();
+								pool.free(item);
+							}
+						}
+					} catch (Throwable ex) {
+						failure.compareAndSet(null, ex);
+					}
+				}
+			};
+			threads[t].start();
+		}
+		for (Thread thread : threads)
+			thread.join();
+		if (failure.get() != null) throw new AssertionError(failure.get());
+	}
+}
@@ -0,0 +1,119 @@
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class DeferredSnapshotArrayTest {
+	@Test
+	public void removeDuringIteration () {
+		DeferredSnapshotArray<String> array = DeferredSnapshotArray.with("a", "b", "c", "d");
+		String[] items = array.begin();
+		assertSame("b", array.removeIndex(1));
+		assertTrue(array.removeValue("d", false));
+		assertNotSame(items, array.items);
+		assertEquals(2, array.size);
+		assertEquals("c", array.get(1));
+		assertEquals(Array.with("a", "c"), array);
+		assertEquals("[a, b, c, d]", Array.with(items).toString());
+		array.end();
+		assertEquals("[a, c]", array.toString());
+		assertNull(items[0]);
+
+		// The released array is reused by the next copy
+		array.begin();
+		array.removeIndex(0);
+		assertSame(items, array.items);
+		array.end();
+		assertEquals("[c]", array.toString());
+	}
+
+	@Test
+	public void addDuringIteration () {
+		DeferredSnapshotArray<String> array = create("a", "b");
+		String[] items = array.begin();
+		array.add("c");
+		array.add("d");
+		array.removeValue("c", false);
+		array.set(2, "e");
+		array.insert(2, "f");
+		array.removeValue("x", false);
+		assertSame(items, array.items);
+		assertEquals("[a, b, f, e]", array.toString());
+		array.removeValue("a", false);
+		assertNotSame(items, array.items);
+		assertEquals("[b, f, e]", array.toString());
+		assertEquals("a", items[0]);
+		array.end();
+		assertEquals("[b, f, e]", array.toString());
+	}
+
+	@Test
+	public void zIndexDuringIteration () {
+		// Moving an item behaves like SnapshotArray, the insert index ignores the removed item
+		DeferredSnapshotArray<String> array = create("a", "b", "c", "d");
+		SnapshotArray<String> expected = new SnapshotArray(true, 16, String.class);
+		expected.addAll("a", "b", "c", "d");
+		String[] items = array.begin();
+		expected.begin();
+		array.removeValue("a", true);
+		array.insert(2, "a");
+		expected.removeValue("a", true);
+		expected.insert(2, "a");
+		assertEquals(expected, array);
+		assertEquals("[b, c, a, d]", array.toString());
+		assertEquals("a", items[0]);
+		array.end();
+		expected.end();
+		assertEquals(expected, array);
+	}
+
+	@Test
+	public void popDuringIteration () {
+		DeferredSnapshotArray<String> array = create("a", "b", "c");
+		String[] items = array.begin();
+		assertEquals("c", array.pop());
+		assertEquals("b", array.peek());
+		assertEquals("c", items[2]);
+		array.truncate(0);
+		assertEquals(0, array.size);
+		assertEquals("a", items[0]);
+		array.end();
+		assertEquals(0, array.size);
+	}
+
+	@Test
+	public void clearDuringIteration () {
+		DeferredSnapshotArray<String> array = create("a", "b");
+		String[] items = array.begin();
+		array.add("c");
+		array.clear();
+		assertEquals(0, array.size);
+		assertFalse(array.contains("a", false));
+		array.add("d");
+		assertEquals("c", items[2]);
+		array.end();
+		assertEquals("[d]", array.toString());
+	}
+
+	@Test
+	public void nestedIteration () {
+		DeferredSnapshotArray<String> array = create("a", "b", "c");
+		array.begin();
+		array.add("d");
+		String[] items = array.begin();
+		assertSame(items, array.items);
+		array.removeValue("d", false);
+		assertEquals("d", items[3]);
+		array.end();
+		assertEquals(3, array.size);
+		array.end();
+		assertEquals("[a, b, c]", array.toString());
+	}
+
+	private DeferredSnapshotArray<String> create (String... values) {
+		DeferredSnapshotArray<String> array = new DeferredSnapshotArray(true, 16, String.class);
+		array.addAll(values);
+		return array;
+	}
+}
@@ -0,0 +1,90 @@
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.nio.FloatBuffer;
+
+import org.junit.Test;
+
+public class DirectFloatArrayTest {
+	@Test
+	public void addGrowsAndKeepsItems () {
+		DirectFloatArray array = new DirectFloatArray(2);
+		for (int i = 0; i < 100; i++)
+			array.add(i);
+		assertEquals(100, array.size);
+		assertTrue(array.capacity() >= 100);
+		for (int i = 0; i < 100; i++)
+			assertEquals(i, array.get(i), 0);
+		array.add(1, 2, 3, 4);
+		assertEquals(104, array.size);
+		assertEquals(4, array.peek(), 0);
+	}
+
+	@Test
+	public void insertAndRemoveOrdered () {
+		DirectFloatArray array = new DirectFloatArray(new float[] {1, 2, 3, 4});
+		array.insert(1, 9);
+		assertArrayEquals(new float[] {1, 9, 2, 3, 4}, array.toArray(), 0);
+		assertEquals(9, array.removeIndex(1), 0);
+		assertArrayEquals(new float[] {1, 2, 3, 4}, array.toArray(), 0);
+		array.removeRange(1, 2);
+		assertArrayEquals(new float[] {1, 4}, array.toArray(), 0);
+		array.insertRange(1, 2);
+		assertEquals(4, array.size);
+		assertEquals(4, array.get(3), 0);
+		assertTrue(array.removeValue(4));
+		assertEquals(3, array.size);
+	}
+
+	@Test
+	public void movesMatchFloatArray () {
+		FloatArray expected = new FloatArray();
+		DirectFloatArray actual = new DirectFloatArray();
+		for (int i = 0; i < 50; i++) {
+			expected.add(i);
+			actual.add(i);
+		}
+		for (int i = 0; i < 20; i++) {
+			int index = i * 7 % expected.size;
+			expected.insert(index, -i);
+			actual.insert(index, -i);
+			expected.insertRange(index / 2, 3);
+			actual.insertRange(index / 2, 3);
+			assertEquals(expected.removeIndex(index / 3), actual.removeIndex(index / 3), 0);
+			expected.removeRange(index, index + 2);
+			actual.removeRange(index, index + 2);
+			assertArrayEquals(expected.toArray(), actual.toArray(), 0);
+		}
+	}
+
+	@Test
+	public void removeUnordered () {
+		DirectFloatArray array = new DirectFloatArray(false, 4);
+		array.addAll(1, 2, 3, 4, 5);
+		assertEquals(2, array.removeIndex(1), 0);
+		assertArrayEquals(new float[] {1, 5, 3, 4}, array.toArray(), 0);
+		array.removeRange(0, 1);
+		assertArrayEquals(new float[] {3, 4}, array.toArray(), 0);
+	}
+
+	@Test
+	public void bufferReflectsSize () {
+		DirectFloatArray array = new DirectFloatArray();
+		array.addAll(1, 2, 3);
+		FloatBuffer buffer = array.getBuffer();
+		assertTrue(buffer.isDirect());
+		assertEquals(0, buffer.position());
+		assertEquals(3, buffer.limit());
+		assertEquals(3 * 4, array.getByteBuffer().limit());
+		// Adding after the limit was narrowed must still work.
+		array.add(4);
+		array.set(3, 5);
+		assertEquals(4, array.getBuffer().limit());
+		assertEquals(5, array.getBuffer().get(3), 0);
+		array.shrink();
+		assertEquals(4, array.capacity());
+		assertEquals(1, array.first(), 0);
+		assertEquals(5, array.pop(), 0);
+	}
+}
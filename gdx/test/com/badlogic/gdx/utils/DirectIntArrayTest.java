@@ -0,0 +1,90 @@
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.nio.IntBuffer;
+
+import org.junit.Test;
+
+public class DirectIntArrayTest {
+	@Test
+	public void addGrowsAndKeepsItems () {
+		DirectIntArray array = new DirectIntArray(2);
+		for (int i = 0; i < 100; i++)
+			array.add(i);
+		assertEquals(100, array.size);
+		assertTrue(array.capacity() >= 100);
+		for (int i = 0; i < 100; i++)
+			assertEquals(i, array.get(i));
+		array.add(1, 2, 3, 4);
+		assertEquals(104, array.size);
+		assertEquals(4, array.peek());
+	}
+
+	@Test
+	public void insertAndRemoveOrdered () {
+		DirectIntArray array = new DirectIntArray(new int[] {1, 2, 3, 4});
+		array.insert(1, 9);
+		assertArrayEquals(new int[] {1, 9, 2, 3, 4}, array.toArray());
+		assertEquals(9, array.removeIndex(1));
+		assertArrayEquals(new int[] {1, 2, 3, 4}, array.toArray());
+		array.removeRange(1, 2);
+		assertArrayEquals(new int[] {1, 4}, array.toArray());
+		array.insertRange(1, 2);
+		assertEquals(4, array.size);
+		assertEquals(4, array.get(3));
+		assertTrue(array.removeValue(4));
+		assertEquals(3, array.size);
+	}
+
+	@Test
+	public void movesMatchIntArray () {
+		IntArray expected = new IntArray();
+		DirectIntArray actual = new DirectIntArray();
+		for (int i = 0; i < 50; i++) {
+			expected.add(i);
+			actual.add(i);
+		}
+		for (int i = 0; i < 20; i++) {
+			int index = i * 7 % expected.size;
+			expected.insert(index, -i);
+			actual.insert(index, -i);
+			expected.insertRange(index / 2, 3);
+			actual.insertRange(index / 2, 3);
+			assertEquals(expected.removeIndex(index / 3), actual.removeIndex(index / 3));
+			expected.removeRange(index, index + 2);
+			actual.removeRange(index, index + 2);
+			assertArrayEquals(expected.toArray(), actual.toArray());
+		}
+	}
+
+	@Test
+	public void removeUnordered () {
+		DirectIntArray array = new DirectIntArray(false, 4);
+		array.addAll(1, 2, 3, 4, 5);
+		assertEquals(2, array.removeIndex(1));
+		assertArrayEquals(new int[] {1, 5, 3, 4}, array.toArray());
+		array.removeRange(0, 1);
+		assertArrayEquals(new int[] {3, 4}, array.toArray());
+	}
+
+	@Test
+	public void bufferReflectsSize () {
+		DirectIntArray array = new DirectIntArray();
+		array.addAll(1, 2, 3);
+		IntBuffer buffer = array.getBuffer();
+		assertTrue(buffer.isDirect());
+		assertEquals(0, buffer.position());
+		assertEquals(3, buffer.limit());
+		assertEquals(3 * 4, array.getByteBuffer().limit());
+		// Adding after the limit was narrowed must still work.
+		array.add(4);
+		array.set(3, 5);
+		assertEquals(4, array.getBuffer().limit());
+		assertEquals(5, array.getBuffer().get(3));
+		array.shrink();
+		assertEquals(4, array.capacity());
+		assertEquals(1, array.first());
+		assertEquals(5, array.pop());
+	}
+}
@@ -0,0 +1,90 @@
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.nio.ShortBuffer;
+
+import org.junit.Test;
+
+public class DirectShortArrayTest {
+	@Test
+	public void addGrowsAndKeepsItems () {
+		DirectShortArray array = new DirectShortArray(2);
+		for (int i = 0; i < 100; i++)
+			array.add((short)i);
+		assertEquals(100, array.size);
+		assertTrue(array.capacity() >= 100);
+		for (int i = 0; i < 100; i++)
+			assertEquals(i, array.get(i));
+		array.add((short)1, (short)2, (short)3, (short)4);
+		assertEquals(104, array.size);
+		assertEquals(4, array.peek());
+	}
+
+	@Test
+	public void insertAndRemoveOrdered () {
+		DirectShortArray array = new DirectShortArray(new short[] {1, 2, 3, 4});
+		array.insert(1, (short)9);
+		assertArrayEquals(new short[] {1, 9, 2, 3, 4}, array.toArray());
+		assertEquals(9, array.removeIndex(1));
+		assertArrayEquals(new short[] {1, 2, 3, 4}, array.toArray());
+		array.removeRange(1, 2);
+		assertArrayEquals(new short[] {1, 4}, array.toArray());
+		array.insertRange(1, 2);
+		assertEquals(4, array.size);
+		assertEquals(4, array.get(3));
+		assertTrue(array.removeValue((short)4));
+		assertEquals(3, array.size);
+	}
+
+	@Test
+	public void movesMatchShortArray () {
+		ShortArray expected = new ShortArray();
+		DirectShortArray actual = new DirectShortArray();
+		for (int i = 0; i < 50; i++) {
+			expected.add((short)i);
+			actual.add((short)i);
+		}
+		for (int i = 0; i < 20; i++) {
+			int index = i * 7 % expected.size;
+			expected.insert(index, (short)-i);
+			actual.insert(index, (short)-i);
+			expected.insertRange(index / 2, 3);
+			actual.insertRange(index / 2, 3);
+			assertEquals(expected.removeIndex(index / 3), actual.removeIndex(index / 3));
+			expected.removeRange(index, index + 2);
+			actual.removeRange(index, index + 2);
+			assertArrayEquals(expected.toArray(), actual.toArray());
+		}
+	}
+
+	@Test
+	public void removeUnordered () {
+		DirectShortArray array = new DirectShortArray(false, 4);
+		array.addAll(new short[] {1, 2, 3, 4, 5});
+		assertEquals(2, array.removeIndex(1));
+		assertArrayEquals(new short[] {1, 5, 3, 4}, array.toArray());
+		array.removeRange(0, 1);
+		assertArrayEquals(new short[] {3, 4}, array.toArray());
+	}
+
+	@Test
+	public void bufferReflectsSize () {
+		DirectShortArray array = new DirectShortArray();
+		array.addAll(new short[] {1, 2, 3});
+		ShortBuffer buffer = array.getBuffer();
+		assertTrue(buffer.isDirect());
+		assertEquals(0, buffer.position());
+		assertEquals(3, buffer.limit());
+		assertEquals(3 * 2, array.getByteBuffer().limit());
+		// Adding after the limit was narrowed must still work.
+		array.add((short)4);
+		array.set(3, (short)5);
+		assertEquals(4, array.getBuffer().limit());
+		assertEquals(5, array.getBuffer().get(3));
+		array.shrink();
+		assertEquals(4, array.capacity());
+		assertEquals(1, array.first());
+		assertEquals(5, array.pop());
+	}
+}
@@ -0,0 +1,85 @@
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class IntBinaryHeapTest {
+	@Test
+	public void popsInOrder () {
+		IntBinaryHeap heap = new IntBinaryHeap(4, false);
+		heap.add(10, 5);
+		heap.add(3, 1);
+		heap.add(100, 3);
+		assertTrue(heap.contains(100));
+		assertFalse(heap.contains(4));
+		assertEquals(3, heap.peek());
+		assertEquals(1, heap.peekValue(), 0);
+		assertEquals(3, heap.pop());
+		assertEquals(100, heap.pop());
+		assertEquals(10, heap.pop());
+		assertTrue(heap.isEmpty());
+		assertFalse(heap.contains(10));
+	}
+
+	@Test
+	public void decreaseKeyAndRemove () {
+		IntBinaryHeap heap = new IntBinaryHeap();
+		for (int i = 0; i < 10; i++)
+			heap.add(i, 10 + i);
+		heap.setValue(7, 0);
+		assertEquals(7, heap.peek());
+		assertTrue(heap.remove(7));
+		assertFalse(heap.remove(7));
+		heap.put(9, -1);
+		heap.put(20, 5);
+		assertEquals(9, heap.pop());
+		assertEquals(20, heap.pop());
+		assertEquals(10, heap.getValue(0), 0);
+		assertEquals(-2, heap.getValue(7, -2), 0);
+		heap.clear();
+		assertFalse(heap.contains(0));
+	}
+
+	@Test
+	public void maxHeap () {
+		IntBinaryHeap heap = new IntBinaryHeap(16, true);
+		heap.add(1, 1);
+		heap.add(2, 3);
+		heap.add(3, 2);
+		assertEquals(2, heap.pop());
+		assertEquals(3, heap.pop());
+	}
+
+	@Test
+	public void matchesSortedOrder () {
+		Random random = new Random(7);
+		IntBinaryHeap heap = new IntBinaryHeap();
+		float[] values = new float[2000];
+		for (int i = 0; i < values.length; i++)
+			heap.add(i, values[i] = random.nextFloat());
+		for (int i = 0; i < 500; i++) {
+			int id = random.nextInt(values.length);
+			if (i % 2 == 0)
+				heap.put(id, values[id] = random.nextFloat());
+			else if (heap.remove(id)) //
+				values[id] = Float.NaN;
+		}
+		float last = -1;
+		int count = 0;
+		while (heap.notEmpty()) {
+			float value = heap.peekValue();
+			int id = heap.pop();
+			assertEquals(values[id], value, 0);
+			assertTrue(value >= last);
+			last = value;
+			count++;
+		}
+		int expected = 0;
+		for (float value : values)
+			if (!Float.isNaN(value)) expected++;
+		assertEquals(expected, count);
+	}
+}
@@ -0,0 +1,51 @@
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class IntMultiMapTest {
+	@Test
+	public void putGetRemove () {
+		IntMultiMap map = new IntMultiMap(2, 2);
+		map.put(0, 10);
+		map.put(5, 50);
+		map.put(0, 11);
+		map.put(0, 12);
+		assertEquals(4, map.size);
+		assertEquals(3, map.count(0));
+		assertEquals(IntArray.with(10, 11, 12), map.get(0, new IntArray()));
+		assertTrue(map.contains(5, 50));
+		assertFalse(map.contains(5, 10));
+
+		assertTrue(map.remove(0, 12));
+		map.put(0, 13);
+		assertEquals(IntArray.with(10, 11, 13), map.get(0, new IntArray()));
+		assertEquals(3, map.remove(0));
+		assertFalse(map.containsKey(0));
+		assertEquals(1, map.size);
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertEquals(-1, map.first(5));
+	}
+
+	@Test
+	public void compact () {
+		IntMultiMap map = new IntMultiMap();
+		for (int i = 0; i < 1000; i++)
+			map.put(i % 10, i);
+		map.remove(3);
+		map.compact();
+		assertEquals(900, map.size);
+		for (int key = 0; key < 10; key++) {
+			int expected = key, previousSlot = -1;
+			for (int slot = map.first(key); slot != -1; slot = map.next(slot)) {
+				assertEquals(expected, map.getValue(slot));
+				if (previousSlot != -1) assertEquals(previousSlot + 1, slot);
+				previousSlot = slot;
+				expected += 10;
+			}
+			assertEquals(key == 3 ? 3 : 1000 + key, expected);
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class ObjectMultiMapTest {
+	@Test
+	public void putGetRemove () {
+		ObjectMultiMap<String, String> map = new ObjectMultiMap(2, 2);
+		map.put("a", "1");
+		map.put("b", "x");
+		map.put("a", "2");
+		map.put("a", "3");
+		assertEquals(4, map.size);
+		assertEquals(3, map.count("a"));
+		assertEquals(0, map.count("c"));
+		assertEquals(Array.with("1", "2", "3"), map.get("a", new Array()));
+		assertTrue(map.contains("a", "2", false));
+		assertFalse(map.contains("b", "2", false));
+
+		assertTrue(map.remove("a", "2", false));
+		assertFalse(map.remove("a", "2", false));
+		assertEquals(Array.with("1", "3"), map.get("a", new Array()));
+		assertTrue(map.remove("a", "3", false));
+		map.put("a", "4");
+		assertEquals(Array.with("1", "4"), map.get("a", new Array()));
+
+		assertEquals(2, map.remove("a"));
+		assertFalse(map.containsKey("a"));
+		assertEquals(1, map.size);
+		assertTrue(map.remove("b", "x", false));
+		assertTrue(map.isEmpty());
+		assertEquals(-1, map.first("b"));
+	}
+
+	@Test
+	public void compactKeepsOrder () {
+		ObjectMultiMap<Integer, Integer> map = new ObjectMultiMap();
+		for (int i = 0; i < 100; i++)
+			map.put(i % 7, i);
+		for (int i = 0; i < 100; i += 3)
+			map.remove(i % 7, i, false);
+		int size = map.size;
+		map.compact();
+		assertEquals(size, map.size);
+		int total = 0;
+		for (int key = 0; key < 7; key++) {
+			int previous = -1, previousSlot = -1, count = 0;
+			for (int slot = map.first(key); slot != -1; slot = map.next(slot)) {
+				int value = map.getValue(slot);
+				assertEquals(key, value % 7);
+				assertTrue(value % 3 != 0);
+				assertTrue(value > previous);
+				if (count > 0) assertEquals(previousSlot + 1, slot); // Contiguous.
+				previous = value;
+				previousSlot = slot;
+				count++;
+			}
+			assertEquals(map.count(key), count);
+			total += count;
+		}
+		assertEquals(size, total);
+		map.put(3, 1000);
+		assertEquals(1000, lastValue(map, 3));
+	}
+
+	private int lastValue (ObjectMultiMap<Integer, Integer> map, int key) {
+		int last = -1;
+		for (int slot = map.first(key); slot != -1; slot = map.next(slot))
+			last = map.getValue(slot);
+		return last;
+	}
+}
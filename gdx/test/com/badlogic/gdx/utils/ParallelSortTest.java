@@ -0,0 +1,145 @@
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+public class ParallelSortTest {
+	private final Random random = new Random(42);
+
+	private ParallelSort parallelSort () {
+		ParallelSort sort = new ParallelSort(new ForkJoinPool(4));
+		sort.threshold = 1000;
+		sort.chunkSize = 100;
+		return sort;
+	}
+
+	@Test
+	public void mergeSortIsStable () {
+		int n = 20000;
+		int[][] items = new int[n][];
+		for (int i = 0; i < n; i++)
+			items[i] = new int[] {random.nextInt(50), i};
+		Comparator<int[]> byKey = new Comparator<int[]>() {
+			public int compare (int[] a, int[] b) {
+				return a[0] - b[0];
+			}
+		};
+		Array<int[]> array = new Array(items);
+		parallelSort().sort(array, byKey);
+		assertEquals(n, array.size);
+		for (int i = 1; i < n; i++) {
+			int[] previous = array.get(i - 1), current = array.get(i);
+			assertTrue(previous[0] <= current[0]);
+			if (previous[0] == current[0]) assertTrue(previous[1] < current[1]);
+		}
+	}
+
+	@Test
+	public void radixSortInts () {
+		for (ParallelSort sort : new ParallelSort[] {parallelSort(), new ParallelSort(new ForkJoinPool(1))}) {
+			int[] keys = new int[50000];
+			for (int i = 0; i < keys.length; i++)
+				keys[i] = random.nextInt();
+			int[] expected = keys.clone();
+			Arrays.sort(expected, 10, 40000);
+			sort.sort(keys, 10, 40000);
+			assertArrayEquals(expected, keys);
+		}
+	}
+
+	@Test
+	public void radixSortWithValues () {
+		int n = 30000;
+		int[] keys = new int[n], values = new int[n], original = new int[n];
+		for (int i = 0; i < n; i++) {
+			original[i] = keys[i] = random.nextInt(1000) - 500;
+			values[i] = i;
+		}
+		parallelSort().sort(keys, values, 0, n);
+		for (int i = 0; i < n; i++) {
+			assertEquals(original[values[i]], keys[i]);
+			if (i > 0) {
+				assertTrue(keys[i - 1] <= keys[i]);
+				if (keys[i - 1] == keys[i]) assertTrue(values[i - 1] < values[i]);
+			}
+		}
+	}
+
+	@Test
+	public void radixSortLongsAndFloats () {
+		long[] longs = new long[20000];
+		float[] floats = new float[20000];
+		for (int i = 0; i < longs.length; i++) {
+			longs[i] = random.nextLong();
+			floats[i] = (random.nextFloat() - 0.5f) * 1000;
+		}
+		floats[0] = -0f;
+		floats[1] = 0f;
+		floats[2] = Float.NaN;
+		floats[3] = Float.NEGATIVE_INFINITY;
+		long[] expectedLongs = longs.clone();
+		float[] expectedFloats = floats.clone();
+		Arrays.sort(expectedLongs);
+		Arrays.sort(expectedFloats);
+		ParallelSort sort = parallelSort();
+		sort.sort(longs, 0, longs.length);
+		sort.sort(floats, 0, floats.length);
+		assertArrayEquals(expectedLongs, longs);
+		for (int i = 0; i < floats.length; i++)
+			assertEquals(Float.floatToIntBits(expectedFloats[i]), Float.floatToIntBits(floats[i]));
+	}
+
+	@Test
+	public void serialRadixSort () {
+		FloatArray floats = new FloatArray();
+		IntArray ints = new IntArray();
+		for (int i = 0; i < 1000; i++) {
+			floats.add(random.nextFloat() * 100 - 50);
+			ints.add(random.nextInt(100));
+		}
+		FloatArray expectedFloats = new FloatArray(floats);
+		IntArray expectedInts = new IntArray(ints);
+		expectedFloats.sort();
+		expectedInts.sort();
+		Sort sort = new Sort();
+		sort.sort(floats);
+		sort.sort(ints);
+		assertEquals(expectedFloats, floats);
+		assertEquals(expectedInts, ints);
+	}
+
+	@Test
+	public void radixSortLongsWithValues () {
+		Sort serial = new Sort();
+		ParallelSort parallel = parallelSort();
+		// Each sort is run twice, reusing the working memory and tasks
+		for (int run = 0; run < 4; run++) {
+			int n = 20000, from = 7, to = n - 3;
+			long[] keys = new long[n], original = new long[n];
+			int[] values = new int[n];
+			for (int i = 0; i < n; i++) {
+				original[i] = keys[i] = run % 2 == 0 ? random.nextLong() : random.nextInt(100) - 50;
+				values[i] = i;
+			}
+			if (run < 2)
+				serial.sort(keys, values, from, to);
+			else
+				parallel.sort(keys, values, from, to);
+			for (int i = 0; i < n; i++) {
+				assertEquals(original[values[i]], keys[i]);
+				if (i < from || i >= to)
+					assertEquals(i, values[i]);
+				else if (i > from) {
+					assertTrue(keys[i - 1] <= keys[i]);
+					if (keys[i - 1] == keys[i]) assertTrue(values[i - 1] < values[i]);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class PoolStatsTest {
+	static class Item {
+	}
+
+	private static Pool<Item> newPool (int max) {
+		return new Pool<Item>(4, max) {
+			protected Item newObject () {
+				return new Item();
+			}
+		};
+	}
+
+	@Test
+	public void testCounters () {
+		Pool<Item> pool = newPool(2);
+		PoolStats stats = new PoolStats();
+		pool.setStats(stats);
+		Item a = pool.obtain(), b = pool.obtain(), c = pool.obtain();
+		assertEquals(3, stats.created);
+		assertEquals(3, stats.outstanding);
+		pool.free(a);
+		pool.free(b);
+		pool.free(c);
+		assertEquals(1, stats.discarded);
+		assertEquals(0, stats.outstanding);
+		assertEquals(3, stats.peakOutstanding);
+		pool.obtain();
+		pool.obtain();
+		assertEquals(5, stats.obtained);
+		assertEquals(3, stats.created);
+		assertEquals(0.4f, stats.getHitRate(), 0.0001f);
+
+		stats.reset();
+		assertEquals(0, stats.obtained);
+		assertEquals(2, stats.peakOutstanding);
+		pool.fill(5);
+		assertEquals(0, stats.created);
+		assertEquals(2, stats.prefilled);
+		// Prefilled objects are hits
+		pool.obtain();
+		assertEquals(1, stats.getHitRate(), 0);
+	}
+
+	@Test
+	public void testOutstandingBeforeStats () {
+		Pool<Item> pool = newPool(10);
+		Item a = pool.obtain(), b = pool.obtain();
+		PoolStats stats = new PoolStats();
+		pool.setStats(stats);
+		Item c = pool.obtain();
+		pool.free(a);
+		pool.free(b);
+		assertEquals(0, stats.outstanding);
+		pool.free(c);
+		assertEquals(0, stats.outstanding);
+		assertEquals(3, stats.freed);
+		assertEquals(1, stats.peakOutstanding);
+
+		// The objects are known when capturing stacks
+		a = pool.obtain();
+		stats = new PoolStats(true);
+		pool.setStats(stats);
+		c = pool.obtain();
+		pool.free(a);
+		assertEquals(1, stats.outstanding);
+		pool.free(c);
+		assertEquals(0, stats.outstanding);
+	}
+
+	@Test
+	public void testLeakReport () {
+		Pool<Item> pool = newPool(10);
+		pool.setStats(new PoolStats(true));
+		for (int i = 0; i < 3; i++)
+			pool.obtain();
+		pool.free(pool.obtain());
+		StringBuilder buffer = new StringBuilder();
+		pool.getStats().appendReport(buffer);
+		String report = buffer.toString();
+		assertTrue(report, report.contains("outstanding 3"));
+		assertTrue(report, report.contains("3 not freed, obtained at " + PoolStatsTest.class.getName() + ".testLeakReport"));
+	}
+
+	@Test
+	public void testPoolsReport () {
+		try {
+			Pools.setStats(true, false);
+			Pools.free(Pools.obtain(Item.class));
+			String report = Pools.getReport();
+			assertTrue(report, report.contains(Item.class.getName() + ": free 1 (peak 1, max 100), obtained 1, created 1"));
+		} finally {
+			Pools.setStats(false, false);
+		}
+		assertNull(Pools.get(Item.class).getStats());
+	}
+}
@@ -0,0 +1,218 @@
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.RingQueue.Consumer;
+import com.badlogic.gdx.utils.RingQueue.IntConsumer;
+import com.badlogic.gdx.utils.RingQueue.LongConsumer;
+
+public class RingQueueTest {
+	static final int COUNT = 100000;
+
+	@Test
+	public void testSingleThreaded () {
+		SpscQueue<Integer> spsc = new SpscQueue<Integer>(3);
+		MpscQueue<Integer> mpsc = new MpscQueue<Integer>(3);
+		MpmcQueue<Integer> mpmc = new MpmcQueue<Integer>(3);
+		MpmcIntQueue ints = new MpmcIntQueue(3);
+		MpmcLongQueue longs = new MpmcLongQueue(3);
+		assertEquals(4, spsc.capacity());
+		for (int lap = 0; lap < 3; lap++) {
+			for (int i = 0; i < 4; i++) {
+				assertTrue(spsc.offer(i));
+				assertTrue(mpsc.offer(i));
+				assertTrue(mpmc.offer(i));
+				assertTrue(ints.offer(i));
+				assertTrue(longs.offer(i));
+			}
+			assertFalse(spsc.offer(4));
+			assertFalse(mpsc.offer(4));
+			assertFalse(mpmc.offer(4));
+			assertFalse(ints.offer(4));
+			assertFalse(longs.offer(4));
+			assertEquals(4, mpmc.size());
+			for (int i = 0; i < 4; i++) {
+				assertEquals(i, (int)spsc.poll());
+				assertEquals(i, (int)mpsc.poll());
+				assertEquals(i, (int)mpmc.poll());
+				assertEquals(i, ints.poll(-1));
+				assertEquals(i, longs.poll(-1));
+			}
+			assertNull(spsc.poll());
+			assertNull(mpsc.poll());
+			assertNull(mpmc.poll());
+			assertEquals(-1, ints.poll(-1));
+			assertEquals(-1, longs.poll(-1));
+			assertTrue(mpmc.isEmpty());
+		}
+	}
+
+	@Test
+	public void testDrain () {
+		final IntArray drained = new IntArray();
+		Consumer<Integer> consumer = new Consumer<Integer>() {
+			public void accept (Integer value) {
+				drained.add(value);
+			}
+		};
+		RingQueue[] queues = {new SpscQueue<Integer>(8), new MpscQueue<Integer>(8), new MpmcQueue<Integer>(8),
+			new MpmcIntQueue(8), new MpmcLongQueue(8)};
+		for (RingQueue queue : queues) {
+			drained.clear();
+			for (int i = 0; i < 6; i++)
+				offer(queue, i);
+			assertEquals(4, drain(queue, consumer, drained, 4));
+			assertEquals(2, drain(queue, consumer, drained, 4));
+			assertEquals(0, drain(queue, consumer, drained, 4));
+			assertEquals(new IntArray(new int[] {0, 1, 2, 3, 4, 5}), drained);
+			assertTrue(queue.isEmpty());
+		}
+	}
+
+	private void offer (RingQueue queue, int value) {
+		if (queue instanceof SpscQueue) ((SpscQueue<Integer>)queue).offer(value);
+		if (queue instanceof MpscQueue) ((MpscQueue<Integer>)queue).offer(value);
+		if (queue instanceof MpmcQueue) ((MpmcQueue<Integer>)queue).offer(value);
+		if (queue instanceof MpmcIntQueue) ((MpmcIntQueue)queue).offer(value);
+		if (queue instanceof MpmcLongQueue) ((MpmcLongQueue)queue).offer(value);
+	}
+
+	private int drain (RingQueue queue, Consumer<Integer> consumer, final IntArray drained, int limit) {
+		if (queue instanceof SpscQueue) return ((SpscQueue<Integer>)queue).drain(consumer, limit);
+		if (queue instanceof MpscQueue) return ((MpscQueue<Integer>)queue).drain(consumer, limit);
+		if (queue instanceof MpmcQueue) return ((MpmcQueue<Integer>)queue).drain(consumer, limit);
+		if (queue instanceof MpmcIntQueue) return ((MpmcIntQueue)queue).drain(new IntConsumer() {
+			public void accept (int value) {
+				drained.add(value);
+			}
+		}, limit);
+		return ((MpmcLongQueue)queue).drain(new LongConsumer() {
+			public void accept (long value) {
+				drained.add((int)value);
+			}
+		}, limit);
+	}
+
+	@Test
+	public void testSpscOrder () throws Exception {
+		final SpscQueue<Integer> queue = new SpscQueue<Integer>(64);
+		final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+		Thread producer = new Thread() {
+			public void run () {
+				for (int i = 0; i < COUNT; i++)
+					while (!queue.offer(i))
+						Thread.yield();
+			}
+		};
+		producer.start();
+		final int[] expected = {0};
+		Consumer<Integer> consumer = new Consumer<Integer>() {
+			public void accept (Integer value) {
+				if (value != expected[0]++) failure.compareAndSet(null, new AssertionError(value + " != " + (expected[0] - 1)));
+			}
+		};
+		while (expected[0] < COUNT) {
+			if (expected[0] % 2 == 0) {
+				Integer value = queue.poll();
+				if (value != null)
+					consumer.accept(value);
+				else
+					Thread.yield();
+			} else if (queue.drain(consumer, 16) == 0) //
+				Thread.yield();
+		}
+		producer.join();
+		if (failure.get() != null) throw new AssertionError(failure.get());
+	}
+
+	@Test
+	public void testMpscSum () throws Exception {
+		final MpscQueue<Integer> queue = new MpscQueue<Integer>(64);
+		final int producers = 3;
+		startProducers(producers, new Producer() {
+			public boolean offer (int value) {
+				return queue.offer(value);
+			}
+		});
+		long sum = 0;
+		for (int received = 0; received < producers * COUNT;) {
+			Integer value = queue.poll();
+			if (value == null) {
+				Thread.yield();
+				continue;
+			}
+			sum += value;
+			received++;
+		}
+		assertEquals(producers * ((long)COUNT * (COUNT - 1) / 2), sum);
+		assertNull(queue.poll());
+	}
+
+	@Test
+	public void testMpmcSum () throws Exception {
+		final MpmcQueue<Integer> queue = new MpmcQueue<Integer>(64);
+		final MpmcLongQueue longs = new MpmcLongQueue(64);
+		final int producers = 3, consumers = 3;
+		startProducers(producers, new Producer() {
+			public boolean offer (int value) {
+				if (!queue.offer(value)) return false;
+				while (!longs.offer(value))
+					Thread.yield();
+				return true;
+			}
+		});
+		final AtomicLong sum = new AtomicLong(), longSum = new AtomicLong(), received = new AtomicLong();
+		Thread[] threads = new Thread[consumers];
+		for (int t = 0; t < consumers; t++) {
+			threads[t] = new Thread() {
+				public void run () {
+					while (received.get() < producers * COUNT) {
+						Integer value = queue.poll();
+						if (value == null) {
+							Thread.yield();
+							continue;
+						}
+						sum.addAndGet(value);
+						long value2;
+						while ((value2 = longs.poll(-1)) == -1)
+							Thread.yield();
+						longSum.addAndGet(value2);
+						received.incrementAndGet();
+					}
+				}
+			};
+			threads[t].start();
+		}
+		for (Thread thread : threads)
+			thread.join();
+		assertEquals(producers * ((long)COUNT * (COUNT - 1) / 2), sum.get());
+		assertEquals(sum.get(), longSum.get());
+	}
+
+	interface Producer {
+		boolean offer (int value);
+	}
+
+	private void startProducers (int count, final Producer producer) throws Exception {
+		final CyclicBarrier barrier = new CyclicBarrier(count);
+		for (int t = 0; t < count; t++) {
+			new Thread() {
+				public void run () {
+					try {
+						barrier.await();
+					} catch (Exception ignored) {
+					}
+					for (int i = 0; i < COUNT; i++)
+						while (!producer.offer(i))
+							Thread.yield();
+				}
+			}.start();
+		}
+	}
+}
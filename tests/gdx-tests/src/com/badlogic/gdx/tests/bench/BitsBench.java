@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Bits;
+import com.badlogic.gdx.utils.CompressedBits;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Compares memory use and the time of set, and, or and iteration between {@link Bits} and {@link CompressedBits} on sparse,
+ * dense and clustered data. */
+public class BitsBench extends GdxTest {
+	static final int ITERATIONS = 20;
+
+	SpriteBatch batch;
+	BitmapFont font;
+	Array<String> results = new Array();
+
+	@Override
+	public void create () {
+		batch = new SpriteBatch();
+		font = new BitmapFont();
+
+		// 10k ids spread over 10M.
+		int[] sparse1 = random(10000, 10000000), sparse2 = random(10000, 10000000);
+		bench("Sparse", sparse1, sparse2);
+		// 500k ids in 1M.
+		int[] dense1 = random(500000, 1000000), dense2 = random(500000, 1000000);
+		bench("Dense", dense1, dense2);
+		// 100 runs of 5000 ids spread over 10M.
+		int[] runs1 = runs(100, 5000, 10000000), runs2 = runs(100, 5000, 10000000);
+		bench("Runs", runs1, runs2);
+	}
+
+	private void bench (String name, int[] indices1, int[] indices2) {
+		long start = TimeUtils.nanoTime();
+		Bits bits1 = new Bits(), bits2 = new Bits();
+		for (int i = 0; i < ITERATIONS; i++) {
+			bits1.clear();
+			bits2.clear();
+			for (int index : indices1)
+				bits1.set(index);
+			for (int index : indices2)
+				bits2.set(index);
+		}
+		long bitsSet = TimeUtils.nanoTime() - start;
+
+		start = TimeUtils.nanoTime();
+		CompressedBits compressed1 = new CompressedBits(), compressed2 = new CompressedBits();
+		for (int i = 0; i < ITERATIONS; i++) {
+			compressed1.clear();
+			compressed2.clear();
+			for (int index : indices1)
+				compressed1.set(index);
+			for (int index : indices2)
+				compressed2.set(index);
+		}
+		compressed1.runOptimize();
+		compressed2.runOptimize();
+		long compressedSet = TimeUtils.nanoTime() - start;
+
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			Bits result = new Bits();
+			result.or(bits1);
+			result.and(bits2);
+			result.or(bits2);
+		}
+		long bitsOps = TimeUtils.nanoTime() - start;
+
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			CompressedBits result = new CompressedBits(compressed1);
+			result.and(compressed2);
+			result.or(compressed2);
+		}
+		long compressedOps = TimeUtils.nanoTime() - start;
+
+		int count = 0;
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++)
+			for (int index = bits1.nextSetBit(0); index != -1; index = bits1.nextSetBit(index + 1))
+				count++;
+		long bitsIterate = TimeUtils.nanoTime() - start;
+
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++)
+			for (int index = compressed1.nextSetBit(0); index != -1; index = compressed1.nextSetBit(index + 1))
+				count--;
+		long compressedIterate = TimeUtils.nanoTime() - start;
+		if (count != 0) throw new IllegalStateException("Iteration mismatch: " + count);
+
+		log(name + " Bits: " + bits1.numBits() / 8 / 1024 + " KB, set " + millis(bitsSet) + " ms, and/or " + millis(bitsOps)
+			+ " ms, iterate " + millis(bitsIterate) + " ms");
+		log(name + " CompressedBits: " + compressed1.getSizeInBytes() / 1024 + " KB, set " + millis(compressedSet) + " ms, and/or "
+			+ millis(compressedOps) + " ms, iterate " + millis(compressedIterate) + " ms");
+	}
+
+	private void log (String result) {
+		Gdx.app.log("BitsBench", result);
+		results.add(result);
+	}
+
+	private float millis (long nanos) {
+		return (int)(nanos / 1000 / ITERATIONS) / 1000f;
+	}
+
+	private int[] random (int count, int max) {
+		int[] indices = new int[count];
+		for (int i = 0; i < count; i++)
+			indices[i] = MathUtils.random(max - 1);
+		return indices;
+	}
+
+	private int[] runs (int runCount, int runLength, int max) {
+		int[] indices = new int[runCount * runLength];
+		for (int i = 0, n = 0; i < runCount; i++) {
+			int start = MathUtils.random(max - runLength);
+			for (int ii = 0; ii < runLength; ii++)
+				indices[n++] = start + ii;
+		}
+		return indices;
+	}
+
+	@Override
+	public void render () {
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+		batch.getProjectionMatrix().setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+		batch.begin();
+		float y = Gdx.graphics.getHeight() - 10;
+		font.draw(batch, "Average per iteration (" + ITERATIONS + " iterations):", 10, y);
+		for (String result : results)
+			font.draw(batch, result, 10, y -= 20);
+		batch.end();
+	}
+
+	@Override
+	public void dispose () {
+		batch.dispose();
+		font.dispose();
+	}
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.InputAdapter;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.ArrayParticleEffect;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.ParticleEffect;
+import com.badlogic.gdx.graphics.g2d.ParticleEmitter;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Compares the update and draw time of {@link ParticleEffect} and {@link ArrayParticleEffect}, touch to switch between them. */
+public class ParticleEmitterBench extends GdxTest {
+	static final int PARTICLES_PER_EMITTER = 5000;
+
+	SpriteBatch batch;
+	BitmapFont font;
+	ParticleEffect effect, arrayEffect;
+	boolean useArrayEffect;
+	long totalTime;
+	int frames;
+	float averageMillis, logTimer;
+
+	@Override
+	public void create () {
+		batch = new SpriteBatch();
+		font = new BitmapFont();
+
+		effect = new ParticleEffect();
+		effect.load(Gdx.files.internal("data/test.p"), Gdx.files.internal("data"));
+		for (ParticleEmitter emitter : effect.getEmitters()) {
+			emitter.setMaxParticleCount(PARTICLES_PER_EMITTER);
+			emitter.getEmission().setHigh(PARTICLES_PER_EMITTER / emitter.getLife().getHighMax() * 1000);
+			emitter.setContinuous(true);
+		}
+		arrayEffect = new ArrayParticleEffect(effect);
+		effect.setPosition(Gdx.graphics.getWidth() / 2, Gdx.graphics.getHeight() / 2);
+		arrayEffect.setPosition(Gdx.graphics.getWidth() / 2, Gdx.graphics.getHeight() / 2);
+		effect.start();
+		arrayEffect.start();
+
+		Gdx.input.setInputProcessor(new InputAdapter() {
+			@Override
+			public boolean touchDown (int screenX, int screenY, int pointer, int button) {
+				useArrayEffect = !useArrayEffect;
+				totalTime = 0;
+				frames = 0;
+				return true;
+			}
+		});
+	}
+
+	@Override
+	public void render () {
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+		batch.getProjectionMatrix().setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+		ParticleEffect current = useArrayEffect ? arrayEffect : effect;
+		float delta = Gdx.graphics.getDeltaTime();
+
+		batch.begin();
+		long start = TimeUtils.nanoTime();
+		current.draw(batch, delta);
+		batch.flush();
+		totalTime += TimeUtils.nanoTime() - start;
+		frames++;
+
+		int activeCount = 0;
+		for (ParticleEmitter emitter : current.getEmitters())
+			activeCount += emitter.getActiveCount();
+		logTimer += delta;
+		if (logTimer > 1) {
+			averageMillis = totalTime / (float)frames / 1000000f;
+			Gdx.app.log("ParticleEmitterBench", (useArrayEffect ? "ArrayParticleEffect" : "ParticleEffect") + ": " + activeCount
+				+ " particles, " + averageMillis + " ms/frame");
+			logTimer = 0;
+			totalTime = 0;
+			frames = 0;
+		}
+		font.draw(batch, (useArrayEffect ? "ArrayParticleEffect" : "ParticleEffect") + " (touch to switch), " + activeCount
+			+ " particles, " + averageMillis + " ms update and draw, FPS: " + Gdx.graphics.getFramesPerSecond(), 10, 20);
+		batch.end();
+	}
+
+	@Override
+	public void dispose () {
+		batch.dispose();
+		font.dispose();
+		effect.dispose();
+	}
+}
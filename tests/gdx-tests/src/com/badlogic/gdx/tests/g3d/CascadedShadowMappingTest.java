@@ -0,0 +1,120 @@
+package com.badlogic.gdx.tests.g3d;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.graphics.g3d.environment.CascadedShadowLight;
+import com.badlogic.gdx.graphics.g3d.utils.CameraInputController;
+import com.badlogic.gdx.graphics.g3d.utils.DepthShaderProvider;
+import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Array;
+
+/** Shows the use of {@link CascadedShadowLight}: a large static scene of which the shadows are cached, with a single moving
+ * sphere which is the only caster rendered every frame. */
+public class CascadedShadowMappingTest extends GdxTest {
+	PerspectiveCamera cam;
+	CameraInputController camController;
+	ModelBatch modelBatch;
+	ModelBatch shadowBatch;
+	Model groundModel, boxModel, sphereModel;
+	Array<ModelInstance> staticInstances = new Array<ModelInstance>();
+	Array<ModelInstance> dynamicInstances = new Array<ModelInstance>();
+	Array<ModelInstance> instances = new Array<ModelInstance>();
+	ModelInstance sphere;
+	Environment environment;
+	CascadedShadowLight shadowLight;
+	float time;
+
+	@Override
+	public void create () {
+		modelBatch = new ModelBatch();
+		shadowBatch = new ModelBatch(new DepthShaderProvider());
+
+		environment = new Environment();
+		environment.set(new ColorAttribute(ColorAttribute.AmbientLight, .4f, .4f, .4f, 1f));
+		shadowLight = new CascadedShadowLight(3, 1024, true);
+		shadowLight.set(0.8f, 0.8f, 0.8f, -1f, -.8f, -.2f);
+		shadowLight.shadowDistance = 150f;
+		environment.add(shadowLight);
+		environment.shadowMap = shadowLight;
+
+		cam = new PerspectiveCamera(67, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+		cam.position.set(0f, 7f, 10f);
+		cam.lookAt(0, 0, 0);
+		cam.near = 0.5f;
+		cam.far = 300f;
+		cam.update();
+
+		final long attributes = Usage.Position | Usage.Normal;
+		ModelBuilder modelBuilder = new ModelBuilder();
+		groundModel = modelBuilder.createBox(400f, 1f, 400f, new Material(ColorAttribute.createDiffuse(Color.WHITE)), attributes);
+		boxModel = modelBuilder.createBox(2f, 6f, 2f, new Material(ColorAttribute.createDiffuse(Color.LIGHT_GRAY)), attributes);
+		sphereModel = modelBuilder.createSphere(2f, 2f, 2f, 20, 20, new Material(ColorAttribute.createDiffuse(Color.MAGENTA)),
+			attributes);
+
+		ModelInstance ground = new ModelInstance(groundModel);
+		ground.transform.setToTranslation(0, -1.5f, 0);
+		staticInstances.add(ground);
+		for (int i = 0; i < 200; i++) {
+			ModelInstance box = new ModelInstance(boxModel);
+			box.transform.setToTranslation(MathUtils.random(-150f, 150f), 2f, MathUtils.random(-150f, 150f));
+			staticInstances.add(box);
+		}
+		dynamicInstances.add(sphere = new ModelInstance(sphereModel));
+		instances.addAll(staticInstances);
+		instances.addAll(dynamicInstances);
+
+		Gdx.input.setInputProcessor(camController = new CameraInputController(cam));
+	}
+
+	@Override
+	public void render () {
+		camController.update();
+		time += Gdx.graphics.getDeltaTime();
+		sphere.transform.setToTranslation(MathUtils.sin(time) * 5f, 1f, MathUtils.cos(time) * 5f);
+
+		shadowLight.update(cam);
+		for (int i = 0; i < shadowLight.getCascadeCount(); i++) {
+			if (shadowLight.isStaticDirty(i)) {
+				shadowLight.beginStatic(i);
+				shadowBatch.begin(shadowLight.getCamera(i));
+				shadowBatch.render(staticInstances);
+				shadowBatch.end();
+				shadowLight.end();
+			}
+			shadowLight.begin(i);
+			shadowBatch.begin(shadowLight.getCamera(i));
+			shadowBatch.render(dynamicInstances);
+			shadowBatch.end();
+			shadowLight.end();
+		}
+
+		Gdx.gl.glViewport(0, 0, Gdx.graphics.getBackBufferWidth(), Gdx.graphics.getBackBufferHeight());
+		Gdx.gl.glClearColor(0, 0, 0, 1);
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT | GL20.GL_DEPTH_BUFFER_BIT);
+
+		modelBatch.begin(cam);
+		modelBatch.render(instances, environment);
+		modelBatch.end();
+	}
+
+	@Override
+	public void dispose () {
+		modelBatch.dispose();
+		shadowBatch.dispose();
+		shadowLight.dispose();
+		groundModel.dispose();
+		boxModel.dispose();
+		sphereModel.dispose();
+	}
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.g3d;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input.Keys;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.particles.GpuParticleController;
+import com.badlogic.gdx.graphics.g3d.particles.GpuParticleSimulation;
+import com.badlogic.gdx.graphics.g3d.particles.ParticleEffect;
+import com.badlogic.gdx.graphics.g3d.particles.ParticleSystem;
+import com.badlogic.gdx.graphics.g3d.particles.batches.GpuParticleBatch;
+import com.badlogic.gdx.graphics.g3d.particles.renderers.GpuParticleRenderer;
+import com.badlogic.gdx.utils.Array;
+
+/** Runs the same {@link GpuParticleSimulation} on the GPU (red) and on the CPU (cyan) with additive blending, where both
+ * implementations agree the particles are white. Both effects are updated and rendered through a {@link ParticleSystem}. Press
+ * space to toggle the CPU reference, R to reset both. */
+public class GpuParticleTest extends BaseG3dTest {
+	static final int CAPACITY = 20000;
+
+	ParticleSystem particleSystem;
+	GpuParticleBatch particleBatch;
+	ParticleEffect gpuEffect, cpuEffect;
+	GpuParticleController gpuController;
+	boolean showReference = true;
+	SpriteBatch spriteBatch;
+	BitmapFont font;
+
+	@Override
+	public void create () {
+		super.create();
+		particleBatch = new GpuParticleBatch();
+		particleSystem = new ParticleSystem();
+		particleSystem.add(particleBatch);
+		gpuController = new GpuParticleController("gpu", CAPACITY, new GpuParticleRenderer(particleBatch));
+		gpuEffect = createEffect(gpuController, Color.RED);
+		cpuEffect = createEffect(new GpuParticleController("cpu", CAPACITY, false, new GpuParticleRenderer(particleBatch)),
+			Color.CYAN);
+		particleSystem.add(gpuEffect);
+		particleSystem.add(cpuEffect);
+		spriteBatch = new SpriteBatch();
+		font = new BitmapFont();
+	}
+
+	private ParticleEffect createEffect (GpuParticleController controller, Color color) {
+		GpuParticleSimulation simulation = controller.simulation;
+		simulation.spawnExtent.set(0.5f, 0, 0.5f);
+		simulation.velocityMin.set(-2, 6, -2);
+		simulation.velocityMax.set(2, 10, 2);
+		simulation.drag = 0.2f;
+		simulation.lifeMin = 1.5f;
+		simulation.lifeMax = 3f;
+		controller.color.set(color);
+		controller.color.a = 0.5f;
+		controller.pointSize = 48;
+		ParticleEffect effect = new ParticleEffect(controller);
+		effect.init();
+		effect.start();
+		return effect;
+	}
+
+	@Override
+	public void render () {
+		if (Gdx.input.isKeyJustPressed(Keys.SPACE)) {
+			showReference = !showReference;
+			if (showReference)
+				particleSystem.add(cpuEffect);
+			else
+				particleSystem.remove(cpuEffect);
+		}
+		if (Gdx.input.isKeyJustPressed(Keys.R)) {
+			gpuEffect.reset();
+			cpuEffect.reset();
+		}
+		super.render();
+
+		spriteBatch.begin();
+		font.draw(spriteBatch, "FPS: " + Gdx.graphics.getFramesPerSecond() + ", particles: " + CAPACITY + ", transform feedback: "
+			+ gpuController.isGpu() + ", CPU reference (space): " + showReference, 10, 20);
+		spriteBatch.end();
+	}
+
+	@Override
+	protected void render (ModelBatch batch, Array<ModelInstance> instances) {
+		// A fixed time step keeps both simulations in lock step
+		particleSystem.update(1 / 60f);
+		particleSystem.begin();
+		particleSystem.draw();
+		particleSystem.end();
+		batch.render(particleSystem);
+	}
+
+	@Override
+	public void dispose () {
+		super.dispose();
+		gpuEffect.dispose();
+		cpuEffect.dispose();
+		particleBatch.dispose();
+		spriteBatch.dispose();
+		font.dispose();
+	}
+}
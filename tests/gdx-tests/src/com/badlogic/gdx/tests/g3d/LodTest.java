@@ -0,0 +1,84 @@
+package com.badlogic.gdx.tests.g3d;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input.Keys;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.Material;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.attributes.ColorAttribute;
+import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
+import com.badlogic.gdx.graphics.g3d.utils.MeshSimplifier;
+import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.utils.Array;
+
+/** Shows the use of {@link com.badlogic.gdx.graphics.g3d.model.LodGroup}: a grid of detailed spheres of which the lower levels
+ * are generated by {@link MeshSimplifier}. Press space to toggle the level of detail selection, the number of vertices rendered
+ * is logged every second. */
+public class LodTest extends BaseG3dTest {
+	Model model;
+	Environment environment;
+	GLProfiler profiler;
+	boolean lod = true;
+	float logTime;
+
+	@Override
+	public void create () {
+		super.create();
+		environment = new Environment();
+		environment.set(new ColorAttribute(ColorAttribute.AmbientLight, 0.4f, 0.4f, 0.4f, 1f));
+		environment.add(new DirectionalLight().set(0.8f, 0.8f, 0.8f, -1f, -0.8f, -0.2f));
+
+		ModelBuilder modelBuilder = new ModelBuilder();
+		model = modelBuilder.createSphere(2f, 2f, 2f, 64, 64, new Material(ColorAttribute.createDiffuse(Color.ORANGE)),
+			Usage.Position | Usage.Normal);
+		new MeshSimplifier().generateLods(model, new float[] {0.4f, 0.15f, 0.05f, 0.005f}, new float[] {0.25f, 0.06f, 0.01f});
+
+		for (int x = -20; x <= 20; x++) {
+			for (int z = -20; z <= 20; z++) {
+				ModelInstance instance = new ModelInstance(model);
+				instance.transform.setToTranslation(x * 3f, 0, z * 3f);
+				instance.lodCamera = cam;
+				instances.add(instance);
+			}
+		}
+
+		profiler = new GLProfiler(Gdx.graphics);
+		profiler.enable();
+	}
+
+	@Override
+	protected void render (ModelBatch batch, Array<ModelInstance> instances) {
+		if (Gdx.input.isKeyJustPressed(Keys.SPACE)) {
+			lod = !lod;
+			for (ModelInstance instance : instances) {
+				instance.lodCamera = lod ? cam : null;
+				instance.nodes.get(0).parts.get(0).lodLevel = 0;
+			}
+		}
+		batch.render(instances, environment);
+	}
+
+	@Override
+	public void render () {
+		super.render();
+		if ((logTime += Gdx.graphics.getDeltaTime()) > 1f) {
+			logTime = 0f;
+			Gdx.app.log("LodTest", "LOD: " + lod + ", vertices: " + (int)profiler.getVertexCount().total + ", fps: "
+				+ Gdx.graphics.getFramesPerSecond());
+		}
+		profiler.reset();
+	}
+
+	@Override
+	public void dispose () {
+		super.dispose();
+		profiler.disable();
+		model.dispose();
+	}
+}
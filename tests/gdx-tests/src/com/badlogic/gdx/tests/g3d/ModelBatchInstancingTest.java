@@ -0,0 +1,40 @@
+package com.badlogic.gdx.tests.g3d;
+
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.utils.DefaultShaderProvider;
+import com.badlogic.gdx.graphics.g3d.utils.InstancedShaderProvider;
+import com.badlogic.gdx.scenes.scene2d.ui.CheckBox;
+import com.badlogic.gdx.tests.utils.GdxTestConfig;
+import com.badlogic.gdx.utils.Array;
+
+/** Simple test showing the instanced rendering path of {@link ModelBatch}, add a model multiple times (e.g. using space) and
+ * compare the number of draw calls with and without instancing. */
+@GdxTestConfig(requireGL30 = true)
+public class ModelBatchInstancingTest extends Benchmark3DTest {
+	CheckBox instancingCheckBox;
+
+	@Override
+	public void create () {
+		super.create();
+
+		instancingCheckBox = new CheckBox("Instancing", skin);
+		instancingCheckBox.setChecked(false);
+		instancingCheckBox.setPosition(hudWidth - instancingCheckBox.getWidth(), lightsCheckBox.getTop());
+		hud.addActor(instancingCheckBox);
+	}
+
+	@Override
+	protected void randomizeLights () {
+		super.randomizeLights();
+		// use the same configuration (number of lights) for the instanced shaders
+		modelBatch.setInstancedShaderProvider(new InstancedShaderProvider(((DefaultShaderProvider)modelBatch
+			.getShaderProvider()).config));
+	}
+
+	@Override
+	protected void render (ModelBatch batch, Array<ModelInstance> instances) {
+		batch.setMinInstances(instancingCheckBox.isChecked() ? 2 : Integer.MAX_VALUE);
+		super.render(batch, instances);
+	}
+}
@@ -0,0 +1,50 @@
+package com.badlogic.gdx.tests.g3d;
+
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.PartitionedModelCache;
+import com.badlogic.gdx.scenes.scene2d.ui.CheckBox;
+import com.badlogic.gdx.utils.Array;
+
+/** Simple test showing the use of {@link PartitionedModelCache}. Added models are merged into the cell they are in on a
+ * background thread, only the affected cell is rebuilt. */
+public class PartitionedModelCacheTest extends Benchmark3DTest {
+	PartitionedModelCache modelCache;
+	CheckBox cacheCheckBox, cullCheckBox;
+	int cachedCount;
+
+	@Override
+	public void create () {
+		super.create();
+		modelCache = new PartitionedModelCache(10f);
+
+		cacheCheckBox = new CheckBox("Cache", skin);
+		cacheCheckBox.setChecked(false);
+		cacheCheckBox.setPosition(hudWidth - cacheCheckBox.getWidth(), lightsCheckBox.getTop());
+		hud.addActor(cacheCheckBox);
+
+		cullCheckBox = new CheckBox("Cull", skin);
+		cullCheckBox.setChecked(true);
+		cullCheckBox.setPosition(hudWidth - cullCheckBox.getWidth(), cacheCheckBox.getTop());
+		hud.addActor(cullCheckBox);
+	}
+
+	@Override
+	protected void render (ModelBatch batch, Array<ModelInstance> instances) {
+		if (cacheCheckBox.isChecked()) {
+			while (cachedCount < instances.size)
+				modelCache.add(instances.get(cachedCount++));
+			modelCache.setCamera(cullCheckBox.isChecked() ? cam : null);
+			modelCache.update();
+			batch.render(modelCache, lighting ? environment : null);
+		} else {
+			batch.render(instances, lighting ? environment : null);
+		}
+	}
+
+	@Override
+	public void dispose () {
+		super.dispose();
+		modelCache.dispose();
+	}
+}
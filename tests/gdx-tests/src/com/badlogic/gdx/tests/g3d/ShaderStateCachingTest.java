@@ -0,0 +1,54 @@
+package com.badlogic.gdx.tests.g3d;
+
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.Shader;
+import com.badlogic.gdx.graphics.g3d.shaders.BaseShader;
+import com.badlogic.gdx.graphics.g3d.shaders.DefaultShader;
+import com.badlogic.gdx.graphics.g3d.utils.DefaultShaderProvider;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.ui.CheckBox;
+import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener;
+import com.badlogic.gdx.utils.Array;
+
+/** Shows the effect of {@link BaseShader#setUniformCaching(boolean)} on the number of GL calls. Add the same model multiple times
+ * (e.g. using space) and toggle the check box. */
+public class ShaderStateCachingTest extends Benchmark3DTest {
+	final Array<BaseShader> shaders = new Array<BaseShader>();
+	CheckBox uniformsCheckBox;
+
+	@Override
+	public void create () {
+		super.create();
+
+		uniformsCheckBox = new CheckBox("Cache uniforms", skin);
+		uniformsCheckBox.setChecked(true);
+		uniformsCheckBox.addListener(new ChangeListener() {
+			@Override
+			public void changed (ChangeEvent event, Actor actor) {
+				for (BaseShader shader : shaders)
+					shader.setUniformCaching(uniformsCheckBox.isChecked());
+			}
+		});
+		uniformsCheckBox.setPosition(hudWidth - uniformsCheckBox.getWidth(), lightsCheckBox.getTop());
+		hud.addActor(uniformsCheckBox);
+	}
+
+	@Override
+	protected void randomizeLights () {
+		super.randomizeLights();
+		// use the same configuration (number of lights), but keep track of the created shaders
+		final DefaultShader.Config config = ((DefaultShaderProvider)modelBatch.getShaderProvider()).config;
+		shaders.clear();
+		modelBatch.dispose();
+		modelBatch = new ModelBatch(new DefaultShaderProvider(config) {
+			@Override
+			protected Shader createShader (Renderable renderable) {
+				DefaultShader shader = new DefaultShader(renderable, config);
+				shader.setUniformCaching(uniformsCheckBox == null || uniformsCheckBox.isChecked());
+				shaders.add(shader);
+				return shader;
+			}
+		});
+	}
+}
@@ -37,6 +37,8 @@ import java.util.Collections;
 import java.util.List;
 
 import com.badlogic.gdx.tests.*;
+import com.badlogic.gdx.tests.bench.BitsBench;
+import com.badlogic.gdx.tests.bench.ParticleEmitterBench;
 import com.badlogic.gdx.tests.bench.TiledMapBench;
 import com.badlogic.gdx.tests.conformance.DisplayModeTest;
 import com.badlogic.gdx.tests.examples.MoveSpriteExample;
@@ -54,20 +56,26 @@ import com.badlogic.gdx.tests.g3d.AnisotropyTest;
 import com.badlogic.gdx.tests.g3d.Basic3DSceneTest;
 import com.badlogic.gdx.tests.g3d.Basic3DTest;
 import com.badlogic.gdx.tests.g3d.Benchmark3DTest;
+import com.badlogic.gdx.tests.g3d.CascadedShadowMappingTest;
 import com.badlogic.gdx.tests.g3d.FogTest;
 import com.badlogic.gdx.tests.g3d.FrameBufferCubemapTest;
+import com.badlogic.gdx.tests.g3d.GpuParticleTest;
 import com.badlogic.gdx.tests.g3d.HeightMapTest;
 import com.badlogic.gdx.tests.g3d.LightsTest;
+import com.badlogic.gdx.tests.g3d.LodTest;
 import com.badlogic.gdx.tests.g3d.MaterialTest;
 import com.badlogic.gdx.tests.g3d.MaterialEmissiveTest;
 import com.badlogic.gdx.tests.g3d.MeshBuilderTest;
+import com.badlogic.gdx.tests.g3d.ModelBatchInstancingTest;
 import com.badlogic.gdx.tests.g3d.ModelCacheTest;
 import com.badlogic.gdx.tests.g3d.ModelTest;
 import com.badlogic.gdx.tests.g3d.MultipleRenderTargetTest;
 import com.badlogic.gdx.tests.g3d.ParticleControllerInfluencerSingleTest;
 import com.badlogic.gdx.tests.g3d.ParticleControllerTest;
+import com.badlogic.gdx.tests.g3d.PartitionedModelCacheTest;
 import com.badlogic.gdx.tests.g3d.PolarAccelerationTest;
 import com.badlogic.gdx.tests.g3d.ShaderCollectionTest;
+import com.badlogic.gdx.tests.g3d.ShaderStateCachingTest;
 import com.badlogic.gdx.tests.g3d.ShaderTest;
 import com.badlogic.gdx.tests.g3d.ShadowMappingTest;
 import com.badlogic.gdx.tests.g3d.SkeletonTest;
@@ -113,12 +121,14 @@ public class GdxTests {
 		BitmapFontMetricsTest.class,
 		BitmapFontTest.class,
 		BitmapFontAtlasRegionTest.class,
+		BitsBench.class,
 		BlitTest.class,
 		Box2DTest.class,
 		Box2DTestCollection.class,
 		Bresenham2Test.class,
 		BufferUtilsTest.class,
 		BulletTestCollection.class,
+		CascadedShadowMappingTest.class,
 		ClipboardTest.class,
 		CollectionsTest.class,
 		ColorTest.class,
@@ -153,6 +163,7 @@ public class GdxTests {
 		GestureDetectorTest.class,
 		GLES30Test.class,
 		GLProfilerErrorTest.class,
+		GpuParticleTest.class,
 		GroupCullingTest.class,
 		GroupFadeTest.class,
 		GroupTest.class,
@@ -178,6 +189,7 @@ public class GdxTests {
 		LabelTest.class,
 		LifeCycleTest.class,
 		LightsTest.class,
+		LodTest.class,
 		MaterialTest.class,
 		MaterialEmissiveTest.class,
 		MatrixJNITest.class,
@@ -185,6 +197,7 @@ public class GdxTests {
 		MeshShaderTest.class,
 		MipMapTest.class,
 		ModelTest.class,
+		ModelBatchInstancingTest.class,
 		ModelCacheTest.class,
 		MoveSpriteExample.class,
 		MultipleRenderTargetTest.class,
@@ -201,6 +214,8 @@ public class GdxTests {
 		ParticleEmitterTest.class,
 		ParticleEmittersTest.class,
 		ParticleEmitterChangeSpriteTest.class,
+		ParticleEmitterBench.class,
+		PartitionedModelCacheTest.class,
 		PixelsPerInchTest.class,
 		PixmapBlendingTest.class,
 		PixmapPackerTest.class,
@@ -226,6 +241,7 @@ public class GdxTests {
 		SensorTest.class,
 		ShaderCollectionTest.class,
 		ShaderMultitextureTest.class,
+		ShaderStateCachingTest.class,
 		ShaderTest.class,
 		ShadowMappingTest.class,
 		ShapeRendererTest.class,